@@ -0,0 +1,73 @@
+// k6 load test for the task endpoints: compares platform and virtual thread execution.
+//
+// 1. Start the application with the mode under test:
+//      QUICKTASK_VIRTUAL_THREADS=false ./mvnw spring-boot:run   (platform threads, Tomcat pool)
+//      QUICKTASK_VIRTUAL_THREADS=true  ./mvnw spring-boot:run   (virtual threads, Java 21+)
+// 2. Run the same script against both and compare the summaries:
+//      k6 run -e BASE_URL=http://localhost:8080 -e VUS=2000 load-test/task-endpoints.js
+//
+// SLOW_CLIENT_MS adds a think time between requests so most connections stay open while idle,
+// which is where the two modes differ. Watch quicktask.datasource.connections.waiting in
+// /actuator/metrics while the test runs.
+
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '1000', 10);
+const SLOW_CLIENT_MS = parseInt(__ENV.SLOW_CLIENT_MS || '200', 10);
+const HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export const options = {
+    scenarios: {
+        tasks: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: '2m', target: VUS },
+                { duration: '15s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        'http_req_duration{endpoint:getById}': ['p(99)<500'],
+        'http_req_duration{endpoint:page}': ['p(99)<1000'],
+    },
+};
+
+export function setup() {
+    const ids = [];
+    for (let i = 0; i < 200; i++) {
+        const body = JSON.stringify({ title: `load-test-${Date.now()}-${i}`, description: 'k6 seed task' });
+        const res = http.post(`${BASE_URL}/api/v1/tasks`, body, HEADERS);
+        if (res.status === 201) {
+            ids.push(res.json('id'));
+        }
+    }
+    return { ids };
+}
+
+export default function (data) {
+    const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+
+    const detail = http.get(`${BASE_URL}/api/v1/tasks/${id}`, { tags: { endpoint: 'getById' } });
+    check(detail, { 'getById 200': (r) => r.status === 200 });
+    sleep(SLOW_CLIENT_MS / 1000);
+
+    const page = http.get(`${BASE_URL}/api/v1/tasks?page=0&size=20`, { tags: { endpoint: 'page' } });
+    check(page, { 'page 200': (r) => r.status === 200 });
+    sleep(SLOW_CLIENT_MS / 1000);
+
+    const patch = http.patch(`${BASE_URL}/api/v1/tasks/${id}`, JSON.stringify({ completed: Math.random() < 0.5 }),
+        Object.assign({ tags: { endpoint: 'patch' } }, HEADERS));
+    check(patch, { 'patch 200/409': (r) => r.status === 200 || r.status === 409 });
+    sleep(SLOW_CLIENT_MS / 1000);
+}
+
+export function teardown(data) {
+    for (const id of data.ids) {
+        http.del(`${BASE_URL}/api/v1/tasks/${id}`);
+    }
+}
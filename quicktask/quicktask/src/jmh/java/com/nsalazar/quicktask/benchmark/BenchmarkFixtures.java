@@ -0,0 +1,153 @@
+package com.nsalazar.quicktask.benchmark;
+
+import com.nsalazar.quicktask.shared.domain.event.IDomainEventPublisher;
+import com.nsalazar.quicktask.task.application.dto.mapper.ITaskDTOMapperImpl;
+import com.nsalazar.quicktask.task.domain.Task;
+import com.nsalazar.quicktask.task.infrastructure.database.entity.TaskEntity;
+import com.nsalazar.quicktask.task.infrastructure.database.mapper.ITaskEntityMapperImpl;
+import com.nsalazar.quicktask.tasklist.application.dto.mapper.ITaskListDTOMapperImpl;
+import com.nsalazar.quicktask.tasklist.domain.TaskList;
+import com.nsalazar.quicktask.tasklist.infrastructure.database.entity.TaskListEntity;
+import com.nsalazar.quicktask.tasklist.infrastructure.database.mapper.ITaskListEntityMapperImpl;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Test data and mapper wiring shared by the benchmarks.
+ *
+ * <p>The MapStruct implementations use the Spring component model, so the mappers that depend on
+ * other mappers are wired by a minimal application context instead of the full application.
+ *
+ * @author nsalazar
+ */
+final class BenchmarkFixtures {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 15, 9, 30);
+
+    /**
+     * Publisher discarding every event, for benchmarks of the services without the outbox.
+     */
+    static final IDomainEventPublisher NO_EVENTS = (type, aggregateId, payload) -> {
+    };
+
+    /**
+     * Transaction manager without transactions, for the services that start their own.
+     */
+    static final PlatformTransactionManager NO_TRANSACTIONS = new PlatformTransactionManager() {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    };
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Creates an application context holding only the generated mapper implementations.
+     *
+     * @return the started context; the caller closes it
+     */
+    static AnnotationConfigApplicationContext mapperContext() {
+        return new AnnotationConfigApplicationContext(
+                ITaskEntityMapperImpl.class,
+                ITaskListEntityMapperImpl.class,
+                ITaskDTOMapperImpl.class,
+                ITaskListDTOMapperImpl.class);
+    }
+
+    /**
+     * Creates a task with realistic field sizes.
+     *
+     * @param index the position used to derive a unique title
+     * @param taskListId the owning task list, or null
+     * @return the domain task
+     */
+    static Task task(int index, UUID taskListId) {
+        return Task.builder()
+                .id(UUID.randomUUID())
+                .title("Benchmark task #" + index)
+                .description("Review the pull request and leave comments on the mapping layer " + index)
+                .completed(index % 3 == 0)
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT.plusMinutes(index))
+                .taskListId(taskListId)
+                .version((long) index)
+                .build();
+    }
+
+    /**
+     * Creates a task list holding {@code taskCount} tasks.
+     *
+     * @param taskCount the number of tasks in the list
+     * @return the domain task list
+     */
+    static TaskList taskList(int taskCount) {
+        UUID id = UUID.randomUUID();
+        List<Task> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(task(i, id));
+        }
+        return TaskList.builder()
+                .id(id)
+                .name("Benchmark list")
+                .description("Task list used by the benchmarks")
+                .tasks(tasks)
+                .createdAt(CREATED_AT)
+                .updatedAt(CREATED_AT)
+                .version(1L)
+                .build();
+    }
+
+    /**
+     * Creates a task entity detached from any task list.
+     *
+     * @param index the position used to derive a unique title
+     * @return the entity
+     */
+    static TaskEntity taskEntity(int index) {
+        Task task = task(index, null);
+        return new TaskEntity(task.getId(), task.getTitle(), task.getDescription(), task.isCompleted(),
+                task.getCreatedAt(), task.getUpdatedAt(), task.getVersion(), null, null);
+    }
+
+    /**
+     * Creates a task list entity holding {@code taskCount} task entities.
+     *
+     * @param taskCount the number of tasks in the list
+     * @return the entity
+     */
+    static TaskListEntity taskListEntity(int taskCount) {
+        TaskListEntity taskListEntity = new TaskListEntity();
+        taskListEntity.setId(UUID.randomUUID());
+        taskListEntity.setName("Benchmark list");
+        taskListEntity.setDescription("Task list used by the benchmarks");
+        taskListEntity.setCreatedAt(CREATED_AT);
+        taskListEntity.setUpdatedAt(CREATED_AT);
+        taskListEntity.setVersion(1L);
+        for (int i = 0; i < taskCount; i++) {
+            TaskEntity taskEntity = taskEntity(i);
+            taskEntity.setTaskList(taskListEntity);
+            taskListEntity.getTasks().add(taskEntity);
+        }
+        return taskListEntity;
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.nsalazar.quicktask.benchmark;
+
+import com.nsalazar.quicktask.tasklist.domain.TaskList;
+import com.nsalazar.quicktask.tasklist.domain.TaskListSummary;
+import com.nsalazar.quicktask.tasklist.domain.repository.ITaskListRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory stand-in for the task list repository used by the service benchmarks.
+ *
+ * <p>Only the lookups used by the benchmarked service methods are implemented; the others throw
+ * {@link UnsupportedOperationException}.
+ *
+ * @author nsalazar
+ */
+class InMemoryTaskListRepository implements ITaskListRepository {
+
+    private final Map<UUID, TaskList> taskListsById = new HashMap<>();
+
+    @Override
+    public Page<TaskList> findAll(Pageable pageable) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Page<TaskListSummary> findAllSummaries(Pageable pageable) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Slice<TaskListSummary> findSummarySlice(Pageable pageable) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public long estimateCount() {
+        return taskListsById.size();
+    }
+
+    @Override
+    public Optional<TaskList> findById(UUID id) {
+        return Optional.ofNullable(taskListsById.get(id));
+    }
+
+    @Override
+    public Optional<TaskList> findByIdWithoutTasks(UUID id) {
+        return findById(id);
+    }
+
+    @Override
+    public TaskList save(TaskList taskList) {
+        taskListsById.put(taskList.getId(), taskList);
+        return taskList;
+    }
+
+    @Override
+    public void delete(UUID id) {
+        taskListsById.remove(id);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return taskListsById.containsKey(id);
+    }
+
+    @Override
+    public Set<UUID> findExistingIds(Collection<UUID> ids) {
+        return ids.stream().filter(taskListsById::containsKey).collect(Collectors.toSet());
+    }
+
+    @Override
+    public Map<String, UUID> findIdsByNames(Collection<String> names) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<TaskList> findByName(String name) {
+        return taskListsById.values().stream()
+                .filter(taskList -> taskList.getName().equals(name))
+                .findFirst();
+    }
+
+    @Override
+    public boolean existsByName(String name) {
+        return findByName(name).isPresent();
+    }
+
+}
@@ -0,0 +1,177 @@
+package com.nsalazar.quicktask.benchmark;
+
+import com.nsalazar.quicktask.task.domain.Task;
+import com.nsalazar.quicktask.task.domain.TaskDetail;
+import com.nsalazar.quicktask.task.domain.TaskFilter;
+import com.nsalazar.quicktask.task.domain.repository.ITaskRepository;
+import com.nsalazar.quicktask.task.domain.stats.TaskDailyCount;
+import com.nsalazar.quicktask.task.domain.stats.TaskStatsCount;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * In-memory stand-in for the task repository, so the service benchmarks measure the service and
+ * mapping code without database round trips.
+ *
+ * <p>Only the operations used by the benchmarked service methods are implemented; the others
+ * throw {@link UnsupportedOperationException}. Tasks are kept in insertion order and incomplete
+ * titles are indexed, like the {@code uk_title_incomplete_tasks} constraint does in MySQL.
+ *
+ * @author nsalazar
+ */
+class InMemoryTaskRepository implements ITaskRepository {
+
+    private final Map<UUID, Task> tasksById = new HashMap<>();
+    private final List<Task> tasks = new ArrayList<>();
+    private final Map<String, Task> incompleteTasksByTitle = new HashMap<>();
+
+    @Override
+    public Page<Task> findAll(Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), tasks.size());
+        int to = Math.min(from + pageable.getPageSize(), tasks.size());
+        return new PageImpl<>(new ArrayList<>(tasks.subList(from, to)), pageable, tasks.size());
+    }
+
+    @Override
+    public Page<Task> findAll(TaskFilter filter, Pageable pageable) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Slice<Task> findSlice(Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), tasks.size());
+        int to = Math.min(from + pageable.getPageSize(), tasks.size());
+        return new SliceImpl<>(new ArrayList<>(tasks.subList(from, to)), pageable, to < tasks.size());
+    }
+
+    @Override
+    public Slice<Task> findSlice(TaskFilter filter, Pageable pageable) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Window<Task> findAll(KeysetScrollPosition position, Sort sort, int limit) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public long forEachTask(int fetchSize, Consumer<? super Task> action) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<TaskStatsCount> countByTaskListAndCompleted() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<TaskDailyCount> countCreatedPerDay(LocalDateTime since) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<Task> saveAll(List<Task> newTasks) {
+        return newTasks.stream().map(this::save).toList();
+    }
+
+    @Override
+    public Set<String> findIncompleteTitlesIn(Collection<String> titles) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<TaskDetail> findDetailById(UUID id) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<TaskDetail> findAllDetailsById(Collection<UUID> ids) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean updatePartially(UUID id, String title, String description, Boolean completed,
+                                   UUID taskListId, LocalDateTime updatedAt, Long expectedVersion) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int unlinkAllFromTaskList(UUID taskListId, LocalDateTime updatedAt) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int deleteAllByTaskListId(UUID taskListId) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<Task> findById(UUID id) {
+        return Optional.ofNullable(tasksById.get(id));
+    }
+
+    @Override
+    public List<Task> findAllById(Collection<UUID> ids) {
+        return ids.stream().map(tasksById::get).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    public Task save(Task task) {
+        if (task.getId() == null) {
+            task.setId(UUID.randomUUID());
+            task.setVersion(0L);
+        }
+        if (tasksById.put(task.getId(), task) == null) {
+            tasks.add(task);
+        }
+        if (!task.isCompleted()) {
+            incompleteTasksByTitle.put(task.getTitle(), task);
+        }
+        return task;
+    }
+
+    @Override
+    public void delete(UUID id) {
+        Task task = tasksById.remove(id);
+        if (task != null) {
+            tasks.remove(task);
+            incompleteTasksByTitle.remove(task.getTitle(), task);
+        }
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return tasksById.containsKey(id);
+    }
+
+    @Override
+    public Optional<Task> findByTitleAndNotCompleted(String title) {
+        return Optional.ofNullable(incompleteTasksByTitle.get(title));
+    }
+
+    @Override
+    public List<Task> findAllByTaskListIdIn(Collection<UUID> taskListIds) {
+        return tasks.stream()
+                .filter(task -> task.getTaskListId() != null && taskListIds.contains(task.getTaskListId()))
+                .toList();
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.nsalazar.quicktask.benchmark;
+
+import com.nsalazar.quicktask.task.application.dto.mapper.ITaskDTOMapper;
+import com.nsalazar.quicktask.task.application.dto.response.TaskDTOResponse;
+import com.nsalazar.quicktask.task.infrastructure.database.entity.TaskEntity;
+import com.nsalazar.quicktask.task.infrastructure.database.mapper.ITaskEntityMapper;
+import com.nsalazar.quicktask.tasklist.application.dto.mapper.ITaskListDTOMapper;
+import com.nsalazar.quicktask.tasklist.application.dto.response.TaskListDTOResponse;
+import com.nsalazar.quicktask.tasklist.domain.TaskList;
+import com.nsalazar.quicktask.tasklist.infrastructure.database.entity.TaskListEntity;
+import com.nsalazar.quicktask.tasklist.infrastructure.database.mapper.ITaskListEntityMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the entity → domain → DTO mapping chains run on every read.
+ *
+ * <p>{@code taskCount} is the size of the task list mapped by the list benchmarks; the
+ * single-task benchmarks do not depend on it.
+ *
+ * @author nsalazar
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    @Param({"10", "100"})
+    public int taskCount;
+
+    private AnnotationConfigApplicationContext context;
+    private ITaskEntityMapper taskEntityMapper;
+    private ITaskDTOMapper taskDTOMapper;
+    private ITaskListEntityMapper taskListEntityMapper;
+    private ITaskListDTOMapper taskListDTOMapper;
+
+    private TaskEntity taskEntity;
+    private TaskListEntity taskListEntity;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.mapperContext();
+        taskEntityMapper = context.getBean(ITaskEntityMapper.class);
+        taskDTOMapper = context.getBean(ITaskDTOMapper.class);
+        taskListEntityMapper = context.getBean(ITaskListEntityMapper.class);
+        taskListDTOMapper = context.getBean(ITaskListDTOMapper.class);
+        taskEntity = BenchmarkFixtures.taskEntity(1);
+        taskListEntity = BenchmarkFixtures.taskListEntity(taskCount);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Task entity → domain task → {@link TaskDTOResponse}, as done for each element of a task page.
+     */
+    @Benchmark
+    public TaskDTOResponse taskEntityToResponse() {
+        return taskDTOMapper.toTaskDTOResponse(taskEntityMapper.toTask(taskEntity));
+    }
+
+    /**
+     * Task list entity with its tasks → domain task list, as done by {@code TaskListRepository.findById}.
+     */
+    @Benchmark
+    public TaskList taskListEntityToDomain() {
+        return taskListEntityMapper.toTaskList(taskListEntity);
+    }
+
+    /**
+     * Task list entity → domain task list → {@link TaskListDTOResponse}.
+     */
+    @Benchmark
+    public TaskListDTOResponse taskListEntityToResponse() {
+        return taskListDTOMapper.toTaskListDTOResponse(taskListEntityMapper.toTaskList(taskListEntity));
+    }
+
+}
@@ -0,0 +1,178 @@
+package com.nsalazar.quicktask.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import com.nsalazar.quicktask.shared.domain.event.DomainEvent;
+import com.nsalazar.quicktask.shared.domain.event.DomainEventType;
+import com.nsalazar.quicktask.shared.domain.event.IDomainEventPublisher;
+import com.nsalazar.quicktask.shared.domain.event.IDomainEventSubscriber;
+import com.nsalazar.quicktask.shared.infrastructure.cache.CacheConfig;
+import com.nsalazar.quicktask.shared.infrastructure.cache.CacheInvalidator;
+import com.nsalazar.quicktask.shared.infrastructure.outbox.DomainEventDispatcher;
+import com.nsalazar.quicktask.shared.infrastructure.outbox.OutboxDomainEventPublisher;
+import com.nsalazar.quicktask.task.application.TaskService;
+import com.nsalazar.quicktask.task.application.dto.mapper.ITaskDTOMapper;
+import com.nsalazar.quicktask.task.application.dto.request.TaskDTOCreateRequest;
+import com.nsalazar.quicktask.task.application.dto.response.TaskDetailDTOResponse;
+import com.nsalazar.quicktask.task.infrastructure.search.InvertedTaskSearchIndex;
+import com.nsalazar.quicktask.task.infrastructure.stats.InMemoryTaskStatsCounters;
+import com.nsalazar.quicktask.tasklist.domain.TaskList;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the domain event pipeline: the cost the outbox adds to a write, and the delivery
+ * throughput of the relay's dispatcher.
+ *
+ * <p>{@code createTask} and {@code createTaskWithOutbox} run {@link TaskService#create} against
+ * in-memory repositories, with a publisher discarding events and with the
+ * {@link OutboxDomainEventPublisher} (payload serialization and {@code persist} into an entity
+ * manager stub that only counts), respectively. The {@code INSERT} itself is batched with the
+ * task's at commit and is not part of this measurement.
+ *
+ * <p>{@code dispatchBatch} delivers one relay batch of {@value #BATCH_SIZE} events to two
+ * subscribers that read every payload; events per second = {@value #BATCH_SIZE} / the score.
+ *
+ * @author nsalazar
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OutboxBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+
+    private AnnotationConfigApplicationContext context;
+    private ExecutorService executor;
+    private TaskService taskService;
+    private TaskService outboxTaskService;
+    private DomainEventDispatcher dispatcher;
+    private List<DomainEvent> batch;
+    private UUID taskListId;
+    private long createdTasks;
+    private long persistedEvents;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+        context = BenchmarkFixtures.mapperContext();
+        executor = Executors.newFixedThreadPool(2);
+
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+        dispatcher = new DomainEventDispatcher(List.of(new PayloadReader(), new PayloadReader()), executor);
+        batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(new DomainEvent(UUID.randomUUID(), DomainEventType.TASK_CREATED, UUID.randomUUID(),
+                    jsonMapper.writeValueAsString(BenchmarkFixtures.task(i, null)), LocalDateTime.now(), 0));
+        }
+    }
+
+    /**
+     * Rebuilds the repositories before every iteration so created tasks do not accumulate.
+     */
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        TaskList taskList = BenchmarkFixtures.taskList(10);
+        taskListId = taskList.getId();
+        taskService = taskService(taskList, BenchmarkFixtures.NO_EVENTS);
+        outboxTaskService = taskService(taskList,
+                new OutboxDomainEventPublisher(countingEntityManager(), JsonMapper.builder().build()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        context.close();
+    }
+
+    @Benchmark
+    public TaskDetailDTOResponse createTask() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        return taskService.create(createRequest());
+    }
+
+    @Benchmark
+    public TaskDetailDTOResponse createTaskWithOutbox() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        return outboxTaskService.create(createRequest());
+    }
+
+    @Benchmark
+    public Set<UUID> dispatchBatch() {
+        return dispatcher.dispatch(batch);
+    }
+
+    private TaskDTOCreateRequest createRequest() {
+        return TaskDTOCreateRequest.builder()
+                .title("Created task #" + createdTasks++)
+                .description("Created by the benchmark")
+                .taskListId(taskListId)
+                .build();
+    }
+
+    private TaskService taskService(TaskList taskList, IDomainEventPublisher eventPublisher) {
+        InMemoryTaskRepository taskRepository = new InMemoryTaskRepository();
+        InMemoryTaskListRepository taskListRepository = new InMemoryTaskListRepository();
+        taskListRepository.save(taskList);
+        taskList.getTasks().forEach(taskRepository::save);
+        return new TaskService(taskRepository, taskListRepository, context.getBean(ITaskDTOMapper.class),
+                new CacheInvalidator(new ConcurrentMapCacheManager(CacheConfig.TASK_DETAILS, CacheConfig.TASK_LIST_DETAILS)),
+                new InvertedTaskSearchIndex(), new InMemoryTaskStatsCounters(90), eventPublisher);
+    }
+
+    /**
+     * Returns an entity manager that only counts persisted entities.
+     */
+    private EntityManager countingEntityManager() {
+        return (EntityManager) Proxy.newProxyInstance(EntityManager.class.getClassLoader(),
+                new Class<?>[]{EntityManager.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("persist")) {
+                        persistedEvents++;
+                        return null;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * Subscriber reading the payload of every event, standing in for a light in-process consumer.
+     */
+    private static final class PayloadReader implements IDomainEventSubscriber {
+
+        @Override
+        public void onEvent(DomainEvent event) {
+            Blackhole.consumeCPU(event.getPayload().length());
+        }
+
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.nsalazar.quicktask.benchmark;
+
+import com.nsalazar.quicktask.task.domain.search.TaskSearchHits;
+import com.nsalazar.quicktask.task.infrastructure.search.InvertedTaskSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the full-text search index over a synthetic corpus.
+ *
+ * <p>Words are drawn from a vocabulary of {@value #VOCABULARY_SIZE} words with a Zipf-like
+ * distribution, so {@code w0} appears in most tasks while {@code w5000} is rare, as in natural
+ * text. Titles have 5 words and descriptions 25. Run with {@code -Xmx4g} for the largest size.
+ *
+ * @author nsalazar
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class SearchBenchmark {
+
+    private static final int VOCABULARY_SIZE = 20_000;
+
+    @Param({"100000", "1000000"})
+    public int taskCount;
+
+    private InvertedTaskSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new InvertedTaskSearchIndex();
+        Random random = new Random(42);
+        for (int i = 0; i < taskCount; i++) {
+            index.load(UUID.randomUUID(), words(random, 5), words(random, 25));
+        }
+    }
+
+    /**
+     * A frequent word: every posting of the word is scored.
+     */
+    @Benchmark
+    public TaskSearchHits frequentWord() {
+        return index.search("w3", 20);
+    }
+
+    /**
+     * A frequent and a rare word: the rare word drives the evaluation.
+     */
+    @Benchmark
+    public TaskSearchHits frequentAndRareWord() {
+        return index.search("w3 w5000", 20);
+    }
+
+    /**
+     * Two mid-frequency words.
+     */
+    @Benchmark
+    public TaskSearchHits twoWords() {
+        return index.search("w40 w70", 20);
+    }
+
+    /**
+     * A prefix expanding to up to 64 words.
+     */
+    @Benchmark
+    public TaskSearchHits prefix() {
+        return index.search("w12*", 20);
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            // Zipf-like: the probability of word k is roughly proportional to 1 / (k + 1)
+            int word = (int) Math.pow(VOCABULARY_SIZE, random.nextDouble()) - 1;
+            text.append('w').append(word).append(' ');
+        }
+        return text.toString();
+    }
+
+}
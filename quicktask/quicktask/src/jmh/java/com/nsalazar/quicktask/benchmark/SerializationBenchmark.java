@@ -0,0 +1,134 @@
+package com.nsalazar.quicktask.benchmark;
+
+import com.nsalazar.quicktask.shared.infrastructure.restcontroller.PageDTOResponse;
+import com.nsalazar.quicktask.task.application.dto.response.TaskDTOResponse;
+import com.nsalazar.quicktask.task.infrastructure.restcontroller.TaskDTOResponseSerializer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Benchmarks of the Jackson serialization of a page of tasks, the body of
+ * {@code GET /api/v1/tasks}.
+ *
+ * <p>{@code serializeTaskPage} writes the {@code Page} itself with the reflective bean
+ * serializer, as the controllers did before, including the pageable and sort metadata;
+ * {@code serializeCompactPage} writes the {@link PageDTOResponse} envelope with the
+ * hand-written {@link TaskDTOResponseSerializer}, as the controllers do now. The
+ * {@code Gzip} variants add the cost of the response compression. Each benchmark also
+ * reports the bytes on the wire of its representation as the {@code bytes} secondary result.
+ *
+ * @author nsalazar
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private JsonMapper jsonMapper;
+    private JsonMapper tunedJsonMapper;
+    private Page<TaskDTOResponse> page;
+    private PageDTOResponse<TaskDTOResponse> compactPage;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        tunedJsonMapper = JsonMapper.builder()
+                .addModule(new SimpleModule().addSerializer(TaskDTOResponse.class, new TaskDTOResponseSerializer()))
+                .build();
+        UUID taskListId = UUID.randomUUID();
+        List<TaskDTOResponse> content = IntStream.range(0, pageSize)
+                .mapToObj(i -> BenchmarkFixtures.task(i, taskListId))
+                .map(task -> TaskDTOResponse.builder()
+                        .id(task.getId())
+                        .title(task.getTitle())
+                        .description(task.getDescription())
+                        .completed(task.isCompleted())
+                        .createdAt(task.getCreatedAt())
+                        .updatedAt(task.getUpdatedAt())
+                        .taskListId(task.getTaskListId())
+                        .build())
+                .toList();
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by("createdAt").descending()), 10_000);
+        compactPage = PageDTOResponse.of(page);
+    }
+
+    @Benchmark
+    public byte[] serializeTaskPage(WireSize wireSize) {
+        return wireSize.record(jsonMapper.writeValueAsBytes(page));
+    }
+
+    @Benchmark
+    public byte[] serializeCompactPage(WireSize wireSize) {
+        return wireSize.record(tunedJsonMapper.writeValueAsBytes(compactPage));
+    }
+
+    @Benchmark
+    public byte[] serializeTaskPageGzip(WireSize wireSize) {
+        return wireSize.record(gzip(jsonMapper.writeValueAsBytes(page)));
+    }
+
+    @Benchmark
+    public byte[] serializeCompactPageGzip(WireSize wireSize) {
+        return wireSize.record(gzip(tunedJsonMapper.writeValueAsBytes(compactPage)));
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Size of the serialized body, reported by JMH next to the timing of each benchmark.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WireSize {
+
+        /**
+         * Bytes of the last body written; the body of a benchmark has the same size on every call.
+         */
+        public long bytes;
+
+        byte[] record(byte[] body) {
+            bytes = body.length;
+            return body;
+        }
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.nsalazar.quicktask.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import com.nsalazar.quicktask.shared.infrastructure.cache.CacheConfig;
+import com.nsalazar.quicktask.shared.infrastructure.cache.CacheInvalidator;
+import com.nsalazar.quicktask.shared.infrastructure.cache.RequestCoalescer;
+import com.nsalazar.quicktask.task.application.TaskService;
+import com.nsalazar.quicktask.task.application.dto.mapper.ITaskDTOMapper;
+import com.nsalazar.quicktask.task.application.dto.request.TaskDTOCreateRequest;
+import com.nsalazar.quicktask.task.application.dto.response.TaskDTOResponse;
+import com.nsalazar.quicktask.task.application.dto.response.TaskDetailDTOResponse;
+import com.nsalazar.quicktask.task.domain.Task;
+import com.nsalazar.quicktask.task.infrastructure.search.InvertedTaskSearchIndex;
+import com.nsalazar.quicktask.task.infrastructure.stats.InMemoryTaskStatsCounters;
+import com.nsalazar.quicktask.tasklist.application.TaskListService;
+import com.nsalazar.quicktask.tasklist.application.dto.mapper.ITaskListDTOMapper;
+import com.nsalazar.quicktask.tasklist.application.dto.response.TaskListDetailDTOResponse;
+import com.nsalazar.quicktask.tasklist.domain.TaskList;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the {@link TaskService} and {@link TaskListService} read and create paths against
+ * in-memory repositories.
+ *
+ * <p>The services are instantiated directly, without the Spring proxies, so neither the
+ * transaction interceptor nor the detail caches take part: every call runs the service logic,
+ * the mappers and the {@code build*DetailDTOResponse} builders. {@code taskCount} is the number
+ * of tasks in the benchmarked task list.
+ *
+ * @author nsalazar
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceBenchmark {
+
+    private static final int STORED_TASKS = 1_000;
+
+    @Param({"10", "100"})
+    public int taskCount;
+
+    private AnnotationConfigApplicationContext context;
+    private TaskService taskService;
+    private TaskListService taskListService;
+
+    private UUID taskId;
+    private UUID taskListId;
+    private Pageable pageable;
+    private long createdTasks;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+        context = BenchmarkFixtures.mapperContext();
+        pageable = PageRequest.of(0, 20);
+    }
+
+    /**
+     * Rebuilds the repositories before every iteration so tasks created by
+     * {@link #createTask()} do not accumulate across iterations.
+     */
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        InMemoryTaskRepository taskRepository = new InMemoryTaskRepository();
+        InMemoryTaskListRepository taskListRepository = new InMemoryTaskListRepository();
+        CacheInvalidator cacheInvalidator = new CacheInvalidator(
+                new ConcurrentMapCacheManager(CacheConfig.TASK_DETAILS, CacheConfig.TASK_LIST_DETAILS));
+        ITaskDTOMapper taskDTOMapper = context.getBean(ITaskDTOMapper.class);
+
+        TaskList taskList = BenchmarkFixtures.taskList(taskCount);
+        taskListRepository.save(taskList);
+        taskList.getTasks().forEach(taskRepository::save);
+        for (int i = taskCount; i < STORED_TASKS; i++) {
+            taskRepository.save(BenchmarkFixtures.task(i, null));
+        }
+        Task task = taskList.getTasks().get(0);
+        taskId = task.getId();
+        taskListId = taskList.getId();
+
+        InMemoryTaskStatsCounters taskStats = new InMemoryTaskStatsCounters(90);
+        taskService = new TaskService(taskRepository, taskListRepository, taskDTOMapper, cacheInvalidator,
+                new InvertedTaskSearchIndex(), taskStats, BenchmarkFixtures.NO_EVENTS);
+        taskListService = new TaskListService(taskListRepository, taskRepository,
+                context.getBean(ITaskListDTOMapper.class), taskDTOMapper, cacheInvalidator, taskStats,
+                BenchmarkFixtures.NO_EVENTS, new RequestCoalescer(new SimpleMeterRegistry(), true),
+                BenchmarkFixtures.NO_TRANSACTIONS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskDetailDTOResponse getTaskById() {
+        return taskService.getById(taskId);
+    }
+
+    @Benchmark
+    public Page<TaskDTOResponse> getTaskPage() {
+        return taskService.getAll(pageable);
+    }
+
+    @Benchmark
+    public TaskListDetailDTOResponse getTaskListById() {
+        return taskListService.getById(taskListId);
+    }
+
+    @Benchmark
+    public TaskDetailDTOResponse createTask() {
+        return taskService.create(TaskDTOCreateRequest.builder()
+                .title("Created task #" + createdTasks++)
+                .description("Created by the benchmark")
+                .taskListId(taskListId)
+                .build());
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.nsalazar.quicktask.benchmark;
+
+import com.nsalazar.quicktask.shared.infrastructure.database.id.UuidV7Generator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the primary key generation: {@link UuidV7Generator} against
+ * {@link UUID#randomUUID()}.
+ *
+ * <p>{@code generate*} measure the cost of one id, single-threaded and with four threads
+ * contending for the generator lock. {@code insert*} add one id to an ordered index of
+ * {@code indexSize} ids of the same kind, compared in {@code BINARY(16)} byte order, and remove
+ * it again so the index keeps its size: time-ordered ids descend the same right-hand path on
+ * every insert, random ids a different, mostly cold, path. This models the key placement of
+ * the clustered primary key index in memory; the page splits and I/O of a real InnoDB table
+ * are only visible against a MySQL instance.
+ *
+ * @author nsalazar
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UuidBenchmark {
+
+    private static final Comparator<UUID> BINARY_ORDER = Comparator
+            .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    @Benchmark
+    public UUID generateUuidV7() {
+        return UuidV7Generator.nextUuid();
+    }
+
+    @Benchmark
+    public UUID generateRandomUuid() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID generateUuidV7Contended() {
+        return UuidV7Generator.nextUuid();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID generateRandomUuidContended() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public boolean insertUuidV7(Index index) {
+        return insert(index.uuidV7Ids, UuidV7Generator.nextUuid());
+    }
+
+    @Benchmark
+    public boolean insertRandomUuid(Index index) {
+        return insert(index.randomUuids, UUID.randomUUID());
+    }
+
+    private static boolean insert(NavigableSet<UUID> index, UUID id) {
+        return index.add(id) && index.remove(id);
+    }
+
+    /**
+     * Ordered indexes of {@code indexSize} ids, loaded once per trial.
+     */
+    @State(Scope.Benchmark)
+    public static class Index {
+
+        @Param({"100000", "1000000"})
+        public int indexSize;
+
+        private NavigableSet<UUID> uuidV7Ids;
+        private NavigableSet<UUID> randomUuids;
+
+        @Setup
+        public void setUp() {
+            uuidV7Ids = new TreeSet<>(BINARY_ORDER);
+            randomUuids = new TreeSet<>(BINARY_ORDER);
+            for (int i = 0; i < indexSize; i++) {
+                uuidV7Ids.add(UuidV7Generator.nextUuid());
+                randomUuids.add(UUID.randomUUID());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.nsalazar.quicktask.shared.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A committed change of a task or task list, as delivered to {@link IDomainEventSubscriber}s.
+ *
+ * @author nsalazar
+ * @see IDomainEventPublisher
+ */
+@Getter
+@Builder
+@ToString(exclude = "payload")
+@AllArgsConstructor
+public class DomainEvent {
+
+    /**
+     * The unique, time-ordered identifier of the event. Redelivered events keep their id, so
+     * subscribers can use it to discard duplicates.
+     */
+    private final UUID id;
+
+    /**
+     * The kind of change.
+     */
+    private final DomainEventType type;
+
+    /**
+     * The id of the changed task or task list.
+     */
+    private final UUID aggregateId;
+
+    /**
+     * The JSON representation of the change; see {@link DomainEventType} for its shape.
+     */
+    private final String payload;
+
+    /**
+     * When the change was made.
+     */
+    private final LocalDateTime occurredAt;
+
+    /**
+     * How many deliveries of the event failed before this one.
+     */
+    private final int attempts;
+
+}
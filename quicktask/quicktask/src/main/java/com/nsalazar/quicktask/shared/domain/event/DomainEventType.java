@@ -0,0 +1,60 @@
+package com.nsalazar.quicktask.shared.domain.event;
+
+/**
+ * Kinds of change published as {@link DomainEvent}s.
+ *
+ * @author nsalazar
+ * @see IDomainEventPublisher
+ */
+public enum DomainEventType {
+
+    /**
+     * A task was created. Payload: the task ({@code TaskDTOResponse}).
+     */
+    TASK_CREATED(DomainEventType.TASK),
+
+    /**
+     * A task was updated. Payload: the task after the update ({@code TaskDTOResponse}).
+     */
+    TASK_UPDATED(DomainEventType.TASK),
+
+    /**
+     * A task was deleted. Payload: {@code {"id": ...}}.
+     */
+    TASK_DELETED(DomainEventType.TASK),
+
+    /**
+     * A task list was created. Payload: the task list ({@code TaskListDTOResponse}, without tasks).
+     */
+    TASK_LIST_CREATED(DomainEventType.TASK_LIST),
+
+    /**
+     * A task list was updated. Payload: the task list after the update ({@code TaskListDTOResponse}, without tasks).
+     */
+    TASK_LIST_UPDATED(DomainEventType.TASK_LIST),
+
+    /**
+     * A task list was deleted. Payload: {@code {"id": ..., "tasksDeleted": ...}}; its tasks were
+     * deleted with it or unlinked, without an event per task.
+     */
+    TASK_LIST_DELETED(DomainEventType.TASK_LIST);
+
+    private static final String TASK = "task";
+    private static final String TASK_LIST = "task-list";
+
+    private final String aggregateType;
+
+    DomainEventType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    /**
+     * Returns the kind of aggregate the event is about.
+     *
+     * @return {@code "task"} or {@code "task-list"}
+     */
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+}
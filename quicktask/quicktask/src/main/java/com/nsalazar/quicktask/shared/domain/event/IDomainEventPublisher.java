@@ -0,0 +1,28 @@
+package com.nsalazar.quicktask.shared.domain.event;
+
+import java.util.UUID;
+
+/**
+ * Port through which the application services publish the changes they make.
+ *
+ * <p>Publishing must happen inside the transaction of the change: the event is stored with it
+ * and delivered to the {@link IDomainEventSubscriber}s asynchronously once committed, or
+ * discarded with it on rollback. Publishing never calls a subscriber, so it adds no latency of
+ * the subscribers to the write.
+ *
+ * @author nsalazar
+ * @see DomainEvent
+ */
+public interface IDomainEventPublisher {
+
+    /**
+     * Records an event in the current transaction.
+     *
+     * @param type the kind of change
+     * @param aggregateId the id of the changed task or task list
+     * @param payload the object serialized to JSON as the event payload
+     * @throws org.springframework.transaction.IllegalTransactionStateException if no transaction is active
+     */
+    void publish(DomainEventType type, UUID aggregateId, Object payload);
+
+}
@@ -0,0 +1,45 @@
+package com.nsalazar.quicktask.shared.domain.event;
+
+/**
+ * In-process consumer of the published {@link DomainEvent}s.
+ *
+ * <p>Every Spring bean implementing this interface is called by the outbox relay for each
+ * committed event it {@linkplain #accepts accepts}. Delivery is <em>at least once</em>:
+ * <ul>
+ *   <li>A subscriber is called for one event of a batch at a time, on a thread of its own;
+ *       different subscribers run concurrently</li>
+ *   <li>Events are not delivered in publication order: instances relay batches concurrently,
+ *       and a redelivered event may arrive after newer ones of the same aggregate</li>
+ *   <li>If {@link #onEvent} throws, the event is delivered again later to every subscriber,
+ *       including those that already handled it, with an increasing delay, until it succeeds
+ *       or runs out of attempts</li>
+ * </ul>
+ *
+ * <p>Implementations should be idempotent (e.g. keyed by {@link DomainEvent#getId()}) and hand
+ * slow work, such as remote calls, to their own queue: the relay waits for every subscriber
+ * before taking the next batch.
+ *
+ * @author nsalazar
+ * @see IDomainEventPublisher
+ */
+public interface IDomainEventSubscriber {
+
+    /**
+     * Returns whether the subscriber wants to receive an event.
+     *
+     * @param event the event
+     * @return {@code true} by default
+     */
+    default boolean accepts(DomainEvent event) {
+        return true;
+    }
+
+    /**
+     * Handles one event.
+     *
+     * @param event the event
+     * @throws Exception to have the event delivered again later
+     */
+    void onEvent(DomainEvent event) throws Exception;
+
+}
@@ -0,0 +1,19 @@
+package com.nsalazar.quicktask.shared.exception;
+
+/**
+ * Exception thrown when a conditional write is rejected because the resource changed since the
+ * client last read it (the {@code If-Match} version is stale).
+ * This exception extends RuntimeException to allow unchecked throwing.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    /**
+     * Constructs a new PreconditionFailedException with the specified detail message.
+     *
+     * @param message the detail message explaining which precondition failed
+     */
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+}
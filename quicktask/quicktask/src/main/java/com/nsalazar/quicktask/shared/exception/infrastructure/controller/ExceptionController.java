@@ -1,14 +1,18 @@
 package com.nsalazar.quicktask.shared.exception.infrastructure.controller;
 
+import com.nsalazar.quicktask.shared.exception.PreconditionFailedException;
 import com.nsalazar.quicktask.shared.exception.ResourceNotFoundException;
 import com.nsalazar.quicktask.task.application.exception.DuplicateTitleException;
 import com.nsalazar.quicktask.tasklist.application.exception.DuplicateNameException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.stream.Collectors;
@@ -24,11 +28,16 @@ import java.util.stream.Collectors;
  * <ul>
  *   <li>{@link ResourceNotFoundException} → 404 Not Found</li>
  *   <li>{@link DuplicateTitleException} → 409 Conflict</li>
+ *   <li>{@link PreconditionFailedException} → 412 Precondition Failed (stale {@code If-Match})</li>
+ *   <li>{@link OptimisticLockingFailureException} → 409 Conflict (concurrent write)</li>
  *   <li>{@link MethodArgumentNotValidException} → 400 Bad Request (validation errors)</li>
  *   <li>{@link MethodArgumentTypeMismatchException} → 400 Bad Request (type conversion errors)</li>
  *   <li>{@link Exception} → 500 Internal Server Error (fallback)</li>
  * </ul>
  *
+ * <p>Every handled exception increments the {@value #ERRORS_COUNTER} counter, tagged with the
+ * exception's simple name and the returned status.
+ *
  * @author nsalazar
  * @see ErrorDTOResponse
  * @see ResourceNotFoundException
@@ -36,8 +45,16 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class ExceptionController {
 
+    /**
+     * Name of the counter recording the errors returned to clients.
+     */
+    public static final String ERRORS_COUNTER = "quicktask.http.errors";
+
+    private final MeterRegistry meterRegistry;
+
     /**
      * Handles {@link ResourceNotFoundException} when a requested resource is not found.
      *
@@ -51,6 +68,7 @@ public class ExceptionController {
                 .error("Resource Not Found")
                 .message(ex.getMessage())
                 .build();
+        recordError(ex, HttpStatus.NOT_FOUND);
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
@@ -67,6 +85,7 @@ public class ExceptionController {
                 .error("Duplicate Title")
                 .message(ex.getMessage())
                 .build();
+        recordError(ex, HttpStatus.CONFLICT);
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
@@ -83,6 +102,42 @@ public class ExceptionController {
                 .error("Duplicate Name")
                 .message(ex.getMessage())
                 .build();
+        recordError(ex, HttpStatus.CONFLICT);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Handles {@link PreconditionFailedException} when an {@code If-Match} version is stale.
+     *
+     * @param ex the exception thrown when a conditional write is rejected
+     * @return a {@link ResponseEntity} with HTTP 412 and an {@link ErrorDTOResponse} describing the error
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorDTOResponse> handlePreconditionFailedException(PreconditionFailedException ex) {
+        log.warn("Precondition failed: {}", ex.getMessage());
+        ErrorDTOResponse errorResponse = ErrorDTOResponse.builder()
+                .error("Precondition Failed")
+                .message(ex.getMessage())
+                .build();
+        recordError(ex, HttpStatus.PRECONDITION_FAILED);
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(errorResponse);
+    }
+
+    /**
+     * Handles {@link OptimisticLockingFailureException} when a concurrent write wins the race
+     * between reading and saving a versioned entity.
+     *
+     * @param ex the exception thrown by the persistence layer on a stale version
+     * @return a {@link ResponseEntity} with HTTP 409 and an {@link ErrorDTOResponse} describing the error
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorDTOResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        log.warn("Concurrent modification detected: {}", ex.getMessage());
+        ErrorDTOResponse errorResponse = ErrorDTOResponse.builder()
+                .error("Concurrent Modification")
+                .message("The resource was modified concurrently; reload it and retry")
+                .build();
+        recordError(ex, HttpStatus.CONFLICT);
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
@@ -99,6 +154,7 @@ public class ExceptionController {
                 .error("Bad Request")
                 .message(ex.getMessage())
                 .build();
+        recordError(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
@@ -122,6 +178,7 @@ public class ExceptionController {
                 .error("Validation Error")
                 .message(details)
                 .build();
+        recordError(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
@@ -143,6 +200,7 @@ public class ExceptionController {
                 .error("Bad Request")
                 .message(message)
                 .build();
+        recordError(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
@@ -162,8 +220,21 @@ public class ExceptionController {
                 .error("Internal Server Error")
                 .message("An unexpected error occurred. Please try again later.")
                 .build();
+        recordError(ex, HttpStatus.INTERNAL_SERVER_ERROR);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
 
+    /**
+     * Counts an error response.
+     *
+     * @param ex the handled exception
+     * @param status the returned status
+     */
+    private void recordError(Exception ex, HttpStatus status) {
+        meterRegistry.counter(ERRORS_COUNTER,
+                "exception", ex.getClass().getSimpleName(),
+                "status", String.valueOf(status.value())).increment();
+    }
+
 }
 
@@ -0,0 +1,107 @@
+package com.nsalazar.quicktask.shared.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration of the in-process, read-through caches for task and task list details.
+ *
+ * <p>Both caches are bounded Caffeine caches with size and time-to-live eviction and with
+ * statistics recording enabled, so hit/miss/eviction counters are published through the
+ * actuator metrics endpoint ({@code cache.gets}, {@code cache.evictions}, ...).
+ *
+ * <p>The cache manager is wrapped in a {@link TransactionAwareCacheManagerProxy}: puts and
+ * evictions issued inside a transaction are applied only after a successful commit, so a
+ * rolled-back write never evicts or replaces a valid entry.
+ *
+ * <p><strong>Concurrent reads and writes:</strong> a read that loaded a row before a write
+ * committed puts its value when its own transaction commits, which can be after the write has
+ * evicted the entry. Every eviction is therefore repeated after
+ * {@code quicktask.cache.re-eviction-delay} (default {@code 1s}), see
+ * {@link ReEvictingCaffeineCache}, so such a value is served for at most that long instead of
+ * until it expires.
+ *
+ * <p><strong>Caches:</strong>
+ * <ul>
+ *   <li>{@value #TASK_DETAILS} - {@code TaskDetailDTOResponse} by task id</li>
+ *   <li>{@value #TASK_LIST_DETAILS} - {@code TaskListDetailDTOResponse} by task list id</li>
+ * </ul>
+ *
+ * <p><strong>Read replicas:</strong> outside a
+ * {@link com.nsalazar.quicktask.shared.infrastructure.database.PrimaryReads PrimaryReads} scope an
+ * entry may have been filled from a lagging replica after the eviction of a write. Reads inside
+ * a scope, such as the requests of a client that has just written, therefore skip the lookup
+ * ({@link #OUTSIDE_PRIMARY_READS}) and replace the entry with the value read from the primary
+ * ({@link #INSIDE_PRIMARY_READS}).
+ *
+ * @author nsalazar
+ * @see CacheInvalidator
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Cache of task detail responses, keyed by task id.
+     */
+    public static final String TASK_DETAILS = "taskDetails";
+
+    /**
+     * Cache of task list detail responses, keyed by task list id.
+     */
+    public static final String TASK_LIST_DETAILS = "taskListDetails";
+
+    /**
+     * Cache condition holding inside a {@code PrimaryReads} scope.
+     */
+    public static final String INSIDE_PRIMARY_READS =
+            "T(com.nsalazar.quicktask.shared.infrastructure.database.PrimaryReads).isRequested()";
+
+    /**
+     * Cache condition holding outside a {@code PrimaryReads} scope.
+     */
+    public static final String OUTSIDE_PRIMARY_READS = "!" + INSIDE_PRIMARY_READS;
+
+    /**
+     * Creates the transaction-aware Caffeine cache manager.
+     *
+     * @param maximumSize the maximum number of entries per cache
+     * @param timeToLive how long an entry is kept after it was written
+     * @param reEvictionDelay how long after an eviction it is repeated
+     * @return the cache manager
+     */
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${quicktask.cache.maximum-size:10000}") long maximumSize,
+            @Value("${quicktask.cache.time-to-live:10m}") Duration timeToLive,
+            @Value("${quicktask.cache.re-eviction-delay:1s}") Duration reEvictionDelay) {
+        Executor delayedExecutor = CompletableFuture.delayedExecutor(reEvictionDelay.toMillis(), TimeUnit.MILLISECONDS);
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager() {
+            @Override
+            protected org.springframework.cache.Cache adaptCaffeineCache(String name, Cache<Object, Object> cache) {
+                return new ReEvictingCaffeineCache(name, cache, isAllowNullValues(), delayedExecutor);
+            }
+        };
+        caffeineCacheManager.setCacheNames(List.of(TASK_DETAILS, TASK_LIST_DETAILS));
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats());
+        caffeineCacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+
+}
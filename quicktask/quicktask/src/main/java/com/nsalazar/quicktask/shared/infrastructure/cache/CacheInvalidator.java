@@ -0,0 +1,85 @@
+package com.nsalazar.quicktask.shared.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Evicts cached detail responses after writes.
+ *
+ * <p>Reads are cached declaratively with {@code @Cacheable}; writes call this component because
+ * a single write can invalidate entries of both caches (e.g. renaming a task list changes the
+ * embedded list info of every cached task detail of that list). Evictions are deferred until
+ * the surrounding transaction commits (see {@link CacheConfig}).
+ *
+ * @author nsalazar
+ * @see CacheConfig
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Evicts the cached detail of a task.
+     *
+     * @param taskId the task id; ignored if null
+     */
+    public void evictTaskDetails(UUID taskId) {
+        if (taskId != null) {
+            cache(CacheConfig.TASK_DETAILS).evict(taskId);
+        }
+    }
+
+    /**
+     * Evicts the cached details of several tasks.
+     *
+     * @param taskIds the task ids
+     */
+    public void evictTaskDetails(Collection<UUID> taskIds) {
+        Cache cache = cache(CacheConfig.TASK_DETAILS);
+        taskIds.forEach(cache::evict);
+        log.debug("Evicted {} task details from cache", taskIds.size());
+    }
+
+    /**
+     * Evicts all cached task details.
+     */
+    public void clearTaskDetails() {
+        cache(CacheConfig.TASK_DETAILS).clear();
+    }
+
+    /**
+     * Evicts the cached detail of a task list.
+     *
+     * @param taskListId the task list id; ignored if null
+     */
+    public void evictTaskListDetails(UUID taskListId) {
+        if (taskListId != null) {
+            cache(CacheConfig.TASK_LIST_DETAILS).evict(taskListId);
+        }
+    }
+
+    /**
+     * Evicts all cached task list details.
+     */
+    public void clearTaskListDetails() {
+        cache(CacheConfig.TASK_LIST_DETAILS).clear();
+    }
+
+    private Cache cache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("Cache not configured: " + name);
+        }
+        return cache;
+    }
+
+}
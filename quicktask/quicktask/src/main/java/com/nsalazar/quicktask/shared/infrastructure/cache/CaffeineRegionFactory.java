@@ -0,0 +1,138 @@
+package com.nsalazar.quicktask.shared.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hibernate second-level cache region factory storing every region in an in-process Caffeine cache.
+ *
+ * <p>Entity, natural-id and query result regions are bounded by the same maximum size and
+ * time-to-live as the detail caches of {@link CacheConfig}, and record statistics. The update
+ * timestamps region is never evicted: losing a timestamp would let the query cache serve results
+ * older than the last write of their tables.
+ *
+ * <p>The regions live in the heap of this instance only. An entry changed by another instance
+ * stays stale here until it expires, the same contract as the detail caches.
+ *
+ * @author nsalazar
+ * @see SecondLevelCacheConfig
+ */
+public class CaffeineRegionFactory extends RegionFactoryTemplate {
+
+    private final long maximumSize;
+    private final Duration timeToLive;
+    private final Map<String, Cache<Object, Object>> regions = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the region factory.
+     *
+     * @param maximumSize the maximum number of entries per region
+     * @param timeToLive how long an entry is kept after it was written
+     */
+    public CaffeineRegionFactory(long maximumSize, Duration timeToLive) {
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Returns the Caffeine cache of every region built so far, keyed by region name.
+     *
+     * @return the region caches; never null
+     */
+    public Map<String, Cache<Object, Object>> getRegions() {
+        return Collections.unmodifiableMap(regions);
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        // Regions are created lazily, when Hibernate builds them
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        regions.values().forEach(Cache::invalidateAll);
+        regions.clear();
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(
+            DomainDataRegionConfig regionConfig, DomainDataRegionBuildingContext buildingContext) {
+        return new CaffeineStorageAccess(region(regionConfig.getRegionName(), true));
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return new CaffeineStorageAccess(region(regionName, true));
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return new CaffeineStorageAccess(region(regionName, false));
+    }
+
+    private Cache<Object, Object> region(String regionName, boolean bounded) {
+        return regions.computeIfAbsent(regionName, name -> {
+            Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+            if (bounded) {
+                builder.maximumSize(maximumSize).expireAfterWrite(timeToLive);
+            }
+            return builder.build();
+        });
+    }
+
+    /**
+     * Storage of a region in a Caffeine cache.
+     */
+    static final class CaffeineStorageAccess implements DomainDataStorageAccess {
+
+        private final Cache<Object, Object> cache;
+
+        CaffeineStorageAccess(Cache<Object, Object> cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+            return cache.getIfPresent(key);
+        }
+
+        @Override
+        public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+            cache.put(key, value);
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return cache.asMap().containsKey(key);
+        }
+
+        @Override
+        public void evictData() {
+            cache.invalidateAll();
+        }
+
+        @Override
+        public void evictData(Object key) {
+            cache.invalidate(key);
+        }
+
+        @Override
+        public void release() {
+            cache.invalidateAll();
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.nsalazar.quicktask.shared.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Caffeine cache that repeats every eviction after a delay.
+ *
+ * <p>Puts of cached reads are deferred until the reading transaction commits, like the
+ * evictions of writes. A read that loaded a row before a write committed can therefore put the
+ * old value back after the write has evicted it, where it would be served until it expires. The
+ * second eviction removes such a value once the delay has passed; a read whose transaction is
+ * still open by then can put it back again.
+ *
+ * <p>It remains a {@link CaffeineCache}, so the cache metrics are bound as for any Caffeine cache.
+ *
+ * @author nsalazar
+ * @see CacheConfig
+ */
+class ReEvictingCaffeineCache extends CaffeineCache {
+
+    private final Executor delayedExecutor;
+
+    /**
+     * Creates the cache.
+     *
+     * @param name the name of the cache
+     * @param cache the native Caffeine cache
+     * @param allowNullValues whether null values are cached
+     * @param delayedExecutor runs the second evictions once the delay has passed
+     */
+    ReEvictingCaffeineCache(String name, Cache<Object, Object> cache, boolean allowNullValues,
+                            Executor delayedExecutor) {
+        super(name, cache, allowNullValues);
+        this.delayedExecutor = delayedExecutor;
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        delayedExecutor.execute(() -> super.evict(key));
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        delayedExecutor.execute(super::clear);
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.nsalazar.quicktask.shared.infrastructure.cache;
+
+import com.nsalazar.quicktask.shared.infrastructure.database.PrimaryReads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical reads into a single call (single flight).
+ *
+ * <p>A read is identified by an operation name and a key, e.g. a task list id or a page request.
+ * The first caller of a read executes it; callers arriving while it is in flight wait for that
+ * call and receive its result, or its exception, instead of querying the database as well. Once
+ * the call returns, the next caller executes the read again: results are shared, never kept.
+ * Reads inside a {@link PrimaryReads} scope never share a call with reads outside one, so a
+ * caller that must see its own writes never receives a result read from a lagging replica.
+ *
+ * <p>This complements the detail caches: after an eviction or on a cold start, a burst of
+ * requests for the same hot task list costs one database read instead of one per request.
+ * Callers share the returned object, so results must not be mutated. Reads called inside a
+ * transaction are executed, never coalesced: a waiting caller would keep its connection for
+ * nothing, and a shared result could include the uncommitted changes of the leader. Callers
+ * start the transaction of the read inside the supplied read instead.
+ *
+ * <p>Set {@value #ENABLED} to {@code false} to execute every read.
+ *
+ * <p><strong>Metrics:</strong> {@code quicktask.coalescing.calls{operation, outcome=executed|coalesced}}
+ * counts the reads that executed and the reads that shared an in-flight call.
+ *
+ * @author nsalazar
+ */
+@Component
+public class RequestCoalescer {
+
+    /**
+     * Property switching coalescing on or off (default {@code true}).
+     */
+    public static final String ENABLED = "quicktask.coalescing.enabled";
+
+    /**
+     * Name of the counter of reads, tagged by operation and outcome.
+     */
+    public static final String CALLS_COUNTER = "quicktask.coalescing.calls";
+
+    private final Map<Flight, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    /**
+     * Creates the coalescer.
+     *
+     * @param meterRegistry the registry of the call counters
+     * @param enabled whether concurrent identical reads are coalesced
+     */
+    public RequestCoalescer(MeterRegistry meterRegistry, @Value("${" + ENABLED + ":true}") boolean enabled) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Executes a read, or waits for the identical read already in flight.
+     *
+     * @param operation the name of the read, e.g. {@code "taskList.getById"}
+     * @param key the arguments identifying the read; must implement {@code equals} and {@code hashCode}
+     * @param read the read to execute
+     * @param <T> the type of the result
+     * @return the result of the read, possibly shared with concurrent callers
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Object key, Supplier<T> read) {
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return read.get();
+        }
+        Flight flight = new Flight(operation, key, PrimaryReads.isRequested());
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(flight, call);
+        if (leader != null) {
+            counter(operation, "coalesced").increment();
+            return (T) await(leader);
+        }
+        counter(operation, "executed").increment();
+        try {
+            T result = read.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flight, call);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Counter counter(String operation, String outcome) {
+        return meterRegistry.counter(CALLS_COUNTER, "operation", operation, "outcome", outcome);
+    }
+
+    /**
+     * Identity of a read, including whether it must be served by the primary.
+     */
+    private record Flight(String operation, Object key, boolean primary) {
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.nsalazar.quicktask.shared.infrastructure.cache;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the Hibernate second-level cache.
+ *
+ * <p>Entities annotated with {@code @Cache} are cached in a {@link CaffeineRegionFactory}, so
+ * primary key and natural-id lookups of a cached entity are served without SQL. Hibernate keeps
+ * the regions in step with the writes of the session factory: a saved entity replaces its entry
+ * after the commit, and a bulk {@code DELETE} or {@code UPDATE} evicts the regions of its table.
+ * The query cache stays disabled.
+ *
+ * <p>{@code quicktask.cache.second-level.enabled=false} turns the cache off; every lookup then
+ * reaches the database again.
+ *
+ * <p><strong>Metrics:</strong> every region is published like the detail caches
+ * ({@code cache.gets}, {@code cache.puts}, {@code cache.evictions}, {@code cache.size}), tagged
+ * with {@code cache=<region>} and {@code cacheManager=hibernate}.
+ *
+ * @author nsalazar
+ * @see CaffeineRegionFactory
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    /**
+     * Property enabling the second-level cache.
+     */
+    public static final String ENABLED = "quicktask.cache.second-level.enabled";
+
+    /**
+     * Registers the {@link CaffeineRegionFactory} with Hibernate.
+     *
+     * @param enabled whether the second-level cache is enabled
+     * @param maximumSize the maximum number of entries per region
+     * @param timeToLive how long an entry is kept after it was written
+     * @return the customizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            @Value("${" + ENABLED + ":true}") boolean enabled,
+            @Value("${quicktask.cache.maximum-size:10000}") long maximumSize,
+            @Value("${quicktask.cache.time-to-live:10m}") Duration timeToLive) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            if (enabled) {
+                properties.put(AvailableSettings.CACHE_REGION_FACTORY, new CaffeineRegionFactory(maximumSize, timeToLive));
+            }
+        };
+    }
+
+    /**
+     * Publishes the statistics of every second-level cache region.
+     *
+     * @param entityManagerFactory the entity manager factory owning the regions
+     * @return the meter binder; binds nothing if the second-level cache is disabled
+     */
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            if (entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache().getRegionFactory()
+                    instanceof CaffeineRegionFactory regionFactory) {
+                regionFactory.getRegions().forEach((name, cache) ->
+                        CaffeineCacheMetrics.monitor(registry, cache, name, "cacheManager", "hibernate"));
+            }
+        };
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.nsalazar.quicktask.shared.infrastructure.database;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Named row counts, recounted at most once per refresh interval.
+ *
+ * <p>A {@code COUNT(*)} scans a whole InnoDB index, so its cost grows with the table. Where an
+ * approximate total is good enough, the count is taken once and served from memory until it is
+ * {@code quicktask.pagination.count-refresh-interval} (default {@code 30s}) old. The first
+ * caller after that recounts, while concurrent callers keep getting the previous count instead
+ * of waiting or counting as well. Before the first count there is no previous count to serve, so
+ * concurrent callers wait for the one caller taking it.
+ *
+ * @author nsalazar
+ */
+@Component
+public class CachedCounts {
+
+    /**
+     * Property holding how long a count is served before it is taken again.
+     */
+    public static final String REFRESH_INTERVAL = "quicktask.pagination.count-refresh-interval";
+
+    private final Duration refreshInterval;
+    private final Clock clock;
+    private final Map<String, Entry> counts = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the counts.
+     *
+     * @param refreshInterval how long a count is served before it is taken again
+     */
+    @Autowired
+    public CachedCounts(@Value("${" + REFRESH_INTERVAL + ":30s}") Duration refreshInterval) {
+        this(refreshInterval, Clock.systemUTC());
+    }
+
+    CachedCounts(Duration refreshInterval, Clock clock) {
+        this.refreshInterval = refreshInterval;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns a count, taking it with {@code counter} if it was never taken or is due a refresh.
+     *
+     * @param name the name of the count
+     * @param counter the query counting the rows
+     * @return the count as of its last refresh
+     */
+    public long get(String name, LongSupplier counter) {
+        return counts.computeIfAbsent(name, key -> new Entry()).get(counter);
+    }
+
+    /**
+     * A count and the time it was taken.
+     */
+    private final class Entry {
+
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        // A lock rather than synchronized, so a virtual thread counting is not pinned to its carrier
+        private final ReentrantLock firstCount = new ReentrantLock();
+        private volatile long value;
+        private volatile long countedAt;
+        private volatile boolean counted;
+
+        long get(LongSupplier counter) {
+            long now = clock.millis();
+            if (!counted) {
+                countFirst(counter, now);
+            } else if (now - countedAt >= refreshInterval.toMillis() && refreshing.compareAndSet(false, true)) {
+                try {
+                    refresh(counter, now);
+                } finally {
+                    refreshing.set(false);
+                }
+            }
+            return value;
+        }
+
+        private void countFirst(LongSupplier counter, long now) {
+            firstCount.lock();
+            try {
+                if (!counted) {
+                    refresh(counter, now);
+                }
+            } finally {
+                firstCount.unlock();
+            }
+        }
+
+        private void refresh(LongSupplier counter, long now) {
+            value = counter.getAsLong();
+            countedAt = now;
+            counted = true;
+        }
+    }
+
+}
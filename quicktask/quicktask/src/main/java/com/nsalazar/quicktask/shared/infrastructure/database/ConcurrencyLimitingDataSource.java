@@ -0,0 +1,174 @@
+package com.nsalazar.quicktask.shared.infrastructure.database;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link DataSource} decorator that bounds the number of connections in use at the same time.
+ *
+ * <p>With virtual threads every request gets its own thread, so the number of threads asking
+ * for a JDBC connection is no longer bounded by the Tomcat pool. Without a limit, tens of
+ * thousands of them would pile up inside the connection pool, each one timing out on its own
+ * and logging a pool exhaustion error. This decorator puts a fair {@link Semaphore} in front of
+ * the pool: callers queue in FIFO order without holding a carrier thread, and only
+ * {@code maxConcurrency} of them reach the pool at once.
+ *
+ * <p><strong>Behavior:</strong>
+ * <ul>
+ *   <li>{@link #getConnection()} waits up to {@code acquireTimeout} for a permit and then throws
+ *       a {@link SQLTransientConnectionException}, which Spring translates to a transient
+ *       data access exception</li>
+ *   <li>The permit is released when the returned connection is closed; closing it again does
+ *       not release a second permit</li>
+ *   <li>The returned connection implements {@link ConnectionProxy}, so the underlying pooled
+ *       connection can still be unwrapped</li>
+ * </ul>
+ *
+ * @author nsalazar
+ * @see DataSourceConcurrencyConfig
+ */
+public class ConcurrencyLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final Duration acquireTimeout;
+
+    /**
+     * Creates a limiter in front of the given data source.
+     *
+     * @param targetDataSource the pooled data source to protect
+     * @param maxConcurrency the maximum number of connections handed out at once. Must be positive.
+     * @param acquireTimeout how long a caller waits for a permit before failing
+     */
+    public ConcurrencyLimitingDataSource(DataSource targetDataSource, int maxConcurrency, Duration acquireTimeout) {
+        super(targetDataSource);
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquirePermit();
+        try {
+            return limited(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquirePermit();
+        try {
+            return limited(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns the maximum number of connections handed out at once.
+     *
+     * @return the configured limit
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Returns the number of connections currently handed out.
+     *
+     * @return the number of permits in use
+     */
+    public int getActiveConnections() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * Returns an estimate of the number of callers waiting for a permit.
+     *
+     * @return the approximate queue length
+     */
+    public int getWaitingCallers() {
+        return permits.getQueueLength();
+    }
+
+    private void acquirePermit() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException(String.format(
+                        "No JDBC connection available within %d ms (limit %d, %d callers waiting)",
+                        acquireTimeout.toMillis(), maxConcurrency, permits.getQueueLength()));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a JDBC connection", ex);
+        }
+    }
+
+    private Connection limited(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionProxy.class.getClassLoader(),
+                new Class<?>[] {ConnectionProxy.class},
+                new PermitReleasingInvocationHandler(target));
+    }
+
+    /**
+     * Delegates every call to the target connection and releases the permit on the first
+     * {@code close()}.
+     */
+    private final class PermitReleasingInvocationHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitReleasingInvocationHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getTargetConnection":
+                    return target;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Concurrency-limited proxy for target Connection [" + target + "]";
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            } finally {
+                if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.nsalazar.quicktask.shared.infrastructure.database;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Configuration of the bounded JDBC concurrency in front of the connection pool.
+ *
+ * <p>Every {@link DataSource} bean is wrapped in a {@link ConcurrencyLimitingDataSource} when
+ * {@value #MAX_CONCURRENCY} is positive. The limit should not exceed the pool size
+ * ({@code spring.datasource.hikari.maximum-pool-size}); callers over the limit wait in the
+ * limiter's FIFO queue for at most {@value #ACQUIRE_TIMEOUT}. Set the limit to {@code 0} to
+ * disable the wrapper.
+ *
+ * <p>The limiter matters most with {@code spring.threads.virtual.enabled=true}, where request
+ * concurrency is no longer bounded by the Tomcat thread pool.
+ *
+ * <p><strong>Metrics:</strong>
+ * <ul>
+ *   <li>{@code quicktask.datasource.connections.active} - connections currently handed out</li>
+ *   <li>{@code quicktask.datasource.connections.waiting} - callers waiting for a connection</li>
+ * </ul>
+ *
+ * @author nsalazar
+ * @see ConcurrencyLimitingDataSource
+ */
+@Configuration
+public class DataSourceConcurrencyConfig {
+
+    /**
+     * Property holding the maximum number of connections in use at once.
+     */
+    public static final String MAX_CONCURRENCY = "quicktask.datasource.max-concurrency";
+
+    /**
+     * Property holding how long a caller waits for a connection permit.
+     */
+    public static final String ACQUIRE_TIMEOUT = "quicktask.datasource.acquire-timeout";
+
+    /**
+     * Order of the post-processor wrapping the data source beans; it runs before the
+     * {@link ReadReplicaConfig read replica routing}, which then wraps the limited primary.
+     */
+    static final int POST_PROCESSOR_ORDER = 0;
+
+    /**
+     * Wraps the data source beans in a {@link ConcurrencyLimitingDataSource}.
+     *
+     * <p>Declared {@code static} so the post-processor is registered before the data source
+     * is created, without initializing this configuration class early.
+     *
+     * @param environment the environment holding the limiter properties
+     * @return the bean post-processor
+     */
+    @Bean
+    static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(Environment environment) {
+        return new ConcurrencyLimitingPostProcessor(environment);
+    }
+
+    /**
+     * Publishes the limiter's active and waiting counts as gauges.
+     *
+     * @param dataSource the application data source
+     * @return the meter binder; binds nothing if the limiter is disabled
+     */
+    @Bean
+    public MeterBinder dataSourceConcurrencyMetrics(DataSource dataSource) {
+        return registry -> {
+            ConcurrencyLimitingDataSource limiter = unwrapLimiter(dataSource);
+            if (limiter != null) {
+                Gauge.builder("quicktask.datasource.connections.active", limiter,
+                                ConcurrencyLimitingDataSource::getActiveConnections)
+                        .description("JDBC connections currently handed out by the concurrency limiter")
+                        .register(registry);
+                Gauge.builder("quicktask.datasource.connections.waiting", limiter,
+                                ConcurrencyLimitingDataSource::getWaitingCallers)
+                        .description("Callers waiting for a JDBC connection permit")
+                        .register(registry);
+            }
+        };
+    }
+
+    private static ConcurrencyLimitingDataSource unwrapLimiter(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(ConcurrencyLimitingDataSource.class)
+                    ? dataSource.unwrap(ConcurrencyLimitingDataSource.class)
+                    : null;
+        } catch (SQLException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Wraps every data source bean that is not wrapped yet.
+     */
+    private static final class ConcurrencyLimitingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Environment environment;
+
+        private ConcurrencyLimitingPostProcessor(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            int maxConcurrency = environment.getProperty(MAX_CONCURRENCY, Integer.class, 10);
+            if (!(bean instanceof DataSource dataSource)
+                    || bean instanceof ConcurrencyLimitingDataSource
+                    || maxConcurrency <= 0) {
+                return bean;
+            }
+            Duration acquireTimeout = environment.getProperty(ACQUIRE_TIMEOUT, Duration.class, Duration.ofSeconds(30));
+            return new ConcurrencyLimitingDataSource(dataSource, maxConcurrency, acquireTimeout);
+        }
+
+        @Override
+        public int getOrder() {
+            return POST_PROCESSOR_ORDER;
+        }
+    }
+
+}
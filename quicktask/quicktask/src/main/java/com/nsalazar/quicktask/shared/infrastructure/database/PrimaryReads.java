@@ -0,0 +1,67 @@
+package com.nsalazar.quicktask.shared.infrastructure.database;
+
+/**
+ * Sends the read-only transactions of the current thread to the primary.
+ *
+ * <p>Read-only transactions normally run on a replica, which may lag behind the primary. Code
+ * that must see its own or other recent writes opens a scope around its reads:
+ * <pre>
+ * try (PrimaryReads.Scope ignored = PrimaryReads.open()) {
+ *     ...
+ * }
+ * </pre>
+ * Scopes nest; the thread returns to replica reads when the outermost scope is closed. Without
+ * read replicas a scope has no effect.
+ *
+ * @author nsalazar
+ * @see ReadWriteRoutingDataSource
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> REQUESTED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    /**
+     * Sends the reads of the current thread to the primary until the returned scope is closed.
+     *
+     * @return the scope to close
+     */
+    public static Scope open() {
+        boolean outermost = REQUESTED.get() == null;
+        if (outermost) {
+            REQUESTED.set(Boolean.TRUE);
+        }
+        return new Scope(outermost);
+    }
+
+    /**
+     * Returns whether the reads of the current thread go to the primary.
+     *
+     * @return {@code true} inside a scope
+     */
+    public static boolean isRequested() {
+        return REQUESTED.get() != null;
+    }
+
+    /**
+     * Scope of primary reads; closing the outermost scope restores replica reads.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final boolean outermost;
+
+        private Scope(boolean outermost) {
+            this.outermost = outermost;
+        }
+
+        @Override
+        public void close() {
+            if (outermost) {
+                REQUESTED.remove();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.nsalazar.quicktask.shared.infrastructure.database;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of the read replicas.
+ *
+ * <p>When {@code quicktask.datasource.read-replicas.urls} lists at least one replica, the
+ * data source bean is wrapped in a {@link ReadWriteRoutingDataSource}: read-only transactions
+ * go to the replicas, everything else to the primary. The wrapping runs after the
+ * {@link DataSourceConcurrencyConfig concurrency limiter}, so the limiter only guards the
+ * primary. Each replica gets its own read-only Hikari pool of
+ * {@code maximum-pool-size} connections with a limiter of the same size in front, so a burst of
+ * reads waits for a free connection instead of failing the replica.
+ *
+ * <p>Without replicas nothing is wrapped and every transaction uses the primary.
+ *
+ * @author nsalazar
+ * @see ReadReplicaProperties
+ * @see ReadReplicaHealthCheck
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaConfig {
+
+    /**
+     * Wraps the data source bean in a {@link ReadWriteRoutingDataSource} when replicas are
+     * configured.
+     *
+     * <p>Declared {@code static} so the post-processor is registered before the data source
+     * is created, without initializing this configuration class early.
+     *
+     * @param environment the environment holding the replica properties
+     * @return the bean post-processor
+     */
+    @Bean
+    static BeanPostProcessor readWriteRoutingDataSourcePostProcessor(Environment environment) {
+        return new ReadWriteRoutingPostProcessor(environment);
+    }
+
+    /**
+     * Creates the pool of a replica, behind a limiter of the pool size.
+     *
+     * @param name the pool name
+     * @param url the JDBC URL of the replica
+     * @param properties the replica properties
+     * @param environment the environment holding the primary's credentials and driver
+     * @return the replica data source
+     */
+    static DataSource replicaDataSource(String name, String url, ReadReplicaProperties properties, Environment environment) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setUsername(properties.getUsername() != null
+                ? properties.getUsername() : environment.getProperty("spring.datasource.username"));
+        config.setPassword(properties.getPassword() != null
+                ? properties.getPassword() : environment.getProperty("spring.datasource.password"));
+        String driverClassName = environment.getProperty("spring.datasource.driver-class-name");
+        if (driverClassName != null) {
+            config.setDriverClassName(driverClassName);
+        }
+        config.setMaximumPoolSize(properties.getMaximumPoolSize());
+        config.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+        config.setReadOnly(true);
+        // A replica that is down at startup is skipped until it passes a health check
+        config.setInitializationFailTimeout(-1);
+        Duration acquireTimeout = environment.getProperty(
+                DataSourceConcurrencyConfig.ACQUIRE_TIMEOUT, Duration.class, Duration.ofSeconds(30));
+        return new ConcurrencyLimitingDataSource(new HikariDataSource(config), properties.getMaximumPoolSize(), acquireTimeout);
+    }
+
+    /**
+     * Wraps the data source bean once the concurrency limiter has wrapped it.
+     */
+    private static final class ReadWriteRoutingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Environment environment;
+
+        private ReadWriteRoutingPostProcessor(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource primary) || bean instanceof ReadWriteRoutingDataSource) {
+                return bean;
+            }
+            ReadReplicaProperties properties = Binder.get(environment)
+                    .bindOrCreate(ReadReplicaProperties.PREFIX, ReadReplicaProperties.class);
+            if (!properties.isEnabled()) {
+                return bean;
+            }
+            List<ReadWriteRoutingDataSource.Replica> replicas = new ArrayList<>();
+            for (String url : properties.getUrls()) {
+                if (url != null && !url.isBlank()) {
+                    String name = "replica-" + (replicas.size() + 1);
+                    replicas.add(new ReadWriteRoutingDataSource.Replica(name,
+                            replicaDataSource(name, url.trim(), properties, environment)));
+                }
+            }
+            log.info("Routing read-only transactions to {} read replicas", replicas.size());
+            return new ReadWriteRoutingDataSource(primary, replicas);
+        }
+
+        @Override
+        public int getOrder() {
+            return DataSourceConcurrencyConfig.POST_PROCESSOR_ORDER + 1;
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.nsalazar.quicktask.shared.infrastructure.database;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Checks the read replicas periodically and publishes the routing metrics.
+ *
+ * <p>Every {@code quicktask.datasource.read-replicas.health-check-interval} (default {@code 5s})
+ * a connection of each replica is validated, within the replica connection timeout: a replica
+ * marked down after a failure serves reads again once it passes, and a replica failing it stops
+ * serving reads before a request runs into it.
+ *
+ * <p><strong>Metrics:</strong>
+ * <ul>
+ *   <li>{@code quicktask.datasource.replicas.healthy} - replicas currently serving reads</li>
+ *   <li>{@code quicktask.datasource.reads{target}} - read-only connections taken from a
+ *       {@code replica} or from the {@code primary}</li>
+ * </ul>
+ *
+ * <p>Without read replicas the check does nothing and no metric is published.
+ *
+ * @author nsalazar
+ * @see ReadWriteRoutingDataSource
+ */
+@Component
+public class ReadReplicaHealthCheck implements MeterBinder {
+
+    /**
+     * Property holding the delay between two health checks.
+     */
+    public static final String HEALTH_CHECK_INTERVAL = ReadReplicaProperties.PREFIX + ".health-check-interval";
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final ReadReplicaProperties properties;
+
+    /**
+     * Creates the health check.
+     *
+     * @param dataSource the application data source
+     * @param properties the replica properties
+     */
+    public ReadReplicaHealthCheck(DataSource dataSource, ReadReplicaProperties properties) {
+        this.routingDataSource = unwrapRouting(dataSource);
+        this.properties = properties;
+    }
+
+    /**
+     * Validates a connection of every replica.
+     */
+    @Scheduled(fixedDelayString = "${" + HEALTH_CHECK_INTERVAL + ":5s}", initialDelayString = "${" + HEALTH_CHECK_INTERVAL + ":5s}")
+    public void check() {
+        if (routingDataSource != null) {
+            routingDataSource.checkHealth(properties.getConnectionTimeout());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (routingDataSource == null) {
+            return;
+        }
+        Gauge.builder("quicktask.datasource.replicas.healthy", routingDataSource,
+                        ReadWriteRoutingDataSource::getHealthyReplicaCount)
+                .description("Read replicas currently serving read-only transactions")
+                .register(registry);
+        FunctionCounter.builder("quicktask.datasource.reads", routingDataSource,
+                        ReadWriteRoutingDataSource::getReplicaReads)
+                .description("Read-only connections by target")
+                .tag("target", "replica")
+                .register(registry);
+        FunctionCounter.builder("quicktask.datasource.reads", routingDataSource,
+                        ReadWriteRoutingDataSource::getPrimaryReads)
+                .description("Read-only connections by target")
+                .tag("target", "primary")
+                .register(registry);
+    }
+
+    private static ReadWriteRoutingDataSource unwrapRouting(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(ReadWriteRoutingDataSource.class)
+                    ? dataSource.unwrap(ReadWriteRoutingDataSource.class)
+                    : null;
+        } catch (SQLException ex) {
+            return null;
+        }
+    }
+
+}
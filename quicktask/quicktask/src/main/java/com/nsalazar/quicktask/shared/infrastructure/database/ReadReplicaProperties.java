@@ -0,0 +1,78 @@
+package com.nsalazar.quicktask.shared.infrastructure.database;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas serving the read-only transactions.
+ *
+ * <p>Routing is enabled by listing at least one JDBC URL:
+ * <pre>
+ * quicktask.datasource.read-replicas.urls=jdbc:mysql://replica-1:3306/tasks_db,jdbc:mysql://replica-2:3306/tasks_db
+ * </pre>
+ * Replicas use the credentials and driver of the primary ({@code spring.datasource.*}) unless
+ * {@link #getUsername()} and {@link #getPassword()} are set.
+ *
+ * @author nsalazar
+ * @see ReadWriteRoutingDataSource
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = ReadReplicaProperties.PREFIX)
+public class ReadReplicaProperties {
+
+    /**
+     * Prefix of the replica properties.
+     */
+    public static final String PREFIX = "quicktask.datasource.read-replicas";
+
+    /**
+     * JDBC URLs of the replicas; empty disables the routing.
+     */
+    private List<String> urls = new ArrayList<>();
+
+    /**
+     * User of the replicas, or null to use {@code spring.datasource.username}.
+     */
+    private String username;
+
+    /**
+     * Password of the replicas, or null to use {@code spring.datasource.password}.
+     */
+    private String password;
+
+    /**
+     * Connection pool size of each replica.
+     */
+    private int maximumPoolSize = 10;
+
+    /**
+     * How long opening a replica connection may take before the replica is considered down.
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Delay between two health checks of the replicas.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * How long the reads of a client go to the primary after one of its writes; zero disables it.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * Returns whether at least one replica is configured.
+     *
+     * @return {@code true} if read-only transactions are routed to replicas
+     */
+    public boolean isEnabled() {
+        return urls.stream().anyMatch(url -> url != null && !url.isBlank());
+    }
+
+}
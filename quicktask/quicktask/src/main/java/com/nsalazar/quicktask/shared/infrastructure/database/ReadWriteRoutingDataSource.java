@@ -0,0 +1,211 @@
+package com.nsalazar.quicktask.shared.infrastructure.database;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link DataSource} sending read-only transactions to read replicas and everything else to the
+ * primary.
+ *
+ * <p>The connection is only fetched when the first statement runs, once the transaction manager
+ * has marked it read-only ({@code @Transactional(readOnly = true)}); until then the transaction
+ * holds no pooled connection at all. Read-only connections are taken from the replicas in
+ * round-robin order:
+ * <ul>
+ *   <li>a replica failing to hand out a connection is marked down and skipped until
+ *       {@link #checkHealth(Duration)} finds it valid again</li>
+ *   <li>with every replica down, or inside a {@link PrimaryReads} scope, the read goes to the
+ *       primary</li>
+ * </ul>
+ * Replicas may lag behind the primary. Reads that must see recent writes use a
+ * {@link PrimaryReads} scope, which {@link ReadYourWritesFilter} opens for the requests of a
+ * client that has just written.
+ *
+ * @author nsalazar
+ * @see ReadReplicaConfig
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private final List<Replica> replicas;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder primaryReads = new LongAdder();
+
+    /**
+     * Creates the routing data source.
+     *
+     * @param primary the data source of the writes, and of the reads no replica can serve
+     * @param replicas the replicas serving the read-only transactions. Must not be empty.
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, List<Replica> replicas) {
+        super(primary);
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one read replica is required");
+        }
+        this.replicas = List.copyOf(replicas);
+        setReadOnlyDataSource(new ReadOnlyDataSource());
+    }
+
+    /**
+     * Validates a connection of every replica and updates which replicas serve reads.
+     *
+     * @param timeout how long a validation may take
+     */
+    public void checkHealth(Duration timeout) {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.getDataSource().getConnection()) {
+                healthy = connection.isValid((int) Math.max(1, timeout.toSeconds()));
+            } catch (SQLException | RuntimeException ex) {
+                healthy = false;
+            }
+            if (healthy != replica.isHealthy()) {
+                replica.healthy = healthy;
+                if (healthy) {
+                    log.info("Read replica {} is up; routing reads to it again", replica.getName());
+                } else {
+                    log.warn("Read replica {} failed its health check; skipping it", replica.getName());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of configured replicas.
+     *
+     * @return the replica count
+     */
+    public int getReplicaCount() {
+        return replicas.size();
+    }
+
+    /**
+     * Returns the number of replicas currently serving reads.
+     *
+     * @return the healthy replica count
+     */
+    public int getHealthyReplicaCount() {
+        return (int) replicas.stream().filter(Replica::isHealthy).count();
+    }
+
+    /**
+     * Returns the number of read-only connections taken from a replica.
+     *
+     * @return the replica read count
+     */
+    public long getReplicaReads() {
+        return replicaReads.sum();
+    }
+
+    /**
+     * Returns the number of read-only connections taken from the primary.
+     *
+     * @return the primary read count
+     */
+    public long getPrimaryReads() {
+        return primaryReads.sum();
+    }
+
+    /**
+     * Closes the connection pools of the replicas; the primary is left open.
+     */
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            try {
+                if (replica.getDataSource().isWrapperFor(AutoCloseable.class)) {
+                    replica.getDataSource().unwrap(AutoCloseable.class).close();
+                }
+            } catch (Exception ex) {
+                log.warn("Closing read replica {} failed", replica.getName(), ex);
+            }
+        }
+    }
+
+    private Connection readOnlyConnection() throws SQLException {
+        if (!PrimaryReads.isRequested()) {
+            int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+            for (int i = 0; i < replicas.size(); i++) {
+                Replica replica = replicas.get((start + i) % replicas.size());
+                if (!replica.isHealthy()) {
+                    continue;
+                }
+                try {
+                    Connection connection = replica.getDataSource().getConnection();
+                    replicaReads.increment();
+                    return connection;
+                } catch (SQLException ex) {
+                    replica.healthy = false;
+                    log.warn("Read replica {} failed to open a connection; skipping it until its next health check: {}",
+                            replica.getName(), ex.getMessage());
+                }
+            }
+        }
+        primaryReads.increment();
+        return obtainTargetDataSource().getConnection();
+    }
+
+    /**
+     * Target of the read-only connections.
+     */
+    private final class ReadOnlyDataSource extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return readOnlyConnection();
+        }
+
+        /**
+         * Connections with explicit credentials are always taken from the primary.
+         */
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            primaryReads.increment();
+            return obtainTargetDataSource().getConnection(username, password);
+        }
+    }
+
+    /**
+     * A read replica and whether it currently serves reads.
+     */
+    public static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        /**
+         * Creates a replica, initially considered healthy.
+         *
+         * @param name the name used in logs
+         * @param dataSource the pooled data source of the replica
+         */
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public DataSource getDataSource() {
+            return dataSource;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+    }
+
+}
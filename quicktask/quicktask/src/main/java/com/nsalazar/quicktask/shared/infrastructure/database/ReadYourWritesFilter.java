@@ -0,0 +1,111 @@
+package com.nsalazar.quicktask.shared.infrastructure.database;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Sends the reads of a client to the primary for a short window after one of its writes, so it
+ * sees its own changes even when the replicas lag behind.
+ *
+ * <p>A request with a method that may write ({@code POST}, {@code PUT}, {@code PATCH},
+ * {@code DELETE}) sets the {@value #COOKIE} cookie to the end of the window
+ * ({@code quicktask.datasource.read-replicas.read-your-writes-window}, in epoch milliseconds).
+ * Requests carrying an unexpired cookie, and the writing request itself, run inside a
+ * {@link PrimaryReads} scope. The cookie keeps the filter stateless, so the window holds whichever
+ * instance serves the next request; clients that drop cookies only read their writes within the
+ * same request.
+ *
+ * <p>The filter does nothing unless read replicas are configured.
+ *
+ * @author nsalazar
+ * @see ReadWriteRoutingDataSource
+ */
+@Component
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    /**
+     * Cookie holding the end of the read-your-writes window, in epoch milliseconds.
+     */
+    public static final String COOKIE = "quicktask-read-primary-until";
+
+    private static final Set<String> WRITE_METHODS = Set.of(
+            HttpMethod.POST.name(), HttpMethod.PUT.name(), HttpMethod.PATCH.name(), HttpMethod.DELETE.name());
+
+    private final ReadReplicaProperties properties;
+    private final Clock clock;
+
+    /**
+     * Creates the filter.
+     *
+     * @param properties the replica properties holding the window
+     */
+    @Autowired
+    public ReadYourWritesFilter(ReadReplicaProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    ReadYourWritesFilter(ReadReplicaProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || properties.getReadYourWritesWindow().isZero();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = clock.millis();
+        boolean write = WRITE_METHODS.contains(request.getMethod());
+        if (write) {
+            Duration window = properties.getReadYourWritesWindow();
+            response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE, Long.toString(now + window.toMillis()))
+                    .path("/")
+                    .maxAge(Duration.ofSeconds(Math.max(1, (window.toMillis() + 999) / 1000)))
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build()
+                    .toString());
+        }
+        if (write || readPrimaryUntil(request) > now) {
+            try (PrimaryReads.Scope ignored = PrimaryReads.open()) {
+                filterChain.doFilter(request, response);
+            }
+        } else {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private static long readPrimaryUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (COOKIE.equals(cookie.getName())) {
+                    try {
+                        return Long.parseLong(cookie.getValue());
+                    } catch (NumberFormatException ex) {
+                        return 0;
+                    }
+                }
+            }
+        }
+        return 0;
+    }
+
+}
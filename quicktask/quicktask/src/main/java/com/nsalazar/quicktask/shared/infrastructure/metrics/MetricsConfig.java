@@ -0,0 +1,31 @@
+package com.nsalazar.quicktask.shared.infrastructure.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Wires the metrics components that need to be registered with Hibernate and binds the
+ * SQL statement budgets.
+ *
+ * @author nsalazar
+ * @see SqlStatementCounter
+ */
+@Configuration
+@EnableConfigurationProperties(SqlStatementBudgetProperties.class)
+public class MetricsConfig {
+
+    /**
+     * Registers the {@link SqlStatementCounter} as the session factory's statement inspector.
+     *
+     * @param sqlStatementCounter the counter
+     * @return the customizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer(SqlStatementCounter sqlStatementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.nsalazar.quicktask.shared.infrastructure.metrics;
+
+import com.nsalazar.quicktask.shared.exception.PreconditionFailedException;
+import com.nsalazar.quicktask.shared.exception.ResourceNotFoundException;
+import com.nsalazar.quicktask.task.application.exception.DuplicateTitleException;
+import com.nsalazar.quicktask.tasklist.application.exception.DuplicateNameException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every call through the service and repository ports.
+ *
+ * <p>Each call of an {@code ITaskService}, {@code ITaskListService}, {@code ITaskRepository} or
+ * {@code ITaskListRepository} method is recorded in a timer with a percentile histogram, so
+ * Prometheus can aggregate latency quantiles across instances. The timer count doubles as the
+ * call counter per outcome.
+ *
+ * <p><strong>Meters:</strong>
+ * <ul>
+ *   <li>{@value #SERVICE_TIMER} - service calls</li>
+ *   <li>{@value #REPOSITORY_TIMER} - repository calls, including those made by the services</li>
+ * </ul>
+ *
+ * <p><strong>Tags:</strong>
+ * <ul>
+ *   <li>{@code port} - the interface, e.g. {@code ITaskService}</li>
+ *   <li>{@code operation} - the method name, e.g. {@code getById}</li>
+ *   <li>{@code outcome} - {@code SUCCESS}, {@code NOT_FOUND}, {@code CONFLICT},
+ *       {@code PRECONDITION_FAILED}, {@code INVALID} or {@code ERROR}</li>
+ *   <li>{@code exception} - simple name of the thrown exception, or {@code none}</li>
+ * </ul>
+ *
+ * @author nsalazar
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class PortMetricsAspect {
+
+    /**
+     * Name of the timer recording service calls.
+     */
+    public static final String SERVICE_TIMER = "quicktask.service";
+
+    /**
+     * Name of the timer recording repository calls.
+     */
+    public static final String REPOSITORY_TIMER = "quicktask.repository";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(* com.nsalazar.quicktask.task.application.ITaskService.*(..))")
+    public Object timeTaskService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_TIMER, "ITaskService", joinPoint);
+    }
+
+    @Around("execution(* com.nsalazar.quicktask.tasklist.application.ITaskListService.*(..))")
+    public Object timeTaskListService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_TIMER, "ITaskListService", joinPoint);
+    }
+
+    @Around("execution(* com.nsalazar.quicktask.task.domain.repository.ITaskRepository.*(..))")
+    public Object timeTaskRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_TIMER, "ITaskRepository", joinPoint);
+    }
+
+    @Around("execution(* com.nsalazar.quicktask.tasklist.domain.repository.ITaskListRepository.*(..))")
+    public Object timeTaskListRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_TIMER, "ITaskListRepository", joinPoint);
+    }
+
+    private Object time(String timerName, String port, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(timerName)
+                    .tag("port", port)
+                    .tag("operation", joinPoint.getSignature().getName())
+                    .tag("outcome", outcomeOf(failure))
+                    .tag("exception", failure == null ? "none" : failure.getClass().getSimpleName())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Classifies a call result the same way {@code ExceptionController} maps it to a status.
+     *
+     * @param failure the thrown exception, or null on success
+     * @return the outcome tag value
+     */
+    static String outcomeOf(Throwable failure) {
+        if (failure == null) {
+            return "SUCCESS";
+        }
+        if (failure instanceof ResourceNotFoundException) {
+            return "NOT_FOUND";
+        }
+        if (failure instanceof DuplicateTitleException
+                || failure instanceof DuplicateNameException
+                || failure instanceof OptimisticLockingFailureException) {
+            return "CONFLICT";
+        }
+        if (failure instanceof PreconditionFailedException) {
+            return "PRECONDITION_FAILED";
+        }
+        if (failure instanceof IllegalArgumentException) {
+            return "INVALID";
+        }
+        return "ERROR";
+    }
+
+}
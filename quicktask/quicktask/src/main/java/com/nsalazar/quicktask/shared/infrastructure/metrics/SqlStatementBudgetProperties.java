@@ -0,0 +1,51 @@
+package com.nsalazar.quicktask.shared.infrastructure.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL statement budgets per HTTP endpoint.
+ *
+ * <p>Endpoints are keyed by HTTP method and URI template, separated by a space, e.g.
+ * {@code GET /api/v1/tasks/{id}}. In {@code application.properties} the key is written in
+ * bracket notation with the space escaped:
+ * <pre>
+ * quicktask.sql-budget.endpoints.[GET\ /api/v1/tasks/{id}]=2
+ * </pre>
+ * Endpoints without an entry use {@link #getDefaultBudget()}. A negative budget disables the
+ * check, e.g. for the import endpoint, whose statement count grows with the uploaded file.
+ *
+ * @author nsalazar
+ * @see SqlStatementMetricsFilter
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "quicktask.sql-budget")
+public class SqlStatementBudgetProperties {
+
+    /**
+     * Budget of the endpoints without an explicit entry.
+     */
+    private int defaultBudget = 10;
+
+    /**
+     * Budgets by {@code "<METHOD> <URI template>"}.
+     */
+    private Map<String, Integer> endpoints = new HashMap<>();
+
+    /**
+     * Returns the budget of an endpoint.
+     *
+     * @param method the HTTP method
+     * @param uri the URI template of the handler
+     * @return the maximum number of statements the endpoint should execute
+     */
+    public int budgetFor(String method, String uri) {
+        return endpoints.getOrDefault(method + " " + uri, defaultBudget);
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.nsalazar.quicktask.shared.infrastructure.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate {@link StatementInspector} counting the SQL statements prepared by the current thread.
+ *
+ * <p>Counting is scoped: {@link #start()} opens a scope on the calling thread, every statement
+ * Hibernate prepares on that thread increments it, and {@link #stop()} closes it and returns the
+ * count. Statements outside a scope (startup, background jobs) are not counted. The SQL is never
+ * modified.
+ *
+ * @author nsalazar
+ * @see SqlStatementMetricsFilter
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector {
+
+    private final ThreadLocal<int[]> count = new ThreadLocal<>();
+
+    /**
+     * Opens a counting scope on the calling thread, resetting any previous one.
+     */
+    public void start() {
+        count.set(new int[1]);
+    }
+
+    /**
+     * Returns the number of statements counted so far in the current scope.
+     *
+     * @return the count, or 0 if no scope is open
+     */
+    public int current() {
+        int[] current = count.get();
+        return current == null ? 0 : current[0];
+    }
+
+    /**
+     * Closes the counting scope of the calling thread.
+     *
+     * @return the number of statements prepared in the scope, or 0 if no scope was open
+     */
+    public int stop() {
+        int statements = current();
+        count.remove();
+        return statements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] current = count.get();
+        if (current != null) {
+            current[0]++;
+        }
+        return sql;
+    }
+
+}
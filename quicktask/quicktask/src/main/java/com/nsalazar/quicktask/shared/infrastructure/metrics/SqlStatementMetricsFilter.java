@@ -0,0 +1,151 @@
+package com.nsalazar.quicktask.shared.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Counts the SQL statements executed by each HTTP request and checks them against a budget.
+ *
+ * <p>Mapping code that triggers lazy loads or extra lookups adds queries silently. This filter
+ * makes them visible in three ways:
+ * <ul>
+ *   <li>the {@value #STATEMENTS_HEADER} response header, set right before the response is
+ *       committed</li>
+ *   <li>the {@value #STATEMENTS_SUMMARY} distribution summary, tagged by HTTP method and URI
+ *       template like {@code http.server.requests}</li>
+ *   <li>a warning log and the {@value #OVER_BUDGET_COUNTER} counter when a request executes more
+ *       statements than its endpoint's budget ({@link SqlStatementBudgetProperties})</li>
+ * </ul>
+ *
+ * <p>Statements executed on other threads are not counted. Asynchronous requests, e.g. the
+ * {@code StreamingResponseBody} of the task export, are therefore neither measured nor checked.
+ *
+ * @author nsalazar
+ * @see SqlStatementCounter
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    /**
+     * Name of the distribution summary recording statements per request.
+     */
+    public static final String STATEMENTS_SUMMARY = "quicktask.http.statements";
+
+    /**
+     * Name of the counter of requests over their statement budget.
+     */
+    public static final String OVER_BUDGET_COUNTER = "quicktask.http.statements.over.budget";
+
+    /**
+     * Response header holding the number of statements executed by the request.
+     */
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+
+    private final SqlStatementCounter sqlStatementCounter;
+    private final SqlStatementBudgetProperties budgetProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        sqlStatementCounter.start();
+        StatementHeaderResponse statementHeaderResponse = new StatementHeaderResponse(request, response);
+        try {
+            filterChain.doFilter(request, statementHeaderResponse);
+        } finally {
+            statementHeaderResponse.writeHeader();
+            int statements = sqlStatementCounter.stop();
+            if (!request.isAsyncStarted()) {
+                record(request, statements);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, int statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder(STATEMENTS_SUMMARY)
+                .description("SQL statements executed per HTTP request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statements);
+
+        int budget = budgetProperties.budgetFor(request.getMethod(), uri);
+        if (budget >= 0 && statements > budget) {
+            log.warn("SQL statement budget exceeded: {} {} executed {} statements (budget {})",
+                    request.getMethod(), uri, statements, budget);
+            meterRegistry.counter(OVER_BUDGET_COUNTER, "method", request.getMethod(), "uri", uri).increment();
+        }
+    }
+
+    /**
+     * Sets the statement header before the first byte of the body is written, while headers can
+     * still be changed. Asynchronous responses get no header, since their statements run on
+     * another thread.
+     */
+    private final class StatementHeaderResponse extends HttpServletResponseWrapper {
+
+        private final HttpServletRequest request;
+
+        private StatementHeaderResponse(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        private void writeHeader() {
+            if (!isCommitted() && !request.isAsyncStarted()) {
+                setIntHeader(STATEMENTS_HEADER, sqlStatementCounter.current());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.nsalazar.quicktask.shared.infrastructure.outbox;
+
+import com.nsalazar.quicktask.shared.domain.event.DomainEvent;
+import com.nsalazar.quicktask.shared.domain.event.IDomainEventSubscriber;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Delivers batches of events to the {@link IDomainEventSubscriber} beans.
+ *
+ * <p>Each subscriber receives the batch on a task of its own, submitted to the application task
+ * executor, which runs on virtual threads when {@code spring.threads.virtual.enabled} is set on
+ * a Java 21+ runtime. A subscriber is called for one event at a time, in batch order; a slow
+ * subscriber does not delay the others within a batch, and blocking subscribers do not pin
+ * platform threads. A failing event does not stop the delivery of the rest of the batch, and
+ * failures are reported per event, not per subscriber: the relay redelivers a failed event to
+ * every subscriber. The batch order is therefore not a delivery order across batches.
+ *
+ * @author nsalazar
+ * @see OutboxRelay
+ */
+@Slf4j
+@Component
+public class DomainEventDispatcher {
+
+    private final List<IDomainEventSubscriber> subscribers;
+    private final Executor executor;
+
+    /**
+     * Creates a dispatcher for the subscriber beans of the application context.
+     *
+     * @param subscribers the subscriber beans, in {@code @Order}
+     * @param executor the application task executor
+     */
+    @Autowired
+    public DomainEventDispatcher(ObjectProvider<IDomainEventSubscriber> subscribers,
+                                 @Qualifier("applicationTaskExecutor") Executor executor) {
+        this(subscribers.orderedStream().toList(), executor);
+    }
+
+    /**
+     * Creates a dispatcher for the given subscribers.
+     *
+     * @param subscribers the subscribers
+     * @param executor the executor running one delivery task per subscriber and batch
+     */
+    public DomainEventDispatcher(List<IDomainEventSubscriber> subscribers, Executor executor) {
+        this.subscribers = List.copyOf(subscribers);
+        this.executor = executor;
+    }
+
+    /**
+     * Returns whether any subscriber is registered.
+     *
+     * @return {@code true} if events have to be delivered
+     */
+    public boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    /**
+     * Delivers a batch to every subscriber and waits until all of them are done.
+     *
+     * @param events the events, oldest first
+     * @return the ids of the events at least one subscriber failed to handle
+     */
+    public Set<UUID> dispatch(List<DomainEvent> events) {
+        Set<UUID> failed = ConcurrentHashMap.newKeySet();
+        if (events.isEmpty() || subscribers.isEmpty()) {
+            return failed;
+        }
+        CompletableFuture<?>[] deliveries = subscribers.stream()
+                .map(subscriber -> CompletableFuture.runAsync(() -> deliver(subscriber, events, failed), executor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(deliveries).join();
+        return failed;
+    }
+
+    private static void deliver(IDomainEventSubscriber subscriber, List<DomainEvent> events, Set<UUID> failed) {
+        for (DomainEvent event : events) {
+            try {
+                if (subscriber.accepts(event)) {
+                    subscriber.onEvent(event);
+                }
+            } catch (Exception ex) {
+                failed.add(event.getId());
+                log.warn("Subscriber {} failed to handle {} (attempt {})",
+                        subscriber.getClass().getSimpleName(), event, event.getAttempts() + 1, ex);
+            }
+        }
+    }
+
+}
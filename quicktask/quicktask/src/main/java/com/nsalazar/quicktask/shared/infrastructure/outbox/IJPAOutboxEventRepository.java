@@ -0,0 +1,79 @@
+package com.nsalazar.quicktask.shared.infrastructure.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for {@link OutboxEventEntity}.
+ *
+ * @author nsalazar
+ * @see OutboxRelay
+ */
+@Repository
+public interface IJPAOutboxEventRepository extends JpaRepository<OutboxEventEntity, UUID> {
+
+    /**
+     * Value of the {@code jakarta.persistence.lock.timeout} hint that makes Hibernate append
+     * {@code SKIP LOCKED} to the locking clause.
+     */
+    String SKIP_LOCKED = "-2";
+
+    /**
+     * Locks the next batch of deliverable events, oldest first.
+     *
+     * <p>Issues {@code SELECT ... FOR UPDATE SKIP LOCKED}: rows locked by the relay of another
+     * instance are skipped instead of waited for, so instances drain disjoint batches
+     * concurrently. Must be called within a transaction, which holds the locks until the batch
+     * has been {@linkplain #claim claimed}.
+     *
+     * @param now the current time; events available later are skipped
+     * @param limit the maximum batch size
+     * @return the locked events, ordered by availability then id
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("SELECT e FROM OutboxEventEntity e WHERE e.availableAt <= :now ORDER BY e.availableAt, e.id")
+    List<OutboxEventEntity> lockNextBatch(@Param("now") LocalDateTime now, Limit limit);
+
+    /**
+     * Claims locked events for delivery by moving their availability past the delivery.
+     *
+     * <p>Once the claiming transaction commits, other relays skip the events until
+     * {@code until}, without any lock held while the subscribers run. Events of a relay that
+     * stops before settling them become deliverable again at that time.
+     *
+     * @param ids the ids of the events. Must not be empty.
+     * @param until the time the claim expires
+     * @return the number of claimed rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxEventEntity e SET e.availableAt = :until WHERE e.id IN :ids")
+    int claim(@Param("ids") Collection<UUID> ids, @Param("until") LocalDateTime until);
+
+    /**
+     * Schedules the next delivery of an event that failed.
+     *
+     * @param id the id of the event
+     * @param attempts the number of failed deliveries so far
+     * @param availableAt when the event may be delivered again
+     * @return the number of updated rows (0 if the event has been deleted meanwhile)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxEventEntity e SET e.attempts = :attempts, e.availableAt = :availableAt WHERE e.id = :id")
+    int reschedule(@Param("id") UUID id, @Param("attempts") int attempts,
+                   @Param("availableAt") LocalDateTime availableAt);
+
+}
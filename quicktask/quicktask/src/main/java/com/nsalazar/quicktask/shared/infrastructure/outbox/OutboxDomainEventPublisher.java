@@ -0,0 +1,44 @@
+package com.nsalazar.quicktask.shared.infrastructure.outbox;
+
+import com.nsalazar.quicktask.shared.domain.event.DomainEventType;
+import com.nsalazar.quicktask.shared.domain.event.IDomainEventPublisher;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * {@link IDomainEventPublisher} writing events to {@code tbl_outbox_events}.
+ *
+ * <p>The event row is persisted through the entity manager of the current transaction, so it is
+ * inserted in the same JDBC batch and committed or rolled back together with the change it
+ * describes. Publishing costs one serialization and one {@code INSERT}; delivery to the
+ * subscribers is left to {@link OutboxRelay}.
+ *
+ * @author nsalazar
+ * @see OutboxEventEntity
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxDomainEventPublisher implements IDomainEventPublisher {
+
+    private final EntityManager entityManager;
+    private final JsonMapper jsonMapper;
+
+    @Override
+    public void publish(DomainEventType type, UUID aggregateId, Object payload) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalTransactionStateException(
+                    "Domain events must be published within the transaction of the change: " + type);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.persist(new OutboxEventEntity(null, type, aggregateId,
+                jsonMapper.writeValueAsString(payload), now, 0, now));
+    }
+
+}
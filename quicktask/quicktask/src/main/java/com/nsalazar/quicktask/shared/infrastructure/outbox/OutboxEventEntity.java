@@ -0,0 +1,86 @@
+package com.nsalazar.quicktask.shared.infrastructure.outbox;
+
+import com.nsalazar.quicktask.shared.domain.event.DomainEventType;
+import com.nsalazar.quicktask.shared.infrastructure.database.id.UuidV7Generator;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity holding a published domain event until the relay has delivered it.
+ *
+ * <p>Maps to {@code tbl_outbox_events}. Rows are inserted by {@link OutboxDomainEventPublisher}
+ * in the transaction of the change they describe and deleted by {@link OutboxRelay} once every
+ * subscriber has handled them. The {@code (available_at, id)} index serves the relay's batch
+ * query: pending events oldest first, skipping those claimed or waiting for a retry.
+ *
+ * @author nsalazar
+ * @see IJPAOutboxEventRepository
+ */
+@Getter
+@Setter
+@Entity
+@Table(
+    name = "tbl_outbox_events",
+    indexes = {
+        @Index(
+            name = "idx_outbox_events_available_at_id",
+            columnList = "available_at, id"
+        )
+    }
+)
+@AllArgsConstructor
+@NoArgsConstructor
+public class OutboxEventEntity {
+
+    /**
+     * The event id; a time-ordered UUIDv7, so ids also order events published in the same millisecond.
+     */
+    @Id
+    @GeneratedValue
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    @Column(name = "id", columnDefinition = "BINARY(16)", nullable = false, updatable = false)
+    private UUID id;
+
+    /**
+     * The kind of change.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", length = 30, nullable = false, updatable = false)
+    private DomainEventType eventType;
+
+    /**
+     * The id of the changed task or task list.
+     */
+    @Column(name = "aggregate_id", columnDefinition = "BINARY(16)", nullable = false, updatable = false)
+    private UUID aggregateId;
+
+    /**
+     * The JSON payload of the event.
+     */
+    @Column(name = "payload", columnDefinition = "TEXT", nullable = false, updatable = false)
+    private String payload;
+
+    /**
+     * When the change was made.
+     */
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+
+    /**
+     * How many deliveries of the event failed.
+     */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /**
+     * When the relay may deliver the event next; later than {@link #occurredAt} while a relay has
+     * claimed the event or after a failure.
+     */
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+}
@@ -0,0 +1,223 @@
+package com.nsalazar.quicktask.shared.infrastructure.outbox;
+
+import com.nsalazar.quicktask.shared.domain.event.DomainEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Drains {@code tbl_outbox_events} in batches and hands the events to the subscribers.
+ *
+ * <p>Every {@value #POLL_INTERVAL} (default {@code 200ms}) the relay repeatedly:
+ * <ol>
+ *   <li>claims up to {@value #BATCH_SIZE} (default {@code 500}) deliverable events in a short
+ *       transaction: {@code SELECT ... FOR UPDATE SKIP LOCKED}, so several instances share the
+ *       work, then one {@code UPDATE} moving their availability {@value #CLAIM_TIMEOUT} (default
+ *       {@code 1m}) ahead</li>
+ *   <li>delivers them through the {@link DomainEventDispatcher}, outside any transaction, so no
+ *       row lock or pooled connection is held while the subscribers run</li>
+ *   <li>in a second transaction, deletes the delivered events with one bulk {@code DELETE}, and
+ *       reschedules the failed ones with an exponential delay starting at {@value #RETRY_DELAY}
+ *       (default {@code 1s}, capped at one hour)</li>
+ * </ol>
+ * until a batch comes back smaller than the batch size. An event failing {@value #MAX_ATTEMPTS}
+ * times (default {@code 10}) is logged as an error and dropped. If the relay stops between
+ * claim and settlement, or a delivery outlasts the claim, the batch is delivered again.
+ *
+ * <p>Events are taken oldest first, but delivery is not ordered: instances relay batches
+ * concurrently, and a failed event is redelivered after newer ones, to every subscriber,
+ * including those that already handled it.
+ *
+ * <p>Set {@value #ENABLED} to {@code false} to stop relaying on an instance; its writes still
+ * publish events, which the relays of the other instances deliver.
+ *
+ * <p><strong>Metrics:</strong>
+ * <ul>
+ *   <li>{@code quicktask.outbox.events{outcome=relayed|retried|dropped}} - events per outcome</li>
+ *   <li>{@code quicktask.outbox.lag} - time from publication to first-attempt delivery</li>
+ * </ul>
+ *
+ * @author nsalazar
+ * @see OutboxDomainEventPublisher
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    /**
+     * Property switching the relay on or off (default {@code true}).
+     */
+    public static final String ENABLED = "quicktask.outbox.relay-enabled";
+
+    /**
+     * Property holding the delay between two drains of the outbox.
+     */
+    public static final String POLL_INTERVAL = "quicktask.outbox.poll-interval";
+
+    /**
+     * Property holding the maximum number of events delivered per transaction.
+     */
+    public static final String BATCH_SIZE = "quicktask.outbox.batch-size";
+
+    /**
+     * Property holding the number of failed deliveries after which an event is dropped.
+     */
+    public static final String MAX_ATTEMPTS = "quicktask.outbox.max-attempts";
+
+    /**
+     * Property holding the delay before the first redelivery of a failed event.
+     */
+    public static final String RETRY_DELAY = "quicktask.outbox.retry-delay";
+
+    /**
+     * Property holding how long a claimed batch is hidden from the other relays.
+     */
+    public static final String CLAIM_TIMEOUT = "quicktask.outbox.claim-timeout";
+
+    /**
+     * Name of the counter of handled events, tagged by outcome.
+     */
+    public static final String EVENTS_COUNTER = "quicktask.outbox.events";
+
+    /**
+     * Name of the timer recording the delay between publication and first delivery.
+     */
+    public static final String LAG_TIMER = "quicktask.outbox.lag";
+
+    private static final Duration MAX_RETRY_DELAY = Duration.ofHours(1);
+
+    private final IJPAOutboxEventRepository outboxEventRepository;
+    private final DomainEventDispatcher dispatcher;
+    private final TransactionTemplate transaction;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final Duration claimTimeout;
+    private final boolean enabled;
+
+    public OutboxRelay(IJPAOutboxEventRepository outboxEventRepository,
+                       DomainEventDispatcher dispatcher,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${" + BATCH_SIZE + ":500}") int batchSize,
+                       @Value("${" + MAX_ATTEMPTS + ":10}") int maxAttempts,
+                       @Value("${" + RETRY_DELAY + ":1s}") Duration retryDelay,
+                       @Value("${" + CLAIM_TIMEOUT + ":1m}") Duration claimTimeout,
+                       @Value("${" + ENABLED + ":true}") boolean enabled) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.dispatcher = dispatcher;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+        this.claimTimeout = claimTimeout;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Delivers batches until the outbox holds no deliverable event or a batch fails.
+     */
+    @Scheduled(fixedDelayString = "${" + POLL_INTERVAL + ":200ms}", initialDelayString = "${" + POLL_INTERVAL + ":200ms}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int drained;
+            do {
+                drained = relayBatch(LocalDateTime.now());
+            } while (drained == batchSize);
+        } catch (RuntimeException ex) {
+            log.error("Relaying the outbox events failed; retrying on the next run", ex);
+        }
+    }
+
+    /**
+     * Claims, delivers and settles one batch; must be called outside a transaction.
+     *
+     * @param now the current time
+     * @return the number of events taken from the outbox
+     */
+    int relayBatch(LocalDateTime now) {
+        List<OutboxEventEntity> batch = transaction.execute(status -> claimBatch(now));
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+        Set<UUID> failed = dispatcher.dispatch(batch.stream().map(OutboxRelay::toDomainEvent).toList());
+        transaction.executeWithoutResult(status -> settle(batch, failed, now));
+        return batch.size();
+    }
+
+    private List<OutboxEventEntity> claimBatch(LocalDateTime now) {
+        List<OutboxEventEntity> batch = outboxEventRepository.lockNextBatch(now, Limit.of(batchSize));
+        if (!batch.isEmpty()) {
+            outboxEventRepository.claim(batch.stream().map(OutboxEventEntity::getId).toList(), now.plus(claimTimeout));
+        }
+        return batch;
+    }
+
+    private void settle(List<OutboxEventEntity> batch, Set<UUID> failed, LocalDateTime now) {
+        List<UUID> done = new ArrayList<>(batch.size());
+        Timer lag = Timer.builder(LAG_TIMER)
+                .description("Delay between the publication and the first delivery of a domain event")
+                .register(meterRegistry);
+        int dropped = 0;
+        for (OutboxEventEntity event : batch) {
+            if (event.getAttempts() == 0) {
+                lag.record(Duration.between(event.getOccurredAt(), now));
+            }
+            if (!failed.contains(event.getId())) {
+                done.add(event.getId());
+            } else if (event.getAttempts() + 1 >= maxAttempts) {
+                log.error("Dropping {} event {} of {} after {} failed deliveries",
+                        event.getEventType(), event.getId(), event.getAggregateId(), maxAttempts);
+                done.add(event.getId());
+                dropped++;
+            } else {
+                outboxEventRepository.reschedule(event.getId(), event.getAttempts() + 1,
+                        now.plus(backoff(event.getAttempts())));
+            }
+        }
+        if (!done.isEmpty()) {
+            outboxEventRepository.deleteAllByIdInBatch(done);
+        }
+        count("relayed", batch.size() - failed.size());
+        count("retried", failed.size() - dropped);
+        count("dropped", dropped);
+    }
+
+    /**
+     * Returns the delay before the next delivery of an event that failed {@code attempts + 1} times.
+     */
+    Duration backoff(int attempts) {
+        Duration delay = retryDelay.multipliedBy(1L << Math.min(attempts, 20));
+        return delay.compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : delay;
+    }
+
+    private void count(String outcome, int events) {
+        if (events > 0) {
+            meterRegistry.counter(EVENTS_COUNTER, "outcome", outcome).increment(events);
+        }
+    }
+
+    private static DomainEvent toDomainEvent(OutboxEventEntity event) {
+        return new DomainEvent(event.getId(), event.getEventType(), event.getAggregateId(),
+                event.getPayload(), event.getOccurredAt(), event.getAttempts());
+    }
+
+}
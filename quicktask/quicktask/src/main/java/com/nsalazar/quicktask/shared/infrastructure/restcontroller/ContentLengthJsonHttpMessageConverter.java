@@ -0,0 +1,125 @@
+package com.nsalazar.quicktask.shared.infrastructure.restcontroller;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * JSON message converter that writes small bodies with a {@code Content-Length} header.
+ *
+ * <p>The default converter streams the body, so the response is sent chunked and Tomcat cannot
+ * tell its size: {@code server.compression.min-response-size} only applies to responses with a
+ * known length, and every JSON body would be gzipped, down to a single-field error. This
+ * converter buffers the body up to that threshold. A body that fits is sent with its length and
+ * left uncompressed; a larger body, e.g. a task list detail with all of its tasks, is streamed
+ * from the moment it outgrows the buffer and compressed as before. At most the threshold is held
+ * in memory per response.
+ *
+ * <p>Being a {@link JacksonJsonHttpMessageConverter} bean, it replaces the converter Spring Boot
+ * would otherwise register, with the same {@link JsonMapper}.
+ *
+ * @author nsalazar
+ */
+@Component
+public class ContentLengthJsonHttpMessageConverter extends JacksonJsonHttpMessageConverter {
+
+    /**
+     * Largest initial capacity of the body buffer.
+     */
+    private static final int MAX_INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    private final long bufferLimit;
+
+    /**
+     * Creates the converter.
+     *
+     * @param jsonMapper the mapper writing the bodies
+     * @param bufferLimit the largest body sent with a {@code Content-Length}; the compression threshold
+     */
+    public ContentLengthJsonHttpMessageConverter(
+            JsonMapper jsonMapper,
+            @Value("${server.compression.min-response-size:2KB}") DataSize bufferLimit) {
+        super(jsonMapper);
+        this.bufferLimit = bufferLimit.toBytes();
+    }
+
+    @Override
+    protected void writeInternal(Object object, ResolvableType resolvableType, HttpOutputMessage outputMessage,
+                                 Map<String, Object> hints) throws IOException {
+        BoundedBufferOutputStream body = new BoundedBufferOutputStream(outputMessage);
+        super.writeInternal(object, resolvableType, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        }, hints);
+        body.finish();
+    }
+
+    /**
+     * Buffers a body until it exceeds {@link #bufferLimit}, then streams it to the response.
+     */
+    private final class BoundedBufferOutputStream extends OutputStream {
+
+        private final HttpOutputMessage outputMessage;
+        private ByteArrayOutputStream buffer =
+                new ByteArrayOutputStream((int) Math.min(bufferLimit, MAX_INITIAL_BUFFER_SIZE));
+        private OutputStream target;
+
+        BoundedBufferOutputStream(HttpOutputMessage outputMessage) {
+            this.outputMessage = outputMessage;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (target == null && buffer.size() + (long) length > bufferLimit) {
+                target = outputMessage.getBody();
+                buffer.writeTo(target);
+                buffer = null;
+            }
+            if (target != null) {
+                target.write(bytes, offset, length);
+            } else {
+                buffer.write(bytes, offset, length);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (target != null) {
+                target.flush();
+            }
+        }
+
+        /**
+         * Sends a body that stayed within the limit, with its length.
+         */
+        void finish() throws IOException {
+            if (target == null) {
+                outputMessage.getHeaders().setContentLength(buffer.size());
+                buffer.writeTo(outputMessage.getBody());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.nsalazar.quicktask.shared.infrastructure.restcontroller;
+
+import com.nsalazar.quicktask.shared.exception.PreconditionFailedException;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Builds and parses the strong entity tags used for conditional requests.
+ *
+ * <p>A tag has the form {@code "<version>"} or {@code "<version>-<digest>"}. The version is the
+ * optimistic locking version of the resource itself; the optional digest covers the versions of
+ * the resources embedded in its representation (e.g. the task list shown inside a task detail),
+ * so a change to any of them yields a different tag.
+ *
+ * <p>{@code If-None-Match} is evaluated by Spring MVC against the {@code ETag} header of a 200
+ * response to a GET, which then answers 304 without serializing the body. {@code If-Match} is
+ * evaluated by the services: {@link #parseVersion(String)} extracts the expected version, which
+ * is compared by the conditional update itself.
+ *
+ * <p>{@code If-Match} therefore checks only the version of the resource being updated, not the
+ * digest: {@code "5-deadbeef"} satisfies the precondition while the current tag is
+ * {@code "5-cafef00d"}. This is weaker than the strong comparison of RFC 9110, deliberately: an
+ * update writes only the resource itself, so a change to an embedded resource does not make it
+ * a lost update, and comparing the full tag would need the representation to be read before
+ * every conditional update.
+ *
+ * @author nsalazar
+ */
+public final class ETags {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ETags() {
+    }
+
+    /**
+     * Builds a strong entity tag.
+     *
+     * @param version the version of the resource; {@code null} yields no tag
+     * @param dependencies identifiers and versions of embedded resources, in representation order
+     * @return the quoted entity tag, or {@code null} if {@code version} is null
+     */
+    public static String of(Long version, Object... dependencies) {
+        if (version == null) {
+            return null;
+        }
+        StringBuilder tag = new StringBuilder("\"").append(version);
+        if (dependencies.length > 0) {
+            tag.append('-').append(Long.toHexString(digest(dependencies)));
+        }
+        return tag.append('"').toString();
+    }
+
+    /**
+     * Extracts the expected resource version from an {@code If-Match} header. The digest of the
+     * tag, if any, is ignored.
+     *
+     * @param ifMatch the raw header value; may be null
+     * @return the version, or {@code null} if the header is absent or {@code *} (no precondition)
+     * @throws PreconditionFailedException if the header holds a weak tag, which never matches
+     * @throws IllegalArgumentException if the header is not a single entity tag of this API
+     */
+    public static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            throw new PreconditionFailedException("Weak entity tags never satisfy If-Match: " + tag);
+        }
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"' || tag.contains(",")) {
+            throw new IllegalArgumentException("If-Match must contain a single quoted entity tag: " + tag);
+        }
+        String value = tag.substring(1, tag.length() - 1);
+        int separator = value.indexOf('-');
+        try {
+            return Long.parseLong(separator < 0 ? value : value.substring(0, separator));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Unknown entity tag in If-Match: " + tag);
+        }
+    }
+
+    /**
+     * Computes a 64-bit FNV-1a digest over the string form of the given values.
+     */
+    private static long digest(Object... values) {
+        long hash = FNV_OFFSET_BASIS;
+        for (Object value : values) {
+            for (byte b : String.valueOf(value).getBytes(StandardCharsets.UTF_8)) {
+                hash = (hash ^ (b & 0xff)) * FNV_PRIME;
+            }
+            hash = (hash ^ '|') * FNV_PRIME;
+        }
+        return hash;
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.nsalazar.quicktask.shared.infrastructure.restcontroller;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * Compact envelope for an offset-paginated page of resources.
+ *
+ * <p>Returned by {@code GET /api/v1/tasks} and {@code GET /api/v1/task-lists} instead of the
+ * serialized {@link Page}, whose {@code pageable}, {@code sort} and derived fields
+ * ({@code first}, {@code last}, {@code empty}, {@code numberOfElements}, ...) repeat the request
+ * parameters and made up a sizeable part of small pages.
+ *
+ * <p><strong>Fields:</strong>
+ * <ul>
+ *   <li>{@code content} - The resources of the requested page, in the requested sort order</li>
+ *   <li>{@code totalElements} - The number of resources across all pages; omitted when the
+ *       endpoint skips the count (see {@link PaginationProperties})</li>
+ *   <li>{@code approximateTotal} - {@code true} when {@code totalElements} is an estimate
+ *       rather than an exact count; omitted otherwise</li>
+ *   <li>{@code nextPage} - The zero-based number of the next page; omitted on the last page</li>
+ * </ul>
+ *
+ * <p><strong>Example JSON Response:</strong>
+ * <pre>
+ * {
+ *   "content": [ { "id": "...", "title": "Complete documentation", ... } ],
+ *   "totalElements": 42,
+ *   "nextPage": 1
+ * }
+ * </pre>
+ *
+ * @param <T> the type of the resources
+ * @author nsalazar
+ * @see Page
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageDTOResponse<T> {
+
+    /**
+     * The resources of the page, in the requested sort order.
+     */
+    private List<T> content;
+
+    /**
+     * The number of resources across all pages, or null if it was not computed.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;
+
+    /**
+     * True if {@link #totalElements} is an estimate, null if it is exact or absent.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean approximateTotal;
+
+    /**
+     * The zero-based number of the next page, or null if this is the last page.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer nextPage;
+
+    /**
+     * Builds the envelope of a page.
+     *
+     * @param page the page returned by the service layer
+     * @param <T> the type of the resources
+     * @return the envelope holding the content and totals of the page
+     */
+    public static <T> PageDTOResponse<T> of(Page<T> page) {
+        return new PageDTOResponse<>(page.getContent(), page.getTotalElements(), null,
+                page.hasNext() ? page.getNumber() + 1 : null);
+    }
+
+    /**
+     * Builds the envelope of a slice, which carries no exact total.
+     *
+     * @param slice the slice returned by the service layer
+     * @param approximateTotal the estimated number of resources across all pages, or null to omit the total
+     * @param <T> the type of the resources
+     * @return the envelope holding the content of the slice and the estimated total, if any
+     */
+    public static <T> PageDTOResponse<T> of(Slice<T> slice, Long approximateTotal) {
+        return new PageDTOResponse<>(slice.getContent(), approximateTotal, approximateTotal != null ? Boolean.TRUE : null,
+                slice.hasNext() ? slice.getNumber() + 1 : null);
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.nsalazar.quicktask.shared.infrastructure.restcontroller;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Binds the pagination settings of the REST controllers.
+ *
+ * @author nsalazar
+ * @see PaginationProperties
+ */
+@Configuration
+@EnableConfigurationProperties(PaginationProperties.class)
+public class PaginationConfig {
+}
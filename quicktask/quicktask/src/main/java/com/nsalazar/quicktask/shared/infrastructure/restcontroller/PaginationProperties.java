@@ -0,0 +1,71 @@
+package com.nsalazar.quicktask.shared.infrastructure.restcontroller;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * How the offset-paginated endpoints compute {@code totalElements}.
+ *
+ * <p>Endpoints are keyed by HTTP method and URI template, like the SQL statement budgets:
+ * <pre>
+ * quicktask.pagination.endpoints.[GET\ /api/v1/tasks]=approximate
+ * </pre>
+ * Endpoints without an entry use {@link #getDefaultTotals()}.
+ *
+ * @author nsalazar
+ * @see PageDTOResponse
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "quicktask.pagination")
+public class PaginationProperties {
+
+    /**
+     * Totals of the endpoints without an explicit entry.
+     */
+    private Totals defaultTotals = Totals.EXACT;
+
+    /**
+     * Totals by {@code "<METHOD> <URI template>"}.
+     */
+    private Map<String, Totals> endpoints = new HashMap<>();
+
+    /**
+     * Returns how an endpoint computes its total.
+     *
+     * @param method the HTTP method
+     * @param uri the URI template of the handler
+     * @return the totals of the endpoint
+     */
+    public Totals totalsFor(String method, String uri) {
+        return endpoints.getOrDefault(method + " " + uri, defaultTotals);
+    }
+
+    /**
+     * Ways of computing the total of a paginated response.
+     */
+    public enum Totals {
+
+        /**
+         * A {@code COUNT(*)} runs with every page; the total is exact.
+         */
+        EXACT,
+
+        /**
+         * No count query runs; the total comes from maintained counters or a periodically
+         * refreshed count, and the response flags it as approximate. Omitted when no estimate
+         * covers the request.
+         */
+        APPROXIMATE,
+
+        /**
+         * No count query runs and the total is omitted; clients page until {@code nextPage} is absent.
+         */
+        NONE
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.nsalazar.quicktask.shared.infrastructure.scheduling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs, such as saving and reconciling the task statistics.
+ *
+ * <p>Jobs run on the single-threaded scheduler auto-configured by Spring Boot
+ * ({@code spring.task.scheduling.*}), so they never run concurrently with each other.
+ *
+ * @author nsalazar
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,44 @@
+package com.nsalazar.quicktask.task.application;
+
+import com.nsalazar.quicktask.task.application.dto.response.TaskImportDTOResponse;
+
+import java.util.Iterator;
+
+/**
+ * Service interface for importing large numbers of tasks.
+ *
+ * <p>The lines of an import file are consumed one at a time and written in batches, each batch in
+ * its own transaction. A failing line is reported and skipped; it never rolls back tasks of
+ * other batches.
+ *
+ * @author nsalazar
+ * @see TaskImportService
+ * @see TaskImportLine
+ */
+public interface ITaskImportService {
+
+    /**
+     * Default number of lines written per batch.
+     */
+    int DEFAULT_BATCH_SIZE = 1000;
+
+    /**
+     * Imports the tasks of the given lines.
+     *
+     * <p><strong>Behavior:</strong>
+     * <ul>
+     *   <li>Lines are pulled from the iterator as they are needed; at most one batch is held in memory</li>
+     *   <li>Each line is validated against the {@code TaskDTOImportRequest} constraints</li>
+     *   <li>Task list names are resolved with one query per batch, and each name only once per import</li>
+     *   <li>Each batch is created with the rules of the batch creation endpoint, in its own transaction</li>
+     *   <li>Malformed, invalid and rejected lines are reported with their line number</li>
+     * </ul>
+     *
+     * @param lines the lines of the import file, in file order. Must not be null.
+     * @param batchSize the number of valid lines written per transaction (1 to 5000)
+     * @return a {@link TaskImportDTOResponse} with the counts and the rejected lines
+     * @throws IllegalArgumentException if the batch size is out of range
+     */
+    TaskImportDTOResponse importTasks(Iterator<TaskImportLine> lines, int batchSize);
+
+}
@@ -0,0 +1,42 @@
+package com.nsalazar.quicktask.task.application;
+
+import com.nsalazar.quicktask.task.application.dto.response.TaskSearchDTOResponse;
+
+/**
+ * Service interface for the full-text search over task titles and descriptions.
+ *
+ * @author nsalazar
+ * @see TaskSearchService
+ * @see com.nsalazar.quicktask.task.domain.search.ITaskSearchIndex
+ */
+public interface ITaskSearchService {
+
+    /**
+     * Default number of hits returned by a search.
+     */
+    int DEFAULT_SIZE = 20;
+
+    /**
+     * Maximum number of hits returned by a search.
+     */
+    int MAX_SIZE = 100;
+
+    /**
+     * Searches the tasks whose title or description contain every word of the query.
+     *
+     * <p><strong>Behavior:</strong>
+     * <ul>
+     *   <li>Words match whole words, case- and accent-insensitively; {@code word*} matches a prefix</li>
+     *   <li>Hits are ranked by relevance, with title matches weighing more than description matches</li>
+     *   <li>The best hits are read from the database with a single query, so the returned tasks are current</li>
+     *   <li>Hits whose task no longer exists are dropped from the response and from the index</li>
+     * </ul>
+     *
+     * @param query the query text. Must contain at least one letter or digit.
+     * @param size the maximum number of hits to return (1 to {@value #MAX_SIZE})
+     * @return a {@link TaskSearchDTOResponse} with the ranked hits
+     * @throws IllegalArgumentException if the query or the size is invalid
+     */
+    TaskSearchDTOResponse search(String query, int size);
+
+}
@@ -1,13 +1,23 @@
 package com.nsalazar.quicktask.task.application;
 
+import com.nsalazar.quicktask.task.application.dto.request.TaskDTOBatchCreateRequest;
 import com.nsalazar.quicktask.task.application.dto.request.TaskDTOCreateRequest;
+import com.nsalazar.quicktask.task.application.dto.request.TaskDTOFilterRequest;
 import com.nsalazar.quicktask.task.application.dto.request.TaskDTOUpdateRequest;
+import com.nsalazar.quicktask.task.application.dto.response.TaskBatchDTOResponse;
+import com.nsalazar.quicktask.task.application.dto.response.TaskCursorPageDTOResponse;
 import com.nsalazar.quicktask.task.application.dto.response.TaskDTOResponse;
 import com.nsalazar.quicktask.task.application.dto.response.TaskDetailDTOResponse;
+import com.nsalazar.quicktask.task.application.dto.response.TaskMultiGetDTOResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
+import java.util.List;
+import java.util.OptionalLong;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing tasks.
@@ -55,6 +65,11 @@ import java.util.UUID;
  */
 public interface ITaskService {
 
+    /**
+     * Maximum number of distinct ids accepted by {@link #getByIds(List)}.
+     */
+    int MAX_MULTI_GET_IDS = 100;
+
     /**
      * Retrieves a paginated list of all tasks.
      *
@@ -99,6 +114,115 @@ public interface ITaskService {
      */
     Page<TaskDTOResponse> getAll(Pageable pageable);
 
+    /**
+     * Retrieves a paginated list of the tasks matching the given filters.
+     *
+     * <p><strong>HTTP Context:</strong> This method backs the GET {@code /api/v1/tasks} endpoint
+     * whenever at least one filter parameter is present.
+     *
+     * <p><strong>Behavior:</strong>
+     * <ul>
+     *   <li>The filters that are present are combined with {@code AND}</li>
+     *   <li>Lower timestamp bounds are inclusive, upper bounds exclusive</li>
+     *   <li>The title filter is a prefix match</li>
+     *   <li>Unlike {@link #getAll(Pageable)}, no match is not an error: an empty page is returned</li>
+     * </ul>
+     *
+     * @param filter the search criteria. Must not be null.
+     * @param pageable the pagination and sorting information. Must not be null.
+     * @return a {@link Page} of the matching tasks, possibly empty
+     * @throws IllegalArgumentException if a lower timestamp bound is not before its upper bound
+     * @see TaskDTOFilterRequest
+     */
+    Page<TaskDTOResponse> search(TaskDTOFilterRequest filter, Pageable pageable);
+
+    /**
+     * Retrieves a slice of all tasks without counting them.
+     *
+     * @param pageable the pagination and sorting information
+     * @return a {@link Slice} of {@link TaskDTOResponse} objects for the requested page
+     * @throws com.nsalazar.quicktask.shared.exception.ResourceNotFoundException if the slice is empty
+     * @see #getAll(Pageable)
+     */
+    Slice<TaskDTOResponse> getSlice(Pageable pageable);
+
+    /**
+     * Retrieves a slice of the tasks matching the given filters without counting them.
+     *
+     * @param filter the search criteria. Must not be null.
+     * @param pageable the pagination and sorting information
+     * @return a slice of the matching tasks, possibly empty
+     * @throws IllegalArgumentException if a timestamp range is empty
+     * @see #search(TaskDTOFilterRequest, Pageable)
+     */
+    Slice<TaskDTOResponse> searchSlice(TaskDTOFilterRequest filter, Pageable pageable);
+
+    /**
+     * Estimates the number of tasks matching the given filters without querying them.
+     *
+     * @param filter the search criteria; an empty filter matches every task. Must not be null.
+     * @return the estimated number of matching tasks, or empty if no estimate covers the filters
+     */
+    OptionalLong estimateTotal(TaskDTOFilterRequest filter);
+
+    /**
+     * Retrieves a slice of tasks using keyset (seek) pagination.
+     *
+     * <p><strong>HTTP Context:</strong> This method backs the GET {@code /api/v1/tasks?cursor=...} endpoint.
+     *
+     * <p><strong>Behavior:</strong>
+     * <ul>
+     *   <li>A blank cursor requests the first slice, sorted by the given sort criteria</li>
+     *   <li>A non-blank cursor continues right after the last task of the previous slice,
+     *       using the sort criteria encoded in the cursor</li>
+     *   <li>Reads the slice with an indexed range predicate instead of an {@code OFFSET} scan</li>
+     *   <li>Does not count the total number of tasks</li>
+     * </ul>
+     *
+     * <p><strong>Supported Sort Properties:</strong>
+     * {@code id}, {@code createdAt} and {@code title}, ascending or descending, one property at a time.
+     * The task id is used as tie-breaker.
+     *
+     * <p><strong>Common Use Cases:</strong>
+     * <ul>
+     *   <li>Infinite scroll over large task tables</li>
+     *   <li>Exporting or synchronizing all tasks page by page without degrading on deep pages</li>
+     * </ul>
+     *
+     * @param cursor the opaque continuation token returned by the previous slice, or blank for the first slice
+     * @param sort the sort criteria for the first slice; ignored when a cursor is given
+     * @param size the maximum number of tasks to return
+     * @return a {@link TaskCursorPageDTOResponse} with the tasks of the slice and the next continuation token
+     * @throws com.nsalazar.quicktask.shared.exception.ResourceNotFoundException
+     *         if no tasks are found in the database
+     * @throws IllegalArgumentException if the cursor is malformed, the sort is not supported or the size is out of range
+     *
+     * @see TaskCursorPageDTOResponse
+     */
+    TaskCursorPageDTOResponse getAllByCursor(String cursor, Sort sort, int size);
+
+    /**
+     * Passes every task, ordered by id, to the given consumer without loading all tasks into memory.
+     *
+     * <p><strong>Behavior:</strong>
+     * <ul>
+     *   <li>Reads the tasks from a single forward-only database cursor within one read-only transaction</li>
+     *   <li>Hands each task to the consumer as soon as it is read; no page is materialized</li>
+     *   <li>Does not count the total number of tasks beforehand and does not fail on an empty table</li>
+     * </ul>
+     *
+     * <p><strong>Common Use Cases:</strong>
+     * <ul>
+     *   <li>Streaming full exports (NDJSON, CSV) for reporting</li>
+     * </ul>
+     *
+     * @param consumer the consumer invoked for each task. Must not be null.
+     * @return the number of exported tasks
+     *
+     * @see TaskDTOResponse
+     */
+    long exportAll(Consumer<TaskDTOResponse> consumer);
+
     /**
      * Retrieves a single task by its unique identifier.
      *
@@ -131,6 +255,26 @@ public interface ITaskService {
      */
     TaskDetailDTOResponse getById(UUID id);
 
+    /**
+     * Retrieves many tasks by their unique identifiers at once.
+     *
+     * <p><strong>HTTP Context:</strong> This method backs the GET {@code /api/v1/tasks?ids=...} endpoint.
+     *
+     * <p><strong>Behavior:</strong>
+     * <ul>
+     *   <li>Reads every task and its task list info with a single query</li>
+     *   <li>Returns the found tasks in request order; a repeated id is returned once</li>
+     *   <li>Reports the ids without a task instead of failing the request</li>
+     * </ul>
+     *
+     * @param ids the unique identifiers of the tasks; 1 to {@value #MAX_MULTI_GET_IDS} ids
+     * @return a {@link TaskMultiGetDTOResponse} with the found tasks and the missing ids
+     * @throws IllegalArgumentException if no id or more than {@value #MAX_MULTI_GET_IDS} distinct ids are given
+     *
+     * @see #getById(UUID)
+     */
+    TaskMultiGetDTOResponse getByIds(List<UUID> ids);
+
     /**
      * Creates a new task.
      *
@@ -175,6 +319,28 @@ public interface ITaskService {
      */
     TaskDetailDTOResponse create(TaskDTOCreateRequest createTaskDTO);
 
+    /**
+     * Creates many tasks in a single request.
+     *
+     * <p><strong>HTTP Context:</strong> This method backs the POST {@code /api/v1/tasks/batch} endpoint.
+     *
+     * <p><strong>Behavior:</strong>
+     * <ul>
+     *   <li>Applies the same business rules as {@link #create(TaskDTOCreateRequest)} to every item</li>
+     *   <li>Validates title uniqueness and task list existence with one query each for the whole batch</li>
+     *   <li>Rejects individual items that break a rule instead of failing the whole batch</li>
+     *   <li>Persists all accepted tasks in one transaction using JDBC batch inserts</li>
+     * </ul>
+     *
+     * @param batchRequest the tasks to create. Must contain at least one item.
+     * @return a {@link TaskBatchDTOResponse} with per-item results in request order
+     * @throws IllegalArgumentException if the batch request is null or empty
+     *
+     * @see TaskDTOBatchCreateRequest
+     * @see TaskBatchDTOResponse
+     */
+    TaskBatchDTOResponse createBatch(TaskDTOBatchCreateRequest batchRequest);
+
     /**
      * Updates an existing task.
      *
@@ -222,10 +388,14 @@ public interface ITaskService {
      *                      completion status. Must be non-null and contain valid values.
      *                      Title and description must not be blank. Validation is performed
      *                      before processing.
+     * @param expectedVersion the version the task must currently have (taken from {@code If-Match}),
+     *                        or {@code null} to update unconditionally
      * @return a {@link TaskDTOResponse} containing the updated task data with all fields
      *         including the new updatedAt timestamp. The response is ready for API response serialization.
      * @throws com.nsalazar.quicktask.shared.exception.ResourceNotFoundException
      *         if no task exists with the provided ID
+     * @throws com.nsalazar.quicktask.shared.exception.PreconditionFailedException
+     *         if the task exists but its version differs from {@code expectedVersion}
      * @throws IllegalArgumentException if the id is null, updateTaskDTO is null, or
      *         if the DTO contains invalid/empty required fields
      * @throws jakarta.validation.ConstraintViolationException if field-level validation fails
@@ -234,7 +404,7 @@ public interface ITaskService {
      * @see TaskDTOResponse
      * @see UUID
      */
-    TaskDetailDTOResponse update(UUID id, TaskDTOUpdateRequest updateTaskDTO);
+    TaskDetailDTOResponse update(UUID id, TaskDTOUpdateRequest updateTaskDTO, Long expectedVersion);
 
     /**
      * Deletes a task by its unique identifier.
@@ -0,0 +1,32 @@
+package com.nsalazar.quicktask.task.application;
+
+import com.nsalazar.quicktask.task.application.dto.response.TaskStatsDTOResponse;
+
+import java.util.UUID;
+
+/**
+ * Service interface for the aggregate task statistics.
+ *
+ * @author nsalazar
+ * @see TaskStatsService
+ * @see com.nsalazar.quicktask.task.domain.stats.ITaskStatsCounters
+ */
+public interface ITaskStatsService {
+
+    /**
+     * Returns the statistics of all tasks.
+     *
+     * @return a {@link TaskStatsDTOResponse} with the counts of all tasks
+     */
+    TaskStatsDTOResponse getGlobalStats();
+
+    /**
+     * Returns the statistics of the tasks of a task list.
+     *
+     * @param taskListId the unique identifier (UUID) of the task list
+     * @return a {@link TaskStatsDTOResponse} with the counts of the tasks of the list
+     * @throws com.nsalazar.quicktask.shared.exception.ResourceNotFoundException if no task list exists with the provided ID
+     */
+    TaskStatsDTOResponse getTaskListStats(UUID taskListId);
+
+}
@@ -0,0 +1,158 @@
+package com.nsalazar.quicktask.task.application;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Encodes and decodes the opaque continuation tokens used by keyset pagination of tasks.
+ *
+ * <p><strong>Token Format:</strong>
+ * A token is the URL-safe Base64 encoding (without padding) of
+ * {@code <property>:<direction>:<lastId>[:<lastValue>]}, where {@code lastValue} is the sort key
+ * of the last returned task and is omitted when sorting by {@code id}. The value is always the
+ * last segment so that titles containing the separator are decoded correctly.
+ *
+ * <p><strong>Supported Sort Properties:</strong>
+ * Only non-nullable columns backed by an index can be used for seeking:
+ * {@code id}, {@code createdAt} and {@code title}. The task id is always used as tie-breaker.
+ *
+ * @author nsalazar
+ * @see TaskService#getAllByCursor
+ */
+final class TaskCursorCodec {
+
+    /**
+     * Name of the identifier property, used as tie-breaker for every sort.
+     */
+    static final String ID_PROPERTY = "id";
+
+    /**
+     * Properties that tasks can be seeked by.
+     */
+    static final Set<String> SORTABLE_PROPERTIES = Set.of(ID_PROPERTY, "createdAt", "title");
+
+    private static final String SEPARATOR = ":";
+
+    private TaskCursorCodec() {
+    }
+
+    /**
+     * Validates and normalizes the sort requested for the first slice.
+     *
+     * @param sort the requested sort; unsorted falls back to {@code id} ascending
+     * @return a sort with exactly one supported order
+     * @throws IllegalArgumentException if more than one order or an unsupported property is requested
+     */
+    static Sort.Order resolveOrder(Sort sort) {
+        if (sort == null || sort.isUnsorted()) {
+            return Sort.Order.asc(ID_PROPERTY);
+        }
+        if (sort.stream().count() > 1) {
+            throw new IllegalArgumentException("Cursor pagination supports a single sort property");
+        }
+        Sort.Order order = sort.iterator().next();
+        if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+            throw new IllegalArgumentException(String.format(
+                    "Cursor pagination cannot sort by '%s'. Supported properties: %s",
+                    order.getProperty(), SORTABLE_PROPERTIES));
+        }
+        return order;
+    }
+
+    /**
+     * Builds the continuation token pointing right after the given keyset position.
+     *
+     * @param order the sort order of the slice
+     * @param position the keyset position of the last returned task
+     * @return the opaque continuation token
+     */
+    static String encode(Sort.Order order, KeysetScrollPosition position) {
+        Map<String, ?> keys = position.getKeys();
+        StringBuilder token = new StringBuilder()
+                .append(order.getProperty()).append(SEPARATOR)
+                .append(order.getDirection().name()).append(SEPARATOR)
+                .append(keys.get(ID_PROPERTY));
+        if (!ID_PROPERTY.equals(order.getProperty())) {
+            token.append(SEPARATOR).append(keys.get(order.getProperty()));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(token.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Extracts the sort order stored in a continuation token.
+     *
+     * @param cursor the opaque continuation token
+     * @return the sort order the token was issued for
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    static Sort.Order decodeOrder(String cursor) {
+        String[] parts = split(cursor);
+        return new Sort.Order(Sort.Direction.valueOf(parts[1]), parts[0]);
+    }
+
+    /**
+     * Extracts the keyset position stored in a continuation token.
+     *
+     * @param cursor the opaque continuation token
+     * @return the keyset position to continue scrolling from
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    static KeysetScrollPosition decodePosition(String cursor) {
+        String[] parts = split(cursor);
+        Map<String, Object> keys = new LinkedHashMap<>();
+        if (!ID_PROPERTY.equals(parts[0])) {
+            keys.put(parts[0], parseValue(parts[0], parts[3]));
+        }
+        keys.put(ID_PROPERTY, UUID.fromString(parts[2]));
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * Decodes and splits a continuation token, validating its structure.
+     *
+     * @param cursor the opaque continuation token
+     * @return the token segments
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    private static String[] split(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR, 4);
+            boolean seeksById = parts.length == 3 && ID_PROPERTY.equals(parts[0]);
+            boolean seeksByValue = parts.length == 4 && SORTABLE_PROPERTIES.contains(parts[0]);
+            if (!seeksById && !seeksByValue) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            Sort.Direction.valueOf(parts[1]);
+            UUID.fromString(parts[2]);
+            if (seeksByValue) {
+                parseValue(parts[0], parts[3]);
+            }
+            return parts;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    /**
+     * Parses the encoded sort key back into the Java type of the property.
+     *
+     * @param property the sort property
+     * @param value the encoded value
+     * @return the typed value
+     */
+    private static Object parseValue(String property, String value) {
+        return "createdAt".equals(property) ? LocalDateTime.parse(value) : value;
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.nsalazar.quicktask.task.application;
+
+import com.nsalazar.quicktask.task.application.dto.request.TaskDTOImportRequest;
+import lombok.Getter;
+
+/**
+ * A line read from a task import file: either a parsed request or the reason why the line
+ * could not be parsed.
+ *
+ * @author nsalazar
+ * @see ITaskImportService
+ */
+@Getter
+public final class TaskImportLine {
+
+    /**
+     * One-based number of the line (NDJSON) or record (CSV) in the import file.
+     */
+    private final long number;
+
+    /**
+     * The parsed request; {@code null} if the line is malformed.
+     */
+    private final TaskDTOImportRequest request;
+
+    /**
+     * The parse error; {@code null} if the line was parsed.
+     */
+    private final String error;
+
+    private TaskImportLine(long number, TaskDTOImportRequest request, String error) {
+        this.number = number;
+        this.request = request;
+        this.error = error;
+    }
+
+    /**
+     * Creates a parsed line.
+     *
+     * @param number the one-based line number
+     * @param request the parsed request
+     * @return the line
+     */
+    public static TaskImportLine parsed(long number, TaskDTOImportRequest request) {
+        return new TaskImportLine(number, request, null);
+    }
+
+    /**
+     * Creates a line that could not be parsed.
+     *
+     * @param number the one-based line number
+     * @param error the reason why the line could not be parsed
+     * @return the line
+     */
+    public static TaskImportLine malformed(long number, String error) {
+        return new TaskImportLine(number, null, error);
+    }
+
+}
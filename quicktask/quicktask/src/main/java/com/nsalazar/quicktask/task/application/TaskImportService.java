@@ -0,0 +1,205 @@
+package com.nsalazar.quicktask.task.application;
+
+import com.nsalazar.quicktask.task.application.dto.request.TaskDTOBatchCreateRequest;
+import com.nsalazar.quicktask.task.application.dto.request.TaskDTOCreateRequest;
+import com.nsalazar.quicktask.task.application.dto.request.TaskDTOImportRequest;
+import com.nsalazar.quicktask.task.application.dto.response.TaskBatchDTOResponse;
+import com.nsalazar.quicktask.task.application.dto.response.TaskImportDTOResponse;
+import com.nsalazar.quicktask.tasklist.domain.repository.ITaskListRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation for importing large numbers of tasks.
+ *
+ * <p>This class is deliberately not transactional. It groups the valid lines into batches and
+ * hands each batch to {@link ITaskService#createBatch(TaskDTOBatchCreateRequest)}, whose own
+ * transaction commits the batch. The persistence context therefore never holds more than one
+ * batch, and a batch failing at the database only loses its own lines.
+ *
+ * <p><strong>Task List Lookup:</strong>
+ * Task list names are resolved through a map local to the import: the names of a batch that are
+ * not in the map yet are resolved with a single {@code IN} query, and unknown names are
+ * remembered as well, so each distinct name costs at most one lookup per import.
+ *
+ * @author nsalazar
+ * @see ITaskImportService
+ * @see ITaskService#createBatch(TaskDTOBatchCreateRequest)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskImportService implements ITaskImportService {
+
+    /**
+     * Service creating each batch in its own transaction.
+     */
+    private final ITaskService taskService;
+
+    /**
+     * Repository resolving task list names to IDs.
+     */
+    private final ITaskListRepository taskListRepository;
+
+    /**
+     * Validator applying the {@link TaskDTOImportRequest} constraints to each line.
+     */
+    private final Validator validator;
+
+    @Override
+    public TaskImportDTOResponse importTasks(Iterator<TaskImportLine> lines, int batchSize) {
+        if (batchSize < 1 || batchSize > TaskDTOBatchCreateRequest.MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(String.format(
+                    "Batch size must be between 1 and %d", TaskDTOBatchCreateRequest.MAX_BATCH_SIZE));
+        }
+        log.info("Starting task import with batch size {}", batchSize);
+        ImportRun run = new ImportRun();
+        List<TaskImportLine> batch = new ArrayList<>(batchSize);
+
+        while (lines.hasNext()) {
+            TaskImportLine line = lines.next();
+            run.processed++;
+            String error = line.getError() != null ? line.getError() : validate(line.getRequest());
+            if (error != null) {
+                run.reject(line.getNumber(), error);
+                continue;
+            }
+            batch.add(line);
+            if (batch.size() == batchSize) {
+                writeBatch(batch, run);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch, run);
+        }
+
+        run.rejectedLines.sort(Comparator.comparingLong(TaskImportDTOResponse.RejectedLine::getLine));
+        log.info("Task import finished: {} lines processed, {} tasks created, {} lines rejected in {} batches",
+                run.processed, run.created, run.rejected, run.batches);
+        return TaskImportDTOResponse.builder()
+                .processed(run.processed)
+                .created(run.created)
+                .rejected(run.rejected)
+                .batches(run.batches)
+                .rejectedLines(run.rejectedLines)
+                .rejectedLinesTruncated(run.rejected > run.rejectedLines.size())
+                .build();
+    }
+
+    /**
+     * Resolves the task lists of a batch and creates its tasks in one transaction.
+     */
+    private void writeBatch(List<TaskImportLine> batch, ImportRun run) {
+        resolveTaskListNames(batch, run);
+
+        List<TaskDTOCreateRequest> requests = new ArrayList<>(batch.size());
+        List<Long> lineNumbers = new ArrayList<>(batch.size());
+        for (TaskImportLine line : batch) {
+            TaskDTOImportRequest request = line.getRequest();
+            UUID taskListId = request.getTaskListId();
+            if (taskListId == null && request.getTaskListName() != null) {
+                taskListId = run.taskListIdsByName.get(request.getTaskListName());
+                if (taskListId == null) {
+                    run.reject(line.getNumber(), "Task list not found with name: " + request.getTaskListName());
+                    continue;
+                }
+            }
+            requests.add(TaskDTOCreateRequest.builder()
+                    .title(request.getTitle())
+                    .description(request.getDescription())
+                    .taskListId(taskListId)
+                    .build());
+            lineNumbers.add(line.getNumber());
+        }
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        run.batches++;
+        try {
+            TaskBatchDTOResponse result = taskService.createBatch(new TaskDTOBatchCreateRequest(requests));
+            run.created += result.getCreated();
+            for (TaskBatchDTOResponse.ItemResult item : result.getResults()) {
+                if (!item.isCreated()) {
+                    run.reject(lineNumbers.get(item.getIndex()), item.getError());
+                }
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Import batch {} rolled back: {}", run.batches, ex.getMostSpecificCause().getMessage());
+            String error = "Batch rolled back: " + ex.getMostSpecificCause().getMessage();
+            lineNumbers.forEach(lineNumber -> run.reject(lineNumber, error));
+        }
+        log.info("Import progress: {} lines processed, {} tasks created, {} lines rejected",
+                run.processed, run.created, run.rejected);
+    }
+
+    /**
+     * Adds the IDs of the task list names of a batch that have not been looked up yet.
+     */
+    private void resolveTaskListNames(List<TaskImportLine> batch, ImportRun run) {
+        Set<String> unresolved = batch.stream()
+                .map(TaskImportLine::getRequest)
+                .filter(request -> request.getTaskListId() == null && request.getTaskListName() != null)
+                .map(TaskDTOImportRequest::getTaskListName)
+                .filter(name -> !run.taskListIdsByName.containsKey(name) && !run.unknownTaskListNames.contains(name))
+                .collect(Collectors.toSet());
+        if (unresolved.isEmpty()) {
+            return;
+        }
+        Map<String, UUID> resolved = taskListRepository.findIdsByNames(unresolved);
+        run.taskListIdsByName.putAll(resolved);
+        unresolved.stream().filter(name -> !resolved.containsKey(name)).forEach(run.unknownTaskListNames::add);
+    }
+
+    /**
+     * Returns the constraint violations of a request as one message, or {@code null} if it is valid.
+     */
+    private String validate(TaskDTOImportRequest request) {
+        Set<ConstraintViolation<TaskDTOImportRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Counters, rejected lines and task list lookup map of a single import.
+     */
+    private static final class ImportRun {
+
+        private long processed;
+        private long created;
+        private long rejected;
+        private int batches;
+        private final List<TaskImportDTOResponse.RejectedLine> rejectedLines = new ArrayList<>();
+        private final Map<String, UUID> taskListIdsByName = new HashMap<>();
+        private final Set<String> unknownTaskListNames = new HashSet<>();
+
+        private void reject(long line, String error) {
+            rejected++;
+            if (rejectedLines.size() < TaskImportDTOResponse.MAX_REPORTED_REJECTIONS) {
+                rejectedLines.add(TaskImportDTOResponse.RejectedLine.builder().line(line).error(error).build());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.nsalazar.quicktask.task.application;
+
+import com.nsalazar.quicktask.task.application.dto.mapper.ITaskDTOMapper;
+import com.nsalazar.quicktask.task.application.dto.response.TaskSearchDTOResponse;
+import com.nsalazar.quicktask.task.domain.Task;
+import com.nsalazar.quicktask.task.domain.repository.ITaskRepository;
+import com.nsalazar.quicktask.task.domain.search.ITaskSearchIndex;
+import com.nsalazar.quicktask.task.domain.search.TaskSearchHits;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation of the full-text task search.
+ *
+ * <p>The ranking is done entirely by the in-memory {@link ITaskSearchIndex}; the database is only
+ * asked for the tasks of the returned hits, by primary key with one {@code IN} query. A search
+ * therefore never scans {@code tbl_tasks}, whatever the query.
+ *
+ * <p>The index may still hold tasks removed by bulk statements (e.g. deleting a task list
+ * together with its tasks). Such hits are detected when their task is not found, dropped from
+ * the response and removed from the index.
+ *
+ * @author nsalazar
+ * @see ITaskSearchService
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskSearchService implements ITaskSearchService {
+
+    /**
+     * Index ranking the tasks.
+     */
+    private final ITaskSearchIndex searchIndex;
+
+    /**
+     * Repository reading the tasks of the hits.
+     */
+    private final ITaskRepository taskRepository;
+
+    /**
+     * Mapper converting the tasks to response DTOs.
+     */
+    private final ITaskDTOMapper taskDTOMapper;
+
+    @Override
+    public TaskSearchDTOResponse search(String query, int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException(String.format("Search size must be between 1 and %d", MAX_SIZE));
+        }
+        TaskSearchHits searchHits = searchIndex.search(query, size);
+        Map<UUID, Task> tasksById = taskRepository.findAllById(searchHits.getHits().stream()
+                        .map(TaskSearchHits.Hit::getTaskId)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<TaskSearchDTOResponse.Hit> hits = new ArrayList<>(searchHits.getHits().size());
+        int staleHits = 0;
+        for (TaskSearchHits.Hit hit : searchHits.getHits()) {
+            Task task = tasksById.get(hit.getTaskId());
+            if (task == null) {
+                searchIndex.remove(hit.getTaskId());
+                staleHits++;
+                continue;
+            }
+            hits.add(TaskSearchDTOResponse.Hit.builder()
+                    .score(hit.getScore())
+                    .task(taskDTOMapper.toTaskDTOResponse(task))
+                    .build());
+        }
+        if (staleHits > 0) {
+            log.debug("Dropped {} search hits of deleted tasks", staleHits);
+        }
+
+        log.debug("Search '{}' matched {} tasks, returning {}", query, searchHits.getTotalMatches(), hits.size());
+        return TaskSearchDTOResponse.builder()
+                .query(query)
+                .totalMatches(searchHits.getTotalMatches() - staleHits)
+                .indexReady(searchIndex.isReady())
+                .hits(hits)
+                .build();
+    }
+
+}
@@ -1,25 +1,61 @@
 package com.nsalazar.quicktask.task.application;
 
+import com.nsalazar.quicktask.shared.domain.event.DomainEventType;
+import com.nsalazar.quicktask.shared.domain.event.IDomainEventPublisher;
+import com.nsalazar.quicktask.shared.exception.PreconditionFailedException;
+import com.nsalazar.quicktask.shared.infrastructure.cache.CacheConfig;
+import com.nsalazar.quicktask.shared.infrastructure.cache.CacheInvalidator;
 import com.nsalazar.quicktask.task.application.dto.mapper.ITaskDTOMapper;
+import com.nsalazar.quicktask.task.application.dto.request.TaskDTOBatchCreateRequest;
 import com.nsalazar.quicktask.task.application.dto.request.TaskDTOCreateRequest;
+import com.nsalazar.quicktask.task.application.dto.request.TaskDTOFilterRequest;
 import com.nsalazar.quicktask.task.application.dto.request.TaskDTOUpdateRequest;
+import com.nsalazar.quicktask.task.application.dto.response.TaskBatchDTOResponse;
+import com.nsalazar.quicktask.task.application.dto.response.TaskCursorPageDTOResponse;
 import com.nsalazar.quicktask.task.application.dto.response.TaskDTOResponse;
 import com.nsalazar.quicktask.task.application.dto.response.TaskDetailDTOResponse;
+import com.nsalazar.quicktask.task.application.dto.response.TaskMultiGetDTOResponse;
 import com.nsalazar.quicktask.task.application.exception.DuplicateTitleException;
 import com.nsalazar.quicktask.task.domain.Task;
+import com.nsalazar.quicktask.task.domain.TaskDetail;
+import com.nsalazar.quicktask.task.domain.TaskFilter;
 import com.nsalazar.quicktask.task.domain.repository.ITaskRepository;
+import com.nsalazar.quicktask.task.domain.search.ITaskSearchIndex;
+import com.nsalazar.quicktask.task.domain.stats.ITaskStatsCounters;
+import com.nsalazar.quicktask.task.domain.stats.TaskStats;
 import com.nsalazar.quicktask.tasklist.domain.TaskList;
 import com.nsalazar.quicktask.tasklist.domain.repository.ITaskListRepository;
 import com.nsalazar.quicktask.shared.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Service class for managing tasks.
@@ -70,6 +106,36 @@ public class TaskService implements ITaskService {
      */
     private final ITaskDTOMapper taskDTOMapper;
 
+    /**
+     * Evicts cached task and task list details affected by write operations.
+     */
+    private final CacheInvalidator cacheInvalidator;
+
+    /**
+     * Full-text index fed with the title and description of every written task.
+     */
+    private final ITaskSearchIndex searchIndex;
+
+    /**
+     * Task counts updated on every create, update and delete that changes them.
+     */
+    private final ITaskStatsCounters taskStats;
+
+    /**
+     * Records a domain event for every create, update and delete in the transaction of the change.
+     */
+    private final IDomainEventPublisher eventPublisher;
+
+    /**
+     * Maximum number of tasks returned by a single keyset-paginated request.
+     */
+    static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    /**
+     * Number of rows fetched per round trip while exporting all tasks.
+     */
+    static final int EXPORT_FETCH_SIZE = 1_000;
+
     /**
      * Retrieves a paginated list of all tasks.
      *
@@ -104,6 +170,194 @@ public class TaskService implements ITaskService {
                 .map(taskDTOMapper::toTaskDTOResponse);
     }
 
+    /**
+     * Retrieves a paginated list of the tasks matching the given filters.
+     *
+     * <p>The filter is validated and handed to the repository, which combines the present
+     * criteria into a single query served by the composite indexes of {@code tbl_tasks}. An
+     * empty result is returned as an empty page.
+     *
+     * <p>This is a read-only operation and is marked with {@code @Transactional(readOnly = true)}
+     * for performance optimization.
+     *
+     * @param filter the search criteria
+     * @param pageable the pagination and sorting information
+     * @return a page of the matching tasks, possibly empty
+     * @throws IllegalArgumentException if a lower timestamp bound is not before its upper bound
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TaskDTOResponse> search(TaskDTOFilterRequest filter, Pageable pageable) {
+        TaskFilter taskFilter = taskDTOMapper.toTaskFilter(filter);
+        requireValidRange("created", taskFilter.getCreatedAfter(), taskFilter.getCreatedBefore());
+        requireValidRange("updated", taskFilter.getUpdatedAfter(), taskFilter.getUpdatedBefore());
+
+        log.debug("Searching tasks: completed={}, taskListId={}, title={}, page={}, size={}",
+                taskFilter.getCompleted(), taskFilter.getTaskListId(), taskFilter.getTitle(),
+                pageable.getPageNumber(), pageable.getPageSize());
+        Page<Task> tasksPage = taskRepository.findAll(taskFilter, pageable);
+
+        log.debug("Found {} matching tasks (total: {})", tasksPage.getNumberOfElements(), tasksPage.getTotalElements());
+        return tasksPage
+                .map(taskDTOMapper::toTaskDTOResponse);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Same as {@link #getAll(Pageable)}, without the count query.
+     *
+     * @throws ResourceNotFoundException if the slice is empty
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<TaskDTOResponse> getSlice(Pageable pageable) {
+        log.debug("Fetching a slice of all tasks: page={}, size={}", pageable.getPageNumber(), pageable.getPageSize());
+        Slice<Task> tasksSlice = taskRepository.findSlice(pageable);
+
+        if (tasksSlice.isEmpty()) {
+            log.warn("No tasks found in the database");
+            throw new ResourceNotFoundException("Task list is empty");
+        }
+        return tasksSlice.map(taskDTOMapper::toTaskDTOResponse);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Same as {@link #search(TaskDTOFilterRequest, Pageable)}, without the count query.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<TaskDTOResponse> searchSlice(TaskDTOFilterRequest filter, Pageable pageable) {
+        TaskFilter taskFilter = taskDTOMapper.toTaskFilter(filter);
+        requireValidRange("created", taskFilter.getCreatedAfter(), taskFilter.getCreatedBefore());
+        requireValidRange("updated", taskFilter.getUpdatedAfter(), taskFilter.getUpdatedBefore());
+
+        log.debug("Searching a slice of tasks: completed={}, taskListId={}, title={}, page={}, size={}",
+                taskFilter.getCompleted(), taskFilter.getTaskListId(), taskFilter.getTitle(),
+                pageable.getPageNumber(), pageable.getPageSize());
+        return taskRepository.findSlice(taskFilter, pageable)
+                .map(taskDTOMapper::toTaskDTOResponse);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Read from the task statistics counters, so no SQL statement is issued. The counters
+     * cover the task list and completion criteria only; a title or timestamp criterion, or
+     * counters still loading at startup, leave the total unknown.
+     *
+     * <p>Runs outside any transaction, so no connection is taken from the pool.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public OptionalLong estimateTotal(TaskDTOFilterRequest filter) {
+        TaskFilter taskFilter = taskDTOMapper.toTaskFilter(filter);
+        if (!taskStats.isReady() || taskFilter.getTitle() != null
+                || taskFilter.getCreatedAfter() != null || taskFilter.getCreatedBefore() != null
+                || taskFilter.getUpdatedAfter() != null || taskFilter.getUpdatedBefore() != null) {
+            return OptionalLong.empty();
+        }
+        TaskStats stats = taskFilter.getTaskListId() == null
+                ? taskStats.global()
+                : taskStats.forTaskList(taskFilter.getTaskListId()).orElse(TaskStats.EMPTY);
+        if (taskFilter.getCompleted() == null) {
+            return OptionalLong.of(stats.getTotal());
+        }
+        return OptionalLong.of(taskFilter.getCompleted() ? stats.getCompleted() : stats.getOpen());
+    }
+
+    /**
+     * Rejects a timestamp range whose lower bound is not before its upper bound.
+     *
+     * @param name the name of the range used in the error message
+     * @param after the inclusive lower bound, or {@code null}
+     * @param before the exclusive upper bound, or {@code null}
+     * @throws IllegalArgumentException if both bounds are set and the range is empty
+     */
+    private void requireValidRange(String name, LocalDateTime after, LocalDateTime before) {
+        if (after != null && before != null && !after.isBefore(before)) {
+            throw new IllegalArgumentException(String.format(
+                    "%sAfter (%s) must be before %sBefore (%s)", name, after, name, before));
+        }
+    }
+
+    /**
+     * Retrieves a slice of tasks using keyset (seek) pagination.
+     *
+     * <p>The first slice is requested with an empty cursor and the given sort; follow-up slices
+     * pass the {@code nextCursor} of the previous response, which carries both the sort criteria
+     * and the position of the last returned task. The repository then reads the slice with an
+     * indexed range predicate, so no rows are skipped and no count query is executed.
+     *
+     * <p>This is a read-only operation and is marked with {@code @Transactional(readOnly = true)}
+     * for performance optimization.
+     *
+     * @param cursor the continuation token of the previous slice, or blank for the first slice
+     * @param sort the sort criteria for the first slice; ignored when a cursor is given
+     * @param size the maximum number of tasks to return (1 to {@value #MAX_CURSOR_PAGE_SIZE})
+     * @return a {@link TaskCursorPageDTOResponse} with the tasks and the next continuation token
+     * @throws IllegalArgumentException if the cursor, sort or size are invalid
+     * @throws ResourceNotFoundException if no tasks are found in the database
+     * @see TaskCursorCodec
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskCursorPageDTOResponse getAllByCursor(String cursor, Sort sort, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                    String.format("Page size must be between 1 and %d", MAX_CURSOR_PAGE_SIZE));
+        }
+
+        boolean firstSlice = cursor == null || cursor.isBlank();
+        Sort.Order order = firstSlice ? TaskCursorCodec.resolveOrder(sort) : TaskCursorCodec.decodeOrder(cursor);
+        KeysetScrollPosition position = firstSlice ? ScrollPosition.keyset() : TaskCursorCodec.decodePosition(cursor);
+        log.debug("Fetching tasks with keyset pagination: sort={}, size={}, firstSlice={}", order, size, firstSlice);
+
+        Window<Task> window = taskRepository.findAll(position, Sort.by(order), size);
+
+        if (firstSlice && window.isEmpty()) {
+            log.warn("No tasks found in the database");
+            throw new ResourceNotFoundException("Task list is empty");
+        }
+
+        String nextCursor = window.hasNext()
+                ? TaskCursorCodec.encode(order, (KeysetScrollPosition) window.positionAt(window.size() - 1))
+                : null;
+        log.debug("Found {} tasks (hasNext: {})", window.size(), window.hasNext());
+        return TaskCursorPageDTOResponse.builder()
+                .content(window.map(taskDTOMapper::toTaskDTOResponse).getContent())
+                .size(size)
+                .hasNext(window.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Passes every task to the given consumer while streaming them from the database.
+     *
+     * <p>The tasks are read from a forward-only cursor, {@value #EXPORT_FETCH_SIZE} rows per round
+     * trip, and mapped to {@link TaskDTOResponse} one at a time. The transaction, and with it the
+     * database connection, stays open until the consumer has received the last task, so the
+     * consumer should write the task out and return.
+     *
+     * <p>This is a read-only operation and is marked with {@code @Transactional(readOnly = true)}
+     * for performance optimization.
+     *
+     * @param consumer the consumer invoked for each task
+     * @return the number of exported tasks
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportAll(Consumer<TaskDTOResponse> consumer) {
+        log.debug("Exporting all tasks with fetch size {}", EXPORT_FETCH_SIZE);
+        long exported = taskRepository.forEachTask(EXPORT_FETCH_SIZE,
+                task -> consumer.accept(taskDTOMapper.toTaskDTOResponse(task)));
+        log.debug("Exported {} tasks", exported);
+        return exported;
+    }
+
     /**
      * Retrieves a single task by its unique identifier.
      *
@@ -111,7 +365,11 @@ public class TaskService implements ITaskService {
      * converted to a Data Transfer Object (DTO) for the API response.
      *
      * <p>This is a read-only operation and is marked with {@code @Transactional(readOnly = true)}
-     * for performance optimization.
+     * for performance optimization. Responses are cached per task id in the
+     * {@value CacheConfig#TASK_DETAILS} cache, so repeated reads of hot tasks skip both the task
+     * and the task list lookup; write operations invalidate the affected entries. Inside a
+     * {@code PrimaryReads} scope the task is read from the primary and replaces the cached entry,
+     * which may have been filled from a lagging replica.
      *
      * @param id the unique identifier (UUID) of the task to retrieve
      * @return a {@link TaskDTOResponse} containing the task data
@@ -121,6 +379,11 @@ public class TaskService implements ITaskService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Caching(
+            cacheable = @Cacheable(cacheNames = CacheConfig.TASK_DETAILS, key = "#id",
+                    condition = CacheConfig.OUTSIDE_PRIMARY_READS),
+            put = @CachePut(cacheNames = CacheConfig.TASK_DETAILS, key = "#id",
+                    condition = CacheConfig.INSIDE_PRIMARY_READS))
     public TaskDetailDTOResponse getById(UUID id) {
         log.debug("Fetching task with ID: {}", id);
         Task task = taskRepository.findById(id)
@@ -132,6 +395,48 @@ public class TaskService implements ITaskService {
         return buildTaskDetailDTOResponse(task);
     }
 
+    /**
+     * Retrieves many tasks by their unique identifiers with a single query.
+     *
+     * <p>Repeated ids are collapsed, the tasks and their task list info are read with one joined
+     * {@code IN} query, and the results are put back in request order. Ids without a task are
+     * reported in {@code missingIds} instead of failing the request. The
+     * {@value CacheConfig#TASK_DETAILS} cache is neither read nor filled.
+     *
+     * @param ids the unique identifiers of the tasks; 1 to {@value #MAX_MULTI_GET_IDS} ids
+     * @return a {@link TaskMultiGetDTOResponse} with the found tasks and the missing ids
+     * @throws IllegalArgumentException if no id or more than {@value #MAX_MULTI_GET_IDS} distinct ids are given
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskMultiGetDTOResponse getByIds(List<UUID> ids) {
+        Set<UUID> requested = ids == null ? new LinkedHashSet<>() : new LinkedHashSet<>(ids);
+        requested.remove(null);
+        if (requested.isEmpty() || requested.size() > MAX_MULTI_GET_IDS) {
+            throw new IllegalArgumentException(
+                    String.format("Between 1 and %d task ids must be requested", MAX_MULTI_GET_IDS));
+        }
+        log.debug("Fetching {} tasks by ID", requested.size());
+        Map<UUID, TaskDetail> found = taskRepository.findAllDetailsById(requested).stream()
+                .collect(Collectors.toMap(TaskDetail::getId, taskDetail -> taskDetail));
+
+        List<TaskDetailDTOResponse> content = new ArrayList<>(found.size());
+        List<UUID> missingIds = new ArrayList<>();
+        for (UUID id : requested) {
+            TaskDetail taskDetail = found.get(id);
+            if (taskDetail == null) {
+                missingIds.add(id);
+            } else {
+                content.add(buildTaskDetailDTOResponse(taskDetail));
+            }
+        }
+        log.debug("Found {} of {} requested tasks", content.size(), requested.size());
+        return TaskMultiGetDTOResponse.builder()
+                .content(content)
+                .missingIds(missingIds)
+                .build();
+    }
+
     /**
      * Creates a new task.
      *
@@ -140,11 +445,11 @@ public class TaskService implements ITaskService {
      * <ul>
      *   <li>Validates the input DTO to ensure it is not null</li>
      *   <li>Validates that the title is not empty or null</li>
-     *   <li>Validates that the title is not already in use by another incomplete task</li>
      *   <li>Converts the DTO to a domain {@link Task} object</li>
      *   <li>Sets the completed status to {@code false} for new tasks</li>
      *   <li>Sets the creation timestamp to the current time</li>
-     *   <li>Persists the task to the database</li>
+     *   <li>Persists the task to the database; the title uniqueness among incomplete tasks is checked
+     *       by the unique index on insert, without a preceding lookup</li>
      *   <li>Returns the saved task as a DTO response</li>
      * </ul>
      *
@@ -160,7 +465,6 @@ public class TaskService implements ITaskService {
     public TaskDetailDTOResponse create(TaskDTOCreateRequest createTaskDTO) {
         log.debug("Creating new task with title: '{}'", createTaskDTO != null ? createTaskDTO.getTitle() : "null");
         validateTaskDTOCreateRequest(createTaskDTO);
-        validateTitleNotDuplicated(createTaskDTO.getTitle());
         validateTaskListExists(createTaskDTO.getTaskListId());
 
         Task task = taskDTOMapper.toTask(createTaskDTO);
@@ -168,32 +472,156 @@ public class TaskService implements ITaskService {
         task.setCreatedAt(LocalDateTime.now());
 
         Task savedTask = taskRepository.save(task);
+        cacheInvalidator.evictTaskListDetails(savedTask.getTaskListId());
+        searchIndex.index(savedTask.getId(), savedTask.getTitle(), savedTask.getDescription());
+        taskStats.taskCreated(savedTask.getTaskListId(), savedTask.isCompleted(), savedTask.getCreatedAt());
+        eventPublisher.publish(DomainEventType.TASK_CREATED, savedTask.getId(), taskDTOMapper.toTaskDTOResponse(savedTask));
         log.info("Task created successfully: '{}' (ID: {})", savedTask.getTitle(), savedTask.getId());
         return buildTaskDetailDTOResponse(savedTask);
     }
 
+    /**
+     * Creates many tasks in a single transaction.
+     *
+     * <p>The business rules of {@link #create(TaskDTOCreateRequest)} are applied set-wise instead of
+     * per item, so the number of queries does not grow with the batch size:
+     * <ul>
+     *   <li>One {@code IN} query finds the titles already used by incomplete tasks</li>
+     *   <li>One {@code IN} query finds which referenced task lists exist</li>
+     *   <li>Titles repeated inside the batch are accepted once (first occurrence wins)</li>
+     *   <li>Accepted tasks are persisted together and inserted with JDBC batching</li>
+     * </ul>
+     *
+     * <p>Titles are compared case-insensitively, like the collation of the unique title index. A
+     * title taken concurrently after the check still fails the whole batch with
+     * {@link DuplicateTitleException}, raised when the batch is flushed.
+     *
+     * <p>Items violating a rule are reported as rejected in the response; they do not abort the
+     * batch. Bean validation of the items is expected to have happened at the API boundary.
+     *
+     * @param batchRequest the batch creation request
+     * @return a {@link TaskBatchDTOResponse} with one result per requested item, in request order
+     * @throws IllegalArgumentException if the batch request or its task list is null or empty
+     * @throws DuplicateTitleException if an accepted title was taken by a concurrent write
+     * @see TaskDTOBatchCreateRequest
+     */
+    @Override
+    public TaskBatchDTOResponse createBatch(TaskDTOBatchCreateRequest batchRequest) {
+        if (batchRequest == null || batchRequest.getTasks() == null || batchRequest.getTasks().isEmpty()) {
+            throw new IllegalArgumentException("Task batch creation request cannot be empty");
+        }
+        List<TaskDTOCreateRequest> requests = batchRequest.getTasks();
+        log.debug("Creating batch of {} tasks", requests.size());
+
+        Set<String> usedTitles = taskRepository.findIncompleteTitlesIn(requests.stream()
+                        .map(TaskDTOCreateRequest::getTitle)
+                        .collect(Collectors.toSet())).stream()
+                .map(TaskService::foldTitle)
+                .collect(Collectors.toCollection(HashSet::new));
+        Set<UUID> existingTaskListIds = taskListRepository.findExistingIds(requests.stream()
+                .map(TaskDTOCreateRequest::getTaskListId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        LocalDateTime now = LocalDateTime.now();
+        TaskBatchDTOResponse.ItemResult[] results = new TaskBatchDTOResponse.ItemResult[requests.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<Task> acceptedTasks = new ArrayList<>();
+
+        for (int index = 0; index < requests.size(); index++) {
+            TaskDTOCreateRequest request = requests.get(index);
+            String error = null;
+            if (request.getTaskListId() != null && !existingTaskListIds.contains(request.getTaskListId())) {
+                error = "Task list not found with id: " + request.getTaskListId();
+            } else if (!usedTitles.add(foldTitle(request.getTitle()))) {
+                error = String.format("A task with title '%s' already exists and is not completed", request.getTitle());
+            }
+
+            if (error != null) {
+                results[index] = TaskBatchDTOResponse.ItemResult.builder().index(index).error(error).build();
+                continue;
+            }
+            Task task = taskDTOMapper.toTask(request);
+            task.setCompleted(false);
+            task.setCreatedAt(now);
+            acceptedIndexes.add(index);
+            acceptedTasks.add(task);
+        }
+
+        List<Task> savedTasks = taskRepository.saveAll(acceptedTasks);
+        for (int i = 0; i < savedTasks.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            TaskDTOResponse created = taskDTOMapper.toTaskDTOResponse(savedTasks.get(i));
+            results[index] = TaskBatchDTOResponse.ItemResult.builder()
+                    .index(index)
+                    .created(true)
+                    .task(created)
+                    .build();
+            eventPublisher.publish(DomainEventType.TASK_CREATED, created.getId(), created);
+        }
+        savedTasks.stream()
+                .map(Task::getTaskListId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(cacheInvalidator::evictTaskListDetails);
+        savedTasks.forEach(task -> {
+            searchIndex.index(task.getId(), task.getTitle(), task.getDescription());
+            taskStats.taskCreated(task.getTaskListId(), task.isCompleted(), task.getCreatedAt());
+        });
+
+        log.info("Task batch processed: {} requested, {} created, {} rejected",
+                requests.size(), savedTasks.size(), requests.size() - savedTasks.size());
+        return TaskBatchDTOResponse.builder()
+                .requested(requests.size())
+                .created(savedTasks.size())
+                .rejected(requests.size() - savedTasks.size())
+                .results(Arrays.asList(results))
+                .build();
+    }
+
     /**
      * Updates an existing task.
      *
      * <p>This method updates a task with the provided ID using data from the update request DTO.
+     * Fields left {@code null} in the request keep their current value (PATCH semantics).
      * The following business logic is applied during update:
      * <ul>
-     *   <li>Validates the update DTO to ensure required fields are present and non-empty</li>
-     *   <li>Validates that the new title is not already in use by another incomplete task</li>
-     *   <li>Retrieves the existing task from the repository by ID</li>
-     *   <li>Maps the update DTO properties to the existing task domain object</li>
-     *   <li>Updates the modification timestamp to the current time</li>
-     *   <li>Persists the updated task to the database</li>
+     *   <li>Validates the update DTO to ensure at least one field is present and none is blank</li>
+     *   <li>Applies all provided fields and the modification timestamp with a single conditional
+     *       {@code UPDATE}; the task is not loaded beforehand</li>
+     *   <li>Relies on the title unique constraint and the task list foreign key instead of
+     *       pre-checking them; violations are translated into {@link DuplicateTitleException}
+     *       and {@link ResourceNotFoundException} by the repository</li>
+     *   <li>Reads the updated task and its task list info back with one joined query</li>
      *   <li>Returns the updated task as a DTO response</li>
      * </ul>
      *
-     * <p>The creation timestamp is preserved and not modified during updates. The {@code completed}
-     * status can be modified through this method.
+     * <p>This takes two statements per request instead of up to five (lookup, duplicate-title
+     * check, task list check, merge and task list lookup). The creation timestamp is preserved and
+     * not modified during updates. The {@code completed} status can be modified through this method.
+     *
+     * <p>When {@code expectedVersion} is given, the {@code UPDATE} only matches the task at that
+     * version and increments it; if no row matches but the task exists, the client's copy is
+     * stale and a {@link PreconditionFailedException} is thrown (HTTP 412).
+     *
+     * <p>When the request changes {@code completed} or {@code taskListId}, the task statistics need
+     * the previous state: the task is read first and the {@code UPDATE} is made conditional on the
+     * version that was read, so the counters move the task from exactly that state. The response is
+     * then built from the read task and the request, keeping two statements; moving the task to
+     * another list reads it back once more for the new list's info. Only the previous and the new
+     * task list details are evicted. Without {@code expectedVersion}, a concurrent change between
+     * the read and the {@code UPDATE} falls back to an unconditional update and asks the counters
+     * for a reconciliation.
+     *
+     * <p>Otherwise the previous task list of the task is never read, and only the task list it
+     * belongs to after the update is evicted.
      *
      * @param id the unique identifier (UUID) of the task to update
      * @param updateTaskDTO the update request containing the new title, description, and completion status
+     * @param expectedVersion the version from {@code If-Match}, or null for an unconditional update
      * @return a {@link TaskDTOResponse} containing the updated task data
      * @throws ResourceNotFoundException if no task exists with the provided ID
+     * @throws PreconditionFailedException if the task's version differs from {@code expectedVersion}
      * @throws IllegalArgumentException if the update DTO is null or contains empty required fields
      * @throws DuplicateTitleException if the new title is already in use by another incomplete task
      * @see TaskDTOUpdateRequest
@@ -201,40 +629,148 @@ public class TaskService implements ITaskService {
      * @see DuplicateTitleException
      */
     @Override
-    public TaskDetailDTOResponse update(UUID id, TaskDTOUpdateRequest updateTaskDTO) {
-        log.debug("Updating task with ID: {}", id);
+    public TaskDetailDTOResponse update(UUID id, TaskDTOUpdateRequest updateTaskDTO, Long expectedVersion) {
+        log.debug("Updating task with ID: {}, expectedVersion={}", id, expectedVersion);
         validateTaskDTOUpdateRequest(updateTaskDTO);
+        if (updateTaskDTO.getCompleted() != null || updateTaskDTO.getTaskListId() != null) {
+            return updateCounted(id, updateTaskDTO, expectedVersion);
+        }
 
-        Task task = taskRepository.findById(id)
+        if (!updatePartially(id, updateTaskDTO, LocalDateTime.now(), expectedVersion)) {
+            if (expectedVersion != null && taskRepository.existsById(id)) {
+                log.warn("Stale version {} for update of task with ID: {}", expectedVersion, id);
+                throw new PreconditionFailedException(
+                        String.format("Task %s has been modified since version %d", id, expectedVersion));
+            }
+            log.warn("Task not found for update with ID: {}", id);
+            throw new ResourceNotFoundException("Task not found with id: " + id);
+        }
+
+        TaskDetail updatedTask = taskRepository.findDetailById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+
+        cacheInvalidator.evictTaskDetails(id);
+        cacheInvalidator.evictTaskListDetails(updatedTask.getTaskListId());
+        searchIndex.index(id, updatedTask.getTitle(), updatedTask.getDescription());
+        eventPublisher.publish(DomainEventType.TASK_UPDATED, id, toTaskDTOResponse(updatedTask));
+        log.info("Task updated successfully: '{}' (ID: {})", updatedTask.getTitle(), updatedTask.getId());
+        return buildTaskDetailDTOResponse(updatedTask);
+    }
+
+    /**
+     * Updates a task whose completion status or task list may change, and moves it between the
+     * task statistics counts.
+     *
+     * @param id the unique identifier (UUID) of the task to update
+     * @param updateTaskDTO the validated update request, with {@code completed} or {@code taskListId} present
+     * @param expectedVersion the version from {@code If-Match}, or null for an unconditional update
+     * @return the updated task
+     * @throws ResourceNotFoundException if no task exists with the provided ID
+     * @throws PreconditionFailedException if the task's version differs from {@code expectedVersion}
+     */
+    private TaskDetailDTOResponse updateCounted(UUID id, TaskDTOUpdateRequest updateTaskDTO, Long expectedVersion) {
+        TaskDetail previous = taskRepository.findDetailById(id)
                 .orElseThrow(() -> {
                     log.warn("Task not found for update with ID: {}", id);
                     return new ResourceNotFoundException("Task not found with id: " + id);
                 });
-
-        // Only validate title uniqueness if the title is being changed
-        if (updateTaskDTO.getTitle() != null && !task.getTitle().equals(updateTaskDTO.getTitle())) {
-            log.debug("Title changed from '{}' to '{}', validating uniqueness", task.getTitle(), updateTaskDTO.getTitle());
-            validateTitleNotDuplicated(updateTaskDTO.getTitle());
+        if (expectedVersion != null && !expectedVersion.equals(previous.getVersion())) {
+            log.warn("Stale version {} for update of task with ID: {}", expectedVersion, id);
+            throw new PreconditionFailedException(
+                    String.format("Task %s has been modified since version %d", id, expectedVersion));
         }
 
-        // Only validate TaskList existence if taskListId is provided
-        if (updateTaskDTO.getTaskListId() != null) {
-            validateTaskListExists(updateTaskDTO.getTaskListId());
+        LocalDateTime now = LocalDateTime.now();
+        TaskDetail updatedTask;
+        if (updatePartially(id, updateTaskDTO, now, previous.getVersion())) {
+            updatedTask = applyUpdate(previous, updateTaskDTO, now);
+            taskStats.taskChanged(previous.getTaskListId(), previous.isCompleted(),
+                    updatedTask.getTaskListId(), updatedTask.isCompleted(), previous.getCreatedAt());
+        } else if (expectedVersion != null) {
+            log.warn("Stale version {} for update of task with ID: {}", expectedVersion, id);
+            throw new PreconditionFailedException(
+                    String.format("Task %s has been modified since version %d", id, expectedVersion));
+        } else {
+            log.debug("Task {} changed concurrently, updating it unconditionally", id);
+            if (!updatePartially(id, updateTaskDTO, now, null)) {
+                log.warn("Task not found for update with ID: {}", id);
+                throw new ResourceNotFoundException("Task not found with id: " + id);
+            }
+            updatedTask = taskRepository.findDetailById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+            taskStats.requestReconciliation();
         }
 
-        taskDTOMapper.toTask(updateTaskDTO, task);
-        task.setUpdatedAt(LocalDateTime.now());
-
-        Task updatedTask = taskRepository.save(task);
+        cacheInvalidator.evictTaskDetails(id);
+        cacheInvalidator.evictTaskListDetails(previous.getTaskListId());
+        if (!Objects.equals(previous.getTaskListId(), updatedTask.getTaskListId())) {
+            cacheInvalidator.evictTaskListDetails(updatedTask.getTaskListId());
+        }
+        if (updateTaskDTO.getTitle() != null || updateTaskDTO.getDescription() != null) {
+            searchIndex.index(id, updatedTask.getTitle(), updatedTask.getDescription());
+        }
+        eventPublisher.publish(DomainEventType.TASK_UPDATED, id, toTaskDTOResponse(updatedTask));
         log.info("Task updated successfully: '{}' (ID: {})", updatedTask.getTitle(), updatedTask.getId());
         return buildTaskDetailDTOResponse(updatedTask);
     }
 
+    /**
+     * Applies the fields of an update request with a single {@code UPDATE}.
+     *
+     * @param id the unique identifier (UUID) of the task to update
+     * @param updateTaskDTO the validated update request
+     * @param updatedAt the modification timestamp to set
+     * @param expectedVersion the version the task must have, or null to skip the check
+     * @return {@code true} if the task was updated
+     */
+    private boolean updatePartially(UUID id, TaskDTOUpdateRequest updateTaskDTO, LocalDateTime updatedAt,
+                                    Long expectedVersion) {
+        return taskRepository.updatePartially(
+                id,
+                updateTaskDTO.getTitle(),
+                updateTaskDTO.getDescription(),
+                updateTaskDTO.getCompleted(),
+                updateTaskDTO.getTaskListId(),
+                updatedAt,
+                expectedVersion);
+    }
+
+    /**
+     * Returns the state of a task after a successful conditional update, without reading it again
+     * unless it moved to another task list, whose info must then be read.
+     *
+     * @param previous the task as read before the update
+     * @param updateTaskDTO the applied update request
+     * @param updatedAt the modification timestamp that was set
+     * @return the updated task
+     */
+    private TaskDetail applyUpdate(TaskDetail previous, TaskDTOUpdateRequest updateTaskDTO, LocalDateTime updatedAt) {
+        if (updateTaskDTO.getTaskListId() != null && !updateTaskDTO.getTaskListId().equals(previous.getTaskListId())) {
+            return taskRepository.findDetailById(previous.getId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + previous.getId()));
+        }
+        return TaskDetail.builder()
+                .id(previous.getId())
+                .title(updateTaskDTO.getTitle() != null ? updateTaskDTO.getTitle() : previous.getTitle())
+                .description(updateTaskDTO.getDescription() != null
+                        ? updateTaskDTO.getDescription() : previous.getDescription())
+                .completed(updateTaskDTO.getCompleted() != null ? updateTaskDTO.getCompleted() : previous.isCompleted())
+                .createdAt(previous.getCreatedAt())
+                .updatedAt(updatedAt)
+                .version(previous.getVersion() + 1)
+                .taskListId(previous.getTaskListId())
+                .taskListName(previous.getTaskListName())
+                .taskListDescription(previous.getTaskListDescription())
+                .taskListVersion(previous.getTaskListVersion())
+                .build();
+    }
+
     /**
      * Deletes a task by its ID.
      *
-     * <p>This method deletes a task from the database after verifying its existence. The deletion
-     * is performed within a transaction to ensure data consistency.
+     * <p>This method loads the task, deletes it and removes it from the task statistics. The
+     * loaded task stays in the persistence context, so the deletion issues no second lookup, and
+     * only the details of its own task list are evicted.
      *
      * <p>If the task does not exist, a {@link ResourceNotFoundException} is thrown before any
      * deletion attempt is made.
@@ -246,12 +782,18 @@ public class TaskService implements ITaskService {
     @Override
     public void delete(UUID id) {
         log.debug("Deleting task with ID: {}", id);
-        if(!taskRepository.existsById(id)) {
-            log.warn("Task not found for deletion with ID: {}", id);
-            throw new ResourceNotFoundException("Task not found with Id: " + id);
-        }
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> {
+                    log.warn("Task not found for deletion with ID: {}", id);
+                    return new ResourceNotFoundException("Task not found with Id: " + id);
+                });
 
         taskRepository.delete(id);
+        cacheInvalidator.evictTaskDetails(id);
+        cacheInvalidator.evictTaskListDetails(task.getTaskListId());
+        searchIndex.remove(id);
+        taskStats.taskDeleted(task.getTaskListId(), task.isCompleted(), task.getCreatedAt());
+        eventPublisher.publish(DomainEventType.TASK_DELETED, id, Map.of("id", id));
         log.info("Task deleted successfully (ID: {})", id);
     }
 
@@ -309,51 +851,6 @@ public class TaskService implements ITaskService {
         }
     }
 
-    /**
-     * Validates that no incomplete task already exists with the specified title.
-     *
-     * <p><strong>Purpose:</strong>
-     * This method enforces the business rule that prevents duplicate titles for incomplete tasks.
-     * It queries the repository to check if a task with the same title already exists in an incomplete state.
-     *
-     * <p><strong>Validation Logic:</strong>
-     * <ul>
-     *   <li>Searches for an incomplete task with the specified title</li>
-     *   <li>If found, throws DuplicateTitleException with a descriptive message</li>
-     *   <li>If not found, allows the operation to proceed</li>
-     *   <li>Completed tasks with the same title do not cause a conflict</li>
-     * </ul>
-     *
-     * <p><strong>Usage Context:</strong>
-     * This method is called:
-     * <ul>
-     *   <li>During task creation to ensure the title is unique among incomplete tasks</li>
-     *   <li>During task update to ensure the new title doesn't conflict with existing incomplete tasks</li>
-     * </ul>
-     *
-     * <p><strong>Exception Thrown:</strong>
-     * If validation fails, a {@link DuplicateTitleException} is thrown with message:
-     * {@code "A task with title '...' already exists and is incomplete"}
-     *
-     * <p><strong>Performance:</strong>
-     * This method performs a single database query using the indexed title column.
-     * The query is efficient and returns quickly.
-     *
-     * @param title the title to validate for uniqueness among incomplete tasks. Must not be null.
-     * @throws DuplicateTitleException if a task with the same title already exists in an incomplete state
-     *
-     * @see DuplicateTitleException
-     * @see ITaskRepository#findByTitleAndNotCompleted(String)
-     */
-    private void validateTitleNotDuplicated(String title) {
-        if (taskRepository.findByTitleAndNotCompleted(title).isPresent()) {
-            log.warn("Duplicate title detected: '{}'", title);
-            throw new DuplicateTitleException(
-                    String.format("A task with title '%s' already exists and is incomplete", title)
-            );
-        }
-    }
-
     /**
      * Validates that the TaskList with the given ID exists in the database.
      *
@@ -371,13 +868,73 @@ public class TaskService implements ITaskService {
         }
     }
 
+    /**
+     * Folds a title the way the case-insensitive collation of the unique title index compares it.
+     *
+     * @param title the title, possibly null
+     * @return the lower-cased title, or null
+     */
+    private static String foldTitle(String title) {
+        return title == null ? null : title.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Builds the {@link TaskDTOResponse} published with task events from a {@link TaskDetail} read model.
+     *
+     * @param taskDetail the task. Must not be null.
+     * @return the task without its task list info
+     */
+    private TaskDTOResponse toTaskDTOResponse(TaskDetail taskDetail) {
+        return TaskDTOResponse.builder()
+                .id(taskDetail.getId())
+                .title(taskDetail.getTitle())
+                .description(taskDetail.getDescription())
+                .completed(taskDetail.isCompleted())
+                .createdAt(taskDetail.getCreatedAt())
+                .updatedAt(taskDetail.getUpdatedAt())
+                .taskListId(taskDetail.getTaskListId())
+                .build();
+    }
+
+    /**
+     * Builds a {@link TaskDetailDTOResponse} from a domain {@link TaskDetail} read model.
+     *
+     * <p>Unlike {@link #buildTaskDetailDTOResponse(Task)}, no repository access is needed: the
+     * task list info was already read by the joined detail query.
+     *
+     * @param taskDetail the domain TaskDetail object to convert. Must not be null.
+     * @return a {@link TaskDetailDTOResponse} with complete task data and optional TaskList info
+     */
+    private TaskDetailDTOResponse buildTaskDetailDTOResponse(TaskDetail taskDetail) {
+        TaskDetailDTOResponse.TaskDetailDTOResponseBuilder builder = TaskDetailDTOResponse.builder()
+                .id(taskDetail.getId())
+                .title(taskDetail.getTitle())
+                .description(taskDetail.getDescription())
+                .completed(taskDetail.isCompleted())
+                .createdAt(taskDetail.getCreatedAt())
+                .updatedAt(taskDetail.getUpdatedAt())
+                .version(taskDetail.getVersion());
+
+        if (taskDetail.getTaskListId() != null) {
+            builder.taskList(TaskDetailDTOResponse.TaskListInfo.builder()
+                    .id(taskDetail.getTaskListId())
+                    .name(taskDetail.getTaskListName())
+                    .description(taskDetail.getTaskListDescription())
+                    .version(taskDetail.getTaskListVersion())
+                    .build());
+        }
+
+        return builder.build();
+    }
+
     /**
      * Builds a {@link TaskDetailDTOResponse} from a domain {@link Task} object.
      *
      * <p>This method constructs a detailed response DTO that includes the task's data
      * along with the associated {@link TaskList} information (if any). If the task has a
      * {@code taskListId}, it fetches the TaskList from the repository and embeds its
-     * id, name and description as a {@link TaskDetailDTOResponse.TaskListInfo} object.
+     * id, name and description as a {@link TaskDetailDTOResponse.TaskListInfo} object. The tasks
+     * of the list are not loaded, and a cached list is read from the second-level cache.
      *
      * @param task the domain Task object to convert. Must not be null.
      * @return a {@link TaskDetailDTOResponse} with complete task data and optional TaskList info
@@ -389,15 +946,17 @@ public class TaskService implements ITaskService {
                 .description(task.getDescription())
                 .completed(task.isCompleted())
                 .createdAt(task.getCreatedAt())
-                .updatedAt(task.getUpdatedAt());
+                .updatedAt(task.getUpdatedAt())
+                .version(task.getVersion());
 
         if (task.getTaskListId() != null) {
-            taskListRepository.findById(task.getTaskListId())
+            taskListRepository.findByIdWithoutTasks(task.getTaskListId())
                     .ifPresent(taskList -> builder.taskList(
                             TaskDetailDTOResponse.TaskListInfo.builder()
                                     .id(taskList.getId())
                                     .name(taskList.getName())
                                     .description(taskList.getDescription())
+                                    .version(taskList.getVersion())
                                     .build()
                     ));
         }
@@ -0,0 +1,68 @@
+package com.nsalazar.quicktask.task.application;
+
+import com.nsalazar.quicktask.shared.exception.ResourceNotFoundException;
+import com.nsalazar.quicktask.task.application.dto.response.TaskStatsDTOResponse;
+import com.nsalazar.quicktask.task.domain.stats.ITaskStatsCounters;
+import com.nsalazar.quicktask.task.domain.stats.TaskStats;
+import com.nsalazar.quicktask.tasklist.domain.repository.ITaskListRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Service implementation of the aggregate task statistics.
+ *
+ * <p>Statistics are read from the incrementally maintained {@link ITaskStatsCounters}, so a read
+ * costs the same whatever the number of tasks and issues no SQL statement. The only exception is
+ * a task list without counts: it is looked up once to tell an empty list from a missing one. For
+ * that reason the service opens no transaction of its own.
+ *
+ * @author nsalazar
+ * @see ITaskStatsService
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskStatsService implements ITaskStatsService {
+
+    /**
+     * Counters holding the statistics.
+     */
+    private final ITaskStatsCounters taskStats;
+
+    /**
+     * Repository verifying the existence of task lists without counts.
+     */
+    private final ITaskListRepository taskListRepository;
+
+    @Override
+    public TaskStatsDTOResponse getGlobalStats() {
+        return toResponse(taskStats.global());
+    }
+
+    @Override
+    public TaskStatsDTOResponse getTaskListStats(UUID taskListId) {
+        TaskStats stats = taskStats.forTaskList(taskListId).orElseGet(() -> {
+            if (!taskListRepository.existsById(taskListId)) {
+                log.warn("Task list not found for statistics with ID: {}", taskListId);
+                throw new ResourceNotFoundException("Task list not found with id: " + taskListId);
+            }
+            return TaskStats.EMPTY;
+        });
+        return toResponse(stats);
+    }
+
+    private TaskStatsDTOResponse toResponse(TaskStats stats) {
+        return TaskStatsDTOResponse.builder()
+                .total(stats.getTotal())
+                .completed(stats.getCompleted())
+                .open(stats.getOpen())
+                .createdPerDay(stats.getCreatedPerDay())
+                .ready(taskStats.isReady())
+                .reconciledAt(taskStats.getReconciledAt())
+                .build();
+    }
+
+}
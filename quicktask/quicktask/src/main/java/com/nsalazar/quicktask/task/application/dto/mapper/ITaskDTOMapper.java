@@ -1,9 +1,11 @@
 package com.nsalazar.quicktask.task.application.dto.mapper;
 
 import com.nsalazar.quicktask.task.application.dto.request.TaskDTOCreateRequest;
+import com.nsalazar.quicktask.task.application.dto.request.TaskDTOFilterRequest;
 import com.nsalazar.quicktask.task.application.dto.request.TaskDTOUpdateRequest;
 import com.nsalazar.quicktask.task.application.dto.response.TaskDTOResponse;
 import com.nsalazar.quicktask.task.domain.Task;
+import com.nsalazar.quicktask.task.domain.TaskFilter;
 import org.mapstruct.*;
 
 /**
@@ -77,7 +79,8 @@ public interface ITaskDTOMapper {
             @Mapping(target = "id", ignore = true),
             @Mapping(target = "completed", ignore = true),
             @Mapping(target = "createdAt", ignore = true),
-            @Mapping(target = "updatedAt", ignore = true)
+            @Mapping(target = "updatedAt", ignore = true),
+            @Mapping(target = "version", ignore = true)
     })
     Task toTask(TaskDTOCreateRequest taskDTOCreateRequest);
 
@@ -114,7 +117,8 @@ public interface ITaskDTOMapper {
     @Mappings({
             @Mapping(target = "id", ignore = true),
             @Mapping(target = "createdAt", ignore = true),
-            @Mapping(target = "updatedAt", ignore = true)
+            @Mapping(target = "updatedAt", ignore = true),
+            @Mapping(target = "version", ignore = true)
     })
     void toTask(TaskDTOUpdateRequest taskDTOUpdateRequest, @MappingTarget Task task);
 
@@ -133,6 +137,7 @@ public interface ITaskDTOMapper {
      *   <li>{@code completed} - Mapped from domain object to DTO</li>
      *   <li>{@code createdAt} - Mapped from domain object to DTO</li>
      *   <li>{@code updatedAt} - Mapped from domain object to DTO</li>
+     *   <li>{@code version} - Ignored (only exposed by detail responses and the ETag header)</li>
      * </ul>
      *
      * <p><strong>Usage Context:</strong>
@@ -144,6 +149,19 @@ public interface ITaskDTOMapper {
      * @see TaskDTOResponse
      * @see Task
      */
+    @BeanMapping(ignoreUnmappedSourceProperties = {"version"})
     TaskDTOResponse toTaskDTOResponse(Task task);
 
+    /**
+     * Converts the query parameters of a filtered task search into a domain {@link TaskFilter}.
+     *
+     * <p>All criteria are copied as they are; absent parameters stay {@code null}.
+     *
+     * @param taskDTOFilterRequest the filter parameters bound from the request
+     * @return a {@link TaskFilter} with the same criteria
+     * @see TaskDTOFilterRequest
+     * @see TaskFilter
+     */
+    TaskFilter toTaskFilter(TaskDTOFilterRequest taskDTOFilterRequest);
+
 }
@@ -0,0 +1,62 @@
+package com.nsalazar.quicktask.task.application.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for creating many tasks in a single request.
+ *
+ * <p>This DTO is used by the {@code POST /api/v1/tasks/batch} endpoint. Every item is a regular
+ * {@link TaskDTOCreateRequest} and is validated with the same bean validation constraints; an
+ * invalid item rejects the whole request with HTTP 400 before any database access.
+ *
+ * <p><strong>Validation Rules:</strong>
+ * <ul>
+ *   <li>{@code tasks} - Required, between 1 and {@value #MAX_BATCH_SIZE} items, no null items</li>
+ *   <li>Each item - Same constraints as {@link TaskDTOCreateRequest}</li>
+ * </ul>
+ *
+ * <p>Business rules (title uniqueness, task list existence) are checked per item by the service
+ * layer and reported in the batch response instead of failing the whole request.
+ *
+ * <p><strong>Example JSON Request:</strong>
+ * <pre>
+ * {
+ *   "tasks": [
+ *     { "title": "Write docs", "description": "API reference", "taskListId": "a1b2c3d4-..." },
+ *     { "title": "Fix login", "description": "Session expires too early" }
+ *   ]
+ * }
+ * </pre>
+ *
+ * @author nsalazar
+ * @see TaskDTOCreateRequest
+ * @see com.nsalazar.quicktask.task.application.dto.response.TaskBatchDTOResponse
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDTOBatchCreateRequest {
+
+    /**
+     * Maximum number of tasks accepted in a single batch.
+     */
+    public static final int MAX_BATCH_SIZE = 5000;
+
+    /**
+     * The tasks to create, in request order.
+     */
+    @NotEmpty(message = "Batch must contain at least one task")
+    @Size(max = MAX_BATCH_SIZE, message = "Batch cannot contain more than " + MAX_BATCH_SIZE + " tasks")
+    private List<@NotNull(message = "Batch items cannot be null") @Valid TaskDTOCreateRequest> tasks;
+
+}
@@ -0,0 +1,59 @@
+package com.nsalazar.quicktask.task.application.dto.request;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object (DTO) holding the optional filters of {@code GET /api/v1/tasks}.
+ *
+ * <p>The fields are bound from query parameters and combined with {@code AND}; absent
+ * parameters do not filter. Timestamps use the ISO-8601 local date-time format:
+ * <pre>
+ * GET /api/v1/tasks?taskListId=018f3a2b-...&amp;completed=false&amp;createdAfter=2024-01-01T00:00:00
+ * GET /api/v1/tasks?title=Fix&amp;updatedBefore=2024-02-01T00:00:00&amp;sort=updatedAt,desc
+ * </pre>
+ *
+ * <p><strong>Semantics:</strong>
+ * <ul>
+ *   <li>{@code createdAfter} and {@code updatedAfter} are inclusive lower bounds</li>
+ *   <li>{@code createdBefore} and {@code updatedBefore} are exclusive upper bounds</li>
+ *   <li>{@code title} is a prefix match, not a substring match, so it can use an index</li>
+ * </ul>
+ *
+ * @author nsalazar
+ * @see com.nsalazar.quicktask.task.domain.TaskFilter
+ * @see com.nsalazar.quicktask.task.infrastructure.restcontroller.TaskController
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDTOFilterRequest {
+
+    private Boolean completed;
+
+    private UUID taskListId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdAfter;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdBefore;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedAfter;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedBefore;
+
+    @Size(min = 1, max = 50, message = "Title prefix must be between 1 and 50 characters")
+    private String title;
+
+}
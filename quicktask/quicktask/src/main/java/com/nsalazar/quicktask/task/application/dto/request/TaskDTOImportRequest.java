@@ -0,0 +1,51 @@
+package com.nsalazar.quicktask.task.application.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Data Transfer Object (DTO) for a single line of a task import file.
+ *
+ * <p>Each NDJSON object or CSV record of {@code POST /api/v1/tasks/import} is read into this
+ * DTO and validated line by line. Unlike {@link TaskDTOCreateRequest}, the task list can be
+ * referenced by name, which is convenient for files produced by other tools:
+ * <pre>
+ * {"title": "Write docs", "description": "Document the import", "taskListName": "Backlog"}
+ * {"title": "Fix login", "description": "Session expires too early", "taskListId": "018f3a2b-..."}
+ * </pre>
+ *
+ * <p><strong>Validation:</strong>
+ * <ul>
+ *   <li>{@code title} and {@code description} are required and limited to their column lengths</li>
+ *   <li>{@code taskListId} takes precedence over {@code taskListName} when both are given</li>
+ * </ul>
+ *
+ * @author nsalazar
+ * @see com.nsalazar.quicktask.task.application.ITaskImportService
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDTOImportRequest {
+
+    @NotBlank(message = "Task title is required")
+    @Size(max = 50, message = "Task title cannot exceed 50 characters")
+    private String title;
+
+    @NotBlank(message = "Task description is required")
+    @Size(max = 200, message = "Task description cannot exceed 200 characters")
+    private String description;
+
+    private UUID taskListId;
+
+    @Size(max = 50, message = "Task list name cannot exceed 50 characters")
+    private String taskListName;
+
+}
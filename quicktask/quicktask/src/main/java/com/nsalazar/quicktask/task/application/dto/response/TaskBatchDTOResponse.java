@@ -0,0 +1,87 @@
+package com.nsalazar.quicktask.task.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object reporting the outcome of a batch task creation.
+ *
+ * <p>This DTO is returned by {@code POST /api/v1/tasks/batch}. It contains one result per
+ * requested item, in request order, so clients can correlate results by {@code index}.
+ *
+ * <p><strong>Fields:</strong>
+ * <ul>
+ *   <li>{@code requested} - Number of items in the request</li>
+ *   <li>{@code created} - Number of tasks created</li>
+ *   <li>{@code rejected} - Number of items rejected by business rules</li>
+ *   <li>{@code results} - Per-item results</li>
+ * </ul>
+ *
+ * <p><strong>Example JSON Response:</strong>
+ * <pre>
+ * {
+ *   "requested": 2,
+ *   "created": 1,
+ *   "rejected": 1,
+ *   "results": [
+ *     { "index": 0, "created": true, "task": { "id": "...", "title": "Write docs", ... }, "error": null },
+ *     { "index": 1, "created": false, "task": null, "error": "A task with title 'Fix login' already exists and is not completed" }
+ *   ]
+ * }
+ * </pre>
+ *
+ * @author nsalazar
+ * @see com.nsalazar.quicktask.task.application.dto.request.TaskDTOBatchCreateRequest
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchDTOResponse {
+
+    private int requested;
+
+    private int created;
+
+    private int rejected;
+
+    private List<ItemResult> results;
+
+    /**
+     * Result of a single batch item.
+     *
+     * <p>Exactly one of {@code task} (created) or {@code error} (rejected) is set.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+
+        /**
+         * Zero-based position of the item in the request.
+         */
+        private int index;
+
+        /**
+         * Whether the task was created.
+         */
+        private boolean created;
+
+        /**
+         * The created task, or null if the item was rejected.
+         */
+        private TaskDTOResponse task;
+
+        /**
+         * The reason the item was rejected, or null if it was created.
+         */
+        private String error;
+
+    }
+
+}
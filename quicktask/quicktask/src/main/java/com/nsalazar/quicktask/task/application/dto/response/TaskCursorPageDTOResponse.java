@@ -0,0 +1,71 @@
+package com.nsalazar.quicktask.task.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a cursor-paginated (keyset) slice of tasks.
+ *
+ * <p>This DTO is returned by {@code GET /api/v1/tasks?cursor=...}. Unlike the offset-based
+ * {@code Page} response, it carries no total element count: the slice is read with an indexed
+ * range predicate that starts right after the last row of the previous slice, so the cost of a
+ * request depends only on the requested size and not on how deep the client has scrolled.
+ *
+ * <p><strong>Fields:</strong>
+ * <ul>
+ *   <li>{@code content} - The tasks of the current slice, in the requested sort order</li>
+ *   <li>{@code size} - The requested slice size</li>
+ *   <li>{@code hasNext} - Whether more tasks exist after this slice</li>
+ *   <li>{@code nextCursor} - Opaque continuation token for the next slice; null on the last slice</li>
+ * </ul>
+ *
+ * <p><strong>Cursor Semantics:</strong>
+ * The continuation token encodes the sort criteria together with the sort key and id of the
+ * last returned task. Clients must treat it as opaque and pass it back unchanged as the
+ * {@code cursor} query parameter; the sort of follow-up requests is taken from the token.
+ *
+ * <p><strong>Example JSON Response:</strong>
+ * <pre>
+ * {
+ *   "content": [ { "id": "...", "title": "Complete documentation", ... } ],
+ *   "size": 20,
+ *   "hasNext": true,
+ *   "nextCursor": "Y3JlYXRlZEF0OkFTQzo..."
+ * }
+ * </pre>
+ *
+ * @author nsalazar
+ * @see TaskDTOResponse
+ * @see com.nsalazar.quicktask.task.application.ITaskService#getAllByCursor
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCursorPageDTOResponse {
+
+    /**
+     * The tasks contained in this slice, in the requested sort order.
+     */
+    private List<TaskDTOResponse> content;
+
+    /**
+     * The requested slice size (maximum number of tasks in {@code content}).
+     */
+    private int size;
+
+    /**
+     * Whether more tasks exist after this slice.
+     */
+    private boolean hasNext;
+
+    /**
+     * Opaque continuation token to request the next slice, or null if this is the last slice.
+     */
+    private String nextCursor;
+
+}
@@ -31,10 +31,11 @@ import java.util.UUID;
  *   "title": "Complete project documentation",
  *   "description": "Write comprehensive documentation for all API endpoints",
  *   "completed": false,
- *   "createdAt": "2026-02-19T10:30:00",
- *   "updatedAt": null
+ *   "createdAt": "2026-02-19T10:30:00"
  * }
  * </pre>
+ * Null properties ({@code updatedAt} before the first update, {@code taskListId} of an unassigned
+ * task) are omitted from the JSON.
  *
  * <p><strong>Lifecycle:</strong>
  * <ol>
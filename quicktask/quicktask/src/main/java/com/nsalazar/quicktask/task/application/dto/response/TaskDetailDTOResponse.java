@@ -119,6 +119,16 @@ public class TaskDetailDTOResponse {
      */
     private LocalDateTime updatedAt;
 
+    /**
+     * The optimistic locking version of the task.
+     *
+     * <p>Starts at 0 and is incremented on every update. Also sent as the strong {@code ETag}
+     * response header; send it back in {@code If-Match} to make an update conditional.
+     *
+     * <p><strong>Example:</strong> {@code 3}
+     */
+    private Long version;
+
     /**
      * The TaskList information this task belongs to.
      *
@@ -174,6 +184,13 @@ public class TaskDetailDTOResponse {
          */
         private String description;
 
+        /**
+         * The optimistic locking version of the TaskList.
+         *
+         * <p>Part of the task's {@code ETag}, so renaming the list invalidates cached task details.
+         */
+        private Long version;
+
     }
 
 }
@@ -0,0 +1,73 @@
+package com.nsalazar.quicktask.task.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object reporting the outcome of a task import.
+ *
+ * <p>This DTO is returned by {@code POST /api/v1/tasks/import}. Created tasks are only counted;
+ * rejected lines are listed with their line number and reason, up to
+ * {@link #MAX_REPORTED_REJECTIONS} entries.
+ *
+ * <p><strong>Example JSON Response:</strong>
+ * <pre>
+ * {
+ *   "processed": 100000,
+ *   "created": 99998,
+ *   "rejected": 2,
+ *   "batches": 100,
+ *   "rejectedLines": [
+ *     { "line": 17, "error": "title: Task title is required" },
+ *     { "line": 4711, "error": "Task list not found with name: Archive" }
+ *   ],
+ *   "rejectedLinesTruncated": false
+ * }
+ * </pre>
+ *
+ * @author nsalazar
+ * @see com.nsalazar.quicktask.task.application.ITaskImportService
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportDTOResponse {
+
+    /**
+     * Maximum number of rejected lines listed in {@code rejectedLines}.
+     */
+    public static final int MAX_REPORTED_REJECTIONS = 1000;
+
+    private long processed;
+
+    private long created;
+
+    private long rejected;
+
+    private int batches;
+
+    private List<RejectedLine> rejectedLines;
+
+    private boolean rejectedLinesTruncated;
+
+    /**
+     * A line of the import file that did not produce a task.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RejectedLine {
+
+        private long line;
+
+        private String error;
+
+    }
+
+}
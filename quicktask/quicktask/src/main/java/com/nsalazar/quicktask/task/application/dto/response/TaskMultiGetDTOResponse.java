@@ -0,0 +1,46 @@
+package com.nsalazar.quicktask.task.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object returned when many tasks are requested by id at once.
+ *
+ * <p>This DTO is returned by {@code GET /api/v1/tasks?ids=...}. The found tasks are listed in
+ * request order; ids without a task are reported instead of failing the whole request.
+ *
+ * <p><strong>Fields:</strong>
+ * <ul>
+ *   <li>{@code content} - The found tasks with their task list info, in request order</li>
+ *   <li>{@code missingIds} - The requested ids without a task, in request order</li>
+ * </ul>
+ *
+ * <p><strong>Example JSON Response:</strong>
+ * <pre>
+ * {
+ *   "content": [
+ *     { "id": "f47ac10b-...", "title": "Write docs", "taskList": { "id": "...", "name": "Inbox", ... }, ... }
+ *   ],
+ *   "missingIds": ["0b7e2c4d-..."]
+ * }
+ * </pre>
+ *
+ * @author nsalazar
+ * @see TaskDetailDTOResponse
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskMultiGetDTOResponse {
+
+    private List<TaskDetailDTOResponse> content;
+
+    private List<UUID> missingIds;
+
+}
@@ -0,0 +1,63 @@
+package com.nsalazar.quicktask.task.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object holding the ranked results of a full-text task search.
+ *
+ * <p>This DTO is returned by {@code GET /api/v1/tasks/search}. Hits are ordered by descending
+ * score; scores are only comparable within the same response.
+ *
+ * <p><strong>Example JSON Response:</strong>
+ * <pre>
+ * {
+ *   "query": "deploy* docs",
+ *   "totalMatches": 42,
+ *   "indexReady": true,
+ *   "hits": [
+ *     { "score": 7.31, "task": { "id": "018f3a2b-...", "title": "Deploy docs site", ... } }
+ *   ]
+ * }
+ * </pre>
+ *
+ * @author nsalazar
+ * @see com.nsalazar.quicktask.task.application.ITaskSearchService
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchDTOResponse {
+
+    private String query;
+
+    private long totalMatches;
+
+    /**
+     * {@code false} while the index is still being loaded at startup; results may then be incomplete.
+     */
+    private boolean indexReady;
+
+    private List<Hit> hits;
+
+    /**
+     * A task matching the query and its relevance score.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Hit {
+
+        private float score;
+
+        private TaskDTOResponse task;
+
+    }
+
+}
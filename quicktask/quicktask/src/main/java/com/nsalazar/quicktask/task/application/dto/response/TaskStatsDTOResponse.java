@@ -0,0 +1,61 @@
+package com.nsalazar.quicktask.task.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.SortedMap;
+
+/**
+ * Data Transfer Object holding the aggregate counts of all tasks or of the tasks of a task list.
+ *
+ * <p>This DTO is returned by {@code GET /api/v1/stats} and {@code GET /api/v1/task-lists/{id}/stats}.
+ * The counts are maintained incrementally and are eventually consistent with the tasks.
+ *
+ * <p><strong>Example JSON Response:</strong>
+ * <pre>
+ * {
+ *   "total": 42,
+ *   "completed": 30,
+ *   "open": 12,
+ *   "createdPerDay": { "2026-10-17": 5, "2026-10-18": 2 },
+ *   "ready": true,
+ *   "reconciledAt": "2026-10-18T09:00:00"
+ * }
+ * </pre>
+ *
+ * @author nsalazar
+ * @see com.nsalazar.quicktask.task.application.ITaskStatsService
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatsDTOResponse {
+
+    private long total;
+
+    private long completed;
+
+    private long open;
+
+    /**
+     * Tasks created per day over the retained window ({@code quicktask.stats.days}), oldest first;
+     * days without tasks are omitted.
+     */
+    private SortedMap<LocalDate, Long> createdPerDay;
+
+    /**
+     * {@code false} while the saved counts are still being loaded at startup; counts may then be incomplete.
+     */
+    private boolean ready;
+
+    /**
+     * When the counts were last recomputed from the tasks, or {@code null} if not yet since startup.
+     */
+    private LocalDateTime reconciledAt;
+
+}
@@ -343,4 +343,16 @@ public class Task {
 
     private UUID taskListId;
 
+    /**
+     * The optimistic locking version of the task.
+     *
+     * <p><strong>Lifecycle:</strong>
+     * <ul>
+     *   <li>Null until the task is persisted for the first time</li>
+     *   <li>Starts at 0 and is incremented by the persistence layer on every update</li>
+     *   <li>Never set from client input; clients send it back through {@code If-Match}</li>
+     * </ul>
+     */
+    private Long version;
+
 }
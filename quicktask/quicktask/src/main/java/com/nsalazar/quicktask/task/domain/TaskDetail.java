@@ -0,0 +1,83 @@
+package com.nsalazar.quicktask.task.domain;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read model representing a Task together with the basic information of its task list.
+ *
+ * <p>Unlike {@link Task}, which only carries the {@code taskListId}, a detail also carries the
+ * name and description of the associated task list. Both are read by a single joined query,
+ * so building a detail response never requires a second lookup of the task list.
+ *
+ * <p>When the task is not associated with any list, {@code taskListId}, {@code taskListName}
+ * and {@code taskListDescription} are all {@code null}.
+ *
+ * @author nsalazar
+ * @see Task
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDetail {
+
+    /**
+     * The unique identifier of the task.
+     */
+    private UUID id;
+
+    /**
+     * The title of the task.
+     */
+    private String title;
+
+    /**
+     * The description of the task.
+     */
+    private String description;
+
+    /**
+     * Whether the task is completed.
+     */
+    private boolean completed;
+
+    /**
+     * The timestamp when the task was created.
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * The timestamp when the task was last updated.
+     */
+    private LocalDateTime updatedAt;
+
+    /**
+     * The optimistic locking version of the task.
+     */
+    private Long version;
+
+    /**
+     * The unique identifier of the associated task list, or {@code null} if unassigned.
+     */
+    private UUID taskListId;
+
+    /**
+     * The name of the associated task list, or {@code null} if unassigned.
+     */
+    private String taskListName;
+
+    /**
+     * The description of the associated task list, or {@code null} if unassigned.
+     */
+    private String taskListDescription;
+
+    /**
+     * The optimistic locking version of the associated task list, or {@code null} if unassigned.
+     */
+    private Long taskListVersion;
+
+}
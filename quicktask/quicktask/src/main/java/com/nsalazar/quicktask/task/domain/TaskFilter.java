@@ -0,0 +1,73 @@
+package com.nsalazar.quicktask.task.domain;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Criteria of a filtered task search.
+ *
+ * <p>Every criterion is optional and {@code null} means "do not filter". The criteria that are
+ * present are combined with {@code AND}. Lower bounds are inclusive and upper bounds exclusive,
+ * so consecutive ranges such as {@code [monday, tuesday)} and {@code [tuesday, wednesday)} never
+ * overlap.
+ *
+ * @author nsalazar
+ * @see Task
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilter {
+
+    /**
+     * Only tasks with this completion status.
+     */
+    private Boolean completed;
+
+    /**
+     * Only tasks of this task list.
+     */
+    private UUID taskListId;
+
+    /**
+     * Only tasks created at or after this timestamp.
+     */
+    private LocalDateTime createdAfter;
+
+    /**
+     * Only tasks created before this timestamp.
+     */
+    private LocalDateTime createdBefore;
+
+    /**
+     * Only tasks last updated at or after this timestamp.
+     */
+    private LocalDateTime updatedAfter;
+
+    /**
+     * Only tasks last updated before this timestamp.
+     */
+    private LocalDateTime updatedBefore;
+
+    /**
+     * Only tasks whose title starts with this prefix. Case sensitivity follows the column collation.
+     */
+    private String title;
+
+    /**
+     * Returns whether no criterion is set, i.e. the filter matches every task.
+     *
+     * @return {@code true} if every criterion is {@code null}
+     */
+    public boolean isEmpty() {
+        return completed == null && taskListId == null
+                && createdAfter == null && createdBefore == null
+                && updatedAfter == null && updatedBefore == null
+                && title == null;
+    }
+
+}
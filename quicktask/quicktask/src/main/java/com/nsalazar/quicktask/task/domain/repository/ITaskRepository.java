@@ -1,11 +1,24 @@
 package com.nsalazar.quicktask.task.domain.repository;
 
 import com.nsalazar.quicktask.task.domain.Task;
+import com.nsalazar.quicktask.task.domain.TaskDetail;
+import com.nsalazar.quicktask.task.domain.TaskFilter;
+import com.nsalazar.quicktask.task.domain.stats.TaskDailyCount;
+import com.nsalazar.quicktask.task.domain.stats.TaskStatsCount;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Repository interface for the Task domain model.
@@ -105,6 +118,242 @@ public interface ITaskRepository {
      */
     Page<Task> findAll(Pageable pageable);
 
+    /**
+     * Retrieves a page of the tasks matching every criterion of the given filter.
+     *
+     * <p>Only the criteria present in the filter restrict the result; an empty filter matches
+     * every task. The supported criteria are served by composite indexes, so the cost grows with
+     * the number of matching rows rather than with the size of the table.
+     *
+     * @param filter the search criteria. Must not be null.
+     * @param pageable pagination information including page number, size, and sorting criteria
+     * @return a {@link Page} of the matching domain {@link Task} objects, possibly empty
+     *
+     * @see TaskFilter
+     */
+    Page<Task> findAll(TaskFilter filter, Pageable pageable);
+
+    /**
+     * Retrieves a slice of all tasks without counting them.
+     *
+     * <p>Same as {@link #findAll(Pageable)}, except that one more row is fetched to tell whether
+     * a next page exists instead of running a {@code COUNT(*)} over the whole table.
+     *
+     * @param pageable pagination information including page number, size, and sorting criteria
+     * @return a {@link Slice} of domain {@link Task} objects, possibly empty
+     */
+    Slice<Task> findSlice(Pageable pageable);
+
+    /**
+     * Retrieves a slice of the tasks matching every criterion of the given filter without
+     * counting them.
+     *
+     * <p>Same as {@link #findAll(TaskFilter, Pageable)}, except that no count query is executed.
+     *
+     * @param filter the search criteria. Must not be null.
+     * @param pageable pagination information including page number, size, and sorting criteria
+     * @return a {@link Slice} of the matching domain {@link Task} objects, possibly empty
+     */
+    Slice<Task> findSlice(TaskFilter filter, Pageable pageable);
+
+    /**
+     * Retrieves a window of tasks positioned right after the given keyset position (seek method).
+     *
+     * <p><strong>Keyset Pagination:</strong>
+     * Instead of skipping {@code OFFSET} rows, the query filters on the sort key of the last
+     * returned task using an indexed range predicate, e.g. for {@code createdAt} ascending:
+     * <pre>
+     * WHERE created_at &gt; :lastCreatedAt
+     *    OR (created_at = :lastCreatedAt AND id &gt; :lastId)
+     * ORDER BY created_at, id
+     * LIMIT :limit + 1
+     * </pre>
+     * The task id is always appended as tie-breaker so that the order is total.
+     *
+     * <p><strong>Return Value:</strong>
+     * The {@link Window} contains at most {@code limit} tasks and knows whether more tasks follow.
+     * No {@code COUNT(*)} query is issued, so the cost is independent of the scroll depth.
+     *
+     * @param position the keyset position to continue from; {@code ScrollPosition.keyset()} for the first window
+     * @param sort the sort criteria. Must reference non-nullable, indexed properties.
+     * @param limit the maximum number of tasks to return. Must be positive.
+     * @return a {@link Window} of domain {@link Task} objects
+     *
+     * @see KeysetScrollPosition
+     */
+    Window<Task> findAll(KeysetScrollPosition position, Sort sort, int limit);
+
+    /**
+     * Passes every task, ordered by id, to the given action while reading them from a
+     * forward-only database cursor.
+     *
+     * <p><strong>Streaming:</strong>
+     * <ul>
+     *   <li>One query is executed; rows are fetched from the cursor {@code fetchSize} at a time</li>
+     *   <li>No page of tasks is materialized and no {@code COUNT(*)} query is issued</li>
+     *   <li>Tasks already handed to the action are released, so memory usage does not grow
+     *       with the number of rows</li>
+     * </ul>
+     *
+     * <p>Must be called within a transaction, which keeps the cursor's connection open until
+     * the last row has been read.
+     *
+     * @param fetchSize the number of rows fetched from the cursor per round trip. Must be positive.
+     * @param action the action invoked for each task, in id order. Must not be null.
+     * @return the number of tasks passed to the action
+     */
+    long forEachTask(int fetchSize, Consumer<? super Task> action);
+
+    /**
+     * Counts the tasks of every task list by completion status with one grouped query.
+     *
+     * <p>Used to reconcile the incrementally maintained task statistics; tasks without a task
+     * list are counted under a {@code null} task list.
+     *
+     * @return one count per task list and completion status present in the table
+     */
+    List<TaskStatsCount> countByTaskListAndCompleted();
+
+    /**
+     * Counts the tasks of every task list created on each day since a timestamp, with one grouped
+     * query.
+     *
+     * @param since the earliest creation timestamp counted (inclusive)
+     * @return one count per task list and creation day present in the table
+     */
+    List<TaskDailyCount> countCreatedPerDay(LocalDateTime since);
+
+    /**
+     * Persists several new tasks at once.
+     *
+     * <p><strong>Batching:</strong>
+     * All tasks are persisted in the current persistence context and written with JDBC batch
+     * inserts when the context is flushed (see {@code hibernate.jdbc.batch_size}), instead of
+     * one round trip per task. The context is flushed before returning, so constraint violations
+     * surface here like in {@link #save(Task)}.
+     *
+     * <p><strong>Return Value:</strong>
+     * The saved tasks, with generated ids, in the same order as the input list.
+     *
+     * @param tasks the new tasks to persist. Must not be null.
+     * @return the persisted {@link Task} domain objects in input order
+     * @throws com.nsalazar.quicktask.task.application.exception.DuplicateTitleException if a title
+     *         is already used by another incomplete task
+     * @throws com.nsalazar.quicktask.shared.exception.ResourceNotFoundException if no task list
+     *         exists with one of the task list IDs
+     */
+    List<Task> saveAll(List<Task> tasks);
+
+    /**
+     * Returns which of the given titles are used by incomplete tasks.
+     *
+     * <p><strong>Purpose:</strong>
+     * Set-wise variant of {@link #findByTitleAndNotCompleted(String)} used to validate the title
+     * uniqueness rule for many tasks with a single {@code IN} query.
+     *
+     * @param titles the titles to check. Must not be null.
+     * @return the titles of incomplete tasks matching {@code titles}, as stored; matching follows the
+     *         column collation, which may be case-insensitive. Never null.
+     */
+    Set<String> findIncompleteTitlesIn(Collection<String> titles);
+
+    /**
+     * Retrieves a task together with the basic information of its task list.
+     *
+     * <p><strong>SQL Equivalent:</strong>
+     * <pre>
+     * SELECT t.*, tl.id, tl.name, tl.description
+     * FROM tbl_tasks t LEFT JOIN tbl_task_lists tl ON tl.id = t.task_list_id
+     * WHERE t.id = :id
+     * </pre>
+     *
+     * <p><strong>Performance:</strong>
+     * A single joined statement; building a detail response does not need a separate lookup
+     * of the task list.
+     *
+     * @param id the UUID of the task. Must not be null.
+     * @return an Optional containing the {@link TaskDetail}, or empty if no task has this ID
+     */
+    Optional<TaskDetail> findDetailById(UUID id);
+
+    /**
+     * Retrieves many tasks together with the basic information of their task lists.
+     *
+     * <p><strong>SQL Equivalent:</strong>
+     * <pre>
+     * SELECT t.*, tl.id, tl.name, tl.description
+     * FROM tbl_tasks t LEFT JOIN tbl_task_lists tl ON tl.id = t.task_list_id
+     * WHERE t.id IN (:ids)
+     * </pre>
+     *
+     * <p><strong>Performance:</strong>
+     * A single joined statement for the whole set, instead of one {@link #findDetailById(UUID)}
+     * per id.
+     *
+     * @param ids the UUIDs of the tasks. Must not be null.
+     * @return the {@link TaskDetail} of every task found, in no particular order; ids without a
+     *         task are skipped. Never null.
+     */
+    List<TaskDetail> findAllDetailsById(Collection<UUID> ids);
+
+    /**
+     * Applies a partial update to a task with a single conditional statement.
+     *
+     * <p><strong>Behavior:</strong>
+     * <ul>
+     *   <li>A {@code null} argument keeps the current value of the corresponding column</li>
+     *   <li>The task is not loaded before the update; no entity is merged</li>
+     *   <li>Title uniqueness and task list existence are checked by the database constraints</li>
+     *   <li>The version is incremented; a non-null {@code expectedVersion} makes the update conditional</li>
+     * </ul>
+     *
+     * @param id the UUID of the task to update. Must not be null.
+     * @param title the new title, or null to keep the current one
+     * @param description the new description, or null to keep the current one
+     * @param completed the new completion status, or null to keep the current one
+     * @param taskListId the new task list ID, or null to keep the current one
+     * @param updatedAt the modification timestamp to set
+     * @param expectedVersion the version the task must currently have, or null to skip the check
+     * @return {@code true} if the task was updated, {@code false} if no task has this ID or
+     *         its version differs from {@code expectedVersion}
+     * @throws com.nsalazar.quicktask.task.application.exception.DuplicateTitleException if the new title, or reopening the task, violates the title unique constraint
+     * @throws com.nsalazar.quicktask.shared.exception.ResourceNotFoundException if the new task list ID violates the task list foreign key
+     */
+    boolean updatePartially(UUID id, String title, String description, Boolean completed,
+                            UUID taskListId, LocalDateTime updatedAt, Long expectedVersion);
+
+    /**
+     * Unlinks all tasks from a task list with a single bulk statement.
+     *
+     * <p><strong>SQL Equivalent:</strong>
+     * <pre>
+     * UPDATE tbl_tasks SET task_list_id = NULL, updated_at = :updatedAt
+     * WHERE task_list_id = :taskListId
+     * </pre>
+     *
+     * <p><strong>Performance:</strong>
+     * The number of statements is constant regardless of how many tasks the list holds; no task
+     * is loaded into memory. The persistence context is flushed before and cleared after the update.
+     *
+     * @param taskListId the UUID of the task list whose tasks should be unlinked. Must not be null.
+     * @param updatedAt the modification timestamp to set on every unlinked task
+     * @return the number of unlinked tasks
+     */
+    int unlinkAllFromTaskList(UUID taskListId, LocalDateTime updatedAt);
+
+    /**
+     * Deletes all tasks of a task list with a single bulk statement.
+     *
+     * <p><strong>SQL Equivalent:</strong>
+     * <pre>
+     * DELETE FROM tbl_tasks WHERE task_list_id = :taskListId
+     * </pre>
+     *
+     * @param taskListId the UUID of the task list whose tasks should be deleted. Must not be null.
+     * @return the number of deleted tasks
+     */
+    int deleteAllByTaskListId(UUID taskListId);
+
     /**
      * Retrieves a single task by its unique identifier.
      *
@@ -154,6 +403,17 @@ public interface ITaskRepository {
      */
     Optional<Task> findById(UUID id);
 
+    /**
+     * Retrieves the tasks with the given IDs with a single {@code IN} query.
+     *
+     * <p>IDs without a task are skipped, so the result may be shorter than the input. The order of
+     * the result is unspecified.
+     *
+     * @param ids the unique identifiers of the tasks to retrieve. Must not be null.
+     * @return the domain {@link Task} objects found
+     */
+    List<Task> findAllById(Collection<UUID> ids);
+
     /**
      * Saves a new task to the database or updates an existing task.
      *
@@ -203,6 +463,8 @@ public interface ITaskRepository {
      * @return the saved {@link Task} with all fields populated including any generated ids
      *         or database-assigned values
      * @throws IllegalArgumentException if the task parameter is null
+     * @throws com.nsalazar.quicktask.task.application.exception.DuplicateTitleException if the task is
+     *         incomplete and another incomplete task already has its title
      *
      * @see Task
      */
@@ -303,7 +565,6 @@ public interface ITaskRepository {
      *
      * <p><strong>Purpose:</strong>
      * This method searches for a task with the specified title that has not been completed yet.
-     * It enforces the business rule that prevents duplicate titles for incomplete tasks.
      *
      * <p><strong>Query Logic:</strong>
      * <ul>
@@ -314,42 +575,15 @@ public interface ITaskRepository {
      * </ul>
      *
      * <p><strong>Business Rule Enforcement:</strong>
-     * This method is used to enforce the constraint that no two incomplete tasks can have the same title.
-     * Before creating or updating a task, the service layer calls this method to validate that the
-     * title is not already in use by another incomplete task.
-     *
-     * <p><strong>Use Cases:</strong>
-     * <ul>
-     *   <li>Validate title uniqueness during task creation</li>
-     *   <li>Check for duplicates when updating a task's title</li>
-     *   <li>Prevent duplicate titles for incomplete tasks only</li>
-     *   <li>Allow multiple complete tasks to have the same title</li>
-     * </ul>
-     *
-     * <p><strong>Example Usage in Service:</strong>
-     * <pre>
-     * // When creating a new task
-     * if (repository.findByTitleAndNotCompleted(title).isPresent()) {
-     *     throw new DuplicateTitleException("A task with this title already exists");
-     * }
-     * Task newTask = new Task(title, description);
-     * repository.save(newTask);
-     *
-     * // When updating a task
-     * Task existing = repository.findById(id).orElseThrow(...);
-     * if (repository.findByTitleAndNotCompleted(newTitle).isPresent()) {
-     *     throw new DuplicateTitleException("Another incomplete task already has this title");
-     * }
-     * existing.setTitle(newTitle);
-     * repository.save(existing);
-     * </pre>
+     * No two incomplete tasks can have the same title. The rule is enforced by the database when a
+     * task is saved or updated ({@link #save(Task)} and {@link #updatePartially} throw
+     * {@code DuplicateTitleException}), so callers do not need to look the title up first. This
+     * method only reports which task currently holds a title.
      *
      * <p><strong>Important Notes:</strong>
      * <ul>
      *   <li>Only searches for incomplete tasks (completed = false)</li>
      *   <li>Title matching is case-sensitive</li>
-     *   <li>This method queries the database for validation</li>
-     *   <li>The service layer is responsible for handling the result</li>
      *   <li>Completed tasks with the same title do not cause a conflict</li>
      * </ul>
      *
@@ -363,4 +597,27 @@ public interface ITaskRepository {
      */
     Optional<Task> findByTitleAndNotCompleted(String title);
 
+    /**
+     * Retrieves all tasks that belong to any of the given task lists.
+     *
+     * <p><strong>Purpose:</strong>
+     * This method batch-loads the tasks of several task lists at once. It is used when a page of
+     * task lists must embed their tasks, replacing one task query per list (N+1) with a single
+     * {@code IN} query for the whole page.
+     *
+     * <p><strong>Query Logic:</strong>
+     * <ul>
+     *   <li>Matches tasks whose {@code taskListId} is contained in {@code taskListIds}</li>
+     *   <li>Tasks without a task list are never returned</li>
+     *   <li>Results are not grouped; callers group them by {@link Task#getTaskListId()}</li>
+     * </ul>
+     *
+     * @param taskListIds the UUIDs of the task lists whose tasks should be loaded. Must not be null;
+     *                    an empty collection yields an empty result without querying the database.
+     * @return a {@link List} of {@link Task} domain objects. Never null.
+     *
+     * @see Task
+     */
+    List<Task> findAllByTaskListIdIn(Collection<UUID> taskListIds);
+
 }
@@ -0,0 +1,43 @@
+package com.nsalazar.quicktask.task.domain.repository;
+
+import com.nsalazar.quicktask.task.domain.stats.TaskStats;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Repository of the persisted copy of the task statistics.
+ *
+ * <p>The statistics are maintained in memory (see
+ * {@link com.nsalazar.quicktask.task.domain.stats.ITaskStatsCounters}) and saved here
+ * periodically, so a restarted application starts from the last saved counts instead of
+ * recounting {@code tbl_tasks}. Each entry is keyed by a scope: a task list id, or
+ * {@link #GLOBAL_SCOPE} for the counts of all tasks.
+ *
+ * @author nsalazar
+ * @see TaskStats
+ */
+public interface ITaskStatsRepository {
+
+    /**
+     * Scope key of the statistics of all tasks (the nil UUID).
+     */
+    UUID GLOBAL_SCOPE = new UUID(0L, 0L);
+
+    /**
+     * Loads every saved scope.
+     *
+     * @return the saved statistics by scope
+     */
+    Map<UUID, TaskStats> findAll();
+
+    /**
+     * Replaces the saved statistics of some scopes and removes others.
+     *
+     * @param stats the statistics to save, by scope; previously saved values are overwritten
+     * @param removedScopes the scopes to remove
+     */
+    void saveAll(Map<UUID, TaskStats> stats, Collection<UUID> removedScopes);
+
+}
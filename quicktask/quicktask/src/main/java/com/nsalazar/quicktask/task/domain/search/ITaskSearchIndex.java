@@ -0,0 +1,68 @@
+package com.nsalazar.quicktask.task.domain.search;
+
+import java.util.UUID;
+
+/**
+ * Full-text index over the title and description of the tasks.
+ *
+ * <p>The index is a secondary, eventually consistent copy of {@code tbl_tasks}: the service
+ * layer feeds it on every create, update and delete, and the implementation applies the change
+ * once the surrounding transaction has committed. Bulk operations that do not go through the
+ * service (e.g. deleting the tasks of a task list) may leave stale entries behind; callers are
+ * expected to drop hits whose task no longer exists.
+ *
+ * <p><strong>Query Syntax:</strong>
+ * <ul>
+ *   <li>Words are matched case- and accent-insensitively against whole words</li>
+ *   <li>A trailing {@code *} turns a word into a prefix, e.g. {@code deploy*}</li>
+ *   <li>All words must match (AND); hits are ranked by relevance, title matches first</li>
+ * </ul>
+ *
+ * @author nsalazar
+ * @see TaskSearchHits
+ */
+public interface ITaskSearchIndex {
+
+    /**
+     * Adds a task to the index, replacing its previous entry if any.
+     *
+     * @param taskId the task id
+     * @param title the task title
+     * @param description the task description
+     */
+    void index(UUID taskId, String title, String description);
+
+    /**
+     * Removes a task from the index. Unknown ids are ignored.
+     *
+     * @param taskId the task id
+     */
+    void remove(UUID taskId);
+
+    /**
+     * Returns the best matching tasks of a query.
+     *
+     * @param query the query text
+     * @param limit the maximum number of hits to return. Must be positive.
+     * @return the hits in descending relevance and the total number of matching tasks
+     * @throws IllegalArgumentException if the query contains no searchable word
+     */
+    TaskSearchHits search(String query, int limit);
+
+    /**
+     * Returns whether the index has been fully loaded from the database.
+     *
+     * <p>Until then searches only see the tasks loaded so far and those written since startup.
+     *
+     * @return {@code true} once the startup rebuild has completed
+     */
+    boolean isReady();
+
+    /**
+     * Returns the number of indexed tasks.
+     *
+     * @return the number of live entries
+     */
+    int size();
+
+}
@@ -0,0 +1,48 @@
+package com.nsalazar.quicktask.task.domain.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of a full-text search: the best hits and the number of tasks matching the query.
+ *
+ * @author nsalazar
+ * @see ITaskSearchIndex#search(String, int)
+ */
+@Getter
+@AllArgsConstructor
+public class TaskSearchHits {
+
+    /**
+     * The best hits in descending relevance, at most the requested limit.
+     */
+    private final List<Hit> hits;
+
+    /**
+     * The number of indexed tasks matching every word of the query.
+     */
+    private final int totalMatches;
+
+    /**
+     * A task matching the query and its relevance score.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Hit {
+
+        /**
+         * The id of the matching task.
+         */
+        private final UUID taskId;
+
+        /**
+         * The relevance score; only meaningful relative to other hits of the same query.
+         */
+        private final float score;
+
+    }
+
+}
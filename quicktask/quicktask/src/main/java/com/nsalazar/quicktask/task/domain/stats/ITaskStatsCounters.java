@@ -0,0 +1,95 @@
+package com.nsalazar.quicktask.task.domain.stats;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Task counts maintained incrementally, so statistics are read without querying {@code tbl_tasks}.
+ *
+ * <p>The counters are a secondary, eventually consistent copy of {@code tbl_tasks}: the service
+ * layer reports every create, update and delete, and the implementation applies the change once
+ * the surrounding transaction has committed. The implementation periodically recomputes the
+ * counts from the database to correct any drift, e.g. from writes it was not told about.
+ *
+ * @author nsalazar
+ * @see TaskStats
+ */
+public interface ITaskStatsCounters {
+
+    /**
+     * Counts a new task.
+     *
+     * @param taskListId the task list of the task, or null
+     * @param completed the completion status of the task
+     * @param createdAt the creation timestamp of the task
+     */
+    void taskCreated(UUID taskListId, boolean completed, LocalDateTime createdAt);
+
+    /**
+     * Moves a task between counts after its completion status or task list changed.
+     *
+     * @param previousTaskListId the task list before the change, or null
+     * @param previouslyCompleted the completion status before the change
+     * @param taskListId the task list after the change, or null
+     * @param completed the completion status after the change
+     * @param createdAt the creation timestamp of the task
+     */
+    void taskChanged(UUID previousTaskListId, boolean previouslyCompleted,
+                     UUID taskListId, boolean completed, LocalDateTime createdAt);
+
+    /**
+     * Stops counting a deleted task.
+     *
+     * @param taskListId the task list of the task, or null
+     * @param completed the completion status of the task
+     * @param createdAt the creation timestamp of the task
+     */
+    void taskDeleted(UUID taskListId, boolean completed, LocalDateTime createdAt);
+
+    /**
+     * Drops the counts of a deleted task list.
+     *
+     * @param taskListId the deleted task list
+     * @param tasksDeleted whether its tasks were deleted with it ({@code true}) or unlinked
+     */
+    void taskListDeleted(UUID taskListId, boolean tasksDeleted);
+
+    /**
+     * Asks for the counts to be recomputed from the database soon, because a change could not
+     * be counted exactly (e.g. the previous state of a task was unknown).
+     */
+    void requestReconciliation();
+
+    /**
+     * Returns the counts of all tasks.
+     *
+     * @return the global statistics
+     */
+    TaskStats global();
+
+    /**
+     * Returns the counts of the tasks of a task list.
+     *
+     * @param taskListId the task list id
+     * @return the statistics, or empty if no task of the list has been counted
+     */
+    Optional<TaskStats> forTaskList(UUID taskListId);
+
+    /**
+     * Returns whether the counts have been loaded from the database since startup.
+     *
+     * <p>Until then they only reflect the writes made since startup.
+     *
+     * @return {@code true} once the counts have been loaded
+     */
+    boolean isReady();
+
+    /**
+     * Returns when the counts were last recomputed from {@code tbl_tasks}.
+     *
+     * @return the timestamp, or null if they have not been recomputed since startup
+     */
+    LocalDateTime getReconciledAt();
+
+}
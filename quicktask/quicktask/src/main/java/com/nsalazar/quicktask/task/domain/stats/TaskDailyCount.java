@@ -0,0 +1,34 @@
+package com.nsalazar.quicktask.task.domain.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Number of tasks of a task list created on a given day, as counted in the database.
+ *
+ * @author nsalazar
+ * @see com.nsalazar.quicktask.task.domain.repository.ITaskRepository#countCreatedPerDay(java.time.LocalDateTime)
+ */
+@Getter
+@AllArgsConstructor
+public class TaskDailyCount {
+
+    /**
+     * The task list, or {@code null} for tasks without a list.
+     */
+    private final UUID taskListId;
+
+    /**
+     * The creation day of the counted tasks.
+     */
+    private final LocalDate day;
+
+    /**
+     * The number of tasks.
+     */
+    private final long count;
+
+}
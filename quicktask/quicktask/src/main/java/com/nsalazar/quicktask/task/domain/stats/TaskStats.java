@@ -0,0 +1,50 @@
+package com.nsalazar.quicktask.task.domain.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.SortedMap;
+
+/**
+ * Aggregate counts of a set of tasks: all tasks or the tasks of one task list.
+ *
+ * @author nsalazar
+ * @see ITaskStatsCounters
+ */
+@Getter
+@AllArgsConstructor
+public class TaskStats {
+
+    /**
+     * Statistics of an empty set of tasks.
+     */
+    public static final TaskStats EMPTY = new TaskStats(0, 0, Collections.emptySortedMap());
+
+    /**
+     * The number of tasks.
+     */
+    private final long total;
+
+    /**
+     * The number of completed tasks.
+     */
+    private final long completed;
+
+    /**
+     * The number of tasks created on each day of the retained window, oldest first. Days
+     * without tasks are omitted.
+     */
+    private final SortedMap<LocalDate, Long> createdPerDay;
+
+    /**
+     * Returns the number of tasks that are not completed.
+     *
+     * @return {@code total - completed}
+     */
+    public long getOpen() {
+        return total - completed;
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.nsalazar.quicktask.task.domain.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Number of tasks of a task list with a given completion status, as counted in the database.
+ *
+ * @author nsalazar
+ * @see com.nsalazar.quicktask.task.domain.repository.ITaskRepository#countByTaskListAndCompleted()
+ */
+@Getter
+@AllArgsConstructor
+public class TaskStatsCount {
+
+    /**
+     * The task list, or {@code null} for tasks without a list.
+     */
+    private final UUID taskListId;
+
+    /**
+     * The completion status of the counted tasks.
+     */
+    private final boolean completed;
+
+    /**
+     * The number of tasks.
+     */
+    private final long count;
+
+}
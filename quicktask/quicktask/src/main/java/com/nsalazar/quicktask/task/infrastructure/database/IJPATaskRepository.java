@@ -1,11 +1,25 @@
 package com.nsalazar.quicktask.task.infrastructure.database;
 
 import com.nsalazar.quicktask.task.infrastructure.database.entity.TaskEntity;
+import com.nsalazar.quicktask.task.infrastructure.database.projection.TaskDailyCountProjection;
+import com.nsalazar.quicktask.task.infrastructure.database.projection.TaskDetailProjection;
+import com.nsalazar.quicktask.task.infrastructure.database.projection.TaskStatsCountProjection;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -86,7 +100,8 @@ import java.util.UUID;
  * </ul>
  *
  * <strong>Custom Query Methods:</strong>
- * This interface currently inherits standard JPA methods. If custom queries are needed:
+ * Besides the standard JPA methods, {@link JpaSpecificationExecutor} runs the dynamic filtered
+ * searches built by {@link TaskSpecifications}. If further custom queries are needed:
  * <ul>
  *   <li>Add {@code @Query} annotated methods to this interface</li>
  *   <li>Define custom JPQL or native SQL queries</li>
@@ -137,14 +152,43 @@ import java.util.UUID;
  * @see org.springframework.data.jpa.repository.JpaRepository
  */
 @Repository
-public interface IJPATaskRepository extends JpaRepository<TaskEntity, UUID> {
+public interface IJPATaskRepository extends JpaRepository<TaskEntity, UUID>, JpaSpecificationExecutor<TaskEntity> {
+
+    /**
+     * Scrolls through all tasks using keyset pagination.
+     *
+     * <p><strong>Query Logic:</strong>
+     * Spring Data derives a range predicate from the keys of the given position (sort properties
+     * plus the identifier) and fetches {@code limit + 1} rows to detect whether more rows follow.
+     * No count query is executed.
+     *
+     * <p><strong>Performance:</strong>
+     * Seeking by {@code created_at} is served by the {@code idx_tasks_created_at_id} composite index,
+     * by {@code title} through {@code idx_tasks_title} and by {@code id} through the primary key.
+     *
+     * @param position the keyset position to continue from
+     * @param sort the sort criteria
+     * @param limit the maximum number of entities in the window
+     * @return a {@link Window} of TaskEntity objects
+     */
+    Window<TaskEntity> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Retrieves a slice of all tasks.
+     *
+     * <p>Spring Data fetches {@code size + 1} rows at the requested offset to detect whether more
+     * rows follow. No count query is executed.
+     *
+     * @param pageable pagination and sorting information
+     * @return a {@link Slice} of TaskEntity objects
+     */
+    Slice<TaskEntity> findSliceBy(Pageable pageable);
 
     /**
      * Finds a task by its title when the task is incomplete (completed = false).
      *
      * <p><strong>Purpose:</strong>
      * This method searches for a task with the specified title that has not been completed yet.
-     * It enforces the business rule that prevents duplicate titles for incomplete tasks.
      *
      * <p><strong>Query Logic:</strong>
      * <ul>
@@ -153,22 +197,15 @@ public interface IJPATaskRepository extends JpaRepository<TaskEntity, UUID> {
      *   <li>Returns at most one task (Optional)</li>
      * </ul>
      *
-     * <p><strong>Use Cases:</strong>
-     * <ul>
-     *   <li>Validate that a title is not already used by an incomplete task during creation</li>
-     *   <li>Check for duplicates before creating a new task</li>
-     *   <li>Check for duplicates when updating a task's title</li>
-     * </ul>
-     *
      * <p><strong>SQL Query Equivalent:</strong>
      * <pre>
      * SELECT * FROM tbl_tasks
-     * WHERE title = :title AND completed = false
+     * WHERE active_title = :title
      * </pre>
      *
      * <p><strong>Performance:</strong>
-     * This query uses the unique constraint index on title for efficient lookups.
-     * The query returns quickly because title is indexed.
+     * {@code active_title} holds the title of incomplete tasks only, so the lookup is a single
+     * probe of the {@code uk_title_incomplete_tasks} unique index.
      *
      * @param title the title to search for. Must not be null or empty.
      * @return an {@link Optional} containing the TaskEntity if found, or empty Optional if no incomplete task
@@ -177,7 +214,218 @@ public interface IJPATaskRepository extends JpaRepository<TaskEntity, UUID> {
      * @see Optional
      * @see TaskEntity
      */
-    @Query("SELECT t FROM TaskEntity t WHERE t.title = :title AND t.completed = false")
+    @Query("SELECT t FROM TaskEntity t WHERE t.activeTitle = :title")
     Optional<TaskEntity> findByTitleAndNotCompleted(@Param("title") String title);
 
+    /**
+     * Finds all tasks belonging to any of the given task lists.
+     *
+     * <p><strong>SQL Query Equivalent:</strong>
+     * <pre>
+     * SELECT * FROM tbl_tasks
+     * WHERE task_list_id IN (:taskListIds)
+     * </pre>
+     *
+     * <p><strong>Performance:</strong>
+     * The predicate is served by the foreign key index on {@code task_list_id}, and the whole
+     * set of lists is resolved in one round trip.
+     *
+     * @param taskListIds the UUIDs of the task lists. Must not be null or empty.
+     * @return a {@link List} of matching TaskEntity objects
+     */
+    @Query("SELECT t FROM TaskEntity t WHERE t.taskList.id IN :taskListIds")
+    List<TaskEntity> findAllByTaskListIdIn(@Param("taskListIds") Collection<UUID> taskListIds);
+
+    /**
+     * Finds which of the given titles are used by incomplete tasks.
+     *
+     * <p><strong>SQL Query Equivalent:</strong>
+     * <pre>
+     * SELECT active_title FROM tbl_tasks
+     * WHERE active_title IN (:titles)
+     * </pre>
+     *
+     * <p><strong>Performance:</strong>
+     * Only the indexed column is selected, so the query is answered from the
+     * {@code uk_title_incomplete_tasks} unique index alone.
+     *
+     * @param titles the titles to check. Must not be null or empty.
+     * @return the matching titles
+     */
+    @Query("SELECT t.activeTitle FROM TaskEntity t WHERE t.activeTitle IN :titles")
+    List<String> findIncompleteTitlesIn(@Param("titles") Collection<String> titles);
+
+    /**
+     * Retrieves a task together with the basic information of its task list.
+     *
+     * <p><strong>SQL Query Equivalent:</strong>
+     * <pre>
+     * SELECT t.id, t.title, t.description, t.completed, t.created_at, t.updated_at, t.version,
+     *        tl.id, tl.name, tl.description, tl.version
+     * FROM tbl_tasks t LEFT JOIN tbl_task_lists tl ON tl.id = t.task_list_id
+     * WHERE t.id = :id
+     * </pre>
+     *
+     * <p><strong>Performance:</strong>
+     * Replaces the task lookup followed by a separate task list lookup with one statement.
+     *
+     * @param id the UUID of the task
+     * @return an Optional containing the projection row, or empty if no task has this ID
+     */
+    @Query("SELECT t.id AS id, t.title AS title, t.description AS description, t.completed AS completed, "
+            + "t.createdAt AS createdAt, t.updatedAt AS updatedAt, t.version AS version, "
+            + "tl.id AS taskListId, tl.name AS taskListName, tl.description AS taskListDescription, "
+            + "tl.version AS taskListVersion "
+            + "FROM TaskEntity t LEFT JOIN t.taskList tl "
+            + "WHERE t.id = :id")
+    Optional<TaskDetailProjection> findDetailById(@Param("id") UUID id);
+
+    /**
+     * Retrieves many tasks together with the basic information of their task lists.
+     *
+     * <p><strong>SQL Query Equivalent:</strong>
+     * <pre>
+     * SELECT t.id, t.title, t.description, t.completed, t.created_at, t.updated_at, t.version,
+     *        tl.id, tl.name, tl.description, tl.version
+     * FROM tbl_tasks t LEFT JOIN tbl_task_lists tl ON tl.id = t.task_list_id
+     * WHERE t.id IN (:ids)
+     * </pre>
+     *
+     * <p><strong>Performance:</strong>
+     * The whole set is resolved with one primary key range lookup instead of one
+     * {@link #findDetailById(UUID)} round trip per id.
+     *
+     * @param ids the UUIDs of the tasks. Must not be null or empty.
+     * @return the projection rows of the tasks found, in no particular order
+     */
+    @Query("SELECT t.id AS id, t.title AS title, t.description AS description, t.completed AS completed, "
+            + "t.createdAt AS createdAt, t.updatedAt AS updatedAt, t.version AS version, "
+            + "tl.id AS taskListId, tl.name AS taskListName, tl.description AS taskListDescription, "
+            + "tl.version AS taskListVersion "
+            + "FROM TaskEntity t LEFT JOIN t.taskList tl "
+            + "WHERE t.id IN :ids")
+    List<TaskDetailProjection> findAllDetailsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Applies a partial update to a task with a single statement.
+     *
+     * <p><strong>SQL Query Equivalent:</strong>
+     * <pre>
+     * UPDATE tbl_tasks
+     * SET title = COALESCE(:title, title), description = COALESCE(:description, description),
+     *     completed = COALESCE(:completed, completed),
+     *     task_list_id = COALESCE(:taskListId, task_list_id), updated_at = :updatedAt,
+     *     version = version + 1
+     * WHERE id = :id AND (:expectedVersion IS NULL OR version = :expectedVersion)
+     * </pre>
+     *
+     * <p><strong>Null Handling:</strong>
+     * A {@code null} parameter keeps the current column value, matching the PATCH semantics of
+     * {@code TaskDTOUpdateRequest}. Title uniqueness and task list existence are enforced by the
+     * {@code uk_title_incomplete_tasks} and {@code fk_tasks_task_list} constraints.
+     *
+     * <p><strong>Optimistic Locking:</strong>
+     * Bulk updates bypass Hibernate's {@code @Version} handling, so the version is incremented
+     * explicitly. When {@code expectedVersion} is given, a stale version matches no row.
+     *
+     * @param id the UUID of the task to update
+     * @param title the new title, or null to keep the current one
+     * @param description the new description, or null to keep the current one
+     * @param completed the new completion status, or null to keep the current one
+     * @param taskListId the new task list ID, or null to keep the current one
+     * @param updatedAt the modification timestamp to set
+     * @param expectedVersion the version the task must currently have, or null to skip the check
+     * @return the number of updated rows (0 if no task has this ID or its version is stale)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TaskEntity t SET "
+            + "t.title = COALESCE(:title, t.title), "
+            + "t.description = COALESCE(:description, t.description), "
+            + "t.completed = COALESCE(:completed, t.completed), "
+            + "t.taskList.id = COALESCE(:taskListId, t.taskList.id), "
+            + "t.updatedAt = :updatedAt, "
+            + "t.version = t.version + 1 "
+            + "WHERE t.id = :id AND (:expectedVersion IS NULL OR t.version = :expectedVersion)")
+    int updatePartially(@Param("id") UUID id,
+                        @Param("title") String title,
+                        @Param("description") String description,
+                        @Param("completed") Boolean completed,
+                        @Param("taskListId") UUID taskListId,
+                        @Param("updatedAt") LocalDateTime updatedAt,
+                        @Param("expectedVersion") Long expectedVersion);
+
+    /**
+     * Unlinks all tasks from a task list in bulk.
+     *
+     * <p><strong>SQL Query Equivalent:</strong>
+     * <pre>
+     * UPDATE tbl_tasks SET task_list_id = NULL, updated_at = :updatedAt, version = version + 1
+     * WHERE task_list_id = :taskListId
+     * </pre>
+     *
+     * <p><strong>Persistence Context:</strong>
+     * Pending changes are flushed before the statement and the context is cleared afterwards,
+     * so no managed entity keeps a stale reference to the list.
+     *
+     * @param taskListId the UUID of the task list
+     * @param updatedAt the modification timestamp to set
+     * @return the number of updated rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TaskEntity t SET t.taskList = null, t.updatedAt = :updatedAt, t.version = t.version + 1 "
+            + "WHERE t.taskList.id = :taskListId")
+    int unlinkAllFromTaskList(@Param("taskListId") UUID taskListId, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Deletes all tasks of a task list in bulk.
+     *
+     * <p><strong>SQL Query Equivalent:</strong>
+     * <pre>
+     * DELETE FROM tbl_tasks WHERE task_list_id = :taskListId
+     * </pre>
+     *
+     * @param taskListId the UUID of the task list
+     * @return the number of deleted rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TaskEntity t WHERE t.taskList.id = :taskListId")
+    int deleteAllByTaskListId(@Param("taskListId") UUID taskListId);
+
+    /**
+     * Counts the tasks of every task list by completion status.
+     *
+     * <p><strong>SQL Query Equivalent:</strong>
+     * <pre>
+     * SELECT task_list_id, completed, COUNT(*) FROM tbl_tasks
+     * GROUP BY task_list_id, completed
+     * </pre>
+     *
+     * <p><strong>Performance:</strong>
+     * Both grouped columns lead {@code idx_tasks_list_completed_created}, so the count is read
+     * from that index without touching the table rows.
+     *
+     * @return one row per task list and completion status
+     */
+    @Query("SELECT t.taskList.id AS taskListId, t.completed AS completed, COUNT(t) AS count "
+            + "FROM TaskEntity t GROUP BY t.taskList.id, t.completed")
+    List<TaskStatsCountProjection> countByTaskListAndCompleted();
+
+    /**
+     * Counts the tasks of every task list created on each day since a timestamp.
+     *
+     * <p><strong>SQL Query Equivalent:</strong>
+     * <pre>
+     * SELECT task_list_id, CAST(created_at AS DATE), COUNT(*) FROM tbl_tasks
+     * WHERE created_at >= :since
+     * GROUP BY task_list_id, CAST(created_at AS DATE)
+     * </pre>
+     *
+     * @param since the earliest creation timestamp counted
+     * @return one row per task list and creation day
+     */
+    @Query("SELECT t.taskList.id AS taskListId, CAST(t.createdAt AS LocalDate) AS day, COUNT(t) AS count "
+            + "FROM TaskEntity t WHERE t.createdAt >= :since "
+            + "GROUP BY t.taskList.id, CAST(t.createdAt AS LocalDate)")
+    List<TaskDailyCountProjection> countCreatedPerDay(@Param("since") LocalDateTime since);
+
 }
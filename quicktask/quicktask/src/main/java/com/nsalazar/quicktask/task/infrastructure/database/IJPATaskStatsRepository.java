@@ -0,0 +1,32 @@
+package com.nsalazar.quicktask.task.infrastructure.database;
+
+import com.nsalazar.quicktask.task.infrastructure.database.entity.TaskStatsEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for {@link TaskStatsEntity}.
+ *
+ * @author nsalazar
+ * @see TaskStatsRepository
+ */
+@Repository
+public interface IJPATaskStatsRepository extends JpaRepository<TaskStatsEntity, UUID> {
+
+    /**
+     * Deletes the saved counts of several scopes in bulk.
+     *
+     * @param scopeIds the scopes to delete. Must not be empty.
+     * @return the number of deleted rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TaskStatsEntity s WHERE s.scopeId IN :scopeIds")
+    int deleteAllByScopeIdIn(@Param("scopeIds") Collection<UUID> scopeIds);
+
+}
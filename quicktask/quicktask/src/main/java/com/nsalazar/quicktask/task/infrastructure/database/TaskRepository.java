@@ -1,16 +1,42 @@
 package com.nsalazar.quicktask.task.infrastructure.database;
 
+import com.nsalazar.quicktask.shared.exception.ResourceNotFoundException;
+import com.nsalazar.quicktask.task.application.exception.DuplicateTitleException;
 import com.nsalazar.quicktask.task.domain.Task;
+import com.nsalazar.quicktask.task.domain.TaskDetail;
+import com.nsalazar.quicktask.task.domain.TaskFilter;
 import com.nsalazar.quicktask.task.domain.repository.ITaskRepository;
+import com.nsalazar.quicktask.task.domain.stats.TaskDailyCount;
+import com.nsalazar.quicktask.task.domain.stats.TaskStatsCount;
 import com.nsalazar.quicktask.task.infrastructure.database.entity.TaskEntity;
 import com.nsalazar.quicktask.task.infrastructure.database.mapper.ITaskEntityMapper;
+import com.nsalazar.quicktask.tasklist.infrastructure.database.entity.TaskListEntity;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Repository implementation for Task entities.
@@ -113,6 +139,18 @@ public class TaskRepository implements ITaskRepository {
      */
     private final ITaskEntityMapper taskEntityMapper;
 
+    /**
+     * Shared entity manager used to obtain task list references for the {@code taskList}
+     * association. A reference carries the current version of the list once initialized, so the
+     * versioned {@code TaskListEntity} is never mistaken for a transient instance.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * Upper bound of the JDBC batch size used by {@link #saveAll(List)}.
+     */
+    static final int MAX_JDBC_BATCH_SIZE = 1000;
+
     /**
      * Retrieves a paginated list of all tasks from the database.
      *
@@ -163,6 +201,313 @@ public class TaskRepository implements ITaskRepository {
                 .map(taskEntityMapper::toTask);
     }
 
+    /**
+     * Retrieves a page of the tasks matching the given filter.
+     *
+     * <p>The filter is translated into a JPA Criteria query by {@link TaskSpecifications}; the
+     * count query of the page uses the same predicates and is therefore index-backed as well.
+     *
+     * @param filter the search criteria
+     * @param pageable pagination information including page number, size, and sorting criteria
+     * @return a {@link Page} of the matching domain {@link Task} objects
+     */
+    @Override
+    public Page<Task> findAll(TaskFilter filter, Pageable pageable) {
+        return jpaTaskRepository.findAll(TaskSpecifications.matching(filter), pageable)
+                .map(taskEntityMapper::toTask);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Calls the derived {@code findSliceBy} query, which fetches one row more than the page
+     * size instead of counting the table.
+     */
+    @Override
+    public Slice<Task> findSlice(Pageable pageable) {
+        return jpaTaskRepository.findSliceBy(pageable)
+                .map(taskEntityMapper::toTask);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Runs the {@link TaskSpecifications} query through the fluent query API, whose slice
+     * fetches one row more than the page size instead of running the count query.
+     */
+    @Override
+    public Slice<Task> findSlice(TaskFilter filter, Pageable pageable) {
+        return jpaTaskRepository.findBy(TaskSpecifications.matching(filter), query -> query.slice(pageable))
+                .map(taskEntityMapper::toTask);
+    }
+
+    /**
+     * Persists several new tasks at once.
+     *
+     * <p><strong>Operation Flow:</strong>
+     * <ol>
+     *   <li>Maps each Task domain object to a TaskEntity</li>
+     *   <li>Calls {@code jpaTaskRepository.saveAllAndFlush(entities)}, which persists every entity in
+     *       the current persistence context and flushes it; ids are generated in memory by the
+     *       UUIDv7 generator</li>
+     *   <li>Translates constraint violations raised by the flush into domain exceptions, as
+     *       {@link #save(Task)} does</li>
+     *   <li>Maps the saved entities back to Task domain objects, preserving input order</li>
+     * </ol>
+     *
+     * <p><strong>Performance:</strong>
+     * The INSERT statements are sent when the persistence context is flushed, grouped in JDBC
+     * batches (ordered by {@code hibernate.order_inserts}). The JDBC batch size of the current
+     * session is raised to the number of tasks, up to {@value #MAX_JDBC_BATCH_SIZE}, so that with
+     * {@code rewriteBatchedStatements=true} a whole import batch is sent as a few multi-row INSERTs
+     * instead of one round trip per {@code hibernate.jdbc.batch_size} statements.
+     *
+     * @param tasks the new tasks to persist. Must not be null.
+     * @return the persisted {@link Task} domain objects in input order
+     * @throws DuplicateTitleException if a title is already used by another incomplete task, e.g. one
+     *         committed concurrently after the caller's title check
+     * @throws ResourceNotFoundException if no task list exists with one of the task list IDs
+     */
+    @Override
+    public List<Task> saveAll(List<Task> tasks) {
+        if (tasks.size() > 1) {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(Math.min(tasks.size(), MAX_JDBC_BATCH_SIZE));
+        }
+        List<TaskEntity> taskEntities = tasks.stream()
+                .map(this::toTaskEntity)
+                .toList();
+        try {
+            return jpaTaskRepository.saveAllAndFlush(taskEntities).stream()
+                    .map(taskEntityMapper::toTask)
+                    .toList();
+        } catch (DataIntegrityViolationException ex) {
+            throw translateViolation(ex, tasks);
+        }
+    }
+
+    /**
+     * Returns which of the given titles are used by incomplete tasks.
+     *
+     * <p><strong>Operation Flow:</strong>
+     * <ol>
+     *   <li>Returns an empty set immediately if no titles are given</li>
+     *   <li>Calls {@code jpaTaskRepository.findIncompleteTitlesIn(titles)} (single {@code IN} query)</li>
+     * </ol>
+     *
+     * @param titles the titles to check. Must not be null.
+     * @return the subset of titles used by incomplete tasks. Never null.
+     */
+    @Override
+    public Set<String> findIncompleteTitlesIn(Collection<String> titles) {
+        if (titles.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jpaTaskRepository.findIncompleteTitlesIn(titles));
+    }
+
+    /**
+     * Retrieves a task together with the basic information of its task list.
+     *
+     * <p><strong>Operation Flow:</strong>
+     * <ol>
+     *   <li>Calls {@code jpaTaskRepository.findDetailById(id)}, a single left-joined projection query</li>
+     *   <li>Maps the projection row to a TaskDetail domain object; no entity is loaded</li>
+     * </ol>
+     *
+     * @param id the UUID of the task. Must not be null.
+     * @return an Optional containing the TaskDetail, or empty if no task has this ID
+     */
+    @Override
+    public Optional<TaskDetail> findDetailById(UUID id) {
+        return jpaTaskRepository.findDetailById(id).map(taskEntityMapper::toTaskDetail);
+    }
+
+    /**
+     * Retrieves many tasks together with their task list info with one query.
+     *
+     * <p><strong>Operation Flow:</strong>
+     * <ol>
+     *   <li>Returns an empty list without a query if no id is given</li>
+     *   <li>Calls {@code jpaTaskRepository.findAllDetailsByIdIn(ids)}, a single left-joined projection query</li>
+     *   <li>Maps every projection row to a TaskDetail domain object; no entity is loaded</li>
+     * </ol>
+     *
+     * @param ids the UUIDs of the tasks. Must not be null.
+     * @return the TaskDetail of every task found, in no particular order
+     */
+    @Override
+    public List<TaskDetail> findAllDetailsById(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaTaskRepository.findAllDetailsByIdIn(ids).stream()
+                .map(taskEntityMapper::toTaskDetail)
+                .toList();
+    }
+
+    /**
+     * Applies a partial update to a task with a single {@code UPDATE} statement.
+     *
+     * <p><strong>Operation Flow:</strong>
+     * <ol>
+     *   <li>Calls {@code jpaTaskRepository.updatePartially(...)}; null arguments keep current values</li>
+     *   <li>Returns whether a row was updated</li>
+     *   <li>Translates constraint violations raised by the statement into domain exceptions</li>
+     * </ol>
+     *
+     * <p><strong>Constraint Translation:</strong>
+     * <ul>
+     *   <li>{@link TaskEntity#TITLE_UNIQUE_CONSTRAINT} → {@link DuplicateTitleException}</li>
+     *   <li>{@link TaskEntity#TASK_LIST_FOREIGN_KEY} → {@link ResourceNotFoundException}</li>
+     *   <li>Any other violation is rethrown unchanged</li>
+     * </ul>
+     *
+     * @param id the UUID of the task to update. Must not be null.
+     * @param title the new title, or null to keep the current one
+     * @param description the new description, or null to keep the current one
+     * @param completed the new completion status, or null to keep the current one
+     * @param taskListId the new task list ID, or null to keep the current one
+     * @param updatedAt the modification timestamp to set
+     * @param expectedVersion the version the task must currently have, or null to skip the check
+     * @return {@code true} if the task was updated, {@code false} if no task has this ID or
+     *         its version differs from {@code expectedVersion}
+     * @throws DuplicateTitleException if the new title is already in use, or if the task is
+     *         reopened while another incomplete task has its title
+     * @throws ResourceNotFoundException if no task list exists with the new task list ID
+     */
+    @Override
+    public boolean updatePartially(UUID id, String title, String description, Boolean completed,
+                                   UUID taskListId, LocalDateTime updatedAt, Long expectedVersion) {
+        try {
+            return jpaTaskRepository.updatePartially(
+                    id, title, description, completed, taskListId, updatedAt, expectedVersion) > 0;
+        } catch (DataIntegrityViolationException ex) {
+            throw translateViolation(ex, title, taskListId);
+        }
+    }
+
+    /**
+     * Unlinks all tasks from a task list with a single bulk {@code UPDATE}.
+     *
+     * <p><strong>Operation Flow:</strong>
+     * <ol>
+     *   <li>Calls {@code jpaTaskRepository.unlinkAllFromTaskList(taskListId, updatedAt)}</li>
+     *   <li>Returns the number of affected rows; no entity is loaded or mapped</li>
+     * </ol>
+     *
+     * @param taskListId the UUID of the task list. Must not be null.
+     * @param updatedAt the modification timestamp to set
+     * @return the number of unlinked tasks
+     */
+    @Override
+    public int unlinkAllFromTaskList(UUID taskListId, LocalDateTime updatedAt) {
+        return jpaTaskRepository.unlinkAllFromTaskList(taskListId, updatedAt);
+    }
+
+    /**
+     * Deletes all tasks of a task list with a single bulk {@code DELETE}.
+     *
+     * @param taskListId the UUID of the task list. Must not be null.
+     * @return the number of deleted tasks
+     */
+    @Override
+    public int deleteAllByTaskListId(UUID taskListId) {
+        return jpaTaskRepository.deleteAllByTaskListId(taskListId);
+    }
+
+    /**
+     * Retrieves a window of tasks positioned right after the given keyset position.
+     *
+     * <p><strong>Operation Flow:</strong>
+     * <ol>
+     *   <li>Calls {@code jpaTaskRepository.findAllBy(position, sort, Limit.of(limit))}, which
+     *       issues a single range query without {@code OFFSET} and without a count query</li>
+     *   <li>Maps each TaskEntity to a Task domain object, preserving the window positions</li>
+     * </ol>
+     *
+     * @param position the keyset position to continue from. Must not be null.
+     * @param sort the sort criteria. Must not be null.
+     * @param limit the maximum number of tasks to return. Must be positive.
+     * @return a {@link Window} of domain {@link Task} objects
+     */
+    @Override
+    public Window<Task> findAll(KeysetScrollPosition position, Sort sort, int limit) {
+        return jpaTaskRepository.findAllBy(position, sort, Limit.of(limit))
+                .map(taskEntityMapper::toTask);
+    }
+
+    /**
+     * Passes every task to the given action while scrolling a forward-only cursor.
+     *
+     * <p><strong>Operation Flow:</strong>
+     * <ol>
+     *   <li>Opens {@code FROM TaskEntity ORDER BY id} as a read-only
+     *       {@link ScrollMode#FORWARD_ONLY} {@link ScrollableResults} with the given fetch size</li>
+     *   <li>Maps each row to a Task domain object and passes it to the action; the
+     *       {@code taskList} association is not initialized, only its id is read</li>
+     *   <li>Clears the persistence context every {@code fetchSize} rows, so neither the
+     *       entities nor the task list proxies accumulate</li>
+     * </ol>
+     *
+     * <p><strong>MySQL:</strong>
+     * Connector/J only streams rows with a positive fetch size when {@code useCursorFetch=true}
+     * is set on the JDBC URL; otherwise the whole result set is buffered by the driver.
+     *
+     * @param fetchSize the number of rows fetched per round trip
+     * @param action the action invoked for each task
+     * @return the number of tasks passed to the action
+     */
+    @Override
+    public long forEachTask(int fetchSize, Consumer<? super Task> action) {
+        Session session = entityManager.unwrap(Session.class);
+        long count = 0;
+        try (ScrollableResults<TaskEntity> rows = session
+                .createSelectionQuery("FROM TaskEntity t ORDER BY t.id", TaskEntity.class)
+                .setReadOnly(true)
+                .setCacheMode(CacheMode.IGNORE)
+                .setFetchSize(fetchSize)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (rows.next()) {
+                action.accept(taskEntityMapper.toTask(rows.get()));
+                if (++count % fetchSize == 0) {
+                    session.clear();
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the tasks of every task list by completion status.
+     *
+     * <p>Calls {@code jpaTaskRepository.countByTaskListAndCompleted()} (one grouped query) and
+     * maps each row to a {@link TaskStatsCount}.
+     *
+     * @return one count per task list and completion status
+     */
+    @Override
+    public List<TaskStatsCount> countByTaskListAndCompleted() {
+        return jpaTaskRepository.countByTaskListAndCompleted().stream()
+                .map(row -> new TaskStatsCount(row.getTaskListId(), row.getCompleted(), row.getCount()))
+                .toList();
+    }
+
+    /**
+     * Counts the tasks of every task list created on each day since a timestamp.
+     *
+     * <p>Calls {@code jpaTaskRepository.countCreatedPerDay(since)} (one grouped query) and maps
+     * each row to a {@link TaskDailyCount}.
+     *
+     * @param since the earliest creation timestamp counted
+     * @return one count per task list and creation day
+     */
+    @Override
+    public List<TaskDailyCount> countCreatedPerDay(LocalDateTime since) {
+        return jpaTaskRepository.countCreatedPerDay(since).stream()
+                .map(row -> new TaskDailyCount(row.getTaskListId(), row.getDay(), row.getCount()))
+                .toList();
+    }
+
     /**
      * Retrieves a single task by its unique identifier.
      *
@@ -219,20 +564,39 @@ public class TaskRepository implements ITaskRepository {
                 .map(taskEntityMapper::toTask);
     }
 
+    /**
+     * Retrieves the tasks with the given IDs with a single {@code IN} query.
+     *
+     * @param ids the unique identifiers of the tasks to retrieve
+     * @return the domain {@link Task} objects found, in unspecified order
+     */
+    @Override
+    public List<Task> findAllById(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaTaskRepository.findAllById(ids).stream()
+                .map(taskEntityMapper::toTask)
+                .toList();
+    }
+
     /**
      * Saves a new task or updates an existing task in the database.
      *
      * <p><strong>Operation Flow:</strong>
      * <ol>
      *   <li>Converts the Task domain object to a TaskEntity using the mapper</li>
-     *   <li>Calls {@code jpaTaskRepository.save(entity)} for persistence</li>
+     *   <li>Calls {@code jpaTaskRepository.saveAndFlush(entity)}, so the statement runs and its
+     *       constraints are checked immediately</li>
+     *   <li>Translates constraint violations as {@link #updatePartially} does: a title already used
+     *       by an incomplete task becomes a {@link DuplicateTitleException}</li>
      *   <li>Converts the returned TaskEntity back to a Task domain object</li>
      *   <li>Returns the Task with all database-generated values populated</li>
      * </ol>
      *
      * <p><strong>Create vs Update Logic:</strong>
      * <ul>
-     *   <li><strong>Create (INSERT):</strong> If task.id is null, database generates a new UUID</li>
+     *   <li><strong>Create (INSERT):</strong> If task.id is null, Hibernate assigns a new UUIDv7 before the INSERT</li>
      *   <li><strong>Update (UPDATE):</strong> If task.id exists, the matching row is updated</li>
      *   <li>JPA Spring Data automatically determines whether to INSERT or UPDATE</li>
      * </ul>
@@ -240,7 +604,9 @@ public class TaskRepository implements ITaskRepository {
      * <p><strong>Database-Generated Values:</strong>
      * The following fields are populated by the database during save:
      * <ul>
-     *   <li>{@code id} - Auto-generated UUID for new tasks (GenerationType.UUID)</li>
+     *   <li>{@code id} - Time-ordered UUIDv7 for new tasks, generated in memory by
+     *       {@link com.nsalazar.quicktask.shared.infrastructure.database.id.UuidV7Generator}
+     *       and stored as {@code BINARY(16)}</li>
      *   <li>{@code createdAt} - Set by service layer before save</li>
      *   <li>{@code completed} - Defaults to FALSE if not explicitly set</li>
      * </ul>
@@ -265,7 +631,7 @@ public class TaskRepository implements ITaskRepository {
      *     .createdAt(LocalDateTime.now())
      *     .build();
      * Task saved = repository.save(newTask);
-     * // saved.getId() now contains the auto-generated UUID
+     * // saved.getId() now contains the generated UUIDv7
      * </pre>
      *
      * <p><strong>Example Usage - Update:</strong>
@@ -283,15 +649,21 @@ public class TaskRepository implements ITaskRepository {
      *         fields populated (id, timestamps, etc.). The returned object reflects the
      *         current state in the database.
      * @throws IllegalArgumentException if task is null
+     * @throws DuplicateTitleException if another incomplete task already has the title
+     * @throws ResourceNotFoundException if no task list exists with the task's task list ID
      *
      * @see Task
      * @see TaskEntity
      */
     @Override
     public Task save(Task task) {
-        TaskEntity taskEntity = taskEntityMapper.toTaskEntity(task);
-        TaskEntity savedEntity = jpaTaskRepository.save(taskEntity);
-        return taskEntityMapper.toTask(savedEntity);
+        TaskEntity taskEntity = toTaskEntity(task);
+        try {
+            TaskEntity savedEntity = jpaTaskRepository.saveAndFlush(taskEntity);
+            return taskEntityMapper.toTask(savedEntity);
+        } catch (DataIntegrityViolationException ex) {
+            throw translateViolation(ex, task.getTitle(), task.getTaskListId());
+        }
     }
 
     /**
@@ -429,12 +801,13 @@ public class TaskRepository implements ITaskRepository {
      * </ol>
      *
      * <p><strong>Business Logic:</strong>
-     * This method enforces the business rule that no two incomplete tasks can have the same title.
-     * It is used by the service layer to validate title uniqueness before creating or updating tasks.
+     * No two incomplete tasks can have the same title. The rule itself is enforced by the
+     * {@link TaskEntity#TITLE_UNIQUE_CONSTRAINT} unique index when tasks are written; this method
+     * only looks up the task holding a title.
      *
      * <p><strong>Query Type:</strong>
-     * Uses an indexed query on the title column for efficient lookups.
-     * The query only returns incomplete tasks (completed = false).
+     * Probes the unique index on the generated {@code active_title} column, which holds the title
+     * of incomplete tasks only.
      *
      * <p><strong>Return Value:</strong>
      * <ul>
@@ -443,19 +816,6 @@ public class TaskRepository implements ITaskRepository {
      *   <li>If task found but is completed: Empty Optional (not returned)</li>
      * </ul>
      *
-     * <p><strong>Handling the Result:</strong>
-     * <pre>
-     * Optional&lt;Task&gt; existingTask = repository.findByTitleAndNotCompleted(title);
-     * if (existingTask.isPresent()) {
-     *     // Title is already used by an incomplete task
-     *     throw new DuplicateTitleException("Title already exists");
-     * } else {
-     *     // Title is available, safe to create or use
-     *     Task newTask = new Task(title, description);
-     *     repository.save(newTask);
-     * }
-     * </pre>
-     *
      * <p><strong>Performance:</strong>
      * This query is efficient due to indexing on the title column.
      * Time complexity is O(log n) with proper database indexing.
@@ -482,4 +842,116 @@ public class TaskRepository implements ITaskRepository {
                 .map(taskEntityMapper::toTask);
     }
 
+    /**
+     * Retrieves all tasks that belong to any of the given task lists.
+     *
+     * <p><strong>Operation Flow:</strong>
+     * <ol>
+     *   <li>Returns an empty list immediately if no task list IDs are given</li>
+     *   <li>Calls {@code jpaTaskRepository.findAllByTaskListIdIn(taskListIds)} (single {@code IN} query)</li>
+     *   <li>Maps each TaskEntity to a Task domain object</li>
+     * </ol>
+     *
+     * <p><strong>Mapping Note:</strong>
+     * The {@code taskList} association is a lazy proxy; reading its identifier does not
+     * trigger an additional query.
+     *
+     * @param taskListIds the UUIDs of the task lists whose tasks should be loaded. Must not be null.
+     * @return a {@link List} of {@link Task} domain objects. Never null.
+     */
+    @Override
+    public List<Task> findAllByTaskListIdIn(Collection<UUID> taskListIds) {
+        if (taskListIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaTaskRepository.findAllByTaskListIdIn(taskListIds).stream()
+                .map(taskEntityMapper::toTask)
+                .toList();
+    }
+
+    /**
+     * Checks whether a data integrity violation was raised by the given constraint.
+     *
+     * <p>Prefers the constraint name extracted by Hibernate and falls back to the driver message.
+     * The comparison is a case-insensitive containment check because databases qualify or
+     * re-case constraint names differently (e.g. MySQL reports {@code tbl_tasks.uk_...}).
+     *
+     * @param ex the translated violation
+     * @param constraintName the constraint name as declared on {@link TaskEntity}
+     * @return {@code true} if the violation refers to the constraint
+     */
+    private boolean isViolationOf(DataIntegrityViolationException ex, String constraintName) {
+        String expected = constraintName.toLowerCase(Locale.ROOT);
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(expected);
+            }
+        }
+        String message = ex.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(expected);
+    }
+
+    /**
+     * Translates a constraint violation of a task write into the matching domain exception.
+     *
+     * @param ex the violation raised by the statement
+     * @param title the title that was written, or null if the title was kept, e.g. when a
+     *              completed task is reopened
+     * @param taskListId the task list ID that was written
+     * @return the domain exception to throw, or {@code ex} itself for any other violation
+     */
+    private RuntimeException translateViolation(DataIntegrityViolationException ex, String title, UUID taskListId) {
+        if (isViolationOf(ex, TaskEntity.TITLE_UNIQUE_CONSTRAINT)) {
+            return new DuplicateTitleException(title == null
+                    ? "Another task with the same title already exists and is incomplete"
+                    : String.format("A task with title '%s' already exists and is incomplete", title));
+        }
+        if (isViolationOf(ex, TaskEntity.TASK_LIST_FOREIGN_KEY)) {
+            return new ResourceNotFoundException("TaskList not found with id: " + taskListId);
+        }
+        return ex;
+    }
+
+    /**
+     * Translates a constraint violation of a batch write into the matching domain exception.
+     *
+     * <p>The batch is flushed as a whole, so the violating row is not known; the message names
+     * every title or task list ID that was written.
+     *
+     * @param ex the violation raised by the statements
+     * @param tasks the tasks that were written
+     * @return the domain exception to throw, or {@code ex} itself for any other violation
+     */
+    private RuntimeException translateViolation(DataIntegrityViolationException ex, List<Task> tasks) {
+        if (tasks.size() == 1) {
+            return translateViolation(ex, tasks.get(0).getTitle(), tasks.get(0).getTaskListId());
+        }
+        if (isViolationOf(ex, TaskEntity.TITLE_UNIQUE_CONSTRAINT)) {
+            return new DuplicateTitleException(String.format(
+                    "A task with one of the titles %s already exists and is incomplete",
+                    tasks.stream().map(Task::getTitle).distinct().toList()));
+        }
+        if (isViolationOf(ex, TaskEntity.TASK_LIST_FOREIGN_KEY)) {
+            return new ResourceNotFoundException("TaskList not found with one of the ids: "
+                    + tasks.stream().map(Task::getTaskListId).distinct().toList());
+        }
+        return ex;
+    }
+
+    /**
+     * Maps a task to its entity, replacing the id-only task list built by the mapper with a
+     * persistence context reference. The stub has no version and would otherwise be treated as
+     * a transient task list.
+     *
+     * @param task the domain task
+     * @return the entity to persist or merge
+     */
+    private TaskEntity toTaskEntity(Task task) {
+        TaskEntity taskEntity = taskEntityMapper.toTaskEntity(task);
+        if (taskEntity.getTaskList() != null) {
+            taskEntity.setTaskList(entityManager.getReference(TaskListEntity.class, taskEntity.getTaskList().getId()));
+        }
+        return taskEntity;
+    }
+
 }
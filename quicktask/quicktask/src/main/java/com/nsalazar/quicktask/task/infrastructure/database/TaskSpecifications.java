@@ -0,0 +1,90 @@
+package com.nsalazar.quicktask.task.infrastructure.database;
+
+import com.nsalazar.quicktask.task.domain.TaskFilter;
+import com.nsalazar.quicktask.task.infrastructure.database.entity.TaskEntity;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Factory of the JPA {@link Specification}s used by the filtered task search.
+ *
+ * <p>Only the criteria present in the {@link TaskFilter} become predicates, so the generated
+ * {@code WHERE} clause matches one of the index-backed shapes documented in
+ * {@code db/migration/003_task_search_indexes.sql}:
+ * <ul>
+ *   <li>equality on {@code task_list_id} and {@code completed}</li>
+ *   <li>half-open ranges {@code [after, before)} on {@code created_at} and {@code updated_at}</li>
+ *   <li>{@code title LIKE 'prefix%'}, which MySQL resolves as a range on {@code idx_tasks_title}</li>
+ * </ul>
+ * The task list is filtered by its foreign key column, so no join with {@code tbl_task_lists}
+ * is added.
+ *
+ * @author nsalazar
+ * @see TaskRepository#findAll(TaskFilter, org.springframework.data.domain.Pageable)
+ */
+final class TaskSpecifications {
+
+    /**
+     * Escape character of the title prefix pattern. A backslash is avoided because MySQL also
+     * treats it as an escape character inside string literals.
+     */
+    static final char LIKE_ESCAPE = '!';
+
+    private TaskSpecifications() {
+    }
+
+    /**
+     * Builds a specification matching the tasks that satisfy every criterion of the filter.
+     *
+     * @param filter the search criteria
+     * @return the specification; matches every task if the filter is empty
+     */
+    static Specification<TaskEntity> matching(TaskFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getTaskListId() != null) {
+                predicates.add(cb.equal(root.get("taskList").get("id"), filter.getTaskListId()));
+            }
+            if (filter.getCompleted() != null) {
+                predicates.add(cb.equal(root.get("completed"), filter.getCompleted()));
+            }
+            if (filter.getCreatedAfter() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), filter.getCreatedAfter()));
+            }
+            if (filter.getCreatedBefore() != null) {
+                predicates.add(cb.lessThan(root.get("createdAt"), filter.getCreatedBefore()));
+            }
+            if (filter.getUpdatedAfter() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("updatedAt"), filter.getUpdatedAfter()));
+            }
+            if (filter.getUpdatedBefore() != null) {
+                predicates.add(cb.lessThan(root.get("updatedAt"), filter.getUpdatedBefore()));
+            }
+            if (filter.getTitle() != null) {
+                predicates.add(cb.like(root.get("title"), likePrefix(filter.getTitle()), LIKE_ESCAPE));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Turns a literal prefix into a {@code LIKE} pattern, escaping the wildcard characters.
+     *
+     * @param prefix the literal title prefix
+     * @return the pattern {@code prefix%}
+     */
+    static String likePrefix(String prefix) {
+        StringBuilder pattern = new StringBuilder(prefix.length() + 1);
+        for (char c : prefix.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.nsalazar.quicktask.task.infrastructure.database;
+
+import com.nsalazar.quicktask.task.domain.repository.ITaskStatsRepository;
+import com.nsalazar.quicktask.task.domain.stats.TaskStats;
+import com.nsalazar.quicktask.task.infrastructure.database.entity.TaskStatsDailyEntity;
+import com.nsalazar.quicktask.task.infrastructure.database.entity.TaskStatsEntity;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Repository implementation of {@link ITaskStatsRepository} backed by {@code tbl_task_stats} and
+ * {@code tbl_task_stats_daily}.
+ *
+ * <p>Saving replaces the rows of the given scopes: they are removed with one bulk {@code DELETE}
+ * per table and inserted again with JDBC batching. The scope ids are assigned, so inserting
+ * through {@code persist} avoids the {@code SELECT} that {@code save} would issue per row.
+ *
+ * @author nsalazar
+ * @see IJPATaskStatsRepository
+ * @see IJPATaskStatsDailyRepository
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskStatsRepository implements ITaskStatsRepository {
+
+    private final IJPATaskStatsRepository jpaTaskStatsRepository;
+    private final IJPATaskStatsDailyRepository jpaTaskStatsDailyRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * Loads every saved scope with one query per table.
+     *
+     * @return the saved statistics by scope
+     */
+    @Override
+    public Map<UUID, TaskStats> findAll() {
+        Map<UUID, SortedMap<LocalDate, Long>> createdPerDayByScope = new HashMap<>();
+        for (TaskStatsDailyEntity daily : jpaTaskStatsDailyRepository.findAll()) {
+            createdPerDayByScope.computeIfAbsent(daily.getScopeId(), scopeId -> new TreeMap<>())
+                    .put(daily.getStatDate(), daily.getCreatedCount());
+        }
+        Map<UUID, TaskStats> stats = new HashMap<>();
+        for (TaskStatsEntity scope : jpaTaskStatsRepository.findAll()) {
+            stats.put(scope.getScopeId(), new TaskStats(scope.getTotal(), scope.getCompleted(),
+                    createdPerDayByScope.getOrDefault(scope.getScopeId(), new TreeMap<>())));
+        }
+        return stats;
+    }
+
+    /**
+     * Deletes the rows of every given scope and inserts the new counts.
+     *
+     * <p>Must be called within a transaction.
+     *
+     * @param stats the statistics to save, by scope
+     * @param removedScopes the scopes to remove
+     */
+    @Override
+    public void saveAll(Map<UUID, TaskStats> stats, Collection<UUID> removedScopes) {
+        Set<UUID> scopeIds = new HashSet<>(stats.keySet());
+        scopeIds.addAll(removedScopes);
+        if (scopeIds.isEmpty()) {
+            return;
+        }
+        jpaTaskStatsDailyRepository.deleteAllByScopeIdIn(scopeIds);
+        jpaTaskStatsRepository.deleteAllByScopeIdIn(scopeIds);
+
+        LocalDateTime savedAt = LocalDateTime.now();
+        stats.forEach((scopeId, scopeStats) -> {
+            entityManager.persist(new TaskStatsEntity(scopeId, scopeStats.getTotal(), scopeStats.getCompleted(), savedAt));
+            scopeStats.getCreatedPerDay().forEach((day, created) ->
+                    entityManager.persist(new TaskStatsDailyEntity(scopeId, day, created)));
+        });
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+}
@@ -1,8 +1,10 @@
 package com.nsalazar.quicktask.task.infrastructure.database.entity;
 
+import com.nsalazar.quicktask.shared.infrastructure.database.id.UuidV7Generator;
 import com.nsalazar.quicktask.tasklist.infrastructure.database.entity.TaskListEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -24,7 +26,7 @@ import java.util.UUID;
  * <p><strong>Database Mapping:</strong>
  * <ul>
  *   <li>Table Name: {@code tbl_tasks}</li>
- *   <li>Primary Key: {@code id} (UUID, auto-generated)</li>
+ *   <li>Primary Key: {@code id} (UUIDv7 stored as {@code BINARY(16)}, auto-generated)</li>
  *   <li>All columns have explicit database names using snake_case naming convention</li>
  *   <li>Constraints are enforced at both entity and database levels</li>
  * </ul>
@@ -41,9 +43,14 @@ import java.util.UUID;
  * <ul>
  *   <li>{@code @Entity} - Marks this class as a JPA entity</li>
  *   <li>{@code @Table} - Specifies the database table name and constraints</li>
- *   <li>{@code @UniqueConstraint} - Enforces unique title. Validation for incomplete-only restriction is handled in service layer</li>
+ *   <li>{@code @UniqueConstraint} - Enforces unique titles among incomplete tasks through the generated
+ *       {@code active_title} column, which is {@code NULL} for completed tasks</li>
+ *   <li>{@code @Index} - Composite {@code (created_at, id)} index backing keyset pagination by creation date</li>
+ *   <li>{@code @Index} - {@code (task_list_id, completed, created_at)}, {@code (completed, created_at)} and
+ *       {@code (updated_at)} indexes backing the filtered search; {@code (title)} backs the title
+ *       prefix filter</li>
  *   <li>{@code @Id} - Marks the id field as the primary key</li>
- *   <li>{@code @GeneratedValue} - Specifies UUID auto-generation strategy</li>
+ *   <li>{@code @GeneratedValue} / {@code @UuidGenerator} - Generates time-ordered UUIDv7 identifiers</li>
  *   <li>{@code @Column} - Specifies database column properties (name, constraints, length)</li>
  * </ul>
  *
@@ -88,8 +95,30 @@ import java.util.UUID;
     name = "tbl_tasks",
     uniqueConstraints = {
         @UniqueConstraint(
-            name = "uk_title_incomplete_tasks",
-            columnNames = {"title"}
+            name = TaskEntity.TITLE_UNIQUE_CONSTRAINT,
+            columnNames = {"active_title"}
+        )
+    },
+    indexes = {
+        @Index(
+            name = "idx_tasks_created_at_id",
+            columnList = "created_at, id"
+        ),
+        @Index(
+            name = "idx_tasks_list_completed_created",
+            columnList = "task_list_id, completed, created_at"
+        ),
+        @Index(
+            name = "idx_tasks_completed_created",
+            columnList = "completed, created_at"
+        ),
+        @Index(
+            name = "idx_tasks_updated_at",
+            columnList = "updated_at"
+        ),
+        @Index(
+            name = "idx_tasks_title",
+            columnList = "title"
         )
     }
 )
@@ -97,24 +126,42 @@ import java.util.UUID;
 @NoArgsConstructor
 public class TaskEntity {
 
+    /**
+     * Name of the unique constraint on the {@code active_title} column.
+     *
+     * <p>Referenced when translating constraint violations of inserts and bulk updates into
+     * {@link com.nsalazar.quicktask.task.application.exception.DuplicateTitleException}.
+     */
+    public static final String TITLE_UNIQUE_CONSTRAINT = "uk_title_incomplete_tasks";
+
+    /**
+     * Name of the foreign key from {@code task_list_id} to {@code tbl_task_lists}.
+     *
+     * <p>Referenced when translating constraint violations of bulk updates into
+     * {@link com.nsalazar.quicktask.shared.exception.ResourceNotFoundException}.
+     */
+    public static final String TASK_LIST_FOREIGN_KEY = "fk_tasks_task_list";
+
     /**
      * The unique identifier of the task.
      *
      * <p><strong>Database Properties:</strong>
      * <ul>
-     *   <li>Type: UUID (universally unique identifier)</li>
-     *   <li>Strategy: AUTO-GENERATED using UUID strategy</li>
+     *   <li>Type: UUID (universally unique identifier), stored as {@code BINARY(16)}</li>
+     *   <li>Strategy: AUTO-GENERATED using the time-ordered {@link UuidV7Generator}</li>
      *   <li>Primary Key: Yes - uniquely identifies each task record</li>
      *   <li>Column Name: {@code id}</li>
      *   <li>Nullable: No (enforced by @Id annotation)</li>
      * </ul>
      *
      * <p><strong>Generation Details:</strong>
-     * The UUID is automatically generated by the database using the {@code GenerationType.UUID}
-     * strategy. This creates a universally unique 128-bit identifier in standard UUID format.
+     * The UUID is generated by Hibernate before the INSERT using {@link UuidV7Generator}, which
+     * produces monotonic UUIDv7 values. Their leading 48 bits are the creation timestamp in
+     * milliseconds, so new rows are appended at the end of InnoDB's clustered index instead of
+     * being scattered across it (no page splits, better buffer pool locality).
      *
      * <p><strong>Format Example:</strong>
-     * {@code f47ac10b-58cc-4372-a567-0e02b2c3d479}
+     * {@code 0194b3c2-7f1a-7a3c-9d2e-5b8f0c1d2e3f}
      *
      * <p><strong>Lifecycle:</strong>
      * <ul>
@@ -128,7 +175,9 @@ public class TaskEntity {
      * It is exposed in API responses and used in URL paths like {@code /api/v1/tasks/{id}}
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedValue
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    @Column(name = "id", columnDefinition = "BINARY(16)", nullable = false, updatable = false)
     private UUID id;
 
     /**
@@ -140,26 +189,25 @@ public class TaskEntity {
      *   <li>Column Name: {@code title}</li>
      *   <li>Nullable: No - must always have a value</li>
      *   <li>Length: Maximum 50 characters</li>
-     *   <li>Unique: Yes - no two tasks can have the same title</li>
-     *   <li>Index: Included in unique constraint for efficient lookup</li>
+     *   <li>Unique: Among incomplete tasks only, through {@link #activeTitle}</li>
+     *   <li>Index: {@code idx_tasks_title}, used by the title prefix filter</li>
      * </ul>
      *
      * <p><strong>Validation & Constraints:</strong>
      * <ul>
      *   <li>NOT NULL constraint enforced at database level</li>
-     *   <li>UNIQUE constraint enforced at database level</li>
+     *   <li>Uniqueness among incomplete tasks enforced at database level by {@link #TITLE_UNIQUE_CONSTRAINT}</li>
      *   <li>Length constraint enforced at database level (50 chars)</li>
      *   <li>Values longer than 50 characters will be truncated by the database</li>
-     *   <li>Service layer validates that title is not duplicated for incomplete tasks</li>
-     *   <li>Service layer should validate before persistence to avoid data loss and constraint violations</li>
+     *   <li>Service layer should validate before persistence to avoid data loss</li>
      * </ul>
      *
      * <p><strong>Business Rule:</strong>
      * <ul>
      *   <li>Cannot have two incomplete (completed = false) tasks with the same title</li>
      *   <li>Completed tasks can have duplicate titles (archived tasks don't count)</li>
-     *   <li>The service layer enforces this business rule via validation before persistence</li>
-     *   <li>Duplicate constraint violations trigger a business exception in the service layer</li>
+     *   <li>The database enforces this business rule with one unique index probe per insert or update</li>
+     *   <li>Duplicate constraint violations are translated into a business exception by the repository</li>
      * </ul>
      *
      * <p><strong>Data Characteristics:</strong>
@@ -176,8 +224,7 @@ public class TaskEntity {
      *
      * <p><strong>Mapping Note:</strong>
      * This field is mapped from the domain Task.title property during entity creation
-     * and mapping. The service layer is responsible for setting this before persistence
-     * and validating the uniqueness rule.
+     * and mapping. The service layer is responsible for setting this before persistence.
      */
     @Column(name = "title", nullable = false, length = 50)
     private String title;
@@ -399,8 +446,51 @@ public class TaskEntity {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * Optimistic locking version of the task.
+     *
+     * <p><strong>Database Properties:</strong>
+     * <ul>
+     *   <li>Column Name: {@code version}</li>
+     *   <li>Type: BIGINT</li>
+     *   <li>Nullable: No - starts at 0 when the task is inserted</li>
+     * </ul>
+     *
+     * <p><strong>Lifecycle:</strong>
+     * Hibernate increments it on every entity update and rejects stale merges with an
+     * {@code OptimisticLockException}. Bulk JPQL updates bypass this mechanism, so every bulk
+     * {@code UPDATE} in {@code IJPATaskRepository} increments the column explicitly.
+     *
+     * <p><strong>Usage:</strong>
+     * Exposed to clients as the strong ETag of the task and checked against {@code If-Match}
+     * on conditional updates.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "task_list_id")
+    @JoinColumn(name = "task_list_id", foreignKey = @ForeignKey(name = TaskEntity.TASK_LIST_FOREIGN_KEY))
     private TaskListEntity taskList;
 
+    /**
+     * The title of the task while it is incomplete, {@code NULL} once it is completed.
+     *
+     * <p><strong>Database Properties:</strong>
+     * <ul>
+     *   <li>Type: VARCHAR(50), generated by the database from {@code completed} and {@code title}</li>
+     *   <li>Column Name: {@code active_title}</li>
+     *   <li>Unique: Yes ({@link #TITLE_UNIQUE_CONSTRAINT}); unique indexes accept any number of
+     *       {@code NULL}s, so completed tasks may share a title</li>
+     * </ul>
+     *
+     * <p><strong>Usage:</strong>
+     * Never written by Hibernate. Inserting or updating a task probes the unique index once, so
+     * duplicate titles are rejected atomically without a preceding {@code SELECT}; title lookups
+     * among incomplete tasks query this column to use the same index.
+     */
+    @Column(name = "active_title", length = 50, insertable = false, updatable = false,
+            columnDefinition = "VARCHAR(50) GENERATED ALWAYS AS (CASE WHEN completed THEN NULL ELSE title END)")
+    private String activeTitle;
+
 }
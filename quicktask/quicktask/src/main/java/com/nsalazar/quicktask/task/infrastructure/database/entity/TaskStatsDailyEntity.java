@@ -0,0 +1,64 @@
+package com.nsalazar.quicktask.task.infrastructure.database.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * JPA Entity holding the saved number of tasks of one statistics scope created on one day.
+ *
+ * <p>Maps to {@code tbl_task_stats_daily}, keyed by {@code (scope_id, stat_date)}. Only days of
+ * the retained window are saved.
+ *
+ * @author nsalazar
+ * @see TaskStatsEntity
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "tbl_task_stats_daily")
+@IdClass(TaskStatsDailyEntity.Key.class)
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskStatsDailyEntity {
+
+    /**
+     * The task list id of the scope, or the nil UUID for all tasks.
+     */
+    @Id
+    @Column(name = "scope_id", columnDefinition = "BINARY(16)", nullable = false, updatable = false)
+    private UUID scopeId;
+
+    /**
+     * The creation day counted.
+     */
+    @Id
+    @Column(name = "stat_date", nullable = false, updatable = false)
+    private LocalDate statDate;
+
+    /**
+     * The number of tasks of the scope created on that day.
+     */
+    @Column(name = "created_count", nullable = false)
+    private long createdCount;
+
+    /**
+     * Composite primary key of {@link TaskStatsDailyEntity}.
+     */
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+
+        private UUID scopeId;
+
+        private LocalDate statDate;
+
+    }
+
+}
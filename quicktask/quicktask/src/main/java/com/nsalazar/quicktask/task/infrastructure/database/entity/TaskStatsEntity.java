@@ -0,0 +1,55 @@
+package com.nsalazar.quicktask.task.infrastructure.database.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity holding the saved task counts of one statistics scope.
+ *
+ * <p>Maps to {@code tbl_task_stats}. A scope is a task list, or the nil UUID for the counts of
+ * all tasks (see {@link com.nsalazar.quicktask.task.domain.repository.ITaskStatsRepository#GLOBAL_SCOPE}).
+ * The per-day creation counts of the scope are stored in {@link TaskStatsDailyEntity}. Rows are
+ * written by the periodic save of the in-memory counters only; there is no foreign key to
+ * {@code tbl_task_lists}, so deleting a task list never waits for this table.
+ *
+ * @author nsalazar
+ * @see TaskStatsDailyEntity
+ * @see com.nsalazar.quicktask.task.infrastructure.database.TaskStatsRepository
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "tbl_task_stats")
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskStatsEntity {
+
+    /**
+     * The task list id of the scope, or the nil UUID for all tasks.
+     */
+    @Id
+    @Column(name = "scope_id", columnDefinition = "BINARY(16)", nullable = false, updatable = false)
+    private UUID scopeId;
+
+    /**
+     * The number of tasks in the scope.
+     */
+    @Column(name = "total", nullable = false)
+    private long total;
+
+    /**
+     * The number of completed tasks in the scope.
+     */
+    @Column(name = "completed", nullable = false)
+    private long completed;
+
+    /**
+     * When the counts were saved.
+     */
+    @Column(name = "saved_at", nullable = false)
+    private LocalDateTime savedAt;
+
+}
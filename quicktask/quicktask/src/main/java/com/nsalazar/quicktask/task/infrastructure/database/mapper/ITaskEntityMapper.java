@@ -1,7 +1,9 @@
 package com.nsalazar.quicktask.task.infrastructure.database.mapper;
 
 import com.nsalazar.quicktask.task.domain.Task;
+import com.nsalazar.quicktask.task.domain.TaskDetail;
 import com.nsalazar.quicktask.task.infrastructure.database.entity.TaskEntity;
+import com.nsalazar.quicktask.task.infrastructure.database.projection.TaskDetailProjection;
 import com.nsalazar.quicktask.tasklist.infrastructure.database.entity.TaskListEntity;
 import org.mapstruct.*;
 
@@ -135,7 +137,7 @@ public interface ITaskEntityMapper {
      * @see Task
      */
     @Mapping(target = "taskListId", ignore = true)
-    @BeanMapping(ignoreUnmappedSourceProperties = {"taskList"})
+    @BeanMapping(ignoreUnmappedSourceProperties = {"taskList", "activeTitle"})
     Task toTask(TaskEntity taskEntity);
 
     @AfterMapping
@@ -170,6 +172,7 @@ public interface ITaskEntityMapper {
      *   <li>{@code createdAt} (LocalDateTime) → {@code createdAt} (LocalDateTime)</li>
      *   <li>{@code updatedAt} (LocalDateTime) → {@code updatedAt} (LocalDateTime)</li>
      *   <li>{@code taskListId} (UUID) → {@code taskList} (TaskListEntity) - handled via @AfterMapping</li>
+     *   <li>{@code activeTitle} is not mapped; the database generates it</li>
      * </ul>
      *
      * @param task the domain {@link Task} object to convert.
@@ -183,6 +186,7 @@ public interface ITaskEntityMapper {
      * @see TaskEntity
      */
     @Mapping(target = "taskList", ignore = true)
+    @Mapping(target = "activeTitle", ignore = true)
     @BeanMapping(ignoreUnmappedSourceProperties = {"taskListId"})
     TaskEntity toTaskEntity(Task task);
 
@@ -196,5 +200,16 @@ public interface ITaskEntityMapper {
         }
     }
 
-}
 
+    /**
+     * Converts a detail projection row to a TaskDetail domain read model.
+     *
+     * <p>All properties are mapped by name; the task list columns come from the left join of the
+     * detail query and are {@code null} when the task is not assigned to a list.
+     *
+     * @param projection the projection row returned by the detail query
+     * @return the domain TaskDetail object
+     */
+    TaskDetail toTaskDetail(TaskDetailProjection projection);
+
+}
@@ -0,0 +1,23 @@
+package com.nsalazar.quicktask.task.infrastructure.database.projection;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Spring Data interface projection for the task counts grouped by task list and creation day.
+ *
+ * <p>Backs {@link com.nsalazar.quicktask.task.infrastructure.database.IJPATaskRepository#countCreatedPerDay(java.time.LocalDateTime)}.
+ * Each getter matches a column alias of the JPQL query.
+ *
+ * @author nsalazar
+ * @see com.nsalazar.quicktask.task.domain.stats.TaskDailyCount
+ */
+public interface TaskDailyCountProjection {
+
+    UUID getTaskListId();
+
+    LocalDate getDay();
+
+    Long getCount();
+
+}
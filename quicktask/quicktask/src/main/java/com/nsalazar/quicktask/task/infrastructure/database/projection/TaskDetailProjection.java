@@ -0,0 +1,40 @@
+package com.nsalazar.quicktask.task.infrastructure.database.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Spring Data interface projection for the task detail query.
+ *
+ * <p>Backs {@link com.nsalazar.quicktask.task.infrastructure.database.IJPATaskRepository#findDetailById}.
+ * Each getter matches a column alias of the JPQL query, which left-joins the task list so the
+ * task and the basic information of its list are read in a single statement.
+ *
+ * @author nsalazar
+ * @see com.nsalazar.quicktask.task.domain.TaskDetail
+ */
+public interface TaskDetailProjection {
+
+    UUID getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    Boolean getCompleted();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    Long getVersion();
+
+    UUID getTaskListId();
+
+    String getTaskListName();
+
+    String getTaskListDescription();
+
+    Long getTaskListVersion();
+
+}
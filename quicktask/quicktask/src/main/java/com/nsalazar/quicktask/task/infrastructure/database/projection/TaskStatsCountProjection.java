@@ -0,0 +1,22 @@
+package com.nsalazar.quicktask.task.infrastructure.database.projection;
+
+import java.util.UUID;
+
+/**
+ * Spring Data interface projection for the task counts grouped by task list and completion status.
+ *
+ * <p>Backs {@link com.nsalazar.quicktask.task.infrastructure.database.IJPATaskRepository#countByTaskListAndCompleted()}.
+ * Each getter matches a column alias of the JPQL query.
+ *
+ * @author nsalazar
+ * @see com.nsalazar.quicktask.task.domain.stats.TaskStatsCount
+ */
+public interface TaskStatsCountProjection {
+
+    UUID getTaskListId();
+
+    Boolean getCompleted();
+
+    Long getCount();
+
+}
@@ -1,25 +1,50 @@
 package com.nsalazar.quicktask.task.infrastructure.restcontroller;
 
 import com.nsalazar.quicktask.shared.exception.ResourceNotFoundException;
+import com.nsalazar.quicktask.shared.infrastructure.restcontroller.ETags;
+import com.nsalazar.quicktask.shared.infrastructure.restcontroller.PageDTOResponse;
+import com.nsalazar.quicktask.shared.infrastructure.restcontroller.PaginationProperties;
+import com.nsalazar.quicktask.task.application.ITaskImportService;
+import com.nsalazar.quicktask.task.application.ITaskSearchService;
 import com.nsalazar.quicktask.task.application.ITaskService;
+import com.nsalazar.quicktask.task.application.dto.request.TaskDTOBatchCreateRequest;
 import com.nsalazar.quicktask.task.application.dto.request.TaskDTOCreateRequest;
+import com.nsalazar.quicktask.task.application.dto.request.TaskDTOFilterRequest;
 import com.nsalazar.quicktask.task.application.dto.request.TaskDTOUpdateRequest;
+import com.nsalazar.quicktask.task.application.dto.response.TaskBatchDTOResponse;
+import com.nsalazar.quicktask.task.application.dto.response.TaskCursorPageDTOResponse;
 import com.nsalazar.quicktask.task.application.dto.response.TaskDTOResponse;
 import com.nsalazar.quicktask.task.application.dto.response.TaskDetailDTOResponse;
+import com.nsalazar.quicktask.task.application.dto.response.TaskImportDTOResponse;
+import com.nsalazar.quicktask.task.application.dto.response.TaskMultiGetDTOResponse;
+import com.nsalazar.quicktask.task.application.dto.response.TaskSearchDTOResponse;
 import jakarta.validation.Valid;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.SortDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.OptionalLong;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * REST controller for managing tasks.
@@ -33,8 +58,13 @@ import java.util.UUID;
  * <p><strong>Supported Operations:</strong>
  * <ul>
  *   <li>GET {@code /api/v1/tasks} - Retrieve paginated list of tasks</li>
+ *   <li>GET {@code /api/v1/tasks?cursor=...} - Retrieve a keyset-paginated slice of tasks</li>
+ *   <li>GET {@code /api/v1/tasks?ids=...} - Retrieve many tasks by ID in one request</li>
+ *   <li>GET {@code /api/v1/tasks/export} - Stream all tasks as NDJSON or CSV</li>
  *   <li>GET {@code /api/v1/tasks/{id}} - Retrieve a specific task by ID</li>
  *   <li>POST {@code /api/v1/tasks} - Create a new task</li>
+ *   <li>POST {@code /api/v1/tasks/batch} - Create many tasks in one request</li>
+ *   <li>POST {@code /api/v1/tasks/import} - Import tasks from an NDJSON or CSV file</li>
  *   <li>PUT {@code /api/v1/tasks/{id}} - Update an existing task</li>
  *   <li>DELETE {@code /api/v1/tasks/{id}} - Delete a task</li>
  * </ul>
@@ -63,6 +93,32 @@ public class TaskController {
      */
     private final ITaskService taskService;
 
+    /**
+     * Service importing task files in batches.
+     */
+    private final ITaskImportService taskImportService;
+
+    /**
+     * Service answering full-text searches from the in-memory index.
+     */
+    private final ITaskSearchService taskSearchService;
+
+    /**
+     * JSON mapper configured by Spring Boot, used to write NDJSON export records with the same
+     * representation as the other endpoints.
+     */
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Pagination settings choosing between an exact, approximate or omitted total.
+     */
+    private final PaginationProperties paginationProperties;
+
+    /**
+     * Size of the gzip buffer of the export stream.
+     */
+    private static final int EXPORT_BUFFER_SIZE = 8 * 1024;
+
     /**
      * Retrieves a paginated list of all tasks.
      *
@@ -81,33 +137,252 @@ public class TaskController {
      *   <li>{@code sort} - Sort criteria in format: {@code property,asc|desc} (default: {@code id,asc})</li>
      * </ul>
      *
-     * <p><strong>Example Request:</strong><br>
-     * {@code GET /api/v1/tasks?page=0&size=10&sort=createdAt,desc}
+     * <p><strong>Filter Parameters (optional, combined with AND):</strong>
+     * <ul>
+     *   <li>{@code taskListId} - Only tasks of this task list</li>
+     *   <li>{@code completed} - Only tasks with this completion status</li>
+     *   <li>{@code createdAfter} / {@code createdBefore} - Creation range {@code [after, before)} in ISO-8601</li>
+     *   <li>{@code updatedAfter} / {@code updatedBefore} - Last update range {@code [after, before)} in ISO-8601</li>
+     *   <li>{@code title} - Title prefix</li>
+     * </ul>
+     * When at least one filter is present, no match returns an empty page instead of 404.
      *
+     * <p><strong>Totals:</strong> depending on {@code quicktask.pagination.endpoints.[GET\ /api/v1/tasks]},
+     * {@code totalElements} is an exact {@code COUNT(*)} ({@code exact}), an estimate read from the
+     * task statistics and flagged with {@code approximateTotal} ({@code approximate}; omitted when a
+     * title or timestamp filter is present), or omitted ({@code none}). Only {@code exact} runs a
+     * count query.
+     *
+     * <p><strong>Example Requests:</strong><br>
+     * {@code GET /api/v1/tasks?page=0&size=10&sort=createdAt,desc}<br>
+     * {@code GET /api/v1/tasks?taskListId=018f3a2b-...&completed=false&createdAfter=2024-01-01T00:00:00}
+     *
+     * @param filter the optional filters bound from the query parameters. Validated with {@code @Valid}.
      * @param pageable the pagination and sorting information, including page number, page size, and sort criteria.
      *                 Default: page=0, size=20, sort=id ascending
-     * @return a {@link ResponseEntity} containing a {@link Page} of {@link TaskDTOResponse} objects
+     * @return a {@link ResponseEntity} containing a {@link PageDTOResponse} of {@link TaskDTOResponse} objects
      *         with HTTP status 200 OK
-     * @throws ResourceNotFoundException if no tasks exist in the database
-     * @see Page
+     * @throws ResourceNotFoundException if no filter is given and no tasks exist in the database
+     * @throws IllegalArgumentException if a timestamp range is empty
+     * @see PageDTOResponse
      * @see Pageable
      * @see TaskDTOResponse
      */
     @GetMapping
-    public ResponseEntity<Page<TaskDTOResponse>> getAll(
+    public ResponseEntity<PageDTOResponse<TaskDTOResponse>> getAll(
+            @Valid TaskDTOFilterRequest filter,
             @PageableDefault(size = 20)
             @SortDefault.SortDefaults({
                     @SortDefault(sort = "id", direction = Sort.Direction.ASC)
             })
             Pageable pageable) {
-        log.info("GET /api/v1/tasks - Retrieving all tasks | page={}, size={}, sort={}",
-                pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
-        Page<TaskDTOResponse> result = taskService.getAll(pageable);
-        log.info("GET /api/v1/tasks - Successfully retrieved {} tasks (page {} of {})",
-                result.getNumberOfElements(), result.getNumber() + 1, result.getTotalPages());
+        log.info("GET /api/v1/tasks - Retrieving all tasks | filter={}, page={}, size={}, sort={}",
+                filter, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        PaginationProperties.Totals totals = paginationProperties.totalsFor("GET", "/api/v1/tasks");
+        if (totals == PaginationProperties.Totals.EXACT) {
+            Page<TaskDTOResponse> result = isEmpty(filter)
+                    ? taskService.getAll(pageable)
+                    : taskService.search(filter, pageable);
+            log.info("GET /api/v1/tasks - Successfully retrieved {} tasks (page {} of {})",
+                    result.getNumberOfElements(), result.getNumber() + 1, result.getTotalPages());
+            return ResponseEntity.ok(PageDTOResponse.of(result));
+        }
+        Slice<TaskDTOResponse> result = isEmpty(filter)
+                ? taskService.getSlice(pageable)
+                : taskService.searchSlice(filter, pageable);
+        Long total = null;
+        if (totals == PaginationProperties.Totals.APPROXIMATE) {
+            OptionalLong estimate = taskService.estimateTotal(filter);
+            total = estimate.isPresent() ? estimate.getAsLong() : null;
+        }
+        log.info("GET /api/v1/tasks - Successfully retrieved {} tasks (page {}, hasNext: {}, total: {})",
+                result.getNumberOfElements(), result.getNumber() + 1, result.hasNext(), total);
+        return ResponseEntity.ok(PageDTOResponse.of(result, total));
+    }
+
+    /**
+     * Retrieves a slice of tasks using keyset (cursor-based) pagination.
+     *
+     * <p><strong>HTTP Method:</strong> GET
+     * <p><strong>Endpoint:</strong> {@code GET /api/v1/tasks?cursor=...}
+     * <p><strong>Response Status:</strong> 200 OK
+     *
+     * <p>This endpoint is selected whenever the {@code cursor} parameter is present. It returns
+     * a slice without a total count and reads it with an indexed range predicate, so its cost
+     * stays proportional to the slice size no matter how deep the client has scrolled.
+     *
+     * <p><strong>Parameters:</strong>
+     * <ul>
+     *   <li>{@code cursor} - Empty for the first slice, then the {@code nextCursor} of the previous response</li>
+     *   <li>{@code size} - Number of items per slice (default: 20, maximum: 100)</li>
+     *   <li>{@code sort} - Only for the first slice; one of {@code id}, {@code createdAt} or {@code title}
+     *       with {@code asc|desc} (default: {@code id,asc})</li>
+     * </ul>
+     *
+     * <p><strong>Example Requests:</strong><br>
+     * {@code GET /api/v1/tasks?cursor=&size=50&sort=createdAt,desc}<br>
+     * {@code GET /api/v1/tasks?cursor=Y3JlYXRlZEF0OkRFU0M6...&size=50}
+     *
+     * @param cursor the continuation token of the previous slice, or empty for the first slice
+     * @param size the maximum number of tasks to return. Default: 20
+     * @param sort the sort criteria of the first slice. Default: id ascending
+     * @return a {@link ResponseEntity} containing a {@link TaskCursorPageDTOResponse} with HTTP status 200 OK
+     * @throws ResourceNotFoundException if no tasks exist in the database
+     * @throws IllegalArgumentException if the cursor, sort or size are invalid
+     * @see TaskCursorPageDTOResponse
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<TaskCursorPageDTOResponse> getAllByCursor(
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @SortDefault(sort = "id", direction = Sort.Direction.ASC)
+            Sort sort) {
+        log.info("GET /api/v1/tasks - Retrieving tasks by cursor | size={}, sort={}, firstSlice={}",
+                size, sort, cursor.isBlank());
+        TaskCursorPageDTOResponse result = taskService.getAllByCursor(cursor, sort, size);
+        log.info("GET /api/v1/tasks - Successfully retrieved {} tasks by cursor (hasNext: {})",
+                result.getContent().size(), result.isHasNext());
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Retrieves many tasks by their unique identifiers in one request.
+     *
+     * <p><strong>HTTP Method:</strong> GET
+     * <p><strong>Endpoint:</strong> {@code GET /api/v1/tasks?ids=...}
+     * <p><strong>Response Status:</strong> 200 OK
+     *
+     * <p>This endpoint is selected whenever the {@code ids} parameter is present. All tasks and
+     * their task list info are read with a single query instead of one {@code GET /api/v1/tasks/{id}}
+     * per task. The tasks are returned in request order; ids without a task are listed in
+     * {@code missingIds} instead of failing the request.
+     *
+     * <p><strong>Parameters:</strong>
+     * <ul>
+     *   <li>{@code ids} - Comma-separated or repeated task UUIDs (1 to {@value ITaskService#MAX_MULTI_GET_IDS} distinct ids)</li>
+     * </ul>
+     *
+     * <p><strong>Example Request:</strong><br>
+     * {@code GET /api/v1/tasks?ids=f47ac10b-58cc-4372-a567-0e02b2c3d479,0b7e2c4d-1a2b-4c3d-8e9f-0a1b2c3d4e5f}
+     *
+     * @param ids the unique identifiers of the tasks to retrieve
+     * @return a {@link ResponseEntity} containing a {@link TaskMultiGetDTOResponse} with HTTP status 200 OK
+     * @throws IllegalArgumentException if no id or more than {@value ITaskService#MAX_MULTI_GET_IDS} distinct ids are given
+     * @see TaskMultiGetDTOResponse
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<TaskMultiGetDTOResponse> getByIds(@RequestParam(name = "ids") List<UUID> ids) {
+        log.info("GET /api/v1/tasks - Retrieving {} tasks by ID", ids.size());
+        TaskMultiGetDTOResponse result = taskService.getByIds(ids);
+        log.info("GET /api/v1/tasks - Successfully retrieved {} tasks by ID ({} missing)",
+                result.getContent().size(), result.getMissingIds().size());
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Searches tasks by the words of their title and description.
+     *
+     * <p><strong>HTTP Method:</strong> GET
+     * <p><strong>Endpoint:</strong> {@code GET /api/v1/tasks/search}
+     * <p><strong>Response Status:</strong> 200 OK
+     *
+     * <p>The query is answered by an in-memory inverted index instead of a {@code LIKE '%...%'}
+     * scan of {@code tbl_tasks}; only the tasks of the returned hits are read from the database,
+     * by primary key.
+     *
+     * <p><strong>Parameters:</strong>
+     * <ul>
+     *   <li>{@code q} - The words to search for, all of which must match; {@code word*} matches a prefix</li>
+     *   <li>{@code size} - Maximum number of hits (default: 20, maximum: 100)</li>
+     * </ul>
+     *
+     * <p><strong>Example Requests:</strong><br>
+     * {@code GET /api/v1/tasks/search?q=deploy docs}<br>
+     * {@code GET /api/v1/tasks/search?q=auth*&size=5}
+     *
+     * @param query the query text
+     * @param size the maximum number of hits to return. Default: 20
+     * @return a {@link ResponseEntity} containing a {@link TaskSearchDTOResponse} with HTTP status 200 OK
+     * @throws IllegalArgumentException if the query has no searchable word or the size is out of range
+     * @see TaskSearchDTOResponse
+     */
+    @GetMapping("/search")
+    public ResponseEntity<TaskSearchDTOResponse> search(
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "size", defaultValue = "" + ITaskSearchService.DEFAULT_SIZE) int size) {
+        log.info("GET /api/v1/tasks/search - Searching tasks | q='{}', size={}", query, size);
+        TaskSearchDTOResponse result = taskSearchService.search(query, size);
+        log.info("GET /api/v1/tasks/search - Found {} matching tasks, returning {}",
+                result.getTotalMatches(), result.getHits().size());
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * Streams all tasks as NDJSON or CSV.
+     *
+     * <p><strong>HTTP Method:</strong> GET
+     * <p><strong>Endpoint:</strong> {@code GET /api/v1/tasks/export}
+     * <p><strong>Response Status:</strong> 200 OK
+     *
+     * <p>Unlike paging through {@code GET /api/v1/tasks}, the export reads all tasks, ordered by id,
+     * with a single forward-only database cursor and writes each one to the response as soon as
+     * it is read. No count query is executed and no page is materialized, so heap usage stays
+     * constant regardless of the number of tasks. The body is written after this method returns,
+     * on an MVC async thread, in its own read-only transaction.
+     *
+     * <p><strong>Parameters:</strong>
+     * <ul>
+     *   <li>{@code format} - {@code ndjson} (default) or {@code csv}</li>
+     * </ul>
+     *
+     * <p><strong>Compression:</strong>
+     * If the {@code Accept-Encoding} request header accepts {@code gzip}, the body is gzip
+     * compressed and the response carries {@code Content-Encoding: gzip}.
+     *
+     * <p><strong>Example Requests:</strong><br>
+     * {@code GET /api/v1/tasks/export}<br>
+     * {@code GET /api/v1/tasks/export?format=csv} with {@code Accept-Encoding: gzip}
+     *
+     * @param format the export format. Default: ndjson
+     * @param acceptEncoding the {@code Accept-Encoding} request header, if any
+     * @return a {@link ResponseEntity} with a {@link StreamingResponseBody} writing the tasks, with HTTP status 200 OK
+     * @throws IllegalArgumentException if the format is not supported
+     * @see TaskFileFormat
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        TaskFileFormat exportFormat = TaskFileFormat.fromParameter(format);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        log.info("GET /api/v1/tasks/export - Exporting all tasks | format={}, gzip={}", exportFormat, gzip);
+
+        StreamingResponseBody body = outputStream -> {
+            GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(outputStream, EXPORT_BUFFER_SIZE) : null;
+            TaskExportWriter writer = new TaskExportWriter(exportFormat,
+                    gzipStream != null ? gzipStream : outputStream, jsonMapper);
+            writer.start();
+            long exported = taskService.exportAll(writer);
+            writer.finish();
+            if (gzipStream != null) {
+                gzipStream.finish();
+            }
+            log.info("GET /api/v1/tasks/export - Successfully exported {} tasks", exported);
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     /**
      * Retrieves a single task by its unique identifier.
      *
@@ -118,6 +393,11 @@ public class TaskController {
      * <p>This endpoint retrieves a specific task from the database using its UUID. The task data
      * is returned as a JSON response in the {@link TaskDTOResponse} format.
      *
+     * <p><strong>Conditional Requests:</strong>
+     * The response carries a strong {@code ETag} derived from the task version and the version of
+     * its task list. When the request's {@code If-None-Match} matches it, Spring MVC answers
+     * 304 Not Modified without serializing the body.
+     *
      * <p><strong>Path Parameters:</strong>
      * <ul>
      *   <li>{@code id} - UUID of the task to retrieve (required)</li>
@@ -138,7 +418,7 @@ public class TaskController {
         log.info("GET /api/v1/tasks/{} - Retrieving task by ID", id);
         TaskDetailDTOResponse result = taskService.getById(id);
         log.info("GET /api/v1/tasks/{} - Successfully retrieved task: '{}'", id, result.getTitle());
-        return ResponseEntity.ok(result);
+        return ResponseEntity.ok().eTag(eTagOf(result)).body(result);
     }
 
     /**
@@ -185,9 +465,101 @@ public class TaskController {
         log.info("POST /api/v1/tasks - Task created successfully with ID: {}", result.getId());
         return ResponseEntity
                 .status(HttpStatus.CREATED)
+                .eTag(eTagOf(result))
                 .body(result);
     }
 
+    /**
+     * Creates many tasks in a single request.
+     *
+     * <p><strong>HTTP Method:</strong> POST
+     * <p><strong>Endpoint:</strong> {@code POST /api/v1/tasks/batch}
+     * <p><strong>Response Status:</strong> 200 OK (per-item outcome in the body)
+     *
+     * <p>This endpoint is intended for importers. Up to
+     * {@value TaskDTOBatchCreateRequest#MAX_BATCH_SIZE} tasks are validated with a constant number
+     * of queries and inserted with JDBC batching in one transaction. Items breaking a business rule
+     * (duplicate incomplete title, unknown task list) are reported as rejected without aborting the batch.
+     *
+     * <p><strong>Example Request Body:</strong>
+     * <pre>
+     * {
+     *   "tasks": [
+     *     { "title": "Write docs", "description": "API reference" },
+     *     { "title": "Fix login", "description": "Session expires too early", "taskListId": "a1b2c3d4-..." }
+     *   ]
+     * }
+     * </pre>
+     *
+     * @param batchRequest the tasks to create. Validated with {@code @Valid}; an invalid item rejects the whole request.
+     * @return a {@link ResponseEntity} containing the {@link TaskBatchDTOResponse} with HTTP status 200 OK
+     * @see TaskDTOBatchCreateRequest
+     * @see TaskBatchDTOResponse
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<TaskBatchDTOResponse> createBatch(@Valid @RequestBody TaskDTOBatchCreateRequest batchRequest) {
+        log.info("POST /api/v1/tasks/batch - Creating batch of {} tasks", batchRequest.getTasks().size());
+        TaskBatchDTOResponse result = taskService.createBatch(batchRequest);
+        log.info("POST /api/v1/tasks/batch - Batch processed: {} created, {} rejected",
+                result.getCreated(), result.getRejected());
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Imports tasks from an NDJSON or CSV request body.
+     *
+     * <p><strong>HTTP Method:</strong> POST
+     * <p><strong>Endpoint:</strong> {@code POST /api/v1/tasks/import}
+     * <p><strong>Response Status:</strong> 200 OK (counts and rejected lines in the body)
+     *
+     * <p>This endpoint is intended for loading large backlogs. The body is read line by line while
+     * it arrives and is never buffered as a whole. Each line is validated on its own; valid lines
+     * are written in batches of {@code batchSize}, each batch in its own transaction, with the
+     * rules of {@code POST /api/v1/tasks/batch}. Lines that are malformed, invalid or rejected by a
+     * business rule are reported with their line number and do not stop the import. Tasks of
+     * committed batches stay imported if the request fails later.
+     *
+     * <p><strong>Content Types:</strong>
+     * <ul>
+     *   <li>{@code application/x-ndjson} - one JSON object per line</li>
+     *   <li>{@code text/csv} - a header row naming the {@code title}, {@code description} and
+     *       optional {@code taskListId} and {@code taskListName} columns</li>
+     * </ul>
+     * A task list can be referenced by {@code taskListId} or by {@code taskListName}.
+     *
+     * <p><strong>Example Request:</strong>
+     * <pre>
+     * POST /api/v1/tasks/import?batchSize=2000
+     * Content-Type: application/x-ndjson
+     *
+     * {"title": "Write docs", "description": "API reference", "taskListName": "Backlog"}
+     * {"title": "Fix login", "description": "Session expires too early"}
+     * </pre>
+     *
+     * @param contentType the content type of the body, selecting the format
+     * @param batchSize the number of valid lines written per transaction. Default: 1000, maximum: 5000
+     * @param body the request body
+     * @return a {@link ResponseEntity} containing the {@link TaskImportDTOResponse} with HTTP status 200 OK
+     * @throws IllegalArgumentException if the batch size is out of range or a CSV header lacks required columns
+     * @see TaskImportDTOResponse
+     * @see TaskImportReader
+     */
+    @PostMapping(path = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<TaskImportDTOResponse> importTasks(
+            @RequestHeader(name = HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestParam(name = "batchSize", defaultValue = "" + ITaskImportService.DEFAULT_BATCH_SIZE) int batchSize,
+            InputStream body) {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        TaskFileFormat format = TaskFileFormat.fromContentType(mediaType);
+        Charset charset = mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8;
+        log.info("POST /api/v1/tasks/import - Importing tasks | format={}, batchSize={}", format, batchSize);
+        TaskImportDTOResponse result = taskImportService.importTasks(
+                new TaskImportReader(format, body, charset, jsonMapper), batchSize);
+        log.info("POST /api/v1/tasks/import - Import processed: {} lines, {} created, {} rejected",
+                result.getProcessed(), result.getCreated(), result.getRejected());
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Updates an existing task.
      *
@@ -199,6 +571,10 @@ public class TaskController {
      * contain a valid {@link TaskDTOUpdateRequest} with updated field values. The update timestamp
      * is automatically set to the current time.
      *
+     * <p><strong>Conditional Requests:</strong>
+     * With an {@code If-Match} header holding the task's {@code ETag}, the update is only applied
+     * if the task has not changed since; otherwise 412 Precondition Failed is returned.
+     *
      * <p><strong>Path Parameters:</strong>
      * <ul>
      *   <li>{@code id} - UUID of the task to update (required)</li>
@@ -227,6 +603,7 @@ public class TaskController {
      * @param id the unique identifier (UUID) of the task to update. Cannot be null.
      * @param updateTaskDTO the task update request containing the new title, description, and
      *                      completion status. Must be valid and non-null. Validated with {@code @Valid} annotation.
+     * @param ifMatch the optional {@code If-Match} header
      * @return a {@link ResponseEntity} containing the updated {@link TaskDTOResponse}
      *         with HTTP status 200 OK. The response includes the updated data and the new
      *         modification timestamp.
@@ -238,11 +615,52 @@ public class TaskController {
     @PutMapping("/{id}")
     public ResponseEntity<TaskDetailDTOResponse> update(
             @PathVariable @NonNull UUID id,
-            @Valid @RequestBody TaskDTOUpdateRequest updateTaskDTO) {
+            @Valid @RequestBody TaskDTOUpdateRequest updateTaskDTO,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("PUT /api/v1/tasks/{} - Updating task with title: '{}'", id, updateTaskDTO.getTitle());
-        TaskDetailDTOResponse result = taskService.update(id, updateTaskDTO);
+        TaskDetailDTOResponse result = taskService.update(id, updateTaskDTO, ETags.parseVersion(ifMatch));
         log.info("PUT /api/v1/tasks/{} - Task updated successfully", id);
-        return ResponseEntity.ok(result);
+        return ResponseEntity.ok().eTag(eTagOf(result)).body(result);
+    }
+
+    /**
+     * Partially updates an existing task.
+     *
+     * <p><strong>HTTP Method:</strong> PATCH
+     * <p><strong>Endpoint:</strong> {@code PATCH /api/v1/tasks/{id}}
+     * <p><strong>Response Status:</strong> 200 OK
+     *
+     * <p>Only the fields present in the request body are changed; omitted fields keep their
+     * current value. The update is applied with a single conditional {@code UPDATE} statement
+     * and the response is read back with one joined query (see {@code TaskService#update}).
+     *
+     * <p><strong>Example Request:</strong><br>
+     * {@code PATCH /api/v1/tasks/f47ac10b-58cc-4372-a567-0e02b2c3d479}
+     * <pre>
+     * {
+     *   "completed": true
+     * }
+     * </pre>
+     *
+     * @param id the unique identifier (UUID) of the task to update. Cannot be null.
+     * @param updateTaskDTO the fields to change. At least one field must be present.
+     * @param ifMatch the optional {@code If-Match} header; a stale tag yields 412 Precondition Failed
+     * @return a {@link ResponseEntity} containing the updated {@link TaskDetailDTOResponse}
+     *         with HTTP status 200 OK
+     * @throws ResourceNotFoundException if no task (or no task list with the given ID) exists
+     * @throws IllegalArgumentException if the request is empty or contains blank fields
+     * @throws com.nsalazar.quicktask.task.application.exception.DuplicateTitleException if the new title is already in use
+     * @see TaskDTOUpdateRequest
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<TaskDetailDTOResponse> patch(
+            @PathVariable @NonNull UUID id,
+            @Valid @RequestBody TaskDTOUpdateRequest updateTaskDTO,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        log.info("PATCH /api/v1/tasks/{} - Partially updating task", id);
+        TaskDetailDTOResponse result = taskService.update(id, updateTaskDTO, ETags.parseVersion(ifMatch));
+        log.info("PATCH /api/v1/tasks/{} - Task updated successfully", id);
+        return ResponseEntity.ok().eTag(eTagOf(result)).body(result);
     }
 
     /**
@@ -277,4 +695,30 @@ public class TaskController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Builds the strong entity tag of a task detail.
+     *
+     * <p>The embedded task list info is part of the representation, so its id and version are
+     * included: renaming the list changes the tag of every task it holds.
+     *
+     * @param task the task detail response
+     * @return the quoted entity tag, or {@code null} if the response carries no version
+     */
+    private static String eTagOf(TaskDetailDTOResponse task) {
+        TaskDetailDTOResponse.TaskListInfo taskList = task.getTaskList();
+        return taskList == null
+                ? ETags.of(task.getVersion())
+                : ETags.of(task.getVersion(), taskList.getId(), taskList.getVersion());
+    }
+
+    /**
+     * Returns whether no filter parameter was given, i.e. the request lists every task.
+     *
+     * @param filter the filters bound from the query parameters
+     * @return {@code true} if every filter is absent
+     */
+    private static boolean isEmpty(TaskDTOFilterRequest filter) {
+        return filter.equals(new TaskDTOFilterRequest());
+    }
+
 }
@@ -0,0 +1,77 @@
+package com.nsalazar.quicktask.task.infrastructure.restcontroller;
+
+import com.nsalazar.quicktask.task.application.dto.response.TaskDTOResponse;
+import org.springframework.boot.jackson.JacksonComponent;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+/**
+ * Hand-written Jackson serializer for {@link TaskDTOResponse}, the element of every task page,
+ * cursor slice, export and embedded task list.
+ *
+ * <p>It writes the same representation as the reflective bean serializer, with two differences
+ * that make pages cheaper to produce and smaller on the wire:
+ * <ul>
+ *   <li>property names are pre-encoded once instead of being looked up and quoted per task</li>
+ *   <li>null properties ({@code updatedAt} of a never updated task, {@code taskListId} of an
+ *       unassigned task) are omitted instead of written as {@code null}</li>
+ * </ul>
+ * Timestamps keep the ISO-8601 format of the default {@code LocalDateTime} serializer.
+ *
+ * @author nsalazar
+ * @see TaskDTOResponse
+ */
+@JacksonComponent
+public class TaskDTOResponseSerializer extends ValueSerializer<TaskDTOResponse> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString COMPLETED = new SerializedString("completed");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializableString TASK_LIST_ID = new SerializedString("taskListId");
+
+    @Override
+    public void serialize(TaskDTOResponse task, JsonGenerator gen, SerializationContext ctxt) {
+        gen.writeStartObject(task);
+        writeUuid(gen, ID, task.getId());
+        writeString(gen, TITLE, task.getTitle());
+        writeString(gen, DESCRIPTION, task.getDescription());
+        gen.writeName(COMPLETED);
+        gen.writeBoolean(task.isCompleted());
+        writeTimestamp(gen, CREATED_AT, task.getCreatedAt());
+        writeTimestamp(gen, UPDATED_AT, task.getUpdatedAt());
+        writeUuid(gen, TASK_LIST_ID, task.getTaskListId());
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString name, String value) {
+        if (value != null) {
+            gen.writeName(name);
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeUuid(JsonGenerator gen, SerializableString name, UUID value) {
+        if (value != null) {
+            gen.writeName(name);
+            gen.writeString(value.toString());
+        }
+    }
+
+    private static void writeTimestamp(JsonGenerator gen, SerializableString name, LocalDateTime value) {
+        if (value != null) {
+            gen.writeName(name);
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+        }
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.nsalazar.quicktask.task.infrastructure.restcontroller;
+
+import com.nsalazar.quicktask.task.application.dto.response.TaskDTOResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Consumer;
+
+/**
+ * Writes exported tasks to an output stream, one record at a time.
+ *
+ * <p>Records go through a fixed-size buffer, so memory usage does not depend on the number of
+ * exported tasks. The writer does not close the underlying stream; {@link #finish()} flushes the
+ * buffered records.
+ *
+ * <p>As a {@link Consumer}, the writer can be handed to
+ * {@link com.nsalazar.quicktask.task.application.ITaskService#exportAll(Consumer)} directly;
+ * I/O errors, e.g. a client that disconnected, are rethrown as {@link UncheckedIOException}
+ * and abort the export.
+ *
+ * @author nsalazar
+ * @see TaskFileFormat
+ */
+class TaskExportWriter implements Consumer<TaskDTOResponse> {
+
+    /**
+     * Header row of the CSV format.
+     */
+    static final String CSV_HEADER = "id,title,description,completed,createdAt,updatedAt,taskListId";
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final TaskFileFormat format;
+    private final JsonMapper jsonMapper;
+    private final Writer writer;
+
+    /**
+     * Creates a writer for the given format.
+     *
+     * @param format the export format
+     * @param outputStream the stream receiving the UTF-8 encoded records
+     * @param jsonMapper the mapper serializing NDJSON records
+     */
+    TaskExportWriter(TaskFileFormat format, OutputStream outputStream, JsonMapper jsonMapper) {
+        this.format = format;
+        this.jsonMapper = jsonMapper;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * Writes the header of the format, if it has one.
+     *
+     * @throws IOException if writing fails
+     */
+    void start() throws IOException {
+        if (format == TaskFileFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+        }
+    }
+
+    /**
+     * Writes a single task record.
+     *
+     * @param task the task to write
+     * @throws UncheckedIOException if writing fails
+     */
+    @Override
+    public void accept(TaskDTOResponse task) {
+        try {
+            if (format == TaskFileFormat.CSV) {
+                writeCsvRecord(task);
+            } else {
+                writer.write(jsonMapper.writeValueAsString(task));
+                writer.write('\n');
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Flushes the buffered records to the underlying stream.
+     *
+     * @throws IOException if writing fails
+     */
+    void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeCsvRecord(TaskDTOResponse task) throws IOException {
+        writer.write(String.valueOf(task.getId()));
+        writer.write(',');
+        writeCsvField(task.getTitle());
+        writer.write(',');
+        writeCsvField(task.getDescription());
+        writer.write(',');
+        writer.write(String.valueOf(task.isCompleted()));
+        writer.write(',');
+        writer.write(formatDateTime(task.getCreatedAt()));
+        writer.write(',');
+        writer.write(formatDateTime(task.getUpdatedAt()));
+        writer.write(',');
+        writer.write(task.getTaskListId() != null ? task.getTaskListId().toString() : "");
+        writer.write("\r\n");
+    }
+
+    /**
+     * Writes a text field, quoted when it contains a separator, a quote or a line break.
+     */
+    private void writeCsvField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String formatDateTime(LocalDateTime value) {
+        return value != null ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value) : "";
+    }
+
+}
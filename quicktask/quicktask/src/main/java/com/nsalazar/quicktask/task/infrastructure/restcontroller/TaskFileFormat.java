@@ -0,0 +1,89 @@
+package com.nsalazar.quicktask.task.infrastructure.restcontroller;
+
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * File formats supported by the task export ({@code GET /api/v1/tasks/export}) and import
+ * ({@code POST /api/v1/tasks/import}) endpoints.
+ *
+ * <p><strong>Formats:</strong>
+ * <ul>
+ *   <li>{@link #NDJSON} - one JSON object per line, with the same fields as {@code GET /api/v1/tasks}</li>
+ *   <li>{@link #CSV} - RFC 4180 CSV with a header row</li>
+ * </ul>
+ *
+ * @author nsalazar
+ * @see TaskExportWriter
+ * @see TaskImportReader
+ */
+public enum TaskFileFormat {
+
+    NDJSON("ndjson", MediaType.APPLICATION_NDJSON),
+
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    TaskFileFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Returns the file extension of the format, also used as the {@code format} parameter value.
+     *
+     * @return the extension without leading dot
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Returns the content type of the format.
+     *
+     * @return the media type of the exported body
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Resolves the format from the value of the {@code format} request parameter.
+     *
+     * @param value the parameter value, case-insensitive
+     * @return the matching format
+     * @throws IllegalArgumentException if the value does not name a supported format
+     */
+    public static TaskFileFormat fromParameter(String value) {
+        for (TaskFileFormat format : values()) {
+            if (format.extension.equals(value.trim().toLowerCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException(String.format(
+                "Unsupported export format '%s'. Supported formats: ndjson, csv", value));
+    }
+
+    /**
+     * Resolves the format from the content type of a request body.
+     *
+     * @param contentType the content type; its parameters, e.g. the charset, are ignored
+     * @return the matching format
+     * @throws IllegalArgumentException if the content type does not match a supported format
+     */
+    public static TaskFileFormat fromContentType(MediaType contentType) {
+        for (TaskFileFormat format : values()) {
+            if (format.mediaType.equalsTypeAndSubtype(contentType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException(String.format(
+                "Unsupported import content type '%s'. Supported types: %s, text/csv",
+                contentType, MediaType.APPLICATION_NDJSON_VALUE));
+    }
+
+}
@@ -0,0 +1,226 @@
+package com.nsalazar.quicktask.task.infrastructure.restcontroller;
+
+import com.nsalazar.quicktask.task.application.TaskImportLine;
+import com.nsalazar.quicktask.task.application.dto.request.TaskDTOImportRequest;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * Reads the lines of a task import file from a request body, one at a time.
+ *
+ * <p>Nothing is read ahead beyond the current line and the reader's fixed-size buffer, so a file
+ * of any size is consumed with constant memory while the importer writes the previous batches.
+ *
+ * <p><strong>Formats:</strong>
+ * <ul>
+ *   <li>{@link TaskFileFormat#NDJSON} - one {@link TaskDTOImportRequest} JSON object per line;
+ *       unknown properties are ignored, so exported files can be imported again</li>
+ *   <li>{@link TaskFileFormat#CSV} - RFC 4180 records with a header row naming the
+ *       {@code title}, {@code description} and optional {@code taskListId} and
+ *       {@code taskListName} columns, in any order; other columns are ignored</li>
+ * </ul>
+ * Blank lines are skipped. A line that cannot be parsed is returned as
+ * {@link TaskImportLine#malformed(long, String) malformed} instead of aborting the import.
+ *
+ * @author nsalazar
+ * @see TaskFileFormat
+ * @see com.nsalazar.quicktask.task.application.ITaskImportService
+ */
+class TaskImportReader implements Iterator<TaskImportLine> {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final TaskFileFormat format;
+    private final ObjectReader jsonReader;
+    private final BufferedReader reader;
+
+    private long lineNumber;
+    private Map<String, Integer> csvColumns;
+    private TaskImportLine next;
+    private boolean exhausted;
+
+    /**
+     * Creates a reader for the given format.
+     *
+     * @param format the format of the file
+     * @param inputStream the request body
+     * @param charset the charset of the request body
+     * @param jsonMapper the mapper parsing NDJSON lines
+     */
+    TaskImportReader(TaskFileFormat format, InputStream inputStream, Charset charset, JsonMapper jsonMapper) {
+        this.format = format;
+        this.jsonReader = jsonMapper.readerFor(TaskDTOImportRequest.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, charset), BUFFER_SIZE);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if a CSV file has no {@code title} or {@code description} column
+     * @throws UncheckedIOException if reading the request body fails
+     */
+    @Override
+    public boolean hasNext() {
+        if (next == null && !exhausted) {
+            try {
+                next = format == TaskFileFormat.CSV ? readCsvLine() : readNdjsonLine();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            exhausted = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public TaskImportLine next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        TaskImportLine line = next;
+        next = null;
+        return line;
+    }
+
+    private TaskImportLine readNdjsonLine() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                return TaskImportLine.parsed(lineNumber, jsonReader.readValue(line));
+            } catch (JacksonException ex) {
+                return TaskImportLine.malformed(lineNumber, "Malformed JSON: " + ex.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    private TaskImportLine readCsvLine() throws IOException {
+        if (csvColumns == null) {
+            readCsvHeader();
+        }
+        List<String> fields;
+        while (true) {
+            long recordLine = lineNumber + 1;
+            fields = readCsvRecord();
+            if (fields == null) {
+                return null;
+            }
+            if (fields.size() > 1 || !fields.get(0).isBlank()) {
+                return toImportLine(recordLine, fields);
+            }
+        }
+    }
+
+    private void readCsvHeader() throws IOException {
+        List<String> header = readCsvRecord();
+        csvColumns = new HashMap<>();
+        if (header != null) {
+            for (int i = 0; i < header.size(); i++) {
+                csvColumns.put(header.get(i).trim(), i);
+            }
+        }
+        if (!csvColumns.containsKey("title") || !csvColumns.containsKey("description")) {
+            throw new IllegalArgumentException("CSV header must contain the columns title and description");
+        }
+    }
+
+    private TaskImportLine toImportLine(long recordLine, List<String> fields) {
+        String taskListId = csvField(fields, "taskListId");
+        TaskDTOImportRequest request;
+        try {
+            request = TaskDTOImportRequest.builder()
+                    .title(csvField(fields, "title"))
+                    .description(csvField(fields, "description"))
+                    .taskListId(taskListId != null ? UUID.fromString(taskListId) : null)
+                    .taskListName(csvField(fields, "taskListName"))
+                    .build();
+        } catch (IllegalArgumentException ex) {
+            return TaskImportLine.malformed(recordLine, "Invalid taskListId: " + taskListId);
+        }
+        return TaskImportLine.parsed(recordLine, request);
+    }
+
+    /**
+     * Returns the value of a column, or {@code null} if the column is absent or the field is empty.
+     */
+    private String csvField(List<String> fields, String column) {
+        Integer index = csvColumns.get(column);
+        if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    /**
+     * Reads the fields of the next record. Quoted fields may contain separators, doubled quotes
+     * and line breaks, in which case the record spans several lines.
+     *
+     * @return the fields, or {@code null} at the end of the input
+     */
+    private List<String> readCsvRecord() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                String continuation = quoted ? reader.readLine() : null;
+                if (continuation == null) {
+                    break;
+                }
+                lineNumber++;
+                field.append('\n');
+                line = continuation;
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.nsalazar.quicktask.task.infrastructure.restcontroller;
+
+import com.nsalazar.quicktask.task.application.ITaskStatsService;
+import com.nsalazar.quicktask.task.application.dto.response.TaskStatsDTOResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller exposing the aggregate statistics of all tasks.
+ *
+ * <p>The statistics of a single task list are served by
+ * {@code GET /api/v1/task-lists/{id}/stats}.
+ *
+ * <p><strong>Base URL:</strong> {@code /api/v1/stats}
+ *
+ * <p><strong>Supported Operations:</strong>
+ * <ul>
+ *   <li>GET {@code /api/v1/stats} - Retrieve the counts of all tasks</li>
+ * </ul>
+ *
+ * @author nsalazar
+ * @see ITaskStatsService
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/stats")
+@RequiredArgsConstructor
+public class TaskStatsController {
+
+    /**
+     * Service reading the task statistics.
+     */
+    private final ITaskStatsService taskStatsService;
+
+    /**
+     * Retrieves the aggregate counts of all tasks.
+     *
+     * <p><strong>HTTP Method:</strong> GET
+     * <p><strong>Endpoint:</strong> {@code GET /api/v1/stats}
+     * <p><strong>Response Status:</strong> 200 OK
+     *
+     * <p>The counts are served from in-memory counters maintained on every task write; the
+     * request issues no SQL statement.
+     *
+     * @return a {@link ResponseEntity} containing the {@link TaskStatsDTOResponse} with HTTP status 200 OK
+     */
+    @GetMapping
+    public ResponseEntity<TaskStatsDTOResponse> getGlobalStats() {
+        log.info("GET /api/v1/stats - Retrieving task statistics");
+        TaskStatsDTOResponse result = taskStatsService.getGlobalStats();
+        log.info("GET /api/v1/stats - {} tasks, {} completed", result.getTotal(), result.getCompleted());
+        return ResponseEntity.ok(result);
+    }
+
+}
@@ -0,0 +1,636 @@
+package com.nsalazar.quicktask.task.infrastructure.search;
+
+import com.nsalazar.quicktask.task.domain.search.ITaskSearchIndex;
+import com.nsalazar.quicktask.task.domain.search.TaskSearchHits;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index implementing {@link ITaskSearchIndex}.
+ *
+ * <p><strong>Structure:</strong>
+ * <ul>
+ *   <li>Every indexed task gets a dense document number; numbers grow with every write, so the
+ *       posting lists stay sorted by appending</li>
+ *   <li>A sorted dictionary maps each word to its posting list: the document numbers and, packed
+ *       in one byte, the word's frequency in the title and in the description (capped at 15)</li>
+ *   <li>Updating a task marks its old document as deleted and appends a new one. Deleted
+ *       documents are skipped by searches and purged, with a renumbering, once they make up a
+ *       quarter of the index</li>
+ * </ul>
+ * A task costs about 100 bytes plus 5 bytes per distinct word, so a million tasks with short
+ * descriptions fit in roughly 250 MB of heap.
+ *
+ * <p><strong>Ranking:</strong>
+ * Hits are scored with BM25 ({@code k1 = 1.2}, {@code b = 0.75}); matches in the title weigh
+ * {@value #TITLE_WEIGHT} times as much as matches in the description. A prefix word scores as
+ * its best matching expansion.
+ *
+ * <p><strong>Evaluation:</strong>
+ * Query words are evaluated from the shortest posting list: its documents are the candidates,
+ * and each other word is checked with a binary search in its own list. The cost is therefore
+ * driven by the rarest word, and only the best {@code limit} hits are kept in a bounded heap.
+ *
+ * <p><strong>Consistency:</strong>
+ * {@link #index} and {@link #remove} are applied after the surrounding transaction commits and
+ * dropped on rollback. Readers and writers are serialized by a read-write lock. During the
+ * startup rebuild (see {@link TaskSearchIndexLoader}), tasks written by the application take
+ * precedence over the rows read by the rebuild, which may come from an older snapshot.
+ *
+ * @author nsalazar
+ * @see TaskSearchAnalyzer
+ * @see TaskSearchIndexLoader
+ */
+@Slf4j
+@Component
+public class InvertedTaskSearchIndex implements ITaskSearchIndex {
+
+    /**
+     * Weight of a title match relative to a description match.
+     */
+    static final float TITLE_WEIGHT = 2.0f;
+
+    /**
+     * Maximum number of distinct words in a query.
+     */
+    static final int MAX_QUERY_TERMS = 8;
+
+    /**
+     * Minimum length of a prefix word, without the {@code *}.
+     */
+    static final int MIN_PREFIX_LENGTH = 2;
+
+    /**
+     * Maximum number of dictionary words a prefix expands to, in alphabetical order.
+     */
+    static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    /**
+     * Minimum number of deleted documents before the index is compacted.
+     */
+    static final int MIN_DELETED_FOR_COMPACTION = 1024;
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int MAX_FREQUENCY = 15;
+    private static final int MAX_FIELD_LENGTH = 255;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Postings> dictionary = new TreeMap<>();
+    private final Map<UUID, Integer> documentsByTaskId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private UUID[] taskIds = new UUID[INITIAL_CAPACITY];
+    private byte[] titleLengths = new byte[INITIAL_CAPACITY];
+    private byte[] descriptionLengths = new byte[INITIAL_CAPACITY];
+    private int documentCount;
+    private int deletedCount;
+    private long titleLengthSum;
+    private long descriptionLengthSum;
+    private Set<UUID> writtenDuringRebuild;
+    private volatile boolean ready;
+
+    @Override
+    public void index(UUID taskId, String title, String description) {
+        afterCommit(() -> write(taskId, () -> put(taskId, title, description)));
+    }
+
+    @Override
+    public void remove(UUID taskId) {
+        afterCommit(() -> write(taskId, () -> delete(taskId)));
+    }
+
+    @Override
+    public TaskSearchHits search(String query, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Search limit must be positive: " + limit);
+        }
+        Map<String, Boolean> terms = TaskSearchAnalyzer.queryTerms(query);
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("Search query must contain at least one letter or digit");
+        }
+        if (terms.size() > MAX_QUERY_TERMS) {
+            throw new IllegalArgumentException("Search query cannot contain more than " + MAX_QUERY_TERMS + " words");
+        }
+        terms.forEach((term, prefix) -> {
+            if (prefix && term.length() < MIN_PREFIX_LENGTH) {
+                throw new IllegalArgumentException(String.format(
+                        "Prefix '%s*' is too short; use at least %d characters", term, MIN_PREFIX_LENGTH));
+            }
+        });
+
+        lock.readLock().lock();
+        try {
+            List<Clause> clauses = new ArrayList<>(terms.size());
+            for (Map.Entry<String, Boolean> term : terms.entrySet()) {
+                Clause clause = clause(term.getKey(), term.getValue());
+                if (clause.cost == 0) {
+                    return new TaskSearchHits(List.of(), 0);
+                }
+                clauses.add(clause);
+            }
+            clauses.sort(Comparator.comparingLong(clause -> clause.cost));
+            return evaluate(clauses, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentsByTaskId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Starts a rebuild: from now on, tasks written through {@link #index} and {@link #remove}
+     * are protected from being overwritten by {@link #load}.
+     */
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            writtenDuringRebuild = new HashSet<>();
+            ready = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a task read by the rebuild, unless the application wrote it since the rebuild began.
+     *
+     * @param taskId the task id
+     * @param title the task title
+     * @param description the task description
+     */
+    public void load(UUID taskId, String title, String description) {
+        lock.writeLock().lock();
+        try {
+            if (writtenDuringRebuild == null || !writtenDuringRebuild.contains(taskId)) {
+                put(taskId, title, description);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ends a rebuild.
+     *
+     * @param completed whether every task has been loaded; only then the index becomes ready
+     */
+    public void finishRebuild(boolean completed) {
+        lock.writeLock().lock();
+        try {
+            writtenDuringRebuild = null;
+            ready = completed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void write(UUID taskId, Runnable change) {
+        lock.writeLock().lock();
+        try {
+            if (writtenDuringRebuild != null) {
+                writtenDuringRebuild.add(taskId);
+            }
+            change.run();
+            if (deletedCount >= MIN_DELETED_FOR_COMPACTION && deletedCount > documentCount / 4) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(UUID taskId, String title, String description) {
+        delete(taskId);
+        List<String> titleTerms = TaskSearchAnalyzer.terms(title);
+        List<String> descriptionTerms = TaskSearchAnalyzer.terms(description);
+        Map<String, int[]> frequencies = new HashMap<>();
+        titleTerms.forEach(term -> frequencies.computeIfAbsent(term, t -> new int[2])[0]++);
+        descriptionTerms.forEach(term -> frequencies.computeIfAbsent(term, t -> new int[2])[1]++);
+
+        int document = documentCount++;
+        ensureCapacity(documentCount);
+        taskIds[document] = taskId;
+        titleLengths[document] = (byte) Math.min(titleTerms.size(), MAX_FIELD_LENGTH);
+        descriptionLengths[document] = (byte) Math.min(descriptionTerms.size(), MAX_FIELD_LENGTH);
+        titleLengthSum += titleLength(document);
+        descriptionLengthSum += descriptionLength(document);
+        documentsByTaskId.put(taskId, document);
+
+        frequencies.forEach((term, frequency) -> dictionary
+                .computeIfAbsent(term, t -> new Postings())
+                .add(document, (byte) (Math.min(frequency[0], MAX_FREQUENCY) << 4 | Math.min(frequency[1], MAX_FREQUENCY))));
+    }
+
+    private void delete(UUID taskId) {
+        Integer document = documentsByTaskId.remove(taskId);
+        if (document != null) {
+            deleted.set(document);
+            deletedCount++;
+            titleLengthSum -= titleLength(document);
+            descriptionLengthSum -= descriptionLength(document);
+            taskIds[document] = null;
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > taskIds.length) {
+            int newCapacity = Math.max(capacity, taskIds.length + (taskIds.length >> 1));
+            taskIds = Arrays.copyOf(taskIds, newCapacity);
+            titleLengths = Arrays.copyOf(titleLengths, newCapacity);
+            descriptionLengths = Arrays.copyOf(descriptionLengths, newCapacity);
+        }
+    }
+
+    /**
+     * Purges deleted documents from every posting list and renumbers the live ones densely.
+     * The renumbering keeps the order, so the posting lists stay sorted.
+     */
+    private void compact() {
+        int[] renumbered = new int[documentCount];
+        int live = 0;
+        for (int document = 0; document < documentCount; document++) {
+            if (deleted.get(document)) {
+                renumbered[document] = -1;
+            } else {
+                renumbered[document] = live;
+                taskIds[live] = taskIds[document];
+                titleLengths[live] = titleLengths[document];
+                descriptionLengths[live] = descriptionLengths[document];
+                live++;
+            }
+        }
+        Arrays.fill(taskIds, live, documentCount, null);
+
+        Iterator<Postings> postings = dictionary.values().iterator();
+        while (postings.hasNext()) {
+            if (postings.next().renumber(renumbered) == 0) {
+                postings.remove();
+            }
+        }
+        documentsByTaskId.replaceAll((taskId, document) -> renumbered[document]);
+        log.debug("Compacted task search index: {} deleted documents purged, {} live", deletedCount, live);
+        documentCount = live;
+        deletedCount = 0;
+        deleted.clear();
+    }
+
+    private Clause clause(String term, boolean prefix) {
+        if (!prefix) {
+            Postings postings = dictionary.get(term);
+            return postings == null ? new Clause(new Postings[0]) : new Clause(new Postings[] {postings});
+        }
+        List<Postings> expansions = new ArrayList<>();
+        for (Postings postings : dictionary.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+            expansions.add(postings);
+            if (expansions.size() == MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+        }
+        return new Clause(expansions.toArray(Postings[]::new));
+    }
+
+    private TaskSearchHits evaluate(List<Clause> clauses, int limit) {
+        int liveCount = documentsByTaskId.size();
+        float averageTitleLength = Math.max(1f, (float) titleLengthSum / Math.max(1, liveCount));
+        float averageDescriptionLength = Math.max(1f, (float) descriptionLengthSum / Math.max(1, liveCount));
+        Scorer scorer = new Scorer(liveCount, averageTitleLength, averageDescriptionLength);
+        clauses.forEach(clause -> clause.computeIdfs(scorer));
+        TopHits topHits = new TopHits(limit);
+        int totalMatches = 0;
+
+        Clause driver = clauses.get(0);
+        if (driver.postings.length == 1) {
+            Postings postings = driver.postings[0];
+            float idf = driver.idfs[0];
+            for (int i = 0; i < postings.size; i++) {
+                int document = postings.documents[i];
+                if (deleted.get(document)) {
+                    continue;
+                }
+                float score = scoreOthers(clauses, document, scorer);
+                if (score >= 0) {
+                    totalMatches++;
+                    topHits.offer(document, score + idf * scorer.frequencyScore(postings.frequencies[i], document));
+                }
+            }
+        } else {
+            float[] driverScores = driver.bestScores(documentCount, deleted, scorer);
+            for (int document = 0; document < documentCount; document++) {
+                if (driverScores[document] == 0) {
+                    continue;
+                }
+                float score = scoreOthers(clauses, document, scorer);
+                if (score >= 0) {
+                    totalMatches++;
+                    topHits.offer(document, score + driverScores[document]);
+                }
+            }
+        }
+
+        long[] ranked = topHits.drainDescending();
+        List<TaskSearchHits.Hit> hits = new ArrayList<>(ranked.length);
+        for (long hit : ranked) {
+            hits.add(new TaskSearchHits.Hit(taskIds[TopHits.document(hit)], TopHits.score(hit)));
+        }
+        return new TaskSearchHits(hits, totalMatches);
+    }
+
+    /**
+     * Scores a candidate against every clause but the driving one.
+     *
+     * @return the summed score, or {@code -1} if a clause does not match the document
+     */
+    private float scoreOthers(List<Clause> clauses, int document, Scorer scorer) {
+        float total = 0;
+        for (int c = 1; c < clauses.size(); c++) {
+            float score = scorer.score(clauses.get(c), document);
+            if (score < 0) {
+                return -1;
+            }
+            total += score;
+        }
+        return total;
+    }
+
+    private int titleLength(int document) {
+        return titleLengths[document] & 0xFF;
+    }
+
+    private int descriptionLength(int document) {
+        return descriptionLengths[document] & 0xFF;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * BM25 scoring of the postings of a query, bound to the index statistics at query time.
+     */
+    private final class Scorer {
+
+        private final int liveCount;
+
+        /**
+         * Saturated term frequencies indexed by {@code frequency << 8 | fieldLength}; the field
+         * lengths and frequencies are capped to a byte and a nibble, so every value the postings
+         * can hold is computed once per query instead of once per posting.
+         */
+        private final float[] titleScores;
+        private final float[] descriptionScores;
+
+        private Scorer(int liveCount, float averageTitleLength, float averageDescriptionLength) {
+            this.liveCount = liveCount;
+            this.titleScores = saturationTable(averageTitleLength, TITLE_WEIGHT);
+            this.descriptionScores = saturationTable(averageDescriptionLength, 1f);
+        }
+
+        private float idf(Postings postings) {
+            double documentFrequency = postings.size;
+            double documents = Math.max(liveCount, postings.size);
+            return (float) Math.log(1 + (documents - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        }
+
+        /**
+         * Returns the best score of the clause's postings for the document, or {@code -1}
+         * if none of them contains it.
+         */
+        private float score(Clause clause, int document) {
+            float best = -1;
+            for (int p = 0; p < clause.postings.length; p++) {
+                Postings postings = clause.postings[p];
+                int index = postings.indexOf(document);
+                if (index >= 0) {
+                    best = Math.max(best, clause.idfs[p] * frequencyScore(postings.frequencies[index], document));
+                }
+            }
+            return best;
+        }
+
+        private float frequencyScore(byte frequencies, int document) {
+            return titleScores[(frequencies & 0xF0) << 4 | titleLengths[document] & 0xFF]
+                    + descriptionScores[(frequencies & MAX_FREQUENCY) << 8 | descriptionLengths[document] & 0xFF];
+        }
+
+        private static float[] saturationTable(float averageLength, float weight) {
+            float[] table = new float[(MAX_FREQUENCY + 1) << 8];
+            for (int frequency = 1; frequency <= MAX_FREQUENCY; frequency++) {
+                for (int length = 0; length <= MAX_FIELD_LENGTH; length++) {
+                    table[frequency << 8 | length] = weight * frequency * (K1 + 1)
+                            / (frequency + K1 * (1 - B + B * length / averageLength));
+                }
+            }
+            return table;
+        }
+    }
+
+    /**
+     * The posting lists a query word matches: one for a word, up to
+     * {@value #MAX_PREFIX_EXPANSIONS} for a prefix.
+     */
+    private static final class Clause {
+
+        private final Postings[] postings;
+        private final long cost;
+        private float[] idfs;
+
+        private Clause(Postings[] postings) {
+            this.postings = postings;
+            long size = 0;
+            for (Postings list : postings) {
+                size += list.size;
+            }
+            this.cost = size;
+        }
+
+        private void computeIdfs(Scorer scorer) {
+            idfs = new float[postings.length];
+            for (int p = 0; p < postings.length; p++) {
+                idfs[p] = scorer.idf(postings[p]);
+            }
+        }
+
+        /**
+         * Returns the best score of every document across the clause's postings, indexed by
+         * document number; {@code 0} for documents not matched or deleted. A dense array is
+         * cheaper than merging up to {@value #MAX_PREFIX_EXPANSIONS} sorted lists.
+         */
+        private float[] bestScores(int documentCount, BitSet deleted, Scorer scorer) {
+            float[] scores = new float[documentCount];
+            for (int p = 0; p < postings.length; p++) {
+                Postings list = postings[p];
+                for (int i = 0; i < list.size; i++) {
+                    int document = list.documents[i];
+                    if (!deleted.get(document)) {
+                        scores[document] = Math.max(scores[document],
+                                idfs[p] * scorer.frequencyScore(list.frequencies[i], document));
+                    }
+                }
+            }
+            return scores;
+        }
+    }
+
+    /**
+     * Posting list of one word: sorted document numbers and packed title/description frequencies.
+     */
+    static final class Postings {
+
+        private int[] documents = new int[2];
+        private byte[] frequencies = new byte[2];
+        private int size;
+
+        private void add(int document, byte frequency) {
+            if (size == documents.length) {
+                int newCapacity = size + Math.max(2, size >> 1);
+                documents = Arrays.copyOf(documents, newCapacity);
+                frequencies = Arrays.copyOf(frequencies, newCapacity);
+            }
+            documents[size] = document;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        private int indexOf(int document) {
+            return Arrays.binarySearch(documents, 0, size, document);
+        }
+
+        /**
+         * Drops the documents mapped to {@code -1} and renumbers the others.
+         *
+         * @return the new size
+         */
+        private int renumber(int[] renumbered) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int document = renumbered[documents[i]];
+                if (document >= 0) {
+                    documents[kept] = document;
+                    frequencies[kept] = frequencies[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            if (documents.length > 2 * kept + 2) {
+                documents = Arrays.copyOf(documents, kept + 2);
+                frequencies = Arrays.copyOf(frequencies, kept + 2);
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Bounded min-heap keeping the best hits. A hit is packed into a {@code long} whose natural
+     * order is by score and then by lower document number, i.e. older tasks win ties.
+     */
+    private static final class TopHits {
+
+        private final long[] heap;
+        private int size;
+
+        private TopHits(int limit) {
+            this.heap = new long[limit];
+        }
+
+        private void offer(int document, float score) {
+            long hit = (long) Float.floatToIntBits(score) << 32 | (Integer.MAX_VALUE - document);
+            if (size < heap.length) {
+                heap[size] = hit;
+                siftUp(size++);
+            } else if (hit > heap[0]) {
+                heap[0] = hit;
+                siftDown(0);
+            }
+        }
+
+        private long[] drainDescending() {
+            long[] hits = new long[size];
+            for (int i = size - 1; i >= 0; i--) {
+                hits[i] = heap[0];
+                heap[0] = heap[--size];
+                siftDown(0);
+            }
+            return hits;
+        }
+
+        private static int document(long hit) {
+            return Integer.MAX_VALUE - (int) hit;
+        }
+
+        private static float score(long hit) {
+            return Float.intBitsToFloat((int) (hit >>> 32));
+        }
+
+        private void siftUp(int index) {
+            long hit = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (heap[parent] <= hit) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = hit;
+        }
+
+        private void siftDown(int index) {
+            long hit = heap[index];
+            int half = size >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                if (child + 1 < size && heap[child + 1] < heap[child]) {
+                    child++;
+                }
+                if (hit <= heap[child]) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = hit;
+        }
+    }
+
+}
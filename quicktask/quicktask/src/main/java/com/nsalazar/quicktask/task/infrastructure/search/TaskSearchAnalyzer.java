@@ -0,0 +1,89 @@
+package com.nsalazar.quicktask.task.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Splits task text and queries into the words stored in the inverted index.
+ *
+ * <p>Text is decomposed (NFD), stripped of combining marks and lower-cased, so {@code "Café"}
+ * and {@code "cafe"} produce the same word. Words are maximal runs of letters and digits and are
+ * cut to {@value #MAX_TERM_LENGTH} characters.
+ *
+ * @author nsalazar
+ * @see InvertedTaskSearchIndex
+ */
+final class TaskSearchAnalyzer {
+
+    /**
+     * Maximum length of an indexed word.
+     */
+    static final int MAX_TERM_LENGTH = 32;
+
+    /**
+     * Suffix marking a query word as a prefix.
+     */
+    static final char PREFIX_MARKER = '*';
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private TaskSearchAnalyzer() {
+    }
+
+    /**
+     * Returns the words of a text, in order and with repetitions.
+     *
+     * @param text the text to analyze; {@code null} yields no words
+     * @return the normalized words
+     */
+    static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        for (String term : NON_WORD.split(normalize(text))) {
+            if (!term.isEmpty()) {
+                terms.add(term.length() > MAX_TERM_LENGTH ? term.substring(0, MAX_TERM_LENGTH) : term);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Parses a query into its distinct words, each flagged as exact word or prefix.
+     *
+     * <p>A whitespace-separated query word ending with {@value #PREFIX_MARKER} is a prefix; if it
+     * analyzes to several words (e.g. {@code "e-mail*"}), only the last one is a prefix.
+     *
+     * @param query the query text
+     * @return the words mapped to {@code true} for prefixes, in query order
+     */
+    static Map<String, Boolean> queryTerms(String query) {
+        Map<String, Boolean> terms = new LinkedHashMap<>();
+        if (query == null) {
+            return terms;
+        }
+        for (String word : WHITESPACE.split(query.strip())) {
+            boolean prefix = word.length() > 1 && word.charAt(word.length() - 1) == PREFIX_MARKER;
+            List<String> wordTerms = terms(word);
+            for (int i = 0; i < wordTerms.size(); i++) {
+                boolean isPrefix = prefix && i == wordTerms.size() - 1;
+                terms.merge(wordTerms.get(i), isPrefix, (previous, current) -> previous && current);
+            }
+        }
+        return terms;
+    }
+
+    private static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+}
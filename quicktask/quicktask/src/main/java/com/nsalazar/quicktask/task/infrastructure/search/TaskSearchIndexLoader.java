@@ -0,0 +1,106 @@
+package com.nsalazar.quicktask.task.infrastructure.search;
+
+import com.nsalazar.quicktask.shared.infrastructure.database.PrimaryReads;
+import com.nsalazar.quicktask.task.domain.repository.ITaskRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads the task search index from the database when the application starts.
+ *
+ * <p>The index lives only in memory, so it is rebuilt on every start. The rebuild runs on a
+ * background daemon thread once the application is ready, so startup time does not grow with
+ * the number of tasks. It streams {@code tbl_tasks} through the forward-only cursor of
+ * {@link ITaskRepository#forEachTask} in one read-only transaction. Searches issued meanwhile
+ * see the tasks loaded so far and report {@code indexReady=false}.
+ *
+ * <p>Set {@value #REBUILD_ON_STARTUP} to {@code false} to skip the rebuild; the index then only
+ * contains the tasks written since startup.
+ *
+ * <p><strong>Metrics:</strong>
+ * <ul>
+ *   <li>{@code quicktask.search.index.tasks} - number of indexed tasks</li>
+ *   <li>{@code quicktask.search.index.ready} - {@code 1} once the rebuild has completed</li>
+ * </ul>
+ *
+ * @author nsalazar
+ * @see InvertedTaskSearchIndex
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskSearchIndexLoader implements MeterBinder {
+
+    /**
+     * Property enabling the rebuild of the index at startup. Defaults to {@code true}.
+     */
+    public static final String REBUILD_ON_STARTUP = "quicktask.search.rebuild-on-startup";
+
+    /**
+     * Number of rows fetched per round trip while rebuilding.
+     */
+    static final int FETCH_SIZE = 1_000;
+
+    private final InvertedTaskSearchIndex searchIndex;
+    private final ITaskRepository taskRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final Environment environment;
+
+    /**
+     * Starts the rebuild on a background thread once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        if (!environment.getProperty(REBUILD_ON_STARTUP, Boolean.class, true)) {
+            log.info("Task search index rebuild disabled; only tasks written from now on are searchable");
+            return;
+        }
+        Thread thread = new Thread(this::rebuild, "task-search-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Loads every task into the index.
+     */
+    void rebuild() {
+        long start = System.nanoTime();
+        log.info("Rebuilding task search index");
+        searchIndex.beginRebuild();
+        // On the primary even with read replicas, so the index does not miss recent writes
+        try (PrimaryReads.Scope ignored = PrimaryReads.open()) {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            Long count = transaction.execute(status -> taskRepository.forEachTask(FETCH_SIZE,
+                    task -> searchIndex.load(task.getId(), task.getTitle(), task.getDescription())));
+            searchIndex.finishRebuild(true);
+            log.info("Task search index rebuilt: {} tasks in {} ms",
+                    count, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException ex) {
+            searchIndex.finishRebuild(false);
+            log.error("Task search index rebuild failed; searches only see the tasks loaded so far", ex);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("quicktask.search.index.tasks", searchIndex, InvertedTaskSearchIndex::size)
+                .description("Tasks in the full-text search index")
+                .register(registry);
+        Gauge.builder("quicktask.search.index.ready", searchIndex, index -> index.isReady() ? 1 : 0)
+                .description("Whether the full-text search index has been fully loaded")
+                .register(registry);
+    }
+
+}
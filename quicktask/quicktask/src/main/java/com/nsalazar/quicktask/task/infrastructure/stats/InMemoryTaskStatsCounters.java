@@ -0,0 +1,378 @@
+package com.nsalazar.quicktask.task.infrastructure.stats;
+
+import com.nsalazar.quicktask.task.domain.repository.ITaskStatsRepository;
+import com.nsalazar.quicktask.task.domain.stats.ITaskStatsCounters;
+import com.nsalazar.quicktask.task.domain.stats.TaskStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory {@link ITaskStatsCounters} built on {@link LongAdder}s.
+ *
+ * <p>Each scope (all tasks, and every task list) holds one adder for the total, one for the
+ * completed tasks and one per creation day of the retained window of {@value #DAYS} days. A
+ * {@code LongAdder} spreads concurrent increments over striped cells, so writers never contend
+ * on a single counter, and reading a scope is a handful of sums regardless of the number of tasks.
+ *
+ * <p>Changes reported inside a transaction are applied after it commits; rolled-back writes are
+ * never counted. Tasks without a task list only count towards the global scope.
+ *
+ * <p>Persistence and reconciliation are driven by {@link TaskStatsMaintainer}: it adds the saved
+ * counts at startup ({@link #load}), periodically saves the scopes changed since the last save
+ * ({@link #drainDirty}) and corrects the counts against {@code tbl_tasks} ({@link #capture} and
+ * {@link #reconcile}).
+ *
+ * @author nsalazar
+ * @see TaskStatsMaintainer
+ */
+@Component
+public class InMemoryTaskStatsCounters implements ITaskStatsCounters {
+
+    /**
+     * Property holding the number of days, including today, of per-day creation counts kept.
+     * Defaults to {@code 90}.
+     */
+    public static final String DAYS = "quicktask.stats.days";
+
+    private static final UUID GLOBAL_SCOPE = ITaskStatsRepository.GLOBAL_SCOPE;
+
+    private final ConcurrentHashMap<UUID, ScopeCounters> scopes = new ConcurrentHashMap<>();
+    private final Set<UUID> dirtyScopes = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> removedScopes = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean reconciliationRequested = new AtomicBoolean();
+    private final int days;
+    private final Clock clock;
+
+    private volatile boolean ready;
+    private volatile LocalDateTime reconciledAt;
+
+    /**
+     * Creates empty counters keeping the given number of days of creation counts.
+     *
+     * @param days the number of days kept, including today
+     */
+    @Autowired
+    public InMemoryTaskStatsCounters(@Value("${" + DAYS + ":90}") int days) {
+        this(days, Clock.systemDefaultZone());
+    }
+
+    InMemoryTaskStatsCounters(int days, Clock clock) {
+        if (days < 1) {
+            throw new IllegalArgumentException(DAYS + " must be positive: " + days);
+        }
+        this.days = days;
+        this.clock = clock;
+        scopes.put(GLOBAL_SCOPE, new ScopeCounters());
+    }
+
+    @Override
+    public void taskCreated(UUID taskListId, boolean completed, LocalDateTime createdAt) {
+        afterCommit(() -> add(taskListId, 1, completed ? 1 : 0, createdAt));
+    }
+
+    @Override
+    public void taskChanged(UUID previousTaskListId, boolean previouslyCompleted,
+                            UUID taskListId, boolean completed, LocalDateTime createdAt) {
+        if (previouslyCompleted == completed && (previousTaskListId == null
+                ? taskListId == null : previousTaskListId.equals(taskListId))) {
+            return;
+        }
+        afterCommit(() -> {
+            add(previousTaskListId, -1, previouslyCompleted ? -1 : 0, createdAt);
+            add(taskListId, 1, completed ? 1 : 0, createdAt);
+        });
+    }
+
+    @Override
+    public void taskDeleted(UUID taskListId, boolean completed, LocalDateTime createdAt) {
+        afterCommit(() -> add(taskListId, -1, completed ? -1 : 0, createdAt));
+    }
+
+    @Override
+    public void taskListDeleted(UUID taskListId, boolean tasksDeleted) {
+        afterCommit(() -> {
+            ScopeCounters removed = scopes.remove(taskListId);
+            dirtyScopes.remove(taskListId);
+            removedScopes.add(taskListId);
+            if (tasksDeleted && removed != null) {
+                ScopeCounters global = scopes.get(GLOBAL_SCOPE);
+                global.total.add(-removed.total.sum());
+                global.completed.add(-removed.completed.sum());
+                removed.createdPerDay.forEach((day, created) -> global.created(day).add(-created.sum()));
+                dirtyScopes.add(GLOBAL_SCOPE);
+            }
+        });
+    }
+
+    @Override
+    public void requestReconciliation() {
+        reconciliationRequested.set(true);
+    }
+
+    @Override
+    public TaskStats global() {
+        return toStats(scopes.get(GLOBAL_SCOPE), firstDay());
+    }
+
+    @Override
+    public Optional<TaskStats> forTaskList(UUID taskListId) {
+        ScopeCounters counters = scopes.get(taskListId);
+        return counters == null ? Optional.empty() : Optional.of(toStats(counters, firstDay()));
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public LocalDateTime getReconciledAt() {
+        return reconciledAt;
+    }
+
+    /**
+     * Returns the number of task lists with counts.
+     *
+     * @return the number of task list scopes
+     */
+    public int taskListCount() {
+        return scopes.size() - 1;
+    }
+
+    /**
+     * Returns the first day of the retained window.
+     *
+     * @return today minus the retained days plus one
+     */
+    LocalDate firstDay() {
+        return LocalDate.now(clock).minusDays(days - 1L);
+    }
+
+    /**
+     * Adds saved counts to the counters and marks them ready.
+     *
+     * <p>Adding rather than replacing keeps the changes counted since startup. Days outside the
+     * retained window are ignored.
+     *
+     * @param saved the saved statistics by scope
+     */
+    void load(Map<UUID, TaskStats> saved) {
+        LocalDate firstDay = firstDay();
+        saved.forEach((scopeId, stats) -> {
+            ScopeCounters counters = scope(scopeId);
+            counters.total.add(stats.getTotal());
+            counters.completed.add(stats.getCompleted());
+            stats.getCreatedPerDay().tailMap(firstDay).forEach((day, created) -> counters.created(day).add(created));
+        });
+        ready = true;
+    }
+
+    /**
+     * Returns whether a reconciliation was requested since the last call, and clears the request.
+     *
+     * @return {@code true} if a reconciliation was requested
+     */
+    boolean consumeReconciliationRequest() {
+        return reconciliationRequested.getAndSet(false);
+    }
+
+    /**
+     * Returns the current counts of every scope, dropping days that left the retained window.
+     *
+     * @return the statistics by scope
+     */
+    Map<UUID, TaskStats> capture() {
+        LocalDate firstDay = firstDay();
+        Map<UUID, TaskStats> captured = new HashMap<>();
+        scopes.forEach((scopeId, counters) -> captured.put(scopeId, toStats(counters, firstDay)));
+        return captured;
+    }
+
+    /**
+     * Corrects the counters by the difference between the actual and the captured counts.
+     *
+     * <p>Applying the difference instead of overwriting keeps the changes counted between the
+     * capture and this call. A change committed while the actual counts were being queried may
+     * be counted twice or not at all; the next reconciliation corrects it. Task list scopes left
+     * without tasks are dropped.
+     *
+     * @param captured the counts returned by {@link #capture} before the query started
+     * @param actual the counts computed from {@code tbl_tasks}
+     * @param at when the actual counts were computed
+     */
+    synchronized void reconcile(Map<UUID, TaskStats> captured, Map<UUID, TaskStats> actual, LocalDateTime at) {
+        LocalDate firstDay = firstDay();
+        Set<UUID> scopeIds = new HashSet<>(captured.keySet());
+        scopeIds.addAll(actual.keySet());
+        scopeIds.add(GLOBAL_SCOPE);
+        for (UUID scopeId : scopeIds) {
+            TaskStats before = captured.getOrDefault(scopeId, TaskStats.EMPTY);
+            TaskStats after = actual.getOrDefault(scopeId, TaskStats.EMPTY);
+            ScopeCounters counters = scope(scopeId);
+            boolean changed = addDifference(counters.total, after.getTotal() - before.getTotal());
+            changed |= addDifference(counters.completed, after.getCompleted() - before.getCompleted());
+            Set<LocalDate> dayKeys = new HashSet<>(before.getCreatedPerDay().keySet());
+            dayKeys.addAll(after.getCreatedPerDay().keySet());
+            for (LocalDate day : dayKeys) {
+                if (!day.isBefore(firstDay)) {
+                    changed |= addDifference(counters.created(day), after.getCreatedPerDay().getOrDefault(day, 0L)
+                            - before.getCreatedPerDay().getOrDefault(day, 0L));
+                }
+            }
+            if (!scopeId.equals(GLOBAL_SCOPE) && !actual.containsKey(scopeId) && counters.isEmpty()) {
+                scopes.remove(scopeId, counters);
+                dirtyScopes.remove(scopeId);
+                removedScopes.add(scopeId);
+            } else if (changed) {
+                dirtyScopes.add(scopeId);
+            }
+        }
+        reconciledAt = at;
+    }
+
+    /**
+     * Returns the counts of the scopes changed since the last call, and forgets them.
+     *
+     * @return the changed statistics by scope
+     */
+    Map<UUID, TaskStats> drainDirty() {
+        LocalDate firstDay = firstDay();
+        Map<UUID, TaskStats> dirty = new HashMap<>();
+        for (UUID scopeId : Set.copyOf(dirtyScopes)) {
+            dirtyScopes.remove(scopeId);
+            ScopeCounters counters = scopes.get(scopeId);
+            if (counters != null) {
+                dirty.put(scopeId, toStats(counters, firstDay));
+            }
+        }
+        return dirty;
+    }
+
+    /**
+     * Returns the scopes removed since the last call, and forgets them.
+     *
+     * @return the removed scope ids
+     */
+    Set<UUID> drainRemoved() {
+        Set<UUID> removed = new HashSet<>();
+        for (UUID scopeId : Set.copyOf(removedScopes)) {
+            removedScopes.remove(scopeId);
+            removed.add(scopeId);
+        }
+        return removed;
+    }
+
+    /**
+     * Marks scopes to be saved or removed again, after a failed save.
+     *
+     * @param dirty the scopes to save
+     * @param removed the scopes to remove
+     */
+    void retry(Collection<UUID> dirty, Collection<UUID> removed) {
+        dirtyScopes.addAll(dirty);
+        removedScopes.addAll(removed);
+    }
+
+    private void add(UUID taskListId, long total, long completed, LocalDateTime createdAt) {
+        LocalDate day = createdAt == null ? null : createdAt.toLocalDate();
+        if (day != null && day.isBefore(firstDay())) {
+            day = null;
+        }
+        add(GLOBAL_SCOPE, total, completed, day);
+        if (taskListId != null) {
+            add(taskListId, total, completed, day);
+        }
+    }
+
+    private void add(UUID scopeId, long total, long completed, LocalDate day) {
+        ScopeCounters counters = scope(scopeId);
+        counters.total.add(total);
+        if (completed != 0) {
+            counters.completed.add(completed);
+        }
+        if (day != null) {
+            counters.created(day).add(total);
+        }
+        dirtyScopes.add(scopeId);
+    }
+
+    private ScopeCounters scope(UUID scopeId) {
+        return scopes.computeIfAbsent(scopeId, id -> new ScopeCounters());
+    }
+
+    private static boolean addDifference(LongAdder adder, long difference) {
+        if (difference == 0) {
+            return false;
+        }
+        adder.add(difference);
+        return true;
+    }
+
+    private static TaskStats toStats(ScopeCounters counters, LocalDate firstDay) {
+        counters.createdPerDay.keySet().removeIf(day -> day.isBefore(firstDay));
+        SortedMap<LocalDate, Long> createdPerDay = new TreeMap<>();
+        counters.createdPerDay.forEach((day, created) -> {
+            long sum = created.sum();
+            if (sum != 0) {
+                createdPerDay.put(day, sum);
+            }
+        });
+        return new TaskStats(counters.total.sum(), counters.completed.sum(), createdPerDay);
+    }
+
+    /**
+     * Runs the action after the current transaction commits, or immediately outside a transaction.
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * The counters of one scope.
+     */
+    private static final class ScopeCounters {
+
+        private final LongAdder total = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final ConcurrentHashMap<LocalDate, LongAdder> createdPerDay = new ConcurrentHashMap<>();
+
+        private LongAdder created(LocalDate day) {
+            return createdPerDay.computeIfAbsent(day, d -> new LongAdder());
+        }
+
+        private boolean isEmpty() {
+            return total.sum() == 0 && completed.sum() == 0
+                    && createdPerDay.values().stream().allMatch(created -> created.sum() == 0);
+        }
+
+    }
+
+}
@@ -0,0 +1,207 @@
+package com.nsalazar.quicktask.task.infrastructure.stats;
+
+import com.nsalazar.quicktask.shared.infrastructure.database.PrimaryReads;
+import com.nsalazar.quicktask.task.domain.repository.ITaskRepository;
+import com.nsalazar.quicktask.task.domain.repository.ITaskStatsRepository;
+import com.nsalazar.quicktask.task.domain.stats.TaskDailyCount;
+import com.nsalazar.quicktask.task.domain.stats.TaskStats;
+import com.nsalazar.quicktask.task.domain.stats.TaskStatsCount;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads, saves and reconciles the task statistics counters.
+ *
+ * <p>When the application is ready, a background daemon thread adds the counts saved in
+ * {@code tbl_task_stats} to the counters, which then report {@code ready=true}, and reconciles
+ * them once. Afterwards:
+ * <ul>
+ *   <li>every {@value #FLUSH_INTERVAL} (default {@code 30s}) the scopes changed since the last save
+ *       are written back, so a restart resumes from counts at most that old; a reconciliation
+ *       requested by the service layer runs right after the save</li>
+ *   <li>every {@value #RECONCILE_INTERVAL} (default {@code 1h}) the counts are recomputed from
+ *       {@code tbl_tasks} with two {@code GROUP BY} queries and the counters are corrected by the
+ *       difference, which repairs drift from writes the counters missed (other instances,
+ *       direct SQL, a crash between commit and save)</li>
+ * </ul>
+ *
+ * <p><strong>Metrics:</strong>
+ * <ul>
+ *   <li>{@code quicktask.stats.task-lists} - number of task lists with counts</li>
+ *   <li>{@code quicktask.stats.ready} - {@code 1} once the saved counts have been loaded</li>
+ * </ul>
+ *
+ * @author nsalazar
+ * @see InMemoryTaskStatsCounters
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskStatsMaintainer implements MeterBinder {
+
+    /**
+     * Property holding the delay between two saves of the counters.
+     */
+    public static final String FLUSH_INTERVAL = "quicktask.stats.flush-interval";
+
+    /**
+     * Property holding the delay between two reconciliations with {@code tbl_tasks}.
+     */
+    public static final String RECONCILE_INTERVAL = "quicktask.stats.reconcile-interval";
+
+    private final InMemoryTaskStatsCounters counters;
+    private final ITaskStatsRepository taskStatsRepository;
+    private final ITaskRepository taskRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * Starts loading the saved counts on a background thread once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadInBackground() {
+        Thread thread = new Thread(this::loadAndReconcile, "task-stats-load");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Loads the saved counts, then reconciles them with {@code tbl_tasks}.
+     */
+    void loadAndReconcile() {
+        try {
+            Map<UUID, TaskStats> saved = readOnPrimary(status -> taskStatsRepository.findAll());
+            counters.load(saved);
+            log.info("Task statistics loaded: {} scopes", saved.size());
+        } catch (RuntimeException ex) {
+            counters.load(Map.of());
+            log.error("Loading the saved task statistics failed; counts are rebuilt by the reconciliation", ex);
+        }
+        reconcile();
+    }
+
+    /**
+     * Saves the scopes changed since the last save, then runs a requested reconciliation.
+     */
+    @Scheduled(fixedDelayString = "${" + FLUSH_INTERVAL + ":30s}", initialDelayString = "${" + FLUSH_INTERVAL + ":30s}")
+    public void flush() {
+        if (!counters.isReady()) {
+            return;
+        }
+        Map<UUID, TaskStats> dirty = counters.drainDirty();
+        Set<UUID> removed = counters.drainRemoved();
+        if (!dirty.isEmpty() || !removed.isEmpty()) {
+            try {
+                new TransactionTemplate(transactionManager).executeWithoutResult(
+                        status -> taskStatsRepository.saveAll(dirty, removed));
+                log.debug("Task statistics saved: {} scopes, {} removed", dirty.size(), removed.size());
+            } catch (RuntimeException ex) {
+                counters.retry(dirty.keySet(), removed);
+                log.error("Saving the task statistics failed; retrying on the next run", ex);
+            }
+        }
+        if (counters.consumeReconciliationRequest()) {
+            reconcile();
+        }
+    }
+
+    /**
+     * Recomputes the counts from {@code tbl_tasks} and corrects the counters.
+     */
+    @Scheduled(fixedDelayString = "${" + RECONCILE_INTERVAL + ":1h}", initialDelayString = "${" + RECONCILE_INTERVAL + ":1h}")
+    public void reconcile() {
+        if (!counters.isReady()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            Map<UUID, TaskStats> captured = counters.capture();
+            LocalDate firstDay = counters.firstDay();
+            Map<UUID, TaskStats> actual = readOnPrimary(status -> aggregate(
+                    taskRepository.countByTaskListAndCompleted(),
+                    taskRepository.countCreatedPerDay(firstDay.atStartOfDay())));
+            counters.reconcile(captured, actual, LocalDateTime.now());
+            log.info("Task statistics reconciled: {} task lists in {} ms",
+                    actual.size() - 1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException ex) {
+            log.error("Reconciling the task statistics failed; keeping the incremental counts", ex);
+        }
+    }
+
+    /**
+     * Folds the grouped counts into statistics per scope; tasks without a task list only count
+     * towards the global scope.
+     */
+    static Map<UUID, TaskStats> aggregate(Iterable<TaskStatsCount> counts, Iterable<TaskDailyCount> dailyCounts) {
+        Map<UUID, long[]> totals = new HashMap<>();
+        Map<UUID, SortedMap<LocalDate, Long>> createdPerDay = new HashMap<>();
+        totals.put(ITaskStatsRepository.GLOBAL_SCOPE, new long[2]);
+        for (TaskStatsCount count : counts) {
+            for (UUID scopeId : scopesOf(count.getTaskListId())) {
+                long[] scopeTotals = totals.computeIfAbsent(scopeId, id -> new long[2]);
+                scopeTotals[0] += count.getCount();
+                if (count.isCompleted()) {
+                    scopeTotals[1] += count.getCount();
+                }
+            }
+        }
+        for (TaskDailyCount dailyCount : dailyCounts) {
+            for (UUID scopeId : scopesOf(dailyCount.getTaskListId())) {
+                createdPerDay.computeIfAbsent(scopeId, id -> new TreeMap<>())
+                        .merge(dailyCount.getDay(), dailyCount.getCount(), Long::sum);
+            }
+        }
+        Map<UUID, TaskStats> stats = new HashMap<>();
+        totals.forEach((scopeId, scopeTotals) -> stats.put(scopeId, new TaskStats(scopeTotals[0], scopeTotals[1],
+                createdPerDay.getOrDefault(scopeId, new TreeMap<>()))));
+        return stats;
+    }
+
+    private static Set<UUID> scopesOf(UUID taskListId) {
+        return taskListId == null
+                ? Set.of(ITaskStatsRepository.GLOBAL_SCOPE)
+                : Set.of(ITaskStatsRepository.GLOBAL_SCOPE, taskListId);
+    }
+
+    /**
+     * Runs a read-only transaction on the primary even with read replicas: counts read from a
+     * lagging replica would make the counters drift instead of correcting them.
+     */
+    private <T> T readOnPrimary(TransactionCallback<T> action) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        try (PrimaryReads.Scope ignored = PrimaryReads.open()) {
+            return transaction.execute(action);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("quicktask.stats.task-lists", counters, InMemoryTaskStatsCounters::taskListCount)
+                .description("Task lists with task statistics counters")
+                .register(registry);
+        Gauge.builder("quicktask.stats.ready", counters, stats -> stats.isReady() ? 1 : 0)
+                .description("Whether the saved task statistics have been loaded")
+                .register(registry);
+    }
+
+}
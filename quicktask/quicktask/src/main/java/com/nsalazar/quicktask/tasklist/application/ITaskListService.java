@@ -6,6 +6,7 @@ import com.nsalazar.quicktask.tasklist.application.dto.response.TaskListDTORespo
 import com.nsalazar.quicktask.tasklist.application.dto.response.TaskListDetailDTOResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.UUID;
 
@@ -23,12 +24,29 @@ import java.util.UUID;
 public interface ITaskListService {
 
     /**
-     * Retrieves a paginated list of all task lists.
+     * Retrieves a paginated list of all task lists with their task counters.
      *
      * @param pageable pagination and sorting information
+     * @param includeTasks whether the tasks of each list on the page should be embedded
      * @return a page of TaskListDTOResponse objects
      */
-    Page<TaskListDTOResponse> getAll(Pageable pageable);
+    Page<TaskListDTOResponse> getAll(Pageable pageable, boolean includeTasks);
+
+    /**
+     * Retrieves a slice of all task lists with their task counters, without counting the lists.
+     *
+     * @param pageable pagination and sorting information
+     * @param includeTasks whether the tasks of each list on the slice should be embedded
+     * @return a slice of TaskListDTOResponse objects
+     */
+    Slice<TaskListDTOResponse> getSlice(Pageable pageable, boolean includeTasks);
+
+    /**
+     * Estimates the number of task lists from a periodically refreshed count.
+     *
+     * @return the number of task lists as of the last refresh
+     */
+    long estimateTotal();
 
     /**
      * Retrieves a single task list by its ID.
@@ -51,16 +69,20 @@ public interface ITaskListService {
      *
      * @param id the UUID of the task list to update
      * @param updateRequest the update request DTO
+     * @param expectedVersion the version the task list must currently have (from {@code If-Match}),
+     *                        or {@code null} to update unconditionally
      * @return the updated TaskListDetailDTOResponse with full task details
      */
-    TaskListDetailDTOResponse update(UUID id, TaskListDTOUpdateRequest updateRequest);
+    TaskListDetailDTOResponse update(UUID id, TaskListDTOUpdateRequest updateRequest, Long expectedVersion);
 
     /**
      * Deletes a task list by its ID.
-     * All tasks associated with the task list will be unlinked (taskListId set to null).
+     * All tasks associated with the task list are either unlinked (taskListId set to null)
+     * or deleted along with it.
      *
      * @param id the UUID of the task list to delete
+     * @param deleteTasks {@code true} to delete the associated tasks, {@code false} to unlink them
      */
-    void delete(UUID id);
+    void delete(UUID id, boolean deleteTasks);
 
 }
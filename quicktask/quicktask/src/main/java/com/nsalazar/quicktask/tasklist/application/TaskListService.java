@@ -1,8 +1,17 @@
 package com.nsalazar.quicktask.tasklist.application;
 
+import com.nsalazar.quicktask.shared.domain.event.DomainEventType;
+import com.nsalazar.quicktask.shared.domain.event.IDomainEventPublisher;
+import com.nsalazar.quicktask.shared.exception.PreconditionFailedException;
 import com.nsalazar.quicktask.shared.exception.ResourceNotFoundException;
+import com.nsalazar.quicktask.shared.infrastructure.cache.CacheConfig;
+import com.nsalazar.quicktask.shared.infrastructure.cache.CacheInvalidator;
+import com.nsalazar.quicktask.shared.infrastructure.cache.RequestCoalescer;
+import com.nsalazar.quicktask.task.application.dto.mapper.ITaskDTOMapper;
+import com.nsalazar.quicktask.task.application.dto.response.TaskDTOResponse;
 import com.nsalazar.quicktask.task.domain.Task;
 import com.nsalazar.quicktask.task.domain.repository.ITaskRepository;
+import com.nsalazar.quicktask.task.domain.stats.ITaskStatsCounters;
 import com.nsalazar.quicktask.tasklist.application.dto.mapper.ITaskListDTOMapper;
 import com.nsalazar.quicktask.tasklist.application.dto.request.TaskListDTOCreateRequest;
 import com.nsalazar.quicktask.tasklist.application.dto.request.TaskListDTOUpdateRequest;
@@ -10,18 +19,29 @@ import com.nsalazar.quicktask.tasklist.application.dto.response.TaskListDTORespo
 import com.nsalazar.quicktask.tasklist.application.dto.response.TaskListDetailDTOResponse;
 import com.nsalazar.quicktask.tasklist.application.exception.DuplicateNameException;
 import com.nsalazar.quicktask.tasklist.domain.TaskList;
+import com.nsalazar.quicktask.tasklist.domain.TaskListSummary;
 import com.nsalazar.quicktask.tasklist.domain.repository.ITaskListRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -48,7 +68,7 @@ public class TaskListService implements ITaskListService {
 
     /**
      * Repository for persisting and retrieving task data.
-     * Used to unlink tasks when a task list is deleted.
+     * Used to unlink or delete tasks in bulk when a task list is deleted.
      */
     private final ITaskRepository taskRepository;
 
@@ -57,40 +77,149 @@ public class TaskListService implements ITaskListService {
      */
     private final ITaskListDTOMapper taskListDTOMapper;
 
+    /**
+     * Mapper for converting domain Task objects into DTOs when tasks are embedded in a page.
+     */
+    private final ITaskDTOMapper taskDTOMapper;
+
+    /**
+     * Evicts cached task list and task details affected by write operations.
+     */
+    private final CacheInvalidator cacheInvalidator;
+
+    /**
+     * Task counts, whose per-list counts are dropped when a task list is deleted.
+     */
+    private final ITaskStatsCounters taskStats;
+
+    /**
+     * Records a domain event for every create, update and delete in the transaction of the change.
+     */
+    private final IDomainEventPublisher eventPublisher;
+
+    /**
+     * Shares one database read between concurrent identical reads of task lists.
+     */
+    private final RequestCoalescer requestCoalescer;
+
+    /**
+     * Starts the read-only transactions of coalesced reads, which wait outside any transaction.
+     */
+    private final PlatformTransactionManager transactionManager;
+
     /**
      * {@inheritDoc}
      *
-     * <p>Fetches task lists from the repository with pagination support.
-     * This is a read-only operation optimized with {@code @Transactional(readOnly = true)}.
+     * <p>Fetches task list summaries (including task counters) with a single query, so the
+     * associated tasks are never loaded lazily per list. When {@code includeTasks} is set, the
+     * tasks of every list on the page are loaded with one additional batched query.
+     * Concurrent requests for the same page share one read, which runs in a read-only
+     * transaction; the callers waiting for it hold no transaction or connection.
      *
      * @throws ResourceNotFoundException if no task lists are found in the database
      */
     @Override
-    @Transactional(readOnly = true)
-    public Page<TaskListDTOResponse> getAll(Pageable pageable) {
-        log.debug("Fetching all task lists with pagination: page={}, size={}", pageable.getPageNumber(), pageable.getPageSize());
-        Page<TaskList> taskListPage = taskListRepository.findAll(pageable);
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Page<TaskListDTOResponse> getAll(Pageable pageable, boolean includeTasks) {
+        return requestCoalescer.execute("taskList.getAll", List.of(pageable, includeTasks),
+                () -> readOnly(() -> loadPage(pageable, includeTasks)));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Same as {@link #getAll(Pageable, boolean)}, without the count query.
+     *
+     * @throws ResourceNotFoundException if the slice is empty
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Slice<TaskListDTOResponse> getSlice(Pageable pageable, boolean includeTasks) {
+        return requestCoalescer.execute("taskList.getSlice", List.of(pageable, includeTasks),
+                () -> readOnly(() -> loadSlice(pageable, includeTasks)));
+    }
+
+    /**
+     * Executes a coalesced read in a read-only transaction, or in the transaction of the caller.
+     */
+    private <T> T readOnly(Supplier<T> read) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction.execute(status -> read.get());
+    }
+
+    private Page<TaskListDTOResponse> loadPage(Pageable pageable, boolean includeTasks) {
+        log.debug("Fetching all task lists with pagination: page={}, size={}, includeTasks={}",
+                pageable.getPageNumber(), pageable.getPageSize(), includeTasks);
+        Page<TaskListSummary> summaryPage = taskListRepository.findAllSummaries(pageable);
 
-        if (taskListPage.isEmpty()) {
+        if (summaryPage.isEmpty()) {
             log.warn("No task lists found in the database");
             throw new ResourceNotFoundException("No task lists found");
         }
 
-        log.debug("Found {} task lists (total: {})", taskListPage.getNumberOfElements(), taskListPage.getTotalElements());
-        return taskListPage.map(taskListDTOMapper::toTaskListDTOResponse);
+        log.debug("Found {} task lists (total: {})", summaryPage.getNumberOfElements(), summaryPage.getTotalElements());
+        Page<TaskListDTOResponse> responsePage = summaryPage.map(taskListDTOMapper::toTaskListDTOResponse);
+
+        if (includeTasks) {
+            attachTasks(responsePage.getContent());
+        }
+        return responsePage;
+    }
+
+    private Slice<TaskListDTOResponse> loadSlice(Pageable pageable, boolean includeTasks) {
+        log.debug("Fetching a slice of all task lists: page={}, size={}, includeTasks={}",
+                pageable.getPageNumber(), pageable.getPageSize(), includeTasks);
+        Slice<TaskListSummary> summarySlice = taskListRepository.findSummarySlice(pageable);
+
+        if (summarySlice.isEmpty()) {
+            log.warn("No task lists found in the database");
+            throw new ResourceNotFoundException("No task lists found");
+        }
+
+        Slice<TaskListDTOResponse> responseSlice = summarySlice.map(taskListDTOMapper::toTaskListDTOResponse);
+        if (includeTasks) {
+            attachTasks(responseSlice.getContent());
+        }
+        return responseSlice;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Served from the repository's cached count, which is taken again at most once per
+     * refresh interval.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long estimateTotal() {
+        return taskListRepository.estimateCount();
     }
 
     /**
      * {@inheritDoc}
      *
      * <p>Fetches a single task list by its UUID including all associated tasks.
-     * This is a read-only operation optimized with {@code @Transactional(readOnly = true)}.
+     * Responses are cached per task list id in the {@value CacheConfig#TASK_LIST_DETAILS} cache;
+     * on a cache miss, concurrent requests for the same task list share one read, which runs in
+     * a read-only transaction while the other callers wait outside any transaction. Inside a
+     * {@code PrimaryReads} scope the task list is read from the primary and replaces the cached
+     * entry, which may have been filled from a lagging replica.
      *
      * @throws ResourceNotFoundException if no task list exists with the provided ID
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Caching(
+            cacheable = @Cacheable(cacheNames = CacheConfig.TASK_LIST_DETAILS, key = "#id",
+                    condition = CacheConfig.OUTSIDE_PRIMARY_READS),
+            put = @CachePut(cacheNames = CacheConfig.TASK_LIST_DETAILS, key = "#id",
+                    condition = CacheConfig.INSIDE_PRIMARY_READS))
     public TaskListDetailDTOResponse getById(UUID id) {
+        return requestCoalescer.execute("taskList.getById", id, () -> readOnly(() -> loadDetail(id)));
+    }
+
+    private TaskListDetailDTOResponse loadDetail(UUID id) {
         log.debug("Fetching task list with ID: {}", id);
         TaskList taskList = taskListRepository.findById(id)
                 .orElseThrow(() -> {
@@ -127,6 +256,7 @@ public class TaskListService implements ITaskListService {
         taskList.setCreatedAt(LocalDateTime.now());
 
         TaskList savedTaskList = taskListRepository.save(taskList);
+        eventPublisher.publish(DomainEventType.TASK_LIST_CREATED, savedTaskList.getId(), toEventPayload(savedTaskList));
         log.info("Task list created successfully: '{}' (ID: {})", savedTaskList.getName(), savedTaskList.getId());
         return taskListDTOMapper.toTaskListDTOResponse(savedTaskList);
     }
@@ -138,18 +268,25 @@ public class TaskListService implements ITaskListService {
      * is applied:
      * <ul>
      *   <li>Validates the update DTO is not null and contains at least one field</li>
+     *   <li>Rejects the update if {@code expectedVersion} is given and differs from the current version</li>
      *   <li>Validates the new name is not already in use (if changed)</li>
      *   <li>Maps the update DTO properties to the existing task list</li>
      *   <li>Updates the modification timestamp</li>
+     *   <li>Evicts the cached list detail and, if the name or description changed, the cached
+     *       details of its tasks (they embed the list info)</li>
      * </ul>
      *
+     * <p>A concurrent update committed between the read and the save is detected by the
+     * version check of the save and surfaces as an {@code OptimisticLockingFailureException}.
+     *
      * @throws IllegalArgumentException if the update request is null or empty
      * @throws ResourceNotFoundException if no task list exists with the provided ID
      * @throws DuplicateNameException if the new name is already in use
+     * @throws PreconditionFailedException if the task list's version differs from {@code expectedVersion}
      */
     @Override
-    public TaskListDetailDTOResponse update(UUID id, TaskListDTOUpdateRequest updateRequest) {
-        log.debug("Updating task list with ID: {}", id);
+    public TaskListDetailDTOResponse update(UUID id, TaskListDTOUpdateRequest updateRequest, Long expectedVersion) {
+        log.debug("Updating task list with ID: {}, expectedVersion={}", id, expectedVersion);
         validateUpdateRequest(updateRequest);
 
         TaskList taskList = taskListRepository.findById(id)
@@ -158,15 +295,27 @@ public class TaskListService implements ITaskListService {
                     return new ResourceNotFoundException("Task list not found with id: " + id);
                 });
 
+        if (expectedVersion != null && !expectedVersion.equals(taskList.getVersion())) {
+            log.warn("Stale version {} for update of task list with ID: {}", expectedVersion, id);
+            throw new PreconditionFailedException(
+                    String.format("Task list %s has been modified since version %d", id, expectedVersion));
+        }
+
         if (updateRequest.getName() != null && !taskList.getName().equals(updateRequest.getName())) {
             log.debug("Name changed from '{}' to '{}', validating uniqueness", taskList.getName(), updateRequest.getName());
             validateNameNotDuplicated(updateRequest.getName());
         }
 
+        boolean listInfoChanged = isListInfoChanged(taskList, updateRequest);
         taskListDTOMapper.toTaskList(updateRequest, taskList);
         taskList.setUpdatedAt(LocalDateTime.now());
 
         TaskList updatedTaskList = taskListRepository.save(taskList);
+        cacheInvalidator.evictTaskListDetails(id);
+        if (listInfoChanged) {
+            cacheInvalidator.evictTaskDetails(taskIdsOf(taskList));
+        }
+        eventPublisher.publish(DomainEventType.TASK_LIST_UPDATED, id, toEventPayload(updatedTaskList));
         log.info("Task list updated successfully: '{}' (ID: {})", updatedTaskList.getName(), updatedTaskList.getId());
         return buildTaskListDetailDTOResponse(updatedTaskList);
     }
@@ -174,33 +323,31 @@ public class TaskListService implements ITaskListService {
     /**
      * {@inheritDoc}
      *
-     * <p>Deletes the task list and unlinks all associated tasks by setting their
-     * {@code taskListId} to null and updating their timestamps. Tasks are not deleted.
+     * <p>Neither the task list nor its tasks are loaded: the associated tasks are unlinked
+     * (or deleted, when {@code deleteTasks} is set) with one bulk statement, and the list is
+     * removed with another, so the number of statements does not depend on the list size.
+     * Since the affected task IDs are never read, all cached task details are cleared.
      *
      * @throws ResourceNotFoundException if no task list exists with the provided ID
      */
     @Override
-    public void delete(UUID id) {
-        log.debug("Deleting task list with ID: {}", id);
-        TaskList taskList = taskListRepository.findById(id)
-                .orElseThrow(() -> {
-                    log.warn("Task list not found for deletion with ID: {}", id);
-                    return new ResourceNotFoundException("Task list not found with id: " + id);
-                });
-
-        // Unlink all tasks from this list before deleting
-        int taskCount = taskList.getTasks().size();
-        if (taskCount > 0) {
-            log.debug("Unlinking {} tasks from task list '{}'", taskCount, taskList.getName());
-        }
-        for (Task task : taskList.getTasks()) {
-            task.setTaskListId(null);
-            task.setUpdatedAt(LocalDateTime.now());
-            taskRepository.save(task);
+    public void delete(UUID id, boolean deleteTasks) {
+        log.debug("Deleting task list with ID: {}, deleteTasks={}", id, deleteTasks);
+        if (!taskListRepository.existsById(id)) {
+            log.warn("Task list not found for deletion with ID: {}", id);
+            throw new ResourceNotFoundException("Task list not found with id: " + id);
         }
 
+        int taskCount = deleteTasks
+                ? taskRepository.deleteAllByTaskListId(id)
+                : taskRepository.unlinkAllFromTaskList(id, LocalDateTime.now());
+
         taskListRepository.delete(id);
-        log.info("Task list deleted successfully: '{}' (ID: {}), {} tasks unlinked", taskList.getName(), id, taskCount);
+        cacheInvalidator.evictTaskListDetails(id);
+        cacheInvalidator.clearTaskDetails();
+        taskStats.taskListDeleted(id, deleteTasks);
+        eventPublisher.publish(DomainEventType.TASK_LIST_DELETED, id, Map.of("id", id, "tasksDeleted", deleteTasks));
+        log.info("Task list deleted successfully (ID: {}), {} tasks {}", id, taskCount, deleteTasks ? "deleted" : "unlinked");
     }
 
     /**
@@ -249,7 +396,7 @@ public class TaskListService implements ITaskListService {
      * @throws DuplicateNameException if a task list with the same name already exists
      */
     private void validateNameNotDuplicated(String name) {
-        if (taskListRepository.findByName(name).isPresent()) {
+        if (taskListRepository.existsByName(name)) {
             log.warn("Duplicate name detected: '{}'", name);
             throw new DuplicateNameException(
                     String.format("A task list with name '%s' already exists", name)
@@ -257,6 +404,63 @@ public class TaskListService implements ITaskListService {
         }
     }
 
+    /**
+     * Checks whether an update changes the list info embedded in task detail responses.
+     *
+     * @param taskList the current task list
+     * @param updateRequest the update request
+     * @return true if the name or the description changes
+     */
+    private boolean isListInfoChanged(TaskList taskList, TaskListDTOUpdateRequest updateRequest) {
+        return (updateRequest.getName() != null && !updateRequest.getName().equals(taskList.getName()))
+                || (updateRequest.getDescription() != null && !updateRequest.getDescription().equals(taskList.getDescription()));
+    }
+
+    /**
+     * Collects the ids of the tasks of a task list.
+     *
+     * @param taskList the task list
+     * @return the ids of its tasks; empty if it has none
+     */
+    private List<UUID> taskIdsOf(TaskList taskList) {
+        return taskList.getTasks() != null
+                ? taskList.getTasks().stream().map(Task::getId).collect(Collectors.toList())
+                : Collections.emptyList();
+    }
+
+    /**
+     * Loads the tasks of all given task lists with a single query and attaches them
+     * to the corresponding response DTOs.
+     *
+     * @param taskLists the task list responses of the current page
+     */
+    private void attachTasks(List<TaskListDTOResponse> taskLists) {
+        List<UUID> taskListIds = taskLists.stream()
+                .map(TaskListDTOResponse::getId)
+                .collect(Collectors.toList());
+
+        Map<UUID, List<TaskDTOResponse>> tasksByTaskListId = taskRepository.findAllByTaskListIdIn(taskListIds).stream()
+                .collect(Collectors.groupingBy(Task::getTaskListId,
+                        Collectors.mapping(taskDTOMapper::toTaskDTOResponse, Collectors.toList())));
+        log.debug("Loaded tasks for {} task lists in a single batch", tasksByTaskListId.size());
+
+        taskLists.forEach(taskList ->
+                taskList.setTasks(tasksByTaskListId.getOrDefault(taskList.getId(), new ArrayList<>())));
+    }
+
+    /**
+     * Builds the {@link TaskListDTOResponse} published with task list events: the list and its
+     * task counters, without the tasks.
+     *
+     * @param taskList the domain TaskList object to convert. Must not be null.
+     * @return the event payload
+     */
+    private TaskListDTOResponse toEventPayload(TaskList taskList) {
+        TaskListDTOResponse payload = taskListDTOMapper.toTaskListDTOResponse(taskList);
+        payload.setTasks(null);
+        return payload;
+    }
+
     /**
      * Builds a {@link TaskListDetailDTOResponse} from a domain {@link TaskList} object.
      *
@@ -280,11 +484,13 @@ public class TaskListService implements ITaskListService {
                                         .completed(task.isCompleted())
                                         .createdAt(task.getCreatedAt())
                                         .updatedAt(task.getUpdatedAt())
+                                        .version(task.getVersion())
                                         .build())
                                 .collect(Collectors.toList())
                         : Collections.emptyList())
                 .createdAt(taskList.getCreatedAt())
                 .updatedAt(taskList.getUpdatedAt())
+                .version(taskList.getVersion())
                 .build();
     }
 
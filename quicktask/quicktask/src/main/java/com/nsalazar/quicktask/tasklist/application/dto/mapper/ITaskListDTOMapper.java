@@ -1,10 +1,12 @@
 package com.nsalazar.quicktask.tasklist.application.dto.mapper;
 
 import com.nsalazar.quicktask.task.application.dto.mapper.ITaskDTOMapper;
+import com.nsalazar.quicktask.task.domain.Task;
 import com.nsalazar.quicktask.tasklist.application.dto.request.TaskListDTOCreateRequest;
 import com.nsalazar.quicktask.tasklist.application.dto.request.TaskListDTOUpdateRequest;
 import com.nsalazar.quicktask.tasklist.application.dto.response.TaskListDTOResponse;
 import com.nsalazar.quicktask.tasklist.domain.TaskList;
+import com.nsalazar.quicktask.tasklist.domain.TaskListSummary;
 import org.mapstruct.*;
 
 /**
@@ -38,13 +40,14 @@ public interface ITaskListDTOMapper {
             @Mapping(target = "id", ignore = true),
             @Mapping(target = "tasks", ignore = true),
             @Mapping(target = "createdAt", ignore = true),
-            @Mapping(target = "updatedAt", ignore = true)
+            @Mapping(target = "updatedAt", ignore = true),
+            @Mapping(target = "version", ignore = true)
     })
     TaskList toTaskList(TaskListDTOCreateRequest createRequest);
 
     /**
      * Updates an existing TaskList domain object from an update request DTO.
-     * Preserves id, tasks, and timestamps.
+     * Preserves id, tasks, timestamps and version.
      *
      * @param updateRequest the update request DTO
      * @param taskList the existing TaskList to update in-place
@@ -54,18 +57,43 @@ public interface ITaskListDTOMapper {
             @Mapping(target = "id", ignore = true),
             @Mapping(target = "tasks", ignore = true),
             @Mapping(target = "createdAt", ignore = true),
-            @Mapping(target = "updatedAt", ignore = true)
+            @Mapping(target = "updatedAt", ignore = true),
+            @Mapping(target = "version", ignore = true)
     })
     void toTaskList(TaskListDTOUpdateRequest updateRequest, @MappingTarget TaskList taskList);
 
     /**
      * Converts a TaskList domain object to a response DTO.
-     * Tasks are mapped using {@link ITaskDTOMapper#toTaskDTOResponse}.
+     * Tasks are mapped using {@link ITaskDTOMapper#toTaskDTOResponse}; the counters are
+     * derived from the tasks in {@link #mapTaskCounters}.
      *
      * @param taskList the domain object
      * @return the response DTO
      */
+    @Mappings({
+            @Mapping(target = "taskCount", ignore = true),
+            @Mapping(target = "completedTaskCount", ignore = true)
+    })
+    @BeanMapping(ignoreUnmappedSourceProperties = {"version"})
     TaskListDTOResponse toTaskListDTOResponse(TaskList taskList);
 
+    @AfterMapping
+    default void mapTaskCounters(TaskList source, @MappingTarget TaskListDTOResponse target) {
+        if (source.getTasks() != null) {
+            target.setTaskCount(source.getTasks().size());
+            target.setCompletedTaskCount(source.getTasks().stream().filter(Task::isCompleted).count());
+        }
+    }
+
+    /**
+     * Converts a TaskListSummary read model to a response DTO.
+     * Tasks are not part of a summary and are left null.
+     *
+     * @param taskListSummary the summary read model
+     * @return the response DTO
+     */
+    @Mapping(target = "tasks", ignore = true)
+    TaskListDTOResponse toTaskListDTOResponse(TaskListSummary taskListSummary);
+
 }
 
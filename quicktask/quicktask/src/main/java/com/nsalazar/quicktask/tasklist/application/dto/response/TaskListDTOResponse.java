@@ -13,7 +13,8 @@ import java.util.UUID;
 /**
  * DTO for TaskList API responses.
  *
- * <p>Contains all TaskList data including the list of associated tasks.
+ * <p>Contains all TaskList data together with task counters. The list of associated tasks
+ * is only embedded when explicitly requested (see {@code GET /api/v1/task-lists?include=tasks}).
  *
  * @author nsalazar
  */
@@ -44,11 +45,21 @@ public class TaskListDTOResponse {
      */
     private String description;
 
+    /**
+     * The total number of tasks associated with this task list.
+     */
+    private long taskCount;
+
+    /**
+     * The number of associated tasks that are completed.
+     */
+    private long completedTaskCount;
+
     /**
      * The list of tasks associated with this task list.
      *
-     * <p>Contains summary information for each associated task.
-     * Can be empty if no tasks are assigned.
+     * <p>Contains summary information for each associated task. Null in paginated
+     * responses unless tasks were explicitly included; can be empty if no tasks are assigned.
      */
     private List<TaskDTOResponse> tasks;
 
@@ -111,6 +111,16 @@ public class TaskListDetailDTOResponse {
      */
     private LocalDateTime updatedAt;
 
+    /**
+     * The optimistic locking version of the task list.
+     *
+     * <p>Send it back in {@code If-Match} to make an update conditional. The {@code ETag}
+     * header combines it with the versions of the embedded tasks.
+     *
+     * <p><strong>Example:</strong> {@code 2}
+     */
+    private Long version;
+
     /**
      * Summary information of a Task associated with a TaskList.
      *
@@ -170,6 +180,11 @@ public class TaskListDetailDTOResponse {
          */
         private LocalDateTime updatedAt;
 
+        /**
+         * The optimistic locking version of the task.
+         */
+        private Long version;
+
     }
 
 }
@@ -72,5 +72,12 @@ public class TaskList {
      */
     private LocalDateTime updatedAt;
 
+    /**
+     * The optimistic locking version of the task list.
+     *
+     * <p>Null for task lists that have not been persisted yet. Incremented on every update.
+     */
+    private Long version;
+
 }
 
@@ -0,0 +1,60 @@
+package com.nsalazar.quicktask.tasklist.domain;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read model representing a TaskList together with aggregated task counters.
+ *
+ * <p>Unlike {@link TaskList}, a summary never carries the associated tasks. The counters
+ * are computed by the database in the same query that loads the task list row, so a page
+ * of summaries is served by a single statement regardless of how many tasks each list holds.
+ *
+ * @author nsalazar
+ * @see TaskList
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskListSummary {
+
+    /**
+     * The unique identifier of the task list.
+     */
+    private UUID id;
+
+    /**
+     * The name of the task list.
+     */
+    private String name;
+
+    /**
+     * The description of the task list.
+     */
+    private String description;
+
+    /**
+     * The total number of tasks associated with the task list.
+     */
+    private long taskCount;
+
+    /**
+     * The number of associated tasks that are completed.
+     */
+    private long completedTaskCount;
+
+    /**
+     * The timestamp when the task list was created.
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * The timestamp when the task list was last updated.
+     */
+    private LocalDateTime updatedAt;
+
+}
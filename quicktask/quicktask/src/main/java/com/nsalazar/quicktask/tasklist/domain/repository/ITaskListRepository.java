@@ -1,10 +1,15 @@
 package com.nsalazar.quicktask.tasklist.domain.repository;
 
 import com.nsalazar.quicktask.tasklist.domain.TaskList;
+import com.nsalazar.quicktask.tasklist.domain.TaskListSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -26,6 +31,32 @@ public interface ITaskListRepository {
      */
     Page<TaskList> findAll(Pageable pageable);
 
+    /**
+     * Retrieves task list summaries (task counters instead of tasks) with pagination and sorting support.
+     *
+     * @param pageable pagination and sorting information
+     * @return a {@link Page} of {@link TaskListSummary} read models
+     */
+    Page<TaskListSummary> findAllSummaries(Pageable pageable);
+
+    /**
+     * Retrieves a slice of task list summaries without counting the task lists.
+     *
+     * @param pageable pagination and sorting information
+     * @return a {@link Slice} of {@link TaskListSummary} read models, possibly empty
+     */
+    Slice<TaskListSummary> findSummarySlice(Pageable pageable);
+
+    /**
+     * Returns the number of task lists as of the last refresh of a cached count.
+     *
+     * <p>The count may miss the task lists created or deleted since the refresh; use it where an
+     * approximate total is good enough.
+     *
+     * @return the cached number of task lists
+     */
+    long estimateCount();
+
     /**
      * Retrieves a single task list by its unique identifier.
      *
@@ -34,6 +65,14 @@ public interface ITaskListRepository {
      */
     Optional<TaskList> findById(UUID id);
 
+    /**
+     * Retrieves a single task list by its unique identifier without loading its tasks.
+     *
+     * @param id the UUID of the task list to retrieve
+     * @return an {@link Optional} containing the task list with an empty task list if found, or empty if not found
+     */
+    Optional<TaskList> findByIdWithoutTasks(UUID id);
+
     /**
      * Persists a task list (insert or update).
      *
@@ -43,7 +82,9 @@ public interface ITaskListRepository {
     TaskList save(TaskList taskList);
 
     /**
-     * Deletes a task list by its unique identifier.
+     * Deletes a task list by its unique identifier with a single bulk statement.
+     *
+     * <p>Associated tasks are not touched; they must be unlinked or deleted beforehand.
      *
      * @param id the UUID of the task list to delete
      */
@@ -57,6 +98,22 @@ public interface ITaskListRepository {
      */
     boolean existsById(UUID id);
 
+    /**
+     * Returns which of the given IDs belong to existing task lists.
+     *
+     * @param ids the UUIDs to check
+     * @return the subset of {@code ids} that exist; never null
+     */
+    Set<UUID> findExistingIds(Collection<UUID> ids);
+
+    /**
+     * Resolves the IDs of the task lists with the given names.
+     *
+     * @param names the exact names to resolve
+     * @return the IDs of the existing task lists keyed by name; names without a task list are absent. Never null.
+     */
+    Map<String, UUID> findIdsByNames(Collection<String> names);
+
     /**
      * Finds a task list by its exact name.
      *
@@ -65,5 +122,13 @@ public interface ITaskListRepository {
      */
     Optional<TaskList> findByName(String name);
 
+    /**
+     * Checks whether a task list with the given exact name exists.
+     *
+     * @param name the name to check
+     * @return {@code true} if a task list with the given name exists, {@code false} otherwise
+     */
+    boolean existsByName(String name);
+
 }
 
@@ -1,10 +1,18 @@
 package com.nsalazar.quicktask.tasklist.infrastructure.database;
 
 import com.nsalazar.quicktask.tasklist.infrastructure.database.entity.TaskListEntity;
+import com.nsalazar.quicktask.tasklist.infrastructure.database.projection.TaskListSummaryProjection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -21,12 +29,69 @@ import java.util.UUID;
 public interface IJPATaskListRepository extends JpaRepository<TaskListEntity, UUID> {
 
     /**
-     * Finds a task list by its exact name.
+     * Finds which of the given IDs belong to existing task lists.
      *
-     * @param name the name to search for
-     * @return an {@link Optional} containing the TaskListEntity if found, or empty if not found
+     * @param ids the UUIDs to check
+     * @return the existing IDs
      */
-    Optional<TaskListEntity> findByName(String name);
+    @Query("SELECT tl.id FROM TaskListEntity tl WHERE tl.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Finds the names and IDs of the task lists with the given names.
+     *
+     * @param names the names to look up
+     * @return one {@code [name, id]} pair per existing task list
+     */
+    @Query("SELECT tl.name, tl.id FROM TaskListEntity tl WHERE tl.name IN :names")
+    List<Object[]> findNamesAndIdsByNameIn(@Param("names") Collection<String> names);
+
+    /**
+     * Deletes a task list with a single bulk statement, without loading it.
+     *
+     * @param id the UUID of the task list to delete
+     * @return the number of deleted rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TaskListEntity tl WHERE tl.id = :id")
+    int deleteInBulkById(@Param("id") UUID id);
+
+    /**
+     * Retrieves a page of task list summaries with their task counters.
+     *
+     * <p>The counters are aggregated with a {@code LEFT JOIN ... GROUP BY} so that lists without
+     * tasks are included with zero counts. The task collection is never initialized.
+     *
+     * @param pageable pagination and sorting information
+     * @return a {@link Page} of {@link TaskListSummaryProjection} rows
+     */
+    @Query(
+            value = "SELECT tl.id AS id, tl.name AS name, tl.description AS description, "
+                    + "COUNT(t.id) AS taskCount, "
+                    + "COALESCE(SUM(CASE WHEN t.completed = true THEN 1 ELSE 0 END), 0) AS completedTaskCount, "
+                    + "tl.createdAt AS createdAt, tl.updatedAt AS updatedAt "
+                    + "FROM TaskListEntity tl LEFT JOIN tl.tasks t "
+                    + "GROUP BY tl.id, tl.name, tl.description, tl.createdAt, tl.updatedAt",
+            countQuery = "SELECT COUNT(tl) FROM TaskListEntity tl"
+    )
+    Page<TaskListSummaryProjection> findAllSummaries(Pageable pageable);
+
+    /**
+     * Retrieves a slice of task list summaries with their task counters.
+     *
+     * <p>Same query as {@link #findAllSummaries(Pageable)}; one more row is fetched to tell
+     * whether a next slice exists and no count query is executed.
+     *
+     * @param pageable pagination and sorting information
+     * @return a {@link Slice} of {@link TaskListSummaryProjection} rows
+     */
+    @Query("SELECT tl.id AS id, tl.name AS name, tl.description AS description, "
+            + "COUNT(t.id) AS taskCount, "
+            + "COALESCE(SUM(CASE WHEN t.completed = true THEN 1 ELSE 0 END), 0) AS completedTaskCount, "
+            + "tl.createdAt AS createdAt, tl.updatedAt AS updatedAt "
+            + "FROM TaskListEntity tl LEFT JOIN tl.tasks t "
+            + "GROUP BY tl.id, tl.name, tl.description, tl.createdAt, tl.updatedAt")
+    Slice<TaskListSummaryProjection> findSummarySlice(Pageable pageable);
 
 }
 
@@ -1,15 +1,25 @@
 package com.nsalazar.quicktask.tasklist.infrastructure.database;
 
+import com.nsalazar.quicktask.shared.infrastructure.database.CachedCounts;
 import com.nsalazar.quicktask.tasklist.domain.TaskList;
+import com.nsalazar.quicktask.tasklist.domain.TaskListSummary;
 import com.nsalazar.quicktask.tasklist.domain.repository.ITaskListRepository;
 import com.nsalazar.quicktask.tasklist.infrastructure.database.entity.TaskListEntity;
 import com.nsalazar.quicktask.tasklist.infrastructure.database.mapper.ITaskListEntityMapper;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -18,6 +28,9 @@ import java.util.UUID;
  * <p>Acts as a bridge between the domain layer and the persistence layer, converting
  * between domain {@link TaskList} objects and {@link TaskListEntity} persistence objects.
  *
+ * <p>Lookups by id and by name go through the persistence context and the second-level cache
+ * instead of a query, so a cached task list is found without SQL.
+ *
  * @author nsalazar
  * @see ITaskListRepository
  * @see IJPATaskListRepository
@@ -37,6 +50,16 @@ public class TaskListRepository implements ITaskListRepository {
      */
     private final ITaskListEntityMapper taskListEntityMapper;
 
+    /**
+     * Shared entity manager used for the natural-id lookups by name.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * Cached count of the task lists, refreshed periodically.
+     */
+    private final CachedCounts cachedCounts;
+
     /**
      * {@inheritDoc}
      *
@@ -49,6 +72,40 @@ public class TaskListRepository implements ITaskListRepository {
                 .map(taskListEntityMapper::toTaskList);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Executes the aggregated projection query and maps each row to a domain
+     * TaskListSummary object. No TaskListEntity instances are loaded.
+     */
+    @Override
+    public Page<TaskListSummary> findAllSummaries(Pageable pageable) {
+        return jpaTaskListRepository.findAllSummaries(pageable)
+                .map(taskListEntityMapper::toTaskListSummary);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Executes the aggregated projection query without its count query.
+     */
+    @Override
+    public Slice<TaskListSummary> findSummarySlice(Pageable pageable) {
+        return jpaTaskListRepository.findSummarySlice(pageable)
+                .map(taskListEntityMapper::toTaskListSummary);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Served from {@link CachedCounts}; the {@code COUNT(*)} runs at most once per refresh
+     * interval.
+     */
+    @Override
+    public long estimateCount() {
+        return cachedCounts.get("taskLists", jpaTaskListRepository::count);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -60,49 +117,110 @@ public class TaskListRepository implements ITaskListRepository {
                 .map(taskListEntityMapper::toTaskList);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Performs a primary key lookup and maps the result without initializing the lazy tasks
+     * collection.
+     */
+    @Override
+    public Optional<TaskList> findByIdWithoutTasks(UUID id) {
+        return jpaTaskListRepository.findById(id)
+                .map(taskListEntityMapper::toTaskListWithoutTasks);
+    }
+
     /**
      * {@inheritDoc}
      *
      * <p>Converts the domain TaskList to a TaskListEntity, persists it, and converts
-     * the saved entity back to a domain object with the generated ID.
+     * the saved entity back to a domain object with the generated ID. The change is flushed
+     * immediately so that the returned object carries the incremented version, and a stale
+     * version fails here rather than at commit.
      */
     @Override
     public TaskList save(TaskList taskList) {
         TaskListEntity entity = taskListEntityMapper.toTaskListEntity(taskList);
-        TaskListEntity savedEntity = jpaTaskListRepository.save(entity);
+        TaskListEntity savedEntity = jpaTaskListRepository.saveAndFlush(entity);
         return taskListEntityMapper.toTaskList(savedEntity);
     }
 
     /**
      * {@inheritDoc}
      *
-     * <p>Delegates to Spring Data JPA's {@code deleteById} method.
+     * <p>Issues a bulk {@code DELETE} instead of Spring Data JPA's {@code deleteById}, which would
+     * first load the entity into the persistence context.
      */
     @Override
     public void delete(UUID id) {
-        jpaTaskListRepository.deleteById(id);
+        jpaTaskListRepository.deleteInBulkById(id);
     }
 
     /**
      * {@inheritDoc}
      *
-     * <p>Delegates to Spring Data JPA's {@code existsById} method.
+     * <p>Performs a primary key lookup rather than Spring Data JPA's {@code existsById}, whose
+     * count query always reaches the database.
      */
     @Override
     public boolean existsById(UUID id) {
-        return jpaTaskListRepository.existsById(id);
+        return jpaTaskListRepository.findById(id).isPresent();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Resolves all IDs with a single {@code IN} query selecting only the primary key.
+     */
+    @Override
+    public Set<UUID> findExistingIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jpaTaskListRepository.findExistingIds(ids));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Resolves all names with a single {@code IN} query on the {@code uk_task_list_name}
+     * unique index, selecting only the name and the primary key.
+     */
+    @Override
+    public Map<String, UUID> findIdsByNames(Collection<String> names) {
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, UUID> idsByName = new HashMap<>();
+        for (Object[] row : jpaTaskListRepository.findNamesAndIdsByNameIn(names)) {
+            idsByName.put((String) row[0], (UUID) row[1]);
+        }
+        return idsByName;
     }
 
     /**
      * {@inheritDoc}
      *
-     * <p>Delegates to the JPA repository's custom query method and maps the result
-     * to a domain TaskList object.
+     * <p>Loads the entity by its natural id and maps the result to a domain TaskList object.
      */
     @Override
     public Optional<TaskList> findByName(String name) {
-        return jpaTaskListRepository.findByName(name)
-                .map(taskListEntityMapper::toTaskList);
+        return loadByName(name).map(taskListEntityMapper::toTaskList);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Loads the entity by its natural id; the tasks collection is not initialized.
+     */
+    @Override
+    public boolean existsByName(String name) {
+        return loadByName(name).isPresent();
+    }
+
+    private Optional<TaskListEntity> loadByName(String name) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(TaskListEntity.class)
+                .loadOptional(name);
     }
 
 }
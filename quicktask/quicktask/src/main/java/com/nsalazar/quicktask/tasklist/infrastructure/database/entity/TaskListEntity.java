@@ -1,8 +1,14 @@
 package com.nsalazar.quicktask.tasklist.infrastructure.database.entity;
 
+import com.nsalazar.quicktask.shared.infrastructure.database.id.UuidV7Generator;
 import com.nsalazar.quicktask.task.infrastructure.database.entity.TaskEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -14,6 +20,10 @@ import java.util.UUID;
  *
  * <p>Maps to the "tbl_task_lists" table. Has a one-to-many relationship with {@link TaskEntity}.
  *
+ * <p>Cached in the second-level cache: lookups by id hit the {@value #CACHE_REGION} region and
+ * lookups by name resolve the id through the {@value #NAME_CACHE_REGION} natural-id region, so
+ * neither reaches the database once cached. The {@code tasks} collection is not cached.
+ *
  * @author nsalazar
  * @see TaskEntity
  */
@@ -29,24 +39,42 @@ import java.util.UUID;
         )
     }
 )
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = TaskListEntity.CACHE_REGION)
+@NaturalIdCache(region = TaskListEntity.NAME_CACHE_REGION)
 @AllArgsConstructor
 @NoArgsConstructor
 public class TaskListEntity {
 
+    /**
+     * Second-level cache region of the task lists, keyed by id.
+     */
+    public static final String CACHE_REGION = "taskLists";
+
+    /**
+     * Second-level cache region resolving task list names to ids.
+     */
+    public static final String NAME_CACHE_REGION = "taskListNames";
+
     /**
      * The unique identifier of the task list.
      *
-     * <p>Auto-generated UUID used as the primary key.
+     * <p>Auto-generated, time-ordered UUIDv7 used as the primary key, stored as {@code BINARY(16)}.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedValue
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    @Column(name = "id", columnDefinition = "BINARY(16)", nullable = false, updatable = false)
     private UUID id;
 
     /**
      * The name of the task list.
      *
      * <p><strong>Database Properties:</strong> VARCHAR(50), NOT NULL, UNIQUE.
+     *
+     * <p>Mapped as a mutable natural id: a rename updates the cached name-to-id resolution.
      */
+    @NaturalId(mutable = true)
     @Column(name = "name", nullable = false, length = 50)
     private String name;
 
@@ -61,10 +89,11 @@ public class TaskListEntity {
     /**
      * The list of task entities associated with this task list.
      *
-     * <p>Mapped as a one-to-many relationship with cascade and orphan removal.
-     * Uses lazy loading for performance.
+     * <p>Mapped as the inverse side of a one-to-many relationship without cascading: tasks are
+     * unlinked or deleted in bulk by the task repository before a list is removed, so the
+     * collection is never walked entity by entity. Uses lazy loading for performance.
      */
-    @OneToMany(mappedBy = "taskList", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "taskList", fetch = FetchType.LAZY)
     private List<TaskEntity> tasks = new ArrayList<>();
 
     /**
@@ -83,5 +112,15 @@ public class TaskListEntity {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * Optimistic locking version, incremented by Hibernate on every update of the row.
+     *
+     * <p><strong>Database Properties:</strong> Not null. Starts at 0; exposed to clients as the
+     * strong ETag of the task list.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
 }
 
@@ -2,7 +2,9 @@ package com.nsalazar.quicktask.tasklist.infrastructure.database.mapper;
 
 import com.nsalazar.quicktask.task.infrastructure.database.mapper.ITaskEntityMapper;
 import com.nsalazar.quicktask.tasklist.domain.TaskList;
+import com.nsalazar.quicktask.tasklist.domain.TaskListSummary;
 import com.nsalazar.quicktask.tasklist.infrastructure.database.entity.TaskListEntity;
+import com.nsalazar.quicktask.tasklist.infrastructure.database.projection.TaskListSummaryProjection;
 import org.mapstruct.*;
 
 /**
@@ -32,6 +34,17 @@ public interface ITaskListEntityMapper {
      */
     TaskList toTaskList(TaskListEntity taskListEntity);
 
+    /**
+     * Converts a TaskListEntity to a TaskList domain object with an empty tasks list.
+     * The lazy tasks collection is not initialized, so no query is issued for it.
+     *
+     * @param taskListEntity the persistence entity
+     * @return the domain TaskList object without its tasks
+     */
+    @Mapping(target = "tasks", ignore = true)
+    @BeanMapping(ignoreUnmappedSourceProperties = {"tasks"})
+    TaskList toTaskListWithoutTasks(TaskListEntity taskListEntity);
+
     /**
      * Converts a TaskList domain object to a TaskListEntity persistence object.
      * The tasks list is ignored because the relationship is managed by the owning side (TaskEntity).
@@ -43,6 +56,14 @@ public interface ITaskListEntityMapper {
     @BeanMapping(ignoreUnmappedSourceProperties = {"tasks"})
     TaskListEntity toTaskListEntity(TaskList taskList);
 
+    /**
+     * Converts a summary projection row to a TaskListSummary domain read model.
+     *
+     * @param projection the projection row returned by the summary query
+     * @return the domain TaskListSummary object
+     */
+    TaskListSummary toTaskListSummary(TaskListSummaryProjection projection);
+
 }
 
 
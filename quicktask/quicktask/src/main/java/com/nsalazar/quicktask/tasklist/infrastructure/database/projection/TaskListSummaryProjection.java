@@ -0,0 +1,32 @@
+package com.nsalazar.quicktask.tasklist.infrastructure.database.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Spring Data interface projection for the task list summary query.
+ *
+ * <p>Backs {@link com.nsalazar.quicktask.tasklist.infrastructure.database.IJPATaskListRepository#findAllSummaries}.
+ * Each getter matches a column alias of the JPQL query, so no entity (and no lazy task
+ * collection) is materialized while reading the page.
+ *
+ * @author nsalazar
+ * @see com.nsalazar.quicktask.tasklist.domain.TaskListSummary
+ */
+public interface TaskListSummaryProjection {
+
+    UUID getId();
+
+    String getName();
+
+    String getDescription();
+
+    Long getTaskCount();
+
+    Long getCompletedTaskCount();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+}
@@ -1,5 +1,10 @@
 package com.nsalazar.quicktask.tasklist.infrastructure.restcontroller;
 
+import com.nsalazar.quicktask.shared.infrastructure.restcontroller.ETags;
+import com.nsalazar.quicktask.shared.infrastructure.restcontroller.PageDTOResponse;
+import com.nsalazar.quicktask.shared.infrastructure.restcontroller.PaginationProperties;
+import com.nsalazar.quicktask.task.application.ITaskStatsService;
+import com.nsalazar.quicktask.task.application.dto.response.TaskStatsDTOResponse;
 import com.nsalazar.quicktask.tasklist.application.ITaskListService;
 import com.nsalazar.quicktask.tasklist.application.dto.request.TaskListDTOCreateRequest;
 import com.nsalazar.quicktask.tasklist.application.dto.request.TaskListDTOUpdateRequest;
@@ -11,14 +16,17 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.SortDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * REST controller for managing TaskLists.
@@ -32,6 +40,7 @@ import java.util.UUID;
  * <ul>
  *   <li>GET {@code /api/v1/task-lists} - Retrieve paginated list of task lists</li>
  *   <li>GET {@code /api/v1/task-lists/{id}} - Retrieve a specific task list by ID</li>
+ *   <li>GET {@code /api/v1/task-lists/{id}/stats} - Retrieve the task statistics of a task list</li>
  *   <li>POST {@code /api/v1/task-lists} - Create a new task list</li>
  *   <li>PUT {@code /api/v1/task-lists/{id}} - Update an existing task list</li>
  *   <li>DELETE {@code /api/v1/task-lists/{id}} - Delete a task list</li>
@@ -46,12 +55,27 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class TaskListController {
 
+    /**
+     * Value of the {@code include} query parameter that embeds tasks in paginated responses.
+     */
+    private static final String INCLUDE_TASKS = "tasks";
+
     /**
      * Service for handling task list business logic.
      * Injected via constructor using Lombok's {@code @RequiredArgsConstructor}.
      */
     private final ITaskListService taskListService;
 
+    /**
+     * Service reading the task statistics of a task list.
+     */
+    private final ITaskStatsService taskStatsService;
+
+    /**
+     * Pagination settings choosing between an exact, approximate or omitted total.
+     */
+    private final PaginationProperties paginationProperties;
+
     /**
      * Retrieves a paginated list of all task lists.
      *
@@ -64,29 +88,49 @@ public class TaskListController {
      *   <li>{@code page} - Zero-indexed page number (default: 0)</li>
      *   <li>{@code size} - Number of items per page (default: 20)</li>
      *   <li>{@code sort} - Sort criteria in format: {@code property,asc|desc} (default: {@code id,asc})</li>
+     *   <li>{@code include} - Set to {@code tasks} to embed the tasks of each list (default: counters only)</li>
      * </ul>
      *
+     * <p><strong>Totals:</strong> depending on {@code quicktask.pagination.endpoints.[GET\ /api/v1/task-lists]},
+     * {@code totalElements} is an exact {@code COUNT(*)} ({@code exact}), a count refreshed at most
+     * once per {@code quicktask.pagination.count-refresh-interval} and flagged with
+     * {@code approximateTotal} ({@code approximate}), or omitted ({@code none}).
+     *
      * <p><strong>Example Request:</strong><br>
-     * {@code GET /api/v1/task-lists?page=0&size=10&sort=name,asc}
+     * {@code GET /api/v1/task-lists?page=0&size=10&sort=name,asc&include=tasks}
      *
      * @param pageable the pagination and sorting information. Default: page=0, size=20, sort=id ascending
-     * @return a {@link ResponseEntity} containing a {@link Page} of {@link TaskListDTOResponse} objects
+     * @param include optional expansion of the response; only {@code tasks} is supported
+     * @return a {@link ResponseEntity} containing a {@link PageDTOResponse} of {@link TaskListDTOResponse} objects
      *         with HTTP status 200 OK
      * @throws com.nsalazar.quicktask.shared.exception.ResourceNotFoundException if no task lists exist
+     * @throws IllegalArgumentException if {@code include} has an unsupported value
      */
     @GetMapping
-    public ResponseEntity<Page<TaskListDTOResponse>> getAll(
+    public ResponseEntity<PageDTOResponse<TaskListDTOResponse>> getAll(
             @PageableDefault(size = 20)
             @SortDefault.SortDefaults({
                     @SortDefault(sort = "id", direction = Sort.Direction.ASC)
             })
-            Pageable pageable) {
-        log.info("GET /api/v1/task-lists - Retrieving all task lists | page={}, size={}, sort={}",
-                pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
-        Page<TaskListDTOResponse> result = taskListService.getAll(pageable);
-        log.info("GET /api/v1/task-lists - Successfully retrieved {} task lists (page {} of {})",
-                result.getNumberOfElements(), result.getNumber() + 1, result.getTotalPages());
-        return ResponseEntity.ok(result);
+            Pageable pageable,
+            @RequestParam(name = "include", required = false) String include) {
+        log.info("GET /api/v1/task-lists - Retrieving all task lists | page={}, size={}, sort={}, include={}",
+                pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(), include);
+        if (include != null && !INCLUDE_TASKS.equals(include)) {
+            throw new IllegalArgumentException("Unsupported include value: '" + include + "'. Supported values: " + INCLUDE_TASKS);
+        }
+        PaginationProperties.Totals totals = paginationProperties.totalsFor("GET", "/api/v1/task-lists");
+        if (totals == PaginationProperties.Totals.EXACT) {
+            Page<TaskListDTOResponse> result = taskListService.getAll(pageable, include != null);
+            log.info("GET /api/v1/task-lists - Successfully retrieved {} task lists (page {} of {})",
+                    result.getNumberOfElements(), result.getNumber() + 1, result.getTotalPages());
+            return ResponseEntity.ok(PageDTOResponse.of(result));
+        }
+        Slice<TaskListDTOResponse> result = taskListService.getSlice(pageable, include != null);
+        Long total = totals == PaginationProperties.Totals.APPROXIMATE ? taskListService.estimateTotal() : null;
+        log.info("GET /api/v1/task-lists - Successfully retrieved {} task lists (page {}, hasNext: {}, total: {})",
+                result.getNumberOfElements(), result.getNumber() + 1, result.hasNext(), total);
+        return ResponseEntity.ok(PageDTOResponse.of(result, total));
     }
 
     /**
@@ -96,6 +140,10 @@ public class TaskListController {
      * <p><strong>Endpoint:</strong> {@code GET /api/v1/task-lists/{id}}
      * <p><strong>Response Status:</strong> 200 OK
      *
+     * <p>The response carries a strong {@code ETag} covering the list version and the id and
+     * version of every embedded task; a matching {@code If-None-Match} yields 304 Not Modified
+     * without serializing the body.
+     *
      * <p><strong>Example Request:</strong><br>
      * {@code GET /api/v1/task-lists/a1b2c3d4-e5f6-7890-abcd-ef1234567890}
      *
@@ -109,6 +157,28 @@ public class TaskListController {
         log.info("GET /api/v1/task-lists/{} - Retrieving task list by ID", id);
         TaskListDetailDTOResponse result = taskListService.getById(id);
         log.info("GET /api/v1/task-lists/{} - Successfully retrieved task list: '{}'", id, result.getName());
+        return ResponseEntity.ok().eTag(eTagOf(result)).body(result);
+    }
+
+    /**
+     * Retrieves the aggregate counts of the tasks of a task list.
+     *
+     * <p><strong>HTTP Method:</strong> GET
+     * <p><strong>Endpoint:</strong> {@code GET /api/v1/task-lists/{id}/stats}
+     * <p><strong>Response Status:</strong> 200 OK
+     *
+     * <p>The counts are served from in-memory counters maintained on every task write, without
+     * querying the tasks; see {@link ITaskStatsService}.
+     *
+     * @param id the unique identifier (UUID) of the task list. Cannot be null.
+     * @return a {@link ResponseEntity} containing the {@link TaskStatsDTOResponse} with HTTP status 200 OK
+     * @throws com.nsalazar.quicktask.shared.exception.ResourceNotFoundException if no task list exists with the provided ID
+     */
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<TaskStatsDTOResponse> getStats(@PathVariable @NonNull UUID id) {
+        log.info("GET /api/v1/task-lists/{}/stats - Retrieving task list statistics", id);
+        TaskStatsDTOResponse result = taskStatsService.getTaskListStats(id);
+        log.info("GET /api/v1/task-lists/{}/stats - {} tasks, {} completed", id, result.getTotal(), result.getCompleted());
         return ResponseEntity.ok(result);
     }
 
@@ -167,11 +237,13 @@ public class TaskListController {
      * </pre>
      *
      * <p>All fields are optional. Only provided (non-null) fields will be updated.
-     * At least one field must be provided.
+     * At least one field must be provided. With an {@code If-Match} header holding the list's
+     * {@code ETag}, the update is rejected with 412 Precondition Failed if the list has changed.
      *
      * @param id the unique identifier (UUID) of the task list to update. Cannot be null.
      * @param updateRequest the update request DTO containing fields to modify.
      *                      Validated with {@code @Valid} annotation.
+     * @param ifMatch the optional {@code If-Match} header
      * @return a {@link ResponseEntity} containing the updated {@link TaskListDetailDTOResponse}
      *         with HTTP status 200 OK
      * @throws com.nsalazar.quicktask.shared.exception.ResourceNotFoundException if no task list exists with the provided ID
@@ -181,34 +253,54 @@ public class TaskListController {
     @PutMapping("/{id}")
     public ResponseEntity<TaskListDetailDTOResponse> update(
             @PathVariable @NonNull UUID id,
-            @Valid @RequestBody TaskListDTOUpdateRequest updateRequest) {
+            @Valid @RequestBody TaskListDTOUpdateRequest updateRequest,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("PUT /api/v1/task-lists/{} - Updating task list with name: '{}'", id, updateRequest.getName());
-        TaskListDetailDTOResponse result = taskListService.update(id, updateRequest);
+        TaskListDetailDTOResponse result = taskListService.update(id, updateRequest, ETags.parseVersion(ifMatch));
         log.info("PUT /api/v1/task-lists/{} - Task list updated successfully", id);
-        return ResponseEntity.ok(result);
+        return ResponseEntity.ok().eTag(eTagOf(result)).body(result);
     }
 
     /**
-     * Deletes a task list. All associated tasks are unlinked (taskListId set to null) but not deleted.
+     * Deletes a task list. By default all associated tasks are unlinked (taskListId set to null)
+     * but not deleted; with {@code deleteTasks=true} they are deleted along with the list.
      *
      * <p><strong>HTTP Method:</strong> DELETE
      * <p><strong>Endpoint:</strong> {@code DELETE /api/v1/task-lists/{id}}
      * <p><strong>Response Status:</strong> 204 No Content
      *
-     * <p><strong>Example Request:</strong><br>
-     * {@code DELETE /api/v1/task-lists/a1b2c3d4-e5f6-7890-abcd-ef1234567890}
+     * <p><strong>Example Requests:</strong><br>
+     * {@code DELETE /api/v1/task-lists/a1b2c3d4-e5f6-7890-abcd-ef1234567890}<br>
+     * {@code DELETE /api/v1/task-lists/a1b2c3d4-e5f6-7890-abcd-ef1234567890?deleteTasks=true}
      *
      * @param id the unique identifier (UUID) of the task list to delete. Cannot be null.
+     * @param deleteTasks whether to delete the associated tasks instead of unlinking them
+     *                    (default: {@code false})
      * @return a {@link ResponseEntity} with HTTP status 204 No Content
      * @throws com.nsalazar.quicktask.shared.exception.ResourceNotFoundException if no task list exists with the provided ID
      * @throws IllegalArgumentException if the provided ID is null
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> delete(@PathVariable @NonNull UUID id) {
-        log.info("DELETE /api/v1/task-lists/{} - Deleting task list", id);
-        taskListService.delete(id);
+    public ResponseEntity<?> delete(
+            @PathVariable @NonNull UUID id,
+            @RequestParam(name = "deleteTasks", defaultValue = "false") boolean deleteTasks) {
+        log.info("DELETE /api/v1/task-lists/{} - Deleting task list (deleteTasks={})", id, deleteTasks);
+        taskListService.delete(id, deleteTasks);
         log.info("DELETE /api/v1/task-lists/{} - Task list deleted successfully", id);
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Builds the strong entity tag of a task list detail from its version and the id and
+     * version of every embedded task.
+     */
+    private static String eTagOf(TaskListDetailDTOResponse taskList) {
+        Object[] taskVersions = taskList.getTasks() == null
+                ? new Object[0]
+                : taskList.getTasks().stream()
+                        .flatMap(task -> Stream.of(task.getId(), task.getVersion()))
+                        .toArray();
+        return ETags.of(taskList.getVersion(), taskVersions);
+    }
+
 }
@@ -0,0 +1,81 @@
+package com.nsalazar.quicktask.tasklist.infrastructure.restcontroller;
+
+import com.nsalazar.quicktask.task.application.dto.response.TaskDTOResponse;
+import com.nsalazar.quicktask.tasklist.application.dto.response.TaskListDTOResponse;
+import org.springframework.boot.jackson.JacksonComponent;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Hand-written Jackson serializer for {@link TaskListDTOResponse}, the element of the task list
+ * page.
+ *
+ * <p>Property names are pre-encoded once and null properties are omitted; in particular
+ * {@code tasks} only appears when the tasks were requested with {@code include=tasks}. The
+ * embedded tasks are written by the serializer registered for {@link TaskDTOResponse}.
+ *
+ * @author nsalazar
+ * @see TaskListDTOResponse
+ * @see com.nsalazar.quicktask.task.infrastructure.restcontroller.TaskDTOResponseSerializer
+ */
+@JacksonComponent
+public class TaskListDTOResponseSerializer extends ValueSerializer<TaskListDTOResponse> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString TASK_COUNT = new SerializedString("taskCount");
+    private static final SerializableString COMPLETED_TASK_COUNT = new SerializedString("completedTaskCount");
+    private static final SerializableString TASKS = new SerializedString("tasks");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+
+    @Override
+    public void serialize(TaskListDTOResponse taskList, JsonGenerator gen, SerializationContext ctxt) {
+        gen.writeStartObject(taskList);
+        if (taskList.getId() != null) {
+            gen.writeName(ID);
+            gen.writeString(taskList.getId().toString());
+        }
+        writeString(gen, NAME, taskList.getName());
+        writeString(gen, DESCRIPTION, taskList.getDescription());
+        gen.writeName(TASK_COUNT);
+        gen.writeNumber(taskList.getTaskCount());
+        gen.writeName(COMPLETED_TASK_COUNT);
+        gen.writeNumber(taskList.getCompletedTaskCount());
+        List<TaskDTOResponse> tasks = taskList.getTasks();
+        if (tasks != null) {
+            gen.writeName(TASKS);
+            gen.writeStartArray(tasks, tasks.size());
+            for (TaskDTOResponse task : tasks) {
+                ctxt.writeValue(gen, task);
+            }
+            gen.writeEndArray();
+        }
+        writeTimestamp(gen, CREATED_AT, taskList.getCreatedAt());
+        writeTimestamp(gen, UPDATED_AT, taskList.getUpdatedAt());
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString name, String value) {
+        if (value != null) {
+            gen.writeName(name);
+            gen.writeString(value);
+        }
+    }
+
+    private static void writeTimestamp(JsonGenerator gen, SerializableString name, LocalDateTime value) {
+        if (value != null) {
+            gen.writeName(name);
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+-- =====================================================================================
+-- Migration: store task and task list identifiers as BINARY(16)
+-- =====================================================================================
+--
+-- New identifiers are time-ordered UUIDv7 values generated by UuidV7Generator. Hibernate
+-- writes them as 16 raw bytes in big-endian order, which is what UUID_TO_BIN(uuid) (without
+-- the swap flag) produces, so converted rows keep exactly the same UUID value.
+--
+-- When to run:
+--   Only for schemas whose `id` / `task_list_id` columns are still CHAR(36) / VARCHAR(36).
+--   Check with:
+--     SELECT TABLE_NAME, COLUMN_NAME, COLUMN_TYPE FROM information_schema.COLUMNS
+--      WHERE TABLE_SCHEMA = DATABASE()
+--        AND TABLE_NAME IN ('tbl_tasks', 'tbl_task_lists')
+--        AND COLUMN_NAME IN ('id', 'task_list_id');
+--   Schemas created by Hibernate 6.2+ already use binary(16) and need no conversion.
+--
+-- Existing (random v4) identifiers are kept as they are: they are exposed in URLs and clients
+-- may hold on to them. Only rows inserted after the deployment receive UUIDv7 values, which are
+-- appended to the right-hand side of the clustered index.
+--
+-- Run with the application stopped (MySQL 8.0+). Each ALTER TABLE rebuilds the table.
+-- =====================================================================================
+
+-- 1. Drop the foreign key from tbl_tasks to tbl_task_lists (name may be Hibernate-generated).
+SET @fk_name := (SELECT CONSTRAINT_NAME FROM information_schema.KEY_COLUMN_USAGE
+                  WHERE TABLE_SCHEMA = DATABASE()
+                    AND TABLE_NAME = 'tbl_tasks'
+                    AND COLUMN_NAME = 'task_list_id'
+                    AND REFERENCED_TABLE_NAME = 'tbl_task_lists'
+                  LIMIT 1);
+SET @stmt := IF(@fk_name IS NULL, 'DO 0', CONCAT('ALTER TABLE tbl_tasks DROP FOREIGN KEY ', @fk_name));
+PREPARE drop_fk FROM @stmt;
+EXECUTE drop_fk;
+DEALLOCATE PREPARE drop_fk;
+
+-- 2. Drop the keyset pagination index, it references the id column and is recreated below.
+SET @idx_exists := (SELECT COUNT(*) FROM information_schema.STATISTICS
+                     WHERE TABLE_SCHEMA = DATABASE()
+                       AND TABLE_NAME = 'tbl_tasks'
+                       AND INDEX_NAME = 'idx_tasks_created_at_id');
+SET @stmt := IF(@idx_exists = 0, 'DO 0', 'ALTER TABLE tbl_tasks DROP INDEX idx_tasks_created_at_id');
+PREPARE drop_idx FROM @stmt;
+EXECUTE drop_idx;
+DEALLOCATE PREPARE drop_idx;
+
+-- 3. Convert tbl_task_lists.id.
+ALTER TABLE tbl_task_lists ADD COLUMN id_bin BINARY(16) NULL;
+UPDATE tbl_task_lists SET id_bin = UUID_TO_BIN(id);
+ALTER TABLE tbl_task_lists
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+    ADD PRIMARY KEY (id);
+
+-- 4. Convert tbl_tasks.id and tbl_tasks.task_list_id.
+ALTER TABLE tbl_tasks
+    ADD COLUMN id_bin BINARY(16) NULL,
+    ADD COLUMN task_list_id_bin BINARY(16) NULL;
+UPDATE tbl_tasks
+   SET id_bin = UUID_TO_BIN(id),
+       task_list_id_bin = IF(task_list_id IS NULL, NULL, UUID_TO_BIN(task_list_id));
+ALTER TABLE tbl_tasks
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    DROP COLUMN task_list_id,
+    CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST,
+    CHANGE COLUMN task_list_id_bin task_list_id BINARY(16) NULL,
+    ADD PRIMARY KEY (id);
+
+-- 5. Restore the foreign key and the keyset pagination index.
+ALTER TABLE tbl_tasks
+    ADD CONSTRAINT fk_tasks_task_list FOREIGN KEY (task_list_id) REFERENCES tbl_task_lists (id),
+    ADD INDEX idx_tasks_created_at_id (created_at, id);
@@ -0,0 +1,18 @@
+-- =====================================================================================
+-- Migration: add optimistic locking versions to tasks and task lists
+-- =====================================================================================
+--
+-- TaskEntity and TaskListEntity carry a @Version column. It is incremented by every update
+-- (including the bulk statements of the repositories) and exposed to clients as the ETag of
+-- GET /api/v1/tasks/{id} and GET /api/v1/task-lists/{id}.
+--
+-- When to run:
+--   Only for schemas whose tables do not have a `version` column yet. Hibernate's
+--   ddl-auto=update adds the column as well; running this script first gives existing rows an
+--   explicit starting version of 0.
+--
+-- Run with the application stopped (MySQL 8.0+). ALGORITHM=INSTANT avoids a table rebuild.
+-- =====================================================================================
+
+ALTER TABLE tbl_tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0, ALGORITHM = INSTANT;
+ALTER TABLE tbl_task_lists ADD COLUMN version BIGINT NOT NULL DEFAULT 0, ALGORITHM = INSTANT;
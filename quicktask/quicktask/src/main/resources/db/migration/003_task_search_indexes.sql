@@ -0,0 +1,33 @@
+-- =====================================================================================
+-- Migration: add the indexes backing the filtered task search
+-- =====================================================================================
+--
+-- GET /api/v1/tasks accepts the filters taskListId, completed, createdAfter/createdBefore,
+-- updatedAfter/updatedBefore and a title prefix. Every supported combination is served by an
+-- index range scan instead of a full table scan:
+--
+--   taskListId [+ completed [+ created range]]  -> idx_tasks_list_completed_created
+--   completed [+ created range], created range  -> idx_tasks_completed_created / idx_tasks_created_at_id
+--   updated range                               -> idx_tasks_updated_at
+--   title prefix (LIKE 'prefix%')               -> uk_title_incomplete_tasks
+--
+-- idx_tasks_list_completed_created starts with task_list_id, so it also serves the foreign key
+-- fk_tasks_task_list. MySQL created a separate index for that foreign key when the table was
+-- created; it becomes redundant and is dropped at the end. If MySQL reports that the index
+-- does not exist, the foreign key already uses another index and the last statement can be skipped.
+--
+-- When to run:
+--   Only for schemas created before these indexes were declared on TaskEntity. Hibernate's
+--   ddl-auto=update creates the indexes as well, but with a blocking statement.
+--
+-- Run with MySQL 8.0+. ALGORITHM=INPLACE, LOCK=NONE builds the indexes without blocking reads or
+-- writes, so the application may keep running.
+-- =====================================================================================
+
+ALTER TABLE tbl_tasks
+    ADD INDEX idx_tasks_list_completed_created (task_list_id, completed, created_at),
+    ADD INDEX idx_tasks_completed_created (completed, created_at),
+    ADD INDEX idx_tasks_updated_at (updated_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE tbl_tasks DROP INDEX fk_tasks_task_list, ALGORITHM = INPLACE, LOCK = NONE;
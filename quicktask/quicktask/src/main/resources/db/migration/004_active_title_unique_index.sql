@@ -0,0 +1,35 @@
+-- =====================================================================================
+-- Migration: restrict title uniqueness to incomplete tasks
+-- =====================================================================================
+--
+-- The unique constraint uk_title_incomplete_tasks used to cover the title column alone, so
+-- completed tasks could not share a title either. It now covers the generated column
+-- active_title, which holds the title of incomplete tasks and is NULL for completed ones; a
+-- unique index accepts any number of NULLs. Inserting or updating a task probes that index
+-- once, and the application no longer looks the title up before creating a task.
+--
+-- The title prefix filter of GET /api/v1/tasks and keyset pagination by title used the old
+-- unique index; they are served by the plain idx_tasks_title index from now on.
+--
+-- When to run:
+--   Only for schemas created before active_title was declared on TaskEntity. Check with:
+--     SELECT COLUMN_NAME FROM information_schema.COLUMNS
+--      WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'tbl_tasks' AND COLUMN_NAME = 'active_title';
+--
+-- Run with MySQL 8.0+. Adding a virtual column only changes metadata (ALGORITHM=INSTANT), and the
+-- indexes are built with ALGORITHM=INPLACE, LOCK=NONE, so the application may keep running.
+-- Existing rows cannot violate the new constraint: the old one was stricter.
+-- =====================================================================================
+
+ALTER TABLE tbl_tasks
+    ADD COLUMN active_title VARCHAR(50) GENERATED ALWAYS AS (CASE WHEN completed THEN NULL ELSE title END) VIRTUAL,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE tbl_tasks
+    ADD INDEX idx_tasks_title (title),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE tbl_tasks
+    DROP INDEX uk_title_incomplete_tasks,
+    ADD UNIQUE INDEX uk_title_incomplete_tasks (active_title),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,35 @@
+-- =====================================================================================
+-- Migration: summary tables of the task statistics
+-- =====================================================================================
+--
+-- GET /api/v1/stats and GET /api/v1/task-lists/{id}/stats are served from in-memory counters.
+-- The counters are saved periodically to these tables and loaded back at startup:
+--   tbl_task_stats        one row per scope: a task list, or the nil UUID for all tasks
+--   tbl_task_stats_daily  tasks created per scope and day, for the retained window only
+--
+-- Neither table references tbl_task_lists: the rows of a deleted task list are removed by the
+-- next save, and the periodic reconciliation recomputes every count from tbl_tasks, so the
+-- tables never need to be backfilled.
+--
+-- When to run:
+--   Only when spring.jpa.hibernate.ddl-auto does not create tables. Check with:
+--     SELECT TABLE_NAME FROM information_schema.TABLES
+--      WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME IN ('tbl_task_stats', 'tbl_task_stats_daily');
+--
+-- Creating new tables does not lock tbl_tasks; the application may keep running.
+-- =====================================================================================
+
+CREATE TABLE IF NOT EXISTS tbl_task_stats (
+    scope_id  BINARY(16)  NOT NULL,
+    total     BIGINT      NOT NULL,
+    completed BIGINT      NOT NULL,
+    saved_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (scope_id)
+);
+
+CREATE TABLE IF NOT EXISTS tbl_task_stats_daily (
+    scope_id      BINARY(16) NOT NULL,
+    stat_date     DATE       NOT NULL,
+    created_count BIGINT     NOT NULL,
+    PRIMARY KEY (scope_id, stat_date)
+);
@@ -0,0 +1,33 @@
+-- =====================================================================================
+-- Migration: transactional outbox of the domain events
+-- =====================================================================================
+--
+-- Task and task list writes insert one row per domain event into tbl_outbox_events in their
+-- own transaction. The outbox relay locks batches with
+--   SELECT ... WHERE available_at <= ? ORDER BY available_at, id LIMIT ? FOR UPDATE SKIP LOCKED
+-- served by idx_outbox_events_available_at_id, delivers them and deletes them. The table is
+-- therefore small in steady state; a growing row count means the relay or a subscriber is
+-- failing (see the quicktask.outbox.events metric).
+--
+-- SKIP LOCKED needs MySQL 8.0.1 or later.
+--
+-- When to run:
+--   Only when spring.jpa.hibernate.ddl-auto does not create tables. Check with:
+--     SELECT TABLE_NAME FROM information_schema.TABLES
+--      WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'tbl_outbox_events';
+--
+-- Run it before deploying the version that publishes events: writes fail while the table is
+-- missing. Creating a new table does not lock the existing ones.
+-- =====================================================================================
+
+CREATE TABLE IF NOT EXISTS tbl_outbox_events (
+    id           BINARY(16)  NOT NULL,
+    event_type   VARCHAR(30) NOT NULL,
+    aggregate_id BINARY(16)  NOT NULL,
+    payload      TEXT        NOT NULL,
+    occurred_at  DATETIME(6) NOT NULL,
+    attempts     INT         NOT NULL,
+    available_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_outbox_events_available_at_id (available_at, id)
+);
@@ -0,0 +1,135 @@
+package com.nsalazar.quicktask.shared.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CaffeineRegionFactory.
+ *
+ * <p>Verifies that the regions are bounded except for the update timestamps, that storage
+ * accesses of the same region share one cache, and that evictions and statistics reach the
+ * Caffeine cache.
+ *
+ * @author nsalazar
+ * @see CaffeineRegionFactory
+ */
+@DisplayName("CaffeineRegionFactory Tests")
+class CaffeineRegionFactoryTest {
+
+    private CaffeineRegionFactory regionFactory;
+
+    @BeforeEach
+    void setUp() {
+        regionFactory = new CaffeineRegionFactory(2, Duration.ofMinutes(10));
+    }
+
+    /**
+     * Tests that a query results region keeps at most the maximum number of entries.
+     */
+    @Test
+    @DisplayName("Should bound the query results region by the maximum size")
+    void testQueryResultsRegionIsBounded() {
+        // Arrange
+        StorageAccess storage = regionFactory.createQueryResultsRegionStorageAccess("queries", null);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            storage.putIntoCache(i, "result " + i, null);
+        }
+        Cache<Object, Object> cache = regionFactory.getRegions().get("queries");
+        cache.cleanUp();
+
+        // Assert
+        assertEquals(2, cache.estimatedSize());
+    }
+
+    /**
+     * Tests that the update timestamps region is never evicted by size.
+     */
+    @Test
+    @DisplayName("Should not bound the update timestamps region")
+    void testTimestampsRegionIsUnbounded() {
+        // Arrange
+        StorageAccess storage = regionFactory.createTimestampsRegionStorageAccess("timestamps", null);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            storage.putIntoCache("table" + i, (long) i, null);
+        }
+
+        // Assert
+        for (int i = 0; i < 10; i++) {
+            assertEquals((long) i, storage.getFromCache("table" + i, null));
+        }
+    }
+
+    /**
+     * Tests that two storage accesses of the same region see the same entries and evictions.
+     */
+    @Test
+    @DisplayName("Should share one cache per region and apply evictions")
+    void testRegionIsSharedAndEvicted() {
+        // Arrange
+        StorageAccess first = regionFactory.createQueryResultsRegionStorageAccess("taskLists", null);
+        StorageAccess second = regionFactory.createQueryResultsRegionStorageAccess("taskLists", null);
+        first.putIntoCache("a", 1, null);
+        first.putIntoCache("b", 2, null);
+
+        // Act
+        second.evictData("a");
+
+        // Assert
+        assertFalse(first.contains("a"));
+        assertEquals(2, first.getFromCache("b", null));
+
+        second.evictData();
+        assertFalse(first.contains("b"));
+        assertEquals(1, regionFactory.getRegions().size());
+    }
+
+    /**
+     * Tests that lookups are recorded as hits and misses of the region.
+     */
+    @Test
+    @DisplayName("Should record hit and miss statistics")
+    void testRecordsStatistics() {
+        // Arrange
+        StorageAccess storage = regionFactory.createQueryResultsRegionStorageAccess("taskListNames", null);
+        storage.putIntoCache("Inbox", "id", null);
+
+        // Act
+        storage.getFromCache("Inbox", null);
+        storage.getFromCache("Missing", null);
+
+        // Assert
+        var stats = regionFactory.getRegions().get("taskListNames").stats();
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.missCount());
+    }
+
+    /**
+     * Tests that releasing the factory drops every region.
+     */
+    @Test
+    @DisplayName("Should drop the regions when released")
+    void testReleaseDropsRegions() {
+        // Arrange
+        StorageAccess storage = regionFactory.createQueryResultsRegionStorageAccess("queries", null);
+        storage.putIntoCache("a", 1, null);
+
+        // Act
+        regionFactory.releaseFromUse();
+
+        // Assert
+        assertTrue(regionFactory.getRegions().isEmpty());
+        assertFalse(storage.contains("a"));
+    }
+
+}
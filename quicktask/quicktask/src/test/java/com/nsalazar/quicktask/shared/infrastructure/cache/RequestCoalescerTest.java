@@ -0,0 +1,252 @@
+package com.nsalazar.quicktask.shared.infrastructure.cache;
+
+import com.nsalazar.quicktask.shared.infrastructure.database.PrimaryReads;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RequestCoalescer.
+ *
+ * <p>Verifies that concurrent identical reads execute once and share the result or the
+ * exception, that different keys, reads inside a primary reads scope or a transaction and later
+ * calls execute on their own, and that the calls are counted per outcome.
+ *
+ * @author nsalazar
+ * @see RequestCoalescer
+ */
+@DisplayName("RequestCoalescer Tests")
+class RequestCoalescerTest {
+
+    private static final int CALLERS = 32;
+
+    private MeterRegistry meterRegistry;
+    private RequestCoalescer coalescer;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new RequestCoalescer(meterRegistry, true);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Stress test of many concurrent callers of the same read.
+     */
+    @Test
+    @DisplayName("Should execute concurrent identical reads once and share the result")
+    void testCoalescesConcurrentReads() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        Supplier<Object> read = () -> {
+            executions.incrementAndGet();
+            await(release);
+            return new Object();
+        };
+
+        // Act
+        List<Future<Object>> results = submit(() -> coalescer.execute("read", "key", read));
+        awaitCoalesced("read", CALLERS - 1);
+        release.countDown();
+
+        // Assert
+        Object first = results.get(0).get(10, TimeUnit.SECONDS);
+        for (Future<Object> result : results) {
+            assertSame(first, result.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, executions.get());
+        assertEquals(1, count("read", "executed"));
+        assertEquals(CALLERS - 1, count("read", "coalesced"));
+    }
+
+    /**
+     * Tests that the exception of the read reaches every waiting caller.
+     */
+    @Test
+    @DisplayName("Should rethrow the exception of the read to every caller")
+    void testSharesException() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("database down");
+        Supplier<Object> read = () -> {
+            await(release);
+            throw failure;
+        };
+
+        // Act
+        List<Future<Object>> results = submit(() -> coalescer.execute("read", "key", read));
+        awaitCoalesced("read", CALLERS - 1);
+        release.countDown();
+
+        // Assert
+        for (Future<Object> result : results) {
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> result.get(10, TimeUnit.SECONDS));
+            assertSame(failure, thrown.getCause());
+        }
+    }
+
+    /**
+     * Tests that reads of different keys and reads after completion are executed.
+     */
+    @Test
+    @DisplayName("Should execute reads of different keys and later reads on their own")
+    void testExecutesDistinctAndLaterReads() {
+        // Arrange
+        AtomicInteger executions = new AtomicInteger();
+
+        // Act
+        coalescer.execute("read", "a", executions::incrementAndGet);
+        coalescer.execute("read", "b", executions::incrementAndGet);
+        coalescer.execute("other", "a", executions::incrementAndGet);
+        int last = coalescer.execute("read", "a", executions::incrementAndGet);
+
+        // Assert
+        assertEquals(4, last);
+        assertEquals(3, count("read", "executed"));
+        assertEquals(0, count("read", "coalesced"));
+    }
+
+    /**
+     * Tests that a read inside a primary reads scope does not wait for the same read outside one.
+     */
+    @Test
+    @DisplayName("Should not share a read between callers inside and outside a PrimaryReads scope")
+    void testSeparatesPrimaryReads() throws Exception {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<Object> read = () -> {
+            started.countDown();
+            await(release);
+            return new Object();
+        };
+
+        // Act
+        Future<Object> replica = executor.submit(() -> coalescer.execute("read", "key", read));
+        Future<Object> primary = executor.submit(() -> {
+            try (PrimaryReads.Scope ignored = PrimaryReads.open()) {
+                return coalescer.execute("read", "key", read);
+            }
+        });
+        boolean bothExecuted = started.await(10, TimeUnit.SECONDS);
+        release.countDown();
+
+        // Assert
+        assertTrue(bothExecuted);
+        assertNotSame(replica.get(10, TimeUnit.SECONDS), primary.get(10, TimeUnit.SECONDS));
+        assertEquals(2, count("read", "executed"));
+        assertEquals(0, count("read", "coalesced"));
+    }
+
+    /**
+     * Tests that reads called inside a transaction are executed without coalescing.
+     */
+    @Test
+    @DisplayName("Should execute reads called inside a transaction")
+    void testExecutesReadsInsideTransaction() throws Exception {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(2);
+        Supplier<Object> read = () -> {
+            started.countDown();
+            await(started);
+            return new Object();
+        };
+        Callable<Object> call = () -> {
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            try {
+                return coalescer.execute("read", "key", read);
+            } finally {
+                TransactionSynchronizationManager.setActualTransactionActive(false);
+            }
+        };
+
+        // Act
+        Future<Object> first = executor.submit(call);
+        Future<Object> second = executor.submit(call);
+
+        // Assert
+        assertNotSame(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS));
+        assertEquals(0, count("read", "executed"));
+        assertEquals(0, count("read", "coalesced"));
+    }
+
+    /**
+     * Tests that a disabled coalescer executes every read.
+     */
+    @Test
+    @DisplayName("Should execute every read when disabled")
+    void testDisabled() throws Exception {
+        // Arrange
+        coalescer = new RequestCoalescer(meterRegistry, false);
+        CountDownLatch started = new CountDownLatch(2);
+        AtomicInteger executions = new AtomicInteger();
+        Supplier<Object> read = () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(started);
+            return new Object();
+        };
+
+        // Act
+        Future<Object> first = executor.submit(() -> coalescer.execute("read", "key", read));
+        Future<Object> second = executor.submit(() -> coalescer.execute("read", "key", read));
+
+        // Assert
+        assertNotSame(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS));
+        assertEquals(2, executions.get());
+    }
+
+    private List<Future<Object>> submit(Supplier<Object> call) {
+        List<Future<Object>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(call::get));
+        }
+        return results;
+    }
+
+    private void awaitCoalesced(String operation, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (count(operation, "coalesced") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private double count(String operation, String outcome) {
+        return meterRegistry.counter(RequestCoalescer.CALLS_COUNTER, "operation", operation, "outcome", outcome).count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,180 @@
+package com.nsalazar.quicktask.shared.infrastructure.database;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CachedCounts.
+ *
+ * <p>Verifies that a count is taken once on first use, also by concurrent callers, served from
+ * memory within the refresh interval and taken again once the interval has passed.
+ *
+ * @author nsalazar
+ * @see CachedCounts
+ */
+@DisplayName("CachedCounts Tests")
+class CachedCountsTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-15T10:00:00Z");
+
+    private SteppingClock clock;
+    private CachedCounts cachedCounts;
+    private AtomicLong rows;
+    private AtomicLong queries;
+
+    @BeforeEach
+    void setUp() {
+        clock = new SteppingClock(NOW);
+        cachedCounts = new CachedCounts(Duration.ofSeconds(30), clock);
+        rows = new AtomicLong(5);
+        queries = new AtomicLong();
+    }
+
+    /**
+     * Tests that the count is taken once within the refresh interval.
+     */
+    @Test
+    @DisplayName("Should serve the count from memory within the refresh interval")
+    void testServesCountWithinInterval() {
+        // Arrange
+        assertEquals(5, cachedCounts.get("taskLists", this::count));
+        rows.set(8);
+        clock.advance(Duration.ofSeconds(29));
+
+        // Act
+        long result = cachedCounts.get("taskLists", this::count);
+
+        // Assert
+        assertEquals(5, result);
+        assertEquals(1, queries.get());
+    }
+
+    /**
+     * Tests that the count is taken again once the refresh interval has passed.
+     */
+    @Test
+    @DisplayName("Should recount once the refresh interval has passed")
+    void testRecountsAfterInterval() {
+        // Arrange
+        cachedCounts.get("taskLists", this::count);
+        rows.set(8);
+        clock.advance(Duration.ofSeconds(30));
+
+        // Act
+        long result = cachedCounts.get("taskLists", this::count);
+
+        // Assert
+        assertEquals(8, result);
+        assertEquals(2, queries.get());
+    }
+
+    /**
+     * Tests that concurrent callers of a count not taken yet wait for a single count.
+     */
+    @Test
+    @DisplayName("Should take the first count once for concurrent callers")
+    void testFirstCountTakenOnce() throws Exception {
+        // Arrange
+        int callers = 16;
+        CountDownLatch release = new CountDownLatch(1);
+        LongSupplier slowCount = () -> {
+            try {
+                assertTrue(release.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return count();
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> cachedCounts.get("taskLists", slowCount)));
+            }
+            Thread.sleep(100);
+
+            // Act
+            release.countDown();
+
+            // Assert
+            for (Future<Long> result : results) {
+                assertEquals(5, result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, queries.get());
+    }
+
+    /**
+     * Tests that counts of different names are kept apart.
+     */
+    @Test
+    @DisplayName("Should keep a separate count per name")
+    void testSeparateCountPerName() {
+        // Act
+        cachedCounts.get("taskLists", this::count);
+        long other = cachedCounts.get("tasks", () -> 42);
+
+        // Assert
+        assertEquals(42, other);
+        assertEquals(5, cachedCounts.get("taskLists", this::count));
+        assertEquals(1, queries.get());
+    }
+
+    private long count() {
+        queries.incrementAndGet();
+        return rows.get();
+    }
+
+    /**
+     * Clock advanced explicitly by the tests.
+     */
+    private static final class SteppingClock extends Clock {
+
+        private Instant instant;
+
+        SteppingClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.nsalazar.quicktask.shared.infrastructure.database;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ConcurrencyLimitingDataSource.
+ *
+ * <p>Verifies that connections beyond the limit wait and time out, and that closing a
+ * connection releases exactly one permit.
+ *
+ * @author nsalazar
+ * @see ConcurrencyLimitingDataSource
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcurrencyLimitingDataSource Tests")
+class ConcurrencyLimitingDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection targetConnection;
+
+    private ConcurrencyLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitingDataSource(targetDataSource, 1, Duration.ofMillis(50));
+    }
+
+    /**
+     * Tests that a caller over the limit times out until the held connection is closed.
+     */
+    @Test
+    @DisplayName("Should time out over the limit and release the permit on close")
+    void testLimitsConcurrentConnections() throws SQLException {
+        // Arrange
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        Connection first = dataSource.getConnection();
+
+        // Act & Assert
+        assertEquals(1, dataSource.getActiveConnections());
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        first.close();
+        first.close();
+        assertEquals(0, dataSource.getActiveConnections());
+        verify(targetConnection, times(2)).close();
+
+        Connection second = dataSource.getConnection();
+        assertSame(targetConnection, ((ConnectionProxy) second).getTargetConnection());
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+    }
+
+    /**
+     * Tests that a failure of the target data source does not leak a permit.
+     */
+    @Test
+    @DisplayName("Should release the permit when the target data source fails")
+    void testReleasesPermitOnFailure() throws SQLException {
+        // Arrange
+        when(targetDataSource.getConnection())
+                .thenThrow(new SQLException("pool exhausted"))
+                .thenReturn(targetConnection);
+
+        // Act & Assert
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertEquals(0, dataSource.getActiveConnections());
+        assertNotNull(dataSource.getConnection());
+    }
+
+}
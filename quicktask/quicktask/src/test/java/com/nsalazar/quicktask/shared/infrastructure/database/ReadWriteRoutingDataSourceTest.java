@@ -0,0 +1,168 @@
+package com.nsalazar.quicktask.shared.infrastructure.database;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReadWriteRoutingDataSource.
+ *
+ * <p>Verifies that read-only connections rotate over the healthy replicas, fall back to the
+ * primary, and that writes and {@link PrimaryReads} scopes stay on the primary.
+ *
+ * @author nsalazar
+ * @see ReadWriteRoutingDataSource
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReadWriteRoutingDataSource Tests")
+class ReadWriteRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource firstReplica;
+
+    @Mock
+    private DataSource secondReplica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection firstReplicaConnection;
+
+    @Mock
+    private Connection secondReplicaConnection;
+
+    private ReadWriteRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ReadWriteRoutingDataSource(primary, List.of(
+                new ReadWriteRoutingDataSource.Replica("replica-1", firstReplica),
+                new ReadWriteRoutingDataSource.Replica("replica-2", secondReplica)));
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+    }
+
+    /**
+     * Tests that read-only connections alternate between the replicas.
+     */
+    @Test
+    @DisplayName("Should rotate read-only connections over the replicas")
+    void testRoundRobinOverReplicas() throws SQLException {
+        // Arrange
+        when(firstReplica.getConnection()).thenReturn(firstReplicaConnection);
+        when(secondReplica.getConnection()).thenReturn(secondReplicaConnection);
+
+        // Act & Assert
+        assertSame(firstReplicaConnection, readOnlyTarget());
+        assertSame(secondReplicaConnection, readOnlyTarget());
+        assertSame(firstReplicaConnection, readOnlyTarget());
+        assertEquals(3, dataSource.getReplicaReads());
+        verifyNoInteractions(primary);
+    }
+
+    /**
+     * Tests that connections not marked read-only are taken from the primary.
+     */
+    @Test
+    @DisplayName("Should take writable connections from the primary")
+    void testWritesUsePrimary() throws SQLException {
+        // Arrange
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act
+        Connection connection = dataSource.getConnection();
+
+        // Assert
+        assertSame(primaryConnection, ((ConnectionProxy) connection).getTargetConnection());
+        verifyNoInteractions(firstReplica, secondReplica);
+    }
+
+    /**
+     * Tests that a failing replica is skipped until it passes a health check.
+     */
+    @Test
+    @DisplayName("Should skip a failing replica until its health check passes")
+    void testFailingReplicaIsSkipped() throws SQLException {
+        // Arrange
+        when(firstReplica.getConnection())
+                .thenThrow(new SQLTransientConnectionException("down"))
+                .thenReturn(firstReplicaConnection);
+        when(secondReplica.getConnection()).thenReturn(secondReplicaConnection);
+        when(firstReplicaConnection.isValid(anyInt())).thenReturn(true);
+        when(secondReplicaConnection.isValid(anyInt())).thenReturn(true);
+
+        // Act & Assert
+        assertSame(secondReplicaConnection, readOnlyTarget());
+        assertEquals(1, dataSource.getHealthyReplicaCount());
+        assertSame(secondReplicaConnection, readOnlyTarget());
+
+        dataSource.checkHealth(Duration.ofSeconds(1));
+        assertEquals(2, dataSource.getHealthyReplicaCount());
+    }
+
+    /**
+     * Tests that reads go to the primary when every replica is down.
+     */
+    @Test
+    @DisplayName("Should fall back to the primary when every replica is down")
+    void testFallsBackToPrimary() throws SQLException {
+        // Arrange
+        when(firstReplica.getConnection()).thenThrow(new SQLTransientConnectionException("down"));
+        when(secondReplica.getConnection()).thenThrow(new SQLTransientConnectionException("down"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act
+        Connection target = readOnlyTarget();
+
+        // Assert
+        assertSame(primaryConnection, target);
+        assertEquals(0, dataSource.getHealthyReplicaCount());
+        assertEquals(1, dataSource.getPrimaryReads());
+    }
+
+    /**
+     * Tests that reads inside a primary reads scope do not use the replicas.
+     */
+    @Test
+    @DisplayName("Should read from the primary inside a PrimaryReads scope")
+    void testPrimaryReadsScope() throws SQLException {
+        // Arrange
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // Act
+        Connection target;
+        try (PrimaryReads.Scope ignored = PrimaryReads.open()) {
+            target = readOnlyTarget();
+        }
+
+        // Assert
+        assertSame(primaryConnection, target);
+        assertFalse(PrimaryReads.isRequested());
+        verifyNoInteractions(firstReplica, secondReplica);
+    }
+
+    private Connection readOnlyTarget() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        connection.setReadOnly(true);
+        return ((ConnectionProxy) connection).getTargetConnection();
+    }
+
+}
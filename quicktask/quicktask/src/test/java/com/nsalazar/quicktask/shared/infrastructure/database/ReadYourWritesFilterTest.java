@@ -0,0 +1,111 @@
+package com.nsalazar.quicktask.shared.infrastructure.database;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ReadYourWritesFilter.
+ *
+ * <p>Verifies that writes start the read-your-writes window and that requests within the window
+ * read from the primary.
+ *
+ * @author nsalazar
+ * @see ReadYourWritesFilter
+ */
+@DisplayName("ReadYourWritesFilter Tests")
+class ReadYourWritesFilterTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-15T10:00:00Z");
+
+    private ReadReplicaProperties properties;
+    private ReadYourWritesFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ReadReplicaProperties();
+        properties.setUrls(List.of("jdbc:mysql://replica:3306/tasks_db"));
+        properties.setReadYourWritesWindow(Duration.ofSeconds(5));
+        filter = new ReadYourWritesFilter(properties, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    /**
+     * Tests that a write reads from the primary and sets the window cookie.
+     */
+    @Test
+    @DisplayName("Should start the window on a write")
+    void testWriteStartsWindow() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/tasks");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        boolean primary = primaryReadsDuring(request, response);
+
+        // Assert
+        assertTrue(primary);
+        assertFalse(PrimaryReads.isRequested());
+        String cookie = response.getHeader(HttpHeaders.SET_COOKIE);
+        assertNotNull(cookie);
+        assertTrue(cookie.startsWith(ReadYourWritesFilter.COOKIE + "=" + NOW.plusSeconds(5).toEpochMilli()));
+        assertTrue(cookie.contains("Max-Age=5"));
+    }
+
+    /**
+     * Tests that reads use the primary within the window and the replicas after it.
+     */
+    @Test
+    @DisplayName("Should read from the primary only within the window")
+    void testReadWithinWindow() throws Exception {
+        // Arrange
+        MockHttpServletRequest within = new MockHttpServletRequest("GET", "/api/v1/tasks");
+        within.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(NOW.toEpochMilli() + 1)));
+        MockHttpServletRequest expired = new MockHttpServletRequest("GET", "/api/v1/tasks");
+        expired.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(NOW.toEpochMilli())));
+        MockHttpServletRequest withoutCookie = new MockHttpServletRequest("GET", "/api/v1/tasks");
+
+        // Act & Assert
+        assertTrue(primaryReadsDuring(within, new MockHttpServletResponse()));
+        assertFalse(primaryReadsDuring(expired, new MockHttpServletResponse()));
+        assertFalse(primaryReadsDuring(withoutCookie, new MockHttpServletResponse()));
+    }
+
+    /**
+     * Tests that the filter does nothing without read replicas.
+     */
+    @Test
+    @DisplayName("Should do nothing without read replicas")
+    void testDisabledWithoutReplicas() throws Exception {
+        // Arrange
+        properties.setUrls(List.of());
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/tasks");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        boolean primary = primaryReadsDuring(request, response);
+
+        // Assert
+        assertFalse(primary);
+        assertNull(response.getHeader(HttpHeaders.SET_COOKIE));
+    }
+
+    private boolean primaryReadsDuring(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        AtomicBoolean primary = new AtomicBoolean();
+        filter.doFilter(request, response, (req, res) -> primary.set(PrimaryReads.isRequested()));
+        return primary.get();
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.nsalazar.quicktask.shared.infrastructure.database.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for UuidV7Generator.
+ *
+ * <p>Verifies the RFC 9562 layout of the generated identifiers and their monotonic ordering,
+ * both as {@link UUID} values and as the raw bytes stored in {@code BINARY(16)} columns.
+ *
+ * @author nsalazar
+ * @see UuidV7Generator
+ */
+@DisplayName("UuidV7Generator Tests")
+class UuidV7GeneratorTest {
+
+    private static final int SAMPLE_SIZE = 100_000;
+
+    /**
+     * Tests the version, variant and timestamp fields of a generated UUID.
+     */
+    @Test
+    @DisplayName("Should generate version 7 UUIDs with the current timestamp")
+    void testGeneratesVersion7Layout() {
+        // Arrange
+        long before = System.currentTimeMillis();
+
+        // Act
+        UUID uuid = UuidV7Generator.nextUuid();
+
+        // Assert
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before, "Timestamp should not be older than the generation time");
+        assertTrue(timestamp <= System.currentTimeMillis() + 1, "Timestamp should not be in the future");
+    }
+
+    /**
+     * Tests that consecutive UUIDs are unique and strictly increasing in byte order,
+     * including bursts within the same millisecond.
+     */
+    @Test
+    @DisplayName("Should generate unique and strictly increasing UUIDs")
+    void testGeneratesMonotonicUuids() {
+        // Arrange
+        Set<UUID> generated = new HashSet<>();
+        byte[] previous = toBytes(UuidV7Generator.nextUuid());
+
+        // Act & Assert
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            UUID uuid = new UuidV7Generator().generateUuid(null);
+            byte[] current = toBytes(uuid);
+            assertTrue(Arrays.compareUnsigned(previous, current) < 0, "UUIDs should be strictly increasing");
+            assertTrue(generated.add(uuid), "UUIDs should be unique");
+            previous = current;
+        }
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.nsalazar.quicktask.shared.infrastructure.metrics;
+
+import com.nsalazar.quicktask.shared.exception.ResourceNotFoundException;
+import com.nsalazar.quicktask.task.application.ITaskService;
+import com.nsalazar.quicktask.task.application.dto.response.TaskDetailDTOResponse;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for PortMetricsAspect.
+ *
+ * <p>Applies the aspect to a mocked service through an AspectJ proxy and verifies the recorded
+ * timers and their tags.
+ *
+ * @author nsalazar
+ * @see PortMetricsAspect
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PortMetricsAspect Tests")
+class PortMetricsAspectTest {
+
+    @Mock
+    private ITaskService taskService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ITaskService proxy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(taskService);
+        proxyFactory.addAspect(new PortMetricsAspect(meterRegistry));
+        proxy = proxyFactory.getProxy();
+    }
+
+    /**
+     * Tests that successful and failed calls are recorded under their outcome.
+     */
+    @Test
+    @DisplayName("Should time service calls tagged by operation and outcome")
+    void testRecordsServiceCallsByOutcome() {
+        // Arrange
+        UUID existingId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        when(taskService.getById(existingId)).thenReturn(TaskDetailDTOResponse.builder().id(existingId).build());
+        when(taskService.getById(missingId)).thenThrow(new ResourceNotFoundException("missing"));
+
+        // Act
+        proxy.getById(existingId);
+        proxy.getById(existingId);
+        assertThrows(ResourceNotFoundException.class, () -> proxy.getById(missingId));
+
+        // Assert
+        Timer success = meterRegistry.get(PortMetricsAspect.SERVICE_TIMER)
+                .tags("port", "ITaskService", "operation", "getById", "outcome", "SUCCESS", "exception", "none")
+                .timer();
+        Timer notFound = meterRegistry.get(PortMetricsAspect.SERVICE_TIMER)
+                .tags("port", "ITaskService", "operation", "getById",
+                        "outcome", "NOT_FOUND", "exception", "ResourceNotFoundException")
+                .timer();
+        assertEquals(2, success.count());
+        assertEquals(1, notFound.count());
+    }
+
+    /**
+     * Tests the classification of exceptions into outcome tags.
+     */
+    @Test
+    @DisplayName("Should classify exceptions into outcomes")
+    void testOutcomeOf() {
+        assertEquals("SUCCESS", PortMetricsAspect.outcomeOf(null));
+        assertEquals("INVALID", PortMetricsAspect.outcomeOf(new IllegalArgumentException()));
+        assertEquals("ERROR", PortMetricsAspect.outcomeOf(new IllegalStateException()));
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.nsalazar.quicktask.shared.infrastructure.metrics;
+
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test utility asserting the exact number of SQL statements executed by an action.
+ *
+ * <p>Requires the application context's {@link SqlStatementCounter}, which is registered as the
+ * Hibernate statement inspector. Usage:
+ * <pre>
+ * ResponseEntity&lt;TaskDetailDTOResponse&gt; response =
+ *         assertStatementCount(sqlStatementCounter, 2, () -&gt; taskController.getById(id));
+ * </pre>
+ *
+ * @author nsalazar
+ * @see SqlStatementCounter
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    /**
+     * Runs the action and asserts it executed exactly {@code expected} statements.
+     *
+     * @param counter the statement counter of the application context
+     * @param expected the expected number of statements
+     * @param action the action to run
+     * @param <T> the result type
+     * @return the action's result
+     */
+    public static <T> T assertStatementCount(SqlStatementCounter counter, int expected, ThrowingSupplier<T> action) {
+        counter.start();
+        T result;
+        try {
+            result = action.get();
+        } catch (Throwable ex) {
+            counter.stop();
+            throw new AssertionError("Action failed while counting statements", ex);
+        }
+        assertEquals(expected, counter.stop(), "Unexpected number of SQL statements");
+        return result;
+    }
+
+    /**
+     * Runs an action expected to fail and asserts it executed exactly {@code expected} statements.
+     *
+     * @param counter the statement counter of the application context
+     * @param expected the expected number of statements
+     * @param expectedType the expected exception type
+     * @param action the action to run
+     * @param <E> the exception type
+     * @return the thrown exception
+     */
+    public static <E extends Throwable> E assertStatementCountThrows(SqlStatementCounter counter, int expected,
+                                                                     Class<E> expectedType, ThrowingSupplier<?> action) {
+        counter.start();
+        E failure;
+        try {
+            failure = assertThrows(expectedType, action::get);
+        } finally {
+            int statements = counter.stop();
+            assertEquals(expected, statements, "Unexpected number of SQL statements");
+        }
+        return failure;
+    }
+
+}
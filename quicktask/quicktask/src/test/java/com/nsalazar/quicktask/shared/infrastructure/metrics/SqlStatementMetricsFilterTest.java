@@ -0,0 +1,128 @@
+package com.nsalazar.quicktask.shared.infrastructure.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SqlStatementMetricsFilter.
+ *
+ * <p>Simulates a handler that executes statements through the {@link SqlStatementCounter} and
+ * verifies the response header, the summary and the budget counter.
+ *
+ * @author nsalazar
+ * @see SqlStatementMetricsFilter
+ */
+@DisplayName("SqlStatementMetricsFilter Tests")
+class SqlStatementMetricsFilterTest {
+
+    private static final String URI = "/api/v1/tasks/{id}";
+
+    private SqlStatementCounter counter;
+    private SimpleMeterRegistry meterRegistry;
+    private SqlStatementMetricsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new SqlStatementCounter();
+        meterRegistry = new SimpleMeterRegistry();
+        SqlStatementBudgetProperties budgetProperties = new SqlStatementBudgetProperties();
+        budgetProperties.setEndpoints(Map.of("GET " + URI, 2));
+        filter = new SqlStatementMetricsFilter(counter, budgetProperties, meterRegistry);
+    }
+
+    /**
+     * Tests a request within its budget.
+     * Verifies that the header is set before the body is written and the summary is recorded.
+     */
+    @Test
+    @DisplayName("Should expose the statement count as header and summary")
+    void testRecordsStatementsWithinBudget() throws Exception {
+        // Act
+        MockHttpServletResponse response = execute(2);
+
+        // Assert
+        assertEquals("2", response.getHeader(SqlStatementMetricsFilter.STATEMENTS_HEADER));
+        assertEquals(2.0, meterRegistry.get(SqlStatementMetricsFilter.STATEMENTS_SUMMARY)
+                .tags("method", "GET", "uri", URI).summary().totalAmount());
+        assertTrue(meterRegistry.find(SqlStatementMetricsFilter.OVER_BUDGET_COUNTER).counters().isEmpty());
+        assertEquals(0, counter.current(), "The counting scope should be closed after the request");
+    }
+
+    /**
+     * Tests a request over its budget.
+     * Verifies that the over-budget counter is incremented.
+     */
+    @Test
+    @DisplayName("Should count requests over their statement budget")
+    void testCountsRequestsOverBudget() throws Exception {
+        // Act
+        MockHttpServletResponse response = execute(3);
+
+        // Assert
+        assertEquals("3", response.getHeader(SqlStatementMetricsFilter.STATEMENTS_HEADER));
+        assertEquals(1.0, meterRegistry.get(SqlStatementMetricsFilter.OVER_BUDGET_COUNTER)
+                .tags("method", "GET", "uri", URI).counter().count());
+    }
+
+    /**
+     * Tests an asynchronous request, whose body is written on another thread.
+     * Verifies that neither the header nor the summary report a misleading count.
+     */
+    @Test
+    @DisplayName("Should skip asynchronous requests")
+    void testSkipsAsyncRequests() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tasks/export");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HttpServlet handler = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/tasks/export");
+                req.startAsync();
+            }
+        };
+
+        // Act
+        filter.doFilter(request, response, new MockFilterChain(handler));
+
+        // Assert
+        assertNull(response.getHeader(SqlStatementMetricsFilter.STATEMENTS_HEADER));
+        assertTrue(meterRegistry.find(SqlStatementMetricsFilter.STATEMENTS_SUMMARY).summaries().isEmpty());
+        assertEquals(0, counter.current(), "The counting scope should be closed after the request");
+    }
+
+    private MockHttpServletResponse execute(int statements) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tasks/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HttpServlet handler = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, URI);
+                for (int i = 0; i < statements; i++) {
+                    counter.inspect("select 1");
+                }
+                resp.getWriter().write("{}");
+                resp.flushBuffer();
+            }
+        };
+        filter.doFilter(request, response, new MockFilterChain(handler));
+        return response;
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.nsalazar.quicktask.shared.infrastructure.outbox;
+
+import com.nsalazar.quicktask.shared.domain.event.DomainEvent;
+import com.nsalazar.quicktask.shared.domain.event.DomainEventType;
+import com.nsalazar.quicktask.shared.domain.event.IDomainEventSubscriber;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DomainEventDispatcher.
+ *
+ * <p>Covers ordered delivery per subscriber, filtering, failure reporting and the concurrent
+ * delivery to different subscribers.
+ *
+ * @author nsalazar
+ * @see DomainEventDispatcher
+ */
+@DisplayName("DomainEventDispatcher Tests")
+class DomainEventDispatcherTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Tests that every subscriber receives the accepted events of a batch in order.
+     */
+    @Test
+    @DisplayName("Should deliver accepted events to every subscriber in order")
+    void testDispatchInOrder() {
+        // Arrange
+        List<DomainEvent> events = List.of(event(DomainEventType.TASK_CREATED), event(DomainEventType.TASK_LIST_CREATED),
+                event(DomainEventType.TASK_UPDATED));
+        RecordingSubscriber all = new RecordingSubscriber(null);
+        RecordingSubscriber tasksOnly = new RecordingSubscriber("task");
+        DomainEventDispatcher dispatcher = new DomainEventDispatcher(List.of(all, tasksOnly), executor);
+
+        // Act
+        Set<UUID> failed = dispatcher.dispatch(events);
+
+        // Assert
+        assertTrue(failed.isEmpty());
+        assertEquals(events, all.received);
+        assertEquals(List.of(events.get(0), events.get(2)), tasksOnly.received);
+    }
+
+    /**
+     * Tests that a failing event is reported without stopping the rest of the batch.
+     */
+    @Test
+    @DisplayName("Should report failed events and keep delivering the batch")
+    void testDispatchFailure() {
+        // Arrange
+        DomainEvent failing = event(DomainEventType.TASK_DELETED);
+        DomainEvent next = event(DomainEventType.TASK_CREATED);
+        List<DomainEvent> received = Collections.synchronizedList(new ArrayList<>());
+        IDomainEventSubscriber subscriber = event -> {
+            if (event == failing) {
+                throw new IllegalStateException("Unavailable");
+            }
+            received.add(event);
+        };
+        DomainEventDispatcher dispatcher = new DomainEventDispatcher(List.of(subscriber), executor);
+
+        // Act
+        Set<UUID> failed = dispatcher.dispatch(List.of(failing, next));
+
+        // Assert
+        assertEquals(Set.of(failing.getId()), failed);
+        assertEquals(List.of(next), received);
+    }
+
+    /**
+     * Tests that subscribers are called concurrently, so a subscriber waiting on another does not deadlock.
+     */
+    @Test
+    @DisplayName("Should deliver to different subscribers concurrently")
+    void testDispatchConcurrently() {
+        // Arrange
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        IDomainEventSubscriber waiting = event -> {
+            bothStarted.countDown();
+            if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Subscribers ran sequentially");
+            }
+        };
+        DomainEventDispatcher dispatcher = new DomainEventDispatcher(List.of(waiting, waiting), executor);
+
+        // Act
+        Set<UUID> failed = dispatcher.dispatch(List.of(event(DomainEventType.TASK_CREATED)));
+
+        // Assert
+        assertTrue(failed.isEmpty());
+    }
+
+    /**
+     * Tests that a dispatcher without subscribers delivers nothing and reports no failure.
+     */
+    @Test
+    @DisplayName("Should accept every event when there are no subscribers")
+    void testDispatchWithoutSubscribers() {
+        // Arrange
+        DomainEventDispatcher dispatcher = new DomainEventDispatcher(List.of(), executor);
+
+        // Act & Assert
+        assertFalse(dispatcher.hasSubscribers());
+        assertTrue(dispatcher.dispatch(List.of(event(DomainEventType.TASK_CREATED))).isEmpty());
+    }
+
+    private static DomainEvent event(DomainEventType type) {
+        return new DomainEvent(UUID.randomUUID(), type, UUID.randomUUID(), "{}", LocalDateTime.now(), 0);
+    }
+
+    private static final class RecordingSubscriber implements IDomainEventSubscriber {
+
+        private final String aggregateType;
+        private final List<DomainEvent> received = new ArrayList<>();
+
+        private RecordingSubscriber(String aggregateType) {
+            this.aggregateType = aggregateType;
+        }
+
+        @Override
+        public boolean accepts(DomainEvent event) {
+            return aggregateType == null || aggregateType.equals(event.getType().getAggregateType());
+        }
+
+        @Override
+        public void onEvent(DomainEvent event) {
+            received.add(event);
+        }
+
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.nsalazar.quicktask.shared.infrastructure.outbox;
+
+import com.nsalazar.quicktask.shared.domain.event.DomainEventType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OutboxDomainEventPublisher.
+ *
+ * <p>Covers persisting the serialized event in the current transaction and rejecting events
+ * published outside of one.
+ *
+ * @author nsalazar
+ * @see OutboxDomainEventPublisher
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxDomainEventPublisher Tests")
+class OutboxDomainEventPublisherTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    /**
+     * Tests that an event is persisted with its JSON payload and is immediately deliverable.
+     */
+    @Test
+    @DisplayName("Should persist the event in the current transaction")
+    void testPublish() {
+        // Arrange
+        UUID aggregateId = UUID.randomUUID();
+        OutboxDomainEventPublisher publisher = new OutboxDomainEventPublisher(entityManager, JsonMapper.builder().build());
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // Act
+        publisher.publish(DomainEventType.TASK_DELETED, aggregateId, Map.of("id", aggregateId));
+
+        // Assert
+        ArgumentCaptor<OutboxEventEntity> captor = ArgumentCaptor.forClass(OutboxEventEntity.class);
+        verify(entityManager, times(1)).persist(captor.capture());
+        OutboxEventEntity event = captor.getValue();
+        assertNull(event.getId());
+        assertEquals(DomainEventType.TASK_DELETED, event.getEventType());
+        assertEquals(aggregateId, event.getAggregateId());
+        assertEquals("{\"id\":\"" + aggregateId + "\"}", event.getPayload());
+        assertEquals(0, event.getAttempts());
+        assertEquals(event.getOccurredAt(), event.getAvailableAt());
+    }
+
+    /**
+     * Tests that publishing without a transaction is rejected, since the event would not be atomic with the change.
+     */
+    @Test
+    @DisplayName("Should reject events published outside of a transaction")
+    void testPublishWithoutTransaction() {
+        // Arrange
+        OutboxDomainEventPublisher publisher = new OutboxDomainEventPublisher(entityManager, JsonMapper.builder().build());
+
+        // Act & Assert
+        assertThrows(IllegalTransactionStateException.class,
+                () -> publisher.publish(DomainEventType.TASK_CREATED, UUID.randomUUID(), Map.of()));
+        verifyNoInteractions(entityManager);
+    }
+
+}
@@ -0,0 +1,146 @@
+package com.nsalazar.quicktask.shared.infrastructure.outbox;
+
+import com.nsalazar.quicktask.shared.domain.event.DomainEvent;
+import com.nsalazar.quicktask.shared.domain.event.DomainEventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OutboxRelay.
+ *
+ * <p>Covers the claim of a batch before delivery, the deletion of delivered events, the
+ * rescheduling of failed ones with exponential backoff, dropping after the last attempt and the
+ * outcome counters.
+ *
+ * @author nsalazar
+ * @see OutboxRelay
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay Tests")
+class OutboxRelayTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 12, 0);
+
+    @Mock
+    private IJPAOutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<DomainEvent> delivered = new ArrayList<>();
+    private final List<UUID> failing = new ArrayList<>();
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        DomainEventDispatcher dispatcher = new DomainEventDispatcher(List.of(event -> {
+            if (failing.contains(event.getId())) {
+                throw new IllegalStateException("Unavailable");
+            }
+            delivered.add(event);
+        }), Runnable::run);
+        relay = new OutboxRelay(outboxEventRepository, dispatcher, transactionManager, meterRegistry,
+                10, 3, Duration.ofSeconds(1), Duration.ofMinutes(1), true);
+    }
+
+    /**
+     * Tests that a batch is claimed, delivered events are deleted in bulk and failed ones are rescheduled.
+     */
+    @Test
+    @DisplayName("Should claim the batch, delete delivered events and reschedule failed ones")
+    void testRelayBatch() {
+        // Arrange
+        OutboxEventEntity first = entity(0);
+        OutboxEventEntity failed = entity(1);
+        OutboxEventEntity last = entity(0);
+        failing.add(failed.getId());
+        when(outboxEventRepository.lockNextBatch(NOW, Limit.of(10))).thenReturn(List.of(first, failed, last));
+
+        // Act
+        int drained = relay.relayBatch(NOW);
+
+        // Assert
+        assertEquals(3, drained);
+        assertEquals(List.of(first.getId(), last.getId()), delivered.stream().map(DomainEvent::getId).toList());
+        verify(outboxEventRepository, times(1))
+                .claim(List.of(first.getId(), failed.getId(), last.getId()), NOW.plusMinutes(1));
+        verify(outboxEventRepository, times(1)).deleteAllByIdInBatch(List.of(first.getId(), last.getId()));
+        verify(outboxEventRepository, times(1)).reschedule(failed.getId(), 2, NOW.plusSeconds(2));
+        verify(transactionManager, times(2)).commit(any());
+        assertEquals(2.0, meterRegistry.counter(OutboxRelay.EVENTS_COUNTER, "outcome", "relayed").count());
+        assertEquals(1.0, meterRegistry.counter(OutboxRelay.EVENTS_COUNTER, "outcome", "retried").count());
+    }
+
+    /**
+     * Tests that an event failing its last attempt is deleted and counted as dropped.
+     */
+    @Test
+    @DisplayName("Should drop an event after its last attempt")
+    void testRelayBatchDropsExhaustedEvent() {
+        // Arrange
+        OutboxEventEntity exhausted = entity(2);
+        failing.add(exhausted.getId());
+        when(outboxEventRepository.lockNextBatch(NOW, Limit.of(10))).thenReturn(List.of(exhausted));
+
+        // Act
+        relay.relayBatch(NOW);
+
+        // Assert
+        verify(outboxEventRepository, times(1)).deleteAllByIdInBatch(List.of(exhausted.getId()));
+        verify(outboxEventRepository, never()).reschedule(any(), anyInt(), any());
+        assertEquals(1.0, meterRegistry.counter(OutboxRelay.EVENTS_COUNTER, "outcome", "dropped").count());
+    }
+
+    /**
+     * Tests that an empty outbox issues no delete.
+     */
+    @Test
+    @DisplayName("Should do nothing when no event is deliverable")
+    void testRelayBatchEmpty() {
+        // Arrange
+        when(outboxEventRepository.lockNextBatch(NOW, Limit.of(10))).thenReturn(List.of());
+
+        // Act & Assert
+        assertEquals(0, relay.relayBatch(NOW));
+        verify(outboxEventRepository, never()).claim(any(), any());
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    /**
+     * Tests the exponential backoff and its cap.
+     */
+    @Test
+    @DisplayName("Should double the retry delay up to one hour")
+    void testBackoff() {
+        // Act & Assert
+        assertEquals(Duration.ofSeconds(1), relay.backoff(0));
+        assertEquals(Duration.ofSeconds(8), relay.backoff(3));
+        assertEquals(Duration.ofHours(1), relay.backoff(30));
+    }
+
+    private static OutboxEventEntity entity(int attempts) {
+        return new OutboxEventEntity(UUID.randomUUID(), DomainEventType.TASK_CREATED, UUID.randomUUID(), "{}",
+                NOW.minusSeconds(1), attempts, NOW.minusSeconds(1));
+    }
+
+}
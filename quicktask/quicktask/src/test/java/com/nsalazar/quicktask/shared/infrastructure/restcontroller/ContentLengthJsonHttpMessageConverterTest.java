@@ -0,0 +1,73 @@
+package com.nsalazar.quicktask.shared.infrastructure.restcontroller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ContentLengthJsonHttpMessageConverter.
+ *
+ * <p>Verifies that a body within the buffer limit is written completely and announced with its
+ * exact length, which lets the server apply the compression threshold, and that a larger body is
+ * streamed without one.
+ *
+ * @author nsalazar
+ * @see ContentLengthJsonHttpMessageConverter
+ */
+@DisplayName("ContentLengthJsonHttpMessageConverter Tests")
+class ContentLengthJsonHttpMessageConverterTest {
+
+    private final ContentLengthJsonHttpMessageConverter converter =
+            new ContentLengthJsonHttpMessageConverter(JsonMapper.builder().build(), DataSize.ofKilobytes(2));
+
+    /**
+     * Tests that the Content-Length header matches the number of bytes written.
+     */
+    @Test
+    @DisplayName("Should write the body with its Content-Length")
+    void testWritesContentLength() throws Exception {
+        // Arrange
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        PageDTOResponse<String> page = new PageDTOResponse<>(List.of("día", "night"), 2L, null, null);
+
+        // Act
+        converter.write(page, MediaType.APPLICATION_JSON, outputMessage);
+
+        // Assert
+        byte[] body = outputMessage.getBodyAsBytes();
+        assertEquals("{\"content\":[\"día\",\"night\"],\"totalElements\":2}",
+                new String(body, StandardCharsets.UTF_8));
+        assertEquals(body.length, outputMessage.getHeaders().getContentLength());
+        assertEquals(MediaType.APPLICATION_JSON, outputMessage.getHeaders().getContentType());
+    }
+
+    /**
+     * Tests that a body larger than the buffer limit is written completely without a length.
+     */
+    @Test
+    @DisplayName("Should stream a body larger than the buffer limit without Content-Length")
+    void testStreamsLargeBody() throws Exception {
+        // Arrange
+        ContentLengthJsonHttpMessageConverter smallBuffer =
+                new ContentLengthJsonHttpMessageConverter(JsonMapper.builder().build(), DataSize.ofBytes(16));
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        PageDTOResponse<String> page = new PageDTOResponse<>(List.of("día", "night"), 2L, null, null);
+
+        // Act
+        smallBuffer.write(page, MediaType.APPLICATION_JSON, outputMessage);
+
+        // Assert
+        assertEquals("{\"content\":[\"día\",\"night\"],\"totalElements\":2}",
+                outputMessage.getBodyAsString(StandardCharsets.UTF_8));
+        assertEquals(-1, outputMessage.getHeaders().getContentLength());
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.nsalazar.quicktask.shared.infrastructure.restcontroller;
+
+import com.nsalazar.quicktask.shared.exception.PreconditionFailedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ETags.
+ *
+ * <p>Verifies that tags change with the versions of embedded resources and that
+ * {@code If-Match} values are parsed back to the resource version, ignoring the digest.
+ *
+ * @author nsalazar
+ * @see ETags
+ */
+@DisplayName("ETags Tests")
+class ETagsTest {
+
+    /**
+     * Tests that a tag without dependencies is the quoted version.
+     */
+    @Test
+    @DisplayName("Should build a quoted version tag")
+    void testBuildsVersionTag() {
+        assertEquals("\"7\"", ETags.of(7L));
+        assertNull(ETags.of(null));
+    }
+
+    /**
+     * Tests that a change in an embedded resource version yields a different tag
+     * with the same leading version.
+     */
+    @Test
+    @DisplayName("Should change the tag when an embedded version changes")
+    void testTagCoversDependencies() {
+        // Arrange
+        UUID taskListId = UUID.randomUUID();
+
+        // Act
+        String before = ETags.of(3L, taskListId, 1L);
+        String after = ETags.of(3L, taskListId, 2L);
+
+        // Assert
+        assertNotEquals(before, after);
+        assertEquals(before, ETags.of(3L, taskListId, 1L));
+        assertEquals(3L, ETags.parseVersion(before));
+        assertEquals(3L, ETags.parseVersion(after));
+    }
+
+    /**
+     * Tests that If-Match checks only the resource version: a tag whose digest no longer matches
+     * the current tag yields the same expected version.
+     */
+    @Test
+    @DisplayName("Should ignore the digest of an If-Match tag")
+    void testIfMatchIgnoresDigest() {
+        // Arrange
+        UUID taskListId = UUID.randomUUID();
+        String current = ETags.of(5L, taskListId, 2L);
+
+        // Act
+        Long expectedVersion = ETags.parseVersion("\"5-deadbeef\"");
+
+        // Assert
+        assertNotEquals("\"5-deadbeef\"", current);
+        assertEquals(ETags.parseVersion(current), expectedVersion);
+        assertEquals(5L, expectedVersion);
+    }
+
+    /**
+     * Tests the handling of absent, wildcard, weak and malformed If-Match values.
+     */
+    @Test
+    @DisplayName("Should parse If-Match values")
+    void testParsesIfMatch() {
+        assertNull(ETags.parseVersion(null));
+        assertNull(ETags.parseVersion("*"));
+        assertEquals(12L, ETags.parseVersion(" \"12\" "));
+        assertThrows(PreconditionFailedException.class, () -> ETags.parseVersion("W/\"12\""));
+        assertThrows(IllegalArgumentException.class, () -> ETags.parseVersion("12"));
+        assertThrows(IllegalArgumentException.class, () -> ETags.parseVersion("\"1\", \"2\""));
+        assertThrows(IllegalArgumentException.class, () -> ETags.parseVersion("\"abc\""));
+    }
+
+}
@@ -0,0 +1,227 @@
+package com.nsalazar.quicktask.task.application;
+
+import com.nsalazar.quicktask.task.application.dto.request.TaskDTOBatchCreateRequest;
+import com.nsalazar.quicktask.task.application.dto.request.TaskDTOCreateRequest;
+import com.nsalazar.quicktask.task.application.dto.request.TaskDTOImportRequest;
+import com.nsalazar.quicktask.task.application.dto.response.TaskBatchDTOResponse;
+import com.nsalazar.quicktask.task.application.dto.response.TaskImportDTOResponse;
+import com.nsalazar.quicktask.tasklist.domain.repository.ITaskListRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TaskImportService.
+ *
+ * <p>Verifies the grouping of lines into batches, the reporting of malformed, invalid and
+ * rejected lines with their line numbers, and the task list name lookup cache. The batch
+ * creation itself is mocked.
+ *
+ * @author nsalazar
+ * @see TaskImportService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskImportService Tests")
+class TaskImportServiceTest {
+
+    @Mock
+    private ITaskService taskService;
+
+    @Mock
+    private ITaskListRepository taskListRepository;
+
+    private ValidatorFactory validatorFactory;
+
+    private TaskImportService taskImportService;
+
+    private static final UUID BACKLOG_ID = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        taskImportService = new TaskImportService(taskService, taskListRepository, validatorFactory.getValidator());
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    /**
+     * Tests importing more lines than fit into one batch.
+     * Verifies that each batch is created with a separate call and the counts add up.
+     */
+    @Test
+    @DisplayName("Should write valid lines in batches of the requested size")
+    void testImportInBatches() {
+        // Arrange
+        List<TaskImportLine> lines = IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> line(i, "Task " + i, null))
+                .toList();
+        when(taskService.createBatch(any())).thenAnswer(invocation -> createdAll(invocation.getArgument(0)));
+
+        // Act
+        TaskImportDTOResponse result = taskImportService.importTasks(lines.iterator(), 2);
+
+        // Assert
+        ArgumentCaptor<TaskDTOBatchCreateRequest> batches = ArgumentCaptor.forClass(TaskDTOBatchCreateRequest.class);
+        verify(taskService, times(3)).createBatch(batches.capture());
+        assertEquals(List.of(2, 2, 1), batches.getAllValues().stream().map(batch -> batch.getTasks().size()).toList());
+        assertEquals(5, result.getProcessed());
+        assertEquals(5, result.getCreated());
+        assertEquals(0, result.getRejected());
+        assertEquals(3, result.getBatches());
+        verifyNoInteractions(taskListRepository);
+    }
+
+    /**
+     * Tests lines that cannot be imported.
+     * Verifies that malformed, invalid and rule-breaking lines are reported in line order
+     * without stopping the import.
+     */
+    @Test
+    @DisplayName("Should report malformed, invalid and rejected lines with their line number")
+    void testReportRejectedLines() {
+        // Arrange
+        List<TaskImportLine> lines = List.of(
+                line(1, "Valid", null),
+                TaskImportLine.malformed(2, "Malformed JSON: unexpected end-of-input"),
+                TaskImportLine.parsed(3, TaskDTOImportRequest.builder().title(" ").description("Description").build()),
+                line(4, "Duplicate", null));
+        when(taskService.createBatch(any())).thenReturn(TaskBatchDTOResponse.builder()
+                .requested(2)
+                .created(1)
+                .rejected(1)
+                .results(List.of(
+                        TaskBatchDTOResponse.ItemResult.builder().index(0).created(true).build(),
+                        TaskBatchDTOResponse.ItemResult.builder().index(1).error("Duplicate title").build()))
+                .build());
+
+        // Act
+        TaskImportDTOResponse result = taskImportService.importTasks(lines.iterator(), 10);
+
+        // Assert
+        assertEquals(4, result.getProcessed());
+        assertEquals(1, result.getCreated());
+        assertEquals(3, result.getRejected());
+        assertEquals(List.of(2L, 3L, 4L), result.getRejectedLines().stream()
+                .map(TaskImportDTOResponse.RejectedLine::getLine).toList());
+        assertEquals("title: Task title is required", result.getRejectedLines().get(1).getError());
+        assertEquals("Duplicate title", result.getRejectedLines().get(2).getError());
+        assertFalse(result.isRejectedLinesTruncated());
+    }
+
+    /**
+     * Tests task list names.
+     * Verifies that each name is looked up once per import, known names are replaced by their
+     * ID and unknown names reject the line.
+     */
+    @Test
+    @DisplayName("Should resolve each task list name once per import")
+    void testResolveTaskListNamesOnce() {
+        // Arrange
+        List<TaskImportLine> lines = List.of(
+                line(1, "Task 1", "Backlog"),
+                line(2, "Task 2", "Archive"),
+                line(3, "Task 3", "Backlog"),
+                line(4, "Task 4", "Archive"));
+        when(taskListRepository.findIdsByNames(Set.of("Backlog", "Archive"))).thenReturn(Map.of("Backlog", BACKLOG_ID));
+        List<TaskDTOCreateRequest> created = new ArrayList<>();
+        when(taskService.createBatch(any())).thenAnswer(invocation -> {
+            TaskDTOBatchCreateRequest batch = invocation.getArgument(0);
+            created.addAll(batch.getTasks());
+            return createdAll(batch);
+        });
+
+        // Act
+        TaskImportDTOResponse result = taskImportService.importTasks(lines.iterator(), 2);
+
+        // Assert
+        verify(taskListRepository, times(1)).findIdsByNames(any());
+        assertEquals(2, result.getCreated());
+        assertTrue(created.stream().allMatch(request -> BACKLOG_ID.equals(request.getTaskListId())));
+        assertEquals(List.of(2L, 4L), result.getRejectedLines().stream()
+                .map(TaskImportDTOResponse.RejectedLine::getLine).toList());
+        assertEquals("Task list not found with name: Archive", result.getRejectedLines().get(0).getError());
+    }
+
+    /**
+     * Tests a batch failing at the database.
+     * Verifies that only the lines of that batch are rejected and the import continues.
+     */
+    @Test
+    @DisplayName("Should reject the lines of a rolled back batch and continue")
+    void testContinueAfterRolledBackBatch() {
+        // Arrange
+        List<TaskImportLine> lines = IntStream.rangeClosed(1, 4)
+                .mapToObj(i -> line(i, "Task " + i, null))
+                .toList();
+        when(taskService.createBatch(any()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"))
+                .thenAnswer(invocation -> createdAll(invocation.getArgument(0)));
+
+        // Act
+        TaskImportDTOResponse result = taskImportService.importTasks(lines.iterator(), 2);
+
+        // Assert
+        assertEquals(2, result.getCreated());
+        assertEquals(2, result.getRejected());
+        assertEquals(List.of(1L, 2L), result.getRejectedLines().stream()
+                .map(TaskImportDTOResponse.RejectedLine::getLine).toList());
+        assertEquals("Batch rolled back: Duplicate entry", result.getRejectedLines().get(0).getError());
+    }
+
+    /**
+     * Tests an out-of-range batch size.
+     * Verifies that the import is rejected before any line is read.
+     */
+    @Test
+    @DisplayName("Should reject an invalid batch size")
+    void testRejectInvalidBatchSize() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> taskImportService.importTasks(List.<TaskImportLine>of().iterator(), 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskImportService.importTasks(List.<TaskImportLine>of().iterator(),
+                        TaskDTOBatchCreateRequest.MAX_BATCH_SIZE + 1));
+        verifyNoInteractions(taskService);
+    }
+
+    private static TaskImportLine line(long number, String title, String taskListName) {
+        return TaskImportLine.parsed(number, TaskDTOImportRequest.builder()
+                .title(title)
+                .description("Description of " + title)
+                .taskListName(taskListName)
+                .build());
+    }
+
+    private static TaskBatchDTOResponse createdAll(TaskDTOBatchCreateRequest batch) {
+        return TaskBatchDTOResponse.builder()
+                .requested(batch.getTasks().size())
+                .created(batch.getTasks().size())
+                .results(IntStream.range(0, batch.getTasks().size())
+                        .mapToObj(index -> TaskBatchDTOResponse.ItemResult.builder().index(index).created(true).build())
+                        .toList())
+                .build();
+    }
+
+}
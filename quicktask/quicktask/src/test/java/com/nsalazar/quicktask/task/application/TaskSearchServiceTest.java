@@ -0,0 +1,92 @@
+package com.nsalazar.quicktask.task.application;
+
+import com.nsalazar.quicktask.task.application.dto.mapper.ITaskDTOMapper;
+import com.nsalazar.quicktask.task.application.dto.response.TaskDTOResponse;
+import com.nsalazar.quicktask.task.application.dto.response.TaskSearchDTOResponse;
+import com.nsalazar.quicktask.task.domain.Task;
+import com.nsalazar.quicktask.task.domain.repository.ITaskRepository;
+import com.nsalazar.quicktask.task.domain.search.ITaskSearchIndex;
+import com.nsalazar.quicktask.task.domain.search.TaskSearchHits;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TaskSearchService.
+ *
+ * <p>Verifies that hits keep the index ranking, that their tasks are read with one lookup and
+ * that hits of deleted tasks are dropped and removed from the index.
+ *
+ * @author nsalazar
+ * @see TaskSearchService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskSearchService Tests")
+class TaskSearchServiceTest {
+
+    @Mock
+    private ITaskSearchIndex searchIndex;
+
+    @Mock
+    private ITaskRepository taskRepository;
+
+    @Mock
+    private ITaskDTOMapper taskDTOMapper;
+
+    @InjectMocks
+    private TaskSearchService taskSearchService;
+
+    /**
+     * Tests that the hits are returned in index order and stale hits are dropped.
+     */
+    @Test
+    @DisplayName("Should keep the ranking and drop hits of deleted tasks")
+    void testSearch() {
+        // Arrange
+        UUID best = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(searchIndex.search("docs", 3)).thenReturn(new TaskSearchHits(List.of(
+                new TaskSearchHits.Hit(best, 3f),
+                new TaskSearchHits.Hit(deleted, 2f),
+                new TaskSearchHits.Hit(second, 1f)), 5));
+        when(searchIndex.isReady()).thenReturn(true);
+        when(taskRepository.findAllById(List.of(best, deleted, second)))
+                .thenReturn(List.of(Task.builder().id(second).build(), Task.builder().id(best).build()));
+        when(taskDTOMapper.toTaskDTOResponse(any(Task.class)))
+                .thenAnswer(invocation -> TaskDTOResponse.builder().id(invocation.<Task>getArgument(0).getId()).build());
+
+        // Act
+        TaskSearchDTOResponse result = taskSearchService.search("docs", 3);
+
+        // Assert
+        assertEquals(List.of(best, second), result.getHits().stream().map(hit -> hit.getTask().getId()).toList());
+        assertEquals(3f, result.getHits().get(0).getScore());
+        assertEquals(4, result.getTotalMatches());
+        assertTrue(result.isIndexReady());
+        verify(searchIndex, times(1)).remove(deleted);
+    }
+
+    /**
+     * Tests that an out-of-range size is rejected before the index is queried.
+     */
+    @Test
+    @DisplayName("Should reject a size out of range")
+    void testSearchInvalidSize() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> taskSearchService.search("docs", ITaskSearchService.MAX_SIZE + 1));
+        verifyNoInteractions(searchIndex);
+    }
+
+}
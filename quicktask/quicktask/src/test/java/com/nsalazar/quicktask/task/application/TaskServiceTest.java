@@ -1,13 +1,27 @@
 package com.nsalazar.quicktask.task.application;
 
+import com.nsalazar.quicktask.shared.domain.event.DomainEventType;
+import com.nsalazar.quicktask.shared.domain.event.IDomainEventPublisher;
+import com.nsalazar.quicktask.shared.exception.PreconditionFailedException;
+import com.nsalazar.quicktask.shared.infrastructure.cache.CacheInvalidator;
 import com.nsalazar.quicktask.task.application.dto.mapper.ITaskDTOMapper;
+import com.nsalazar.quicktask.task.application.dto.request.TaskDTOBatchCreateRequest;
 import com.nsalazar.quicktask.task.application.dto.request.TaskDTOCreateRequest;
+import com.nsalazar.quicktask.task.application.dto.request.TaskDTOFilterRequest;
 import com.nsalazar.quicktask.task.application.dto.request.TaskDTOUpdateRequest;
+import com.nsalazar.quicktask.task.application.dto.response.TaskBatchDTOResponse;
+import com.nsalazar.quicktask.task.application.dto.response.TaskCursorPageDTOResponse;
 import com.nsalazar.quicktask.task.application.dto.response.TaskDTOResponse;
 import com.nsalazar.quicktask.task.application.dto.response.TaskDetailDTOResponse;
+import com.nsalazar.quicktask.task.application.dto.response.TaskMultiGetDTOResponse;
 import com.nsalazar.quicktask.task.application.exception.DuplicateTitleException;
 import com.nsalazar.quicktask.task.domain.Task;
+import com.nsalazar.quicktask.task.domain.TaskFilter;
+import com.nsalazar.quicktask.task.domain.TaskDetail;
 import com.nsalazar.quicktask.task.domain.repository.ITaskRepository;
+import com.nsalazar.quicktask.task.domain.search.ITaskSearchIndex;
+import com.nsalazar.quicktask.task.domain.stats.ITaskStatsCounters;
+import com.nsalazar.quicktask.task.domain.stats.TaskStats;
 import com.nsalazar.quicktask.tasklist.domain.repository.ITaskListRepository;
 import com.nsalazar.quicktask.shared.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,18 +31,35 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -63,6 +94,18 @@ class TaskServiceTest {
     @Mock
     private ITaskDTOMapper taskDTOMapper;
 
+    @Mock
+    private CacheInvalidator cacheInvalidator;
+
+    @Mock
+    private ITaskSearchIndex searchIndex;
+
+    @Mock
+    private ITaskStatsCounters taskStats;
+
+    @Mock
+    private IDomainEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -107,7 +150,6 @@ class TaskServiceTest {
         updateRequest = TaskDTOUpdateRequest.builder()
                 .title("Updated Title")
                 .description("Updated Description")
-                .completed(false)
                 .build();
     }
 
@@ -154,6 +196,117 @@ class TaskServiceTest {
         verify(taskRepository, times(1)).findAll(pageable);
     }
 
+    /**
+     * Tests the filtered search.
+     * Verifies that the mapped filter reaches the repository and an empty page is not an error.
+     */
+    @Test
+    @DisplayName("Should search tasks by filter and return an empty page when nothing matches")
+    void testSearchTasks() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        TaskDTOFilterRequest filterRequest = TaskDTOFilterRequest.builder().completed(true).build();
+        TaskFilter filter = TaskFilter.builder().completed(true).build();
+
+        when(taskDTOMapper.toTaskFilter(filterRequest)).thenReturn(filter);
+        when(taskRepository.findAll(filter, pageable)).thenReturn(Page.empty(pageable));
+
+        // Act
+        Page<TaskDTOResponse> result = taskService.search(filterRequest, pageable);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(taskRepository, times(1)).findAll(filter, pageable);
+    }
+
+    /**
+     * Tests the filtered search with an empty timestamp range.
+     * Verifies that IllegalArgumentException is thrown before the repository is queried.
+     */
+    @Test
+    @DisplayName("Should reject a search whose lower bound is not before its upper bound")
+    void testSearchTasksInvalidRange() {
+        // Arrange
+        LocalDateTime bound = LocalDateTime.of(2024, 1, 1, 0, 0);
+        TaskDTOFilterRequest filterRequest = TaskDTOFilterRequest.builder()
+                .createdAfter(bound)
+                .createdBefore(bound)
+                .build();
+        when(taskDTOMapper.toTaskFilter(filterRequest)).thenReturn(TaskFilter.builder()
+                .createdAfter(bound)
+                .createdBefore(bound)
+                .build());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.search(filterRequest, PageRequest.of(0, 10)));
+        verifyNoInteractions(taskRepository);
+    }
+
+    /**
+     * Tests retrieving a slice of tasks.
+     * Verifies the slice is read without a count and mapped to DTOs.
+     */
+    @Test
+    @DisplayName("Should get a slice of tasks")
+    void testGetSlice() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        when(taskRepository.findSlice(pageable)).thenReturn(new SliceImpl<>(List.of(testTask), pageable, true));
+        when(taskDTOMapper.toTaskDTOResponse(testTask)).thenReturn(testTaskResponse);
+
+        // Act
+        Slice<TaskDTOResponse> result = taskService.getSlice(pageable);
+
+        // Assert
+        assertTrue(result.hasNext());
+        assertEquals(TEST_TITLE, result.getContent().get(0).getTitle());
+        verify(taskRepository, never()).findAll(any(Pageable.class));
+    }
+
+    /**
+     * Tests estimating the total of a completion filter.
+     * Verifies the estimate is read from the task statistics of the filtered task list.
+     */
+    @Test
+    @DisplayName("Should estimate the total from the task statistics")
+    void testEstimateTotal() {
+        // Arrange
+        UUID taskListId = UUID.randomUUID();
+        TaskDTOFilterRequest filterRequest = TaskDTOFilterRequest.builder().taskListId(taskListId).completed(false).build();
+        when(taskDTOMapper.toTaskFilter(filterRequest))
+                .thenReturn(TaskFilter.builder().taskListId(taskListId).completed(false).build());
+        when(taskStats.isReady()).thenReturn(true);
+        when(taskStats.forTaskList(taskListId)).thenReturn(Optional.of(new TaskStats(10, 4, new TreeMap<>())));
+
+        // Act
+        OptionalLong result = taskService.estimateTotal(filterRequest);
+
+        // Assert
+        assertEquals(OptionalLong.of(6), result);
+        verifyNoInteractions(taskRepository);
+    }
+
+    /**
+     * Tests estimating the total of a title filter.
+     * Verifies no estimate is returned, as the statistics do not count titles.
+     */
+    @Test
+    @DisplayName("Should not estimate the total of a title filter")
+    void testEstimateTotalWithTitle() {
+        // Arrange
+        TaskDTOFilterRequest filterRequest = TaskDTOFilterRequest.builder().title("report").build();
+        when(taskDTOMapper.toTaskFilter(filterRequest)).thenReturn(TaskFilter.builder().title("report").build());
+        when(taskStats.isReady()).thenReturn(true);
+
+        // Act
+        OptionalLong result = taskService.estimateTotal(filterRequest);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(taskStats, never()).global();
+    }
+
     /**
      * Tests retrieving a single task by ID.
      * Verifies successful retrieval and DTO mapping.
@@ -191,6 +344,55 @@ class TaskServiceTest {
         verify(taskRepository, times(1)).findById(testTaskId);
     }
 
+    /**
+     * Tests retrieving many tasks by ID.
+     * Verifies one repository call, request order, collapsed duplicates and reported missing ids.
+     */
+    @Test
+    @DisplayName("Should get many tasks by ID in request order and report missing IDs")
+    void testGetByIds() {
+        // Arrange
+        UUID otherId = UUID.randomUUID();
+        UUID missingId = UUID.randomUUID();
+        UUID taskListId = UUID.randomUUID();
+        TaskDetail first = TaskDetail.builder().id(testTaskId).title(TEST_TITLE).build();
+        TaskDetail second = TaskDetail.builder().id(otherId).title("Other").taskListId(taskListId)
+                .taskListName("Inbox").build();
+        when(taskRepository.findAllDetailsById(anyCollection())).thenReturn(List.of(first, second));
+
+        // Act
+        TaskMultiGetDTOResponse result = taskService.getByIds(List.of(otherId, missingId, testTaskId, otherId));
+
+        // Assert
+        assertEquals(List.of(otherId, testTaskId), result.getContent().stream().map(TaskDetailDTOResponse::getId).toList());
+        assertEquals("Inbox", result.getContent().get(0).getTaskList().getName());
+        assertNull(result.getContent().get(1).getTaskList());
+        assertEquals(List.of(missingId), result.getMissingIds());
+        verify(taskRepository, times(1)).findAllDetailsById(argThat(ids -> ids.size() == 3));
+        verifyNoInteractions(taskListRepository);
+    }
+
+    /**
+     * Tests retrieving many tasks with no, only null or too many IDs.
+     * Verifies that IllegalArgumentException is thrown before any query.
+     */
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when no or too many IDs are requested")
+    void testGetByIdsInvalidCount() {
+        // Arrange
+        List<UUID> tooMany = new ArrayList<>();
+        for (int i = 0; i <= ITaskService.MAX_MULTI_GET_IDS; i++) {
+            tooMany.add(UUID.randomUUID());
+        }
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> taskService.getByIds(null));
+        assertThrows(IllegalArgumentException.class, () -> taskService.getByIds(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> taskService.getByIds(Collections.singletonList(null)));
+        assertThrows(IllegalArgumentException.class, () -> taskService.getByIds(tooMany));
+        verifyNoInteractions(taskRepository);
+    }
+
     /**
      * Tests creating a new task successfully.
      * Verifies that the task is created with correct initial state.
@@ -199,7 +401,6 @@ class TaskServiceTest {
     @DisplayName("Should create a new task successfully")
     void testCreateTask() {
         // Arrange
-        when(taskRepository.findByTitleAndNotCompleted(TEST_TITLE)).thenReturn(Optional.empty());
         when(taskDTOMapper.toTask(createRequest)).thenReturn(testTask);
         when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
@@ -210,26 +411,31 @@ class TaskServiceTest {
         assertNotNull(result);
         assertEquals(TEST_TITLE, result.getTitle());
         assertFalse(result.isCompleted());
-        verify(taskRepository, times(1)).findByTitleAndNotCompleted(TEST_TITLE);
+        verify(taskRepository, never()).findByTitleAndNotCompleted(any());
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(searchIndex, times(1)).index(testTaskId, TEST_TITLE, TEST_DESCRIPTION);
+        verify(taskStats, times(1)).taskCreated(null, false, testTask.getCreatedAt());
+        verify(eventPublisher, times(1)).publish(eq(DomainEventType.TASK_CREATED), eq(testTaskId), any());
     }
 
     /**
      * Tests creating a task with a duplicate title.
-     * Verifies that DuplicateTitleException is thrown.
+     * Verifies that the DuplicateTitleException raised by the unique index on insert is propagated
+     * and that nothing is indexed or evicted.
      */
     @Test
     @DisplayName("Should throw DuplicateTitleException when title already exists")
     void testCreateTaskWithDuplicateTitle() {
         // Arrange
-        when(taskRepository.findByTitleAndNotCompleted(TEST_TITLE))
-                .thenReturn(Optional.of(testTask));
+        when(taskDTOMapper.toTask(createRequest)).thenReturn(testTask);
+        when(taskRepository.save(any(Task.class)))
+                .thenThrow(new DuplicateTitleException("A task with title '" + TEST_TITLE + "' already exists and is incomplete"));
 
         // Act & Assert
         assertThrows(DuplicateTitleException.class, () -> taskService.create(createRequest),
                 "Should throw DuplicateTitleException when title already exists");
-        verify(taskRepository, times(1)).findByTitleAndNotCompleted(TEST_TITLE);
-        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskRepository, never()).findByTitleAndNotCompleted(any());
+        verifyNoInteractions(searchIndex, cacheInvalidator, eventPublisher);
     }
 
     /**
@@ -246,119 +452,242 @@ class TaskServiceTest {
 
     /**
      * Tests updating an existing task successfully.
-     * Verifies that the task is updated with new values.
+     * Verifies that a single partial update is issued and the response is read with one joined query.
      */
     @Test
     @DisplayName("Should update an existing task successfully")
     void testUpdateTask() {
         // Arrange
-        Task updatedTask = Task.builder()
+        UUID taskListId = UUID.randomUUID();
+        TaskDetail updatedTask = TaskDetail.builder()
                 .id(testTaskId)
                 .title("Updated Title")
                 .description("Updated Description")
                 .completed(false)
                 .createdAt(testTask.getCreatedAt())
                 .updatedAt(LocalDateTime.now())
+                .taskListId(taskListId)
+                .taskListName("List")
                 .build();
 
-        when(taskRepository.findById(testTaskId)).thenReturn(Optional.of(testTask));
-        when(taskRepository.findByTitleAndNotCompleted("Updated Title")).thenReturn(Optional.empty());
-        doNothing().when(taskDTOMapper).toTask(updateRequest, testTask);
-        when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+        when(taskRepository.updatePartially(eq(testTaskId), eq("Updated Title"), eq("Updated Description"),
+                isNull(), isNull(), any(LocalDateTime.class), isNull())).thenReturn(true);
+        when(taskRepository.findDetailById(testTaskId)).thenReturn(Optional.of(updatedTask));
 
         // Act
-        TaskDetailDTOResponse result = taskService.update(testTaskId, updateRequest);
+        TaskDetailDTOResponse result = taskService.update(testTaskId, updateRequest, null);
 
         // Assert
         assertNotNull(result);
         assertEquals("Updated Title", result.getTitle());
         assertEquals("Updated Description", result.getDescription());
-        verify(taskRepository, times(1)).findById(testTaskId);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        assertEquals(taskListId, result.getTaskList().getId());
+        assertEquals("List", result.getTaskList().getName());
+        verify(taskRepository, never()).findById(any());
+        verify(taskRepository, never()).findByTitleAndNotCompleted(any());
+        verify(taskRepository, never()).save(any(Task.class));
+        verifyNoInteractions(taskListRepository);
+        verify(cacheInvalidator, times(1)).evictTaskDetails(testTaskId);
+        verify(cacheInvalidator, times(1)).evictTaskListDetails(taskListId);
+        verifyNoInteractions(taskStats);
+        verify(eventPublisher, times(1)).publish(eq(DomainEventType.TASK_UPDATED), eq(testTaskId),
+                argThat(payload -> "Updated Title".equals(((TaskDTOResponse) payload).getTitle())
+                        && taskListId.equals(((TaskDTOResponse) payload).getTaskListId())));
     }
 
     /**
-     * Tests updating a task with a new title that's already in use.
-     * Verifies that DuplicateTitleException is thrown.
+     * Tests completing a task.
+     * Verifies that the task is read once, updated at the read version and counted as completed,
+     * and that the response is built without reading the task again.
      */
     @Test
-    @DisplayName("Should throw DuplicateTitleException when updating with duplicate title")
-    void testUpdateTaskWithDuplicateTitle() {
+    @DisplayName("Should update task statistics when completing a task")
+    void testUpdateTaskCompletion() {
         // Arrange
-        Task existingTask = Task.builder()
-                .id(UUID.randomUUID())
-                .title("Updated Title")
-                .description("Existing description")
+        UUID taskListId = UUID.randomUUID();
+        TaskDetail previousTask = TaskDetail.builder()
+                .id(testTaskId)
+                .title(TEST_TITLE)
+                .description(TEST_DESCRIPTION)
                 .completed(false)
+                .createdAt(testTask.getCreatedAt())
+                .version(4L)
+                .taskListId(taskListId)
+                .taskListName("List")
                 .build();
+        TaskDTOUpdateRequest completeRequest = TaskDTOUpdateRequest.builder().completed(true).build();
 
-        when(taskRepository.findById(testTaskId)).thenReturn(Optional.of(testTask));
-        when(taskRepository.findByTitleAndNotCompleted("Updated Title"))
-                .thenReturn(Optional.of(existingTask));
+        when(taskRepository.findDetailById(testTaskId)).thenReturn(Optional.of(previousTask));
+        when(taskRepository.updatePartially(eq(testTaskId), isNull(), isNull(), eq(true), isNull(),
+                any(LocalDateTime.class), eq(4L))).thenReturn(true);
+
+        // Act
+        TaskDetailDTOResponse result = taskService.update(testTaskId, completeRequest, null);
+
+        // Assert
+        assertTrue(result.isCompleted());
+        assertEquals(5L, result.getVersion());
+        assertEquals(TEST_TITLE, result.getTitle());
+        assertEquals("List", result.getTaskList().getName());
+        assertNotNull(result.getUpdatedAt());
+        verify(taskRepository, times(1)).findDetailById(testTaskId);
+        verify(taskStats, times(1)).taskChanged(taskListId, false, taskListId, true, testTask.getCreatedAt());
+        verify(cacheInvalidator, times(1)).evictTaskListDetails(taskListId);
+        verifyNoInteractions(searchIndex);
+        verify(eventPublisher, times(1)).publish(eq(DomainEventType.TASK_UPDATED), eq(testTaskId),
+                argThat(payload -> ((TaskDTOResponse) payload).isCompleted()));
+    }
+
+    /**
+     * Tests completing a task changed concurrently between the read and the update.
+     * Verifies that the update is retried unconditionally and a reconciliation is requested.
+     */
+    @Test
+    @DisplayName("Should request a statistics reconciliation when the task changed concurrently")
+    void testUpdateTaskCompletionChangedConcurrently() {
+        // Arrange
+        TaskDetail previousTask = TaskDetail.builder().id(testTaskId).title(TEST_TITLE).version(4L).build();
+        TaskDetail updatedTask = TaskDetail.builder().id(testTaskId).title(TEST_TITLE).completed(true).version(6L).build();
+        TaskDTOUpdateRequest completeRequest = TaskDTOUpdateRequest.builder().completed(true).build();
+
+        when(taskRepository.findDetailById(testTaskId))
+                .thenReturn(Optional.of(previousTask))
+                .thenReturn(Optional.of(updatedTask));
+        when(taskRepository.updatePartially(eq(testTaskId), any(), any(), any(), any(), any(), eq(4L))).thenReturn(false);
+        when(taskRepository.updatePartially(eq(testTaskId), any(), any(), any(), any(), any(), isNull())).thenReturn(true);
+
+        // Act
+        TaskDetailDTOResponse result = taskService.update(testTaskId, completeRequest, null);
+
+        // Assert
+        assertEquals(6L, result.getVersion());
+        verify(taskStats, times(1)).requestReconciliation();
+        verify(taskStats, never()).taskChanged(any(), anyBoolean(), any(), anyBoolean(), any());
+    }
+
+    /**
+     * Tests updating a task with a new title that's already in use.
+     * Verifies that the DuplicateTitleException translated by the repository is propagated.
+     */
+    @Test
+    @DisplayName("Should throw DuplicateTitleException when updating with duplicate title")
+    void testUpdateTaskWithDuplicateTitle() {
+        // Arrange
+        when(taskRepository.updatePartially(eq(testTaskId), eq("Updated Title"), any(), any(), any(), any(), any()))
+                .thenThrow(new DuplicateTitleException("duplicate"));
 
         // Act & Assert
-        assertThrows(DuplicateTitleException.class, () -> taskService.update(testTaskId, updateRequest),
+        assertThrows(DuplicateTitleException.class, () -> taskService.update(testTaskId, updateRequest, null),
                 "Should throw DuplicateTitleException when new title already exists");
-        verify(taskRepository, times(1)).findById(testTaskId);
-        verify(taskRepository, times(1)).findByTitleAndNotCompleted("Updated Title");
-        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskRepository, never()).findDetailById(any());
+        verifyNoInteractions(cacheInvalidator);
     }
 
     /**
      * Tests updating a task that doesn't exist.
-     * Verifies that ResourceNotFoundException is thrown.
+     * Verifies that ResourceNotFoundException is thrown when no row is updated.
      */
     @Test
     @DisplayName("Should throw ResourceNotFoundException when updating non-existent task")
     void testUpdateTaskNotFound() {
         // Arrange
-        when(taskRepository.findById(testTaskId)).thenReturn(Optional.empty());
+        when(taskRepository.updatePartially(eq(testTaskId), any(), any(), any(), any(), any(), any())).thenReturn(false);
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class,
-                () -> taskService.update(testTaskId, updateRequest),
+                () -> taskService.update(testTaskId, updateRequest, null),
                 "Should throw ResourceNotFoundException when task not found");
-        verify(taskRepository, times(1)).findById(testTaskId);
-        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskRepository, never()).findDetailById(any());
+        verifyNoInteractions(cacheInvalidator);
     }
 
     /**
-     * Tests updating a task with the same title (no change).
-     * Verifies that the update proceeds without duplicate title check.
+     * Tests updating a task with a stale expected version.
+     * Verifies that PreconditionFailedException is thrown when the task exists but no row matched.
      */
     @Test
-    @DisplayName("Should update task when title remains the same")
-    void testUpdateTaskWithSameTitle() {
+    @DisplayName("Should throw PreconditionFailedException when expected version is stale")
+    void testUpdateTaskWithStaleVersion() {
         // Arrange
-        TaskDTOUpdateRequest sameTitle = TaskDTOUpdateRequest.builder()
-                .title(TEST_TITLE) // Same as original
-                .description("New Description")
-                .completed(false)
-                .build();
+        when(taskRepository.updatePartially(eq(testTaskId), any(), any(), any(), any(), any(), eq(3L)))
+                .thenReturn(false);
+        when(taskRepository.existsById(testTaskId)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(PreconditionFailedException.class,
+                () -> taskService.update(testTaskId, updateRequest, 3L),
+                "Should throw PreconditionFailedException when the task has been modified");
+        verify(taskRepository, never()).findDetailById(any());
+        verifyNoInteractions(cacheInvalidator);
+    }
 
-        Task updatedTask = Task.builder()
+    /**
+     * Tests updating a task with a stale expected version when its completion status changes.
+     * Verifies that the version read beforehand is compared and no update is issued.
+     */
+    @Test
+    @DisplayName("Should throw PreconditionFailedException before updating when the read version is stale")
+    void testUpdateTaskCompletionWithStaleVersion() {
+        // Arrange
+        TaskDetail previousTask = TaskDetail.builder().id(testTaskId).title(TEST_TITLE).version(4L).build();
+        TaskDTOUpdateRequest completeRequest = TaskDTOUpdateRequest.builder().completed(true).build();
+        when(taskRepository.findDetailById(testTaskId)).thenReturn(Optional.of(previousTask));
+
+        // Act & Assert
+        assertThrows(PreconditionFailedException.class,
+                () -> taskService.update(testTaskId, completeRequest, 3L),
+                "Should throw PreconditionFailedException when the task has been modified");
+        verify(taskRepository, never()).updatePartially(any(), any(), any(), any(), any(), any(), any());
+        verifyNoInteractions(cacheInvalidator, taskStats);
+    }
+
+    /**
+     * Tests moving a task to another task list.
+     * Verifies that the task is read back for the new list info, that only the previous and the
+     * new task list details are evicted and that the task moves between the list counts.
+     */
+    @Test
+    @DisplayName("Should evict both task lists and move the task statistics when moving a task to another list")
+    void testUpdateTaskMovesToAnotherList() {
+        // Arrange
+        UUID previousTaskListId = UUID.randomUUID();
+        UUID newTaskListId = UUID.randomUUID();
+        TaskDTOUpdateRequest moveRequest = TaskDTOUpdateRequest.builder()
+                .taskListId(newTaskListId)
+                .build();
+        TaskDetail previousTask = TaskDetail.builder()
                 .id(testTaskId)
                 .title(TEST_TITLE)
-                .description("New Description")
-                .completed(false)
+                .description(TEST_DESCRIPTION)
                 .createdAt(testTask.getCreatedAt())
-                .updatedAt(LocalDateTime.now())
+                .version(1L)
+                .taskListId(previousTaskListId)
+                .build();
+        TaskDetail updatedTask = TaskDetail.builder()
+                .id(testTaskId)
+                .title(TEST_TITLE)
+                .description(TEST_DESCRIPTION)
+                .createdAt(testTask.getCreatedAt())
+                .version(2L)
+                .taskListId(newTaskListId)
                 .build();
 
-        when(taskRepository.findById(testTaskId)).thenReturn(Optional.of(testTask));
-        doNothing().when(taskDTOMapper).toTask(sameTitle, testTask);
-        when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+        when(taskRepository.findDetailById(testTaskId))
+                .thenReturn(Optional.of(previousTask))
+                .thenReturn(Optional.of(updatedTask));
+        when(taskRepository.updatePartially(eq(testTaskId), isNull(), isNull(), isNull(), eq(newTaskListId),
+                any(LocalDateTime.class), eq(1L))).thenReturn(true);
 
         // Act
-        TaskDetailDTOResponse result = taskService.update(testTaskId, sameTitle);
+        TaskDetailDTOResponse result = taskService.update(testTaskId, moveRequest, null);
 
         // Assert
-        assertNotNull(result);
-        assertEquals(TEST_TITLE, result.getTitle());
-        verify(taskRepository, times(1)).findById(testTaskId);
-        // Should not check for duplicate when title hasn't changed
-        verify(taskRepository, never()).findByTitleAndNotCompleted(TEST_TITLE);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        assertEquals(newTaskListId, result.getTaskList().getId());
+        verify(taskRepository, times(2)).findDetailById(testTaskId);
+        verify(cacheInvalidator, never()).clearTaskListDetails();
+        verify(cacheInvalidator, times(1)).evictTaskListDetails(previousTaskListId);
+        verify(cacheInvalidator, times(1)).evictTaskListDetails(newTaskListId);
+        verify(taskStats, times(1)).taskChanged(previousTaskListId, false, newTaskListId, false, testTask.getCreatedAt());
     }
 
     /**
@@ -370,7 +699,7 @@ class TaskServiceTest {
     void testUpdateTaskWithNullRequest() {
         // Act & Assert
         assertThrows(IllegalArgumentException.class,
-                () -> taskService.update(testTaskId, null),
+                () -> taskService.update(testTaskId, null, null),
                 "Should throw IllegalArgumentException when request is null");
     }
 
@@ -390,7 +719,7 @@ class TaskServiceTest {
 
         // Act & Assert
         assertThrows(IllegalArgumentException.class,
-                () -> taskService.update(testTaskId, invalidRequest),
+                () -> taskService.update(testTaskId, invalidRequest, null),
                 "Should throw IllegalArgumentException when title is empty");
     }
 
@@ -406,26 +735,34 @@ class TaskServiceTest {
 
         // Act & Assert
         assertThrows(IllegalArgumentException.class,
-                () -> taskService.update(testTaskId, emptyRequest),
+                () -> taskService.update(testTaskId, emptyRequest, null),
                 "Should throw IllegalArgumentException when no fields are provided");
     }
 
     /**
      * Tests deleting a task successfully.
-     * Verifies that the task is deleted from the repository.
+     * Verifies that the task is deleted from the repository, its list details are evicted and
+     * it is no longer counted.
      */
     @Test
     @DisplayName("Should delete a task successfully")
     void testDeleteTask() {
         // Arrange
-        when(taskRepository.existsById(testTaskId)).thenReturn(true);
+        UUID taskListId = UUID.randomUUID();
+        testTask.setTaskListId(taskListId);
+        when(taskRepository.findById(testTaskId)).thenReturn(Optional.of(testTask));
 
         // Act
         taskService.delete(testTaskId);
 
         // Assert
-        verify(taskRepository, times(1)).existsById(testTaskId);
+        verify(taskRepository, times(1)).findById(testTaskId);
         verify(taskRepository, times(1)).delete(testTaskId);
+        verify(cacheInvalidator, times(1)).evictTaskDetails(testTaskId);
+        verify(cacheInvalidator, times(1)).evictTaskListDetails(taskListId);
+        verify(searchIndex, times(1)).remove(testTaskId);
+        verify(taskStats, times(1)).taskDeleted(taskListId, false, testTask.getCreatedAt());
+        verify(eventPublisher, times(1)).publish(DomainEventType.TASK_DELETED, testTaskId, Map.of("id", testTaskId));
     }
 
     /**
@@ -436,15 +773,200 @@ class TaskServiceTest {
     @DisplayName("Should throw ResourceNotFoundException when deleting non-existent task")
     void testDeleteTaskNotFound() {
         // Arrange
-        when(taskRepository.existsById(testTaskId)).thenReturn(false);
+        when(taskRepository.findById(testTaskId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class,
                 () -> taskService.delete(testTaskId),
                 "Should throw ResourceNotFoundException when task not found");
-        verify(taskRepository, times(1)).existsById(testTaskId);
+        verify(taskRepository, times(1)).findById(testTaskId);
         verify(taskRepository, never()).delete(testTaskId);
+        verifyNoInteractions(taskStats, eventPublisher);
     }
 
-}
+    /**
+     * Tests retrieving the first slice with keyset pagination.
+     * Verifies that the continuation token resumes after the last task with the same sort.
+     */
+    @Test
+    @DisplayName("Should get first slice of tasks by cursor and issue a continuation token")
+    void testGetAllTasksByCursorFirstSlice() {
+        // Arrange
+        Sort sort = Sort.by(Sort.Order.desc("createdAt"));
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 15, 10, 30);
+        KeysetScrollPosition lastPosition = ScrollPosition.forward(
+                new LinkedHashMap<>(Map.of("createdAt", createdAt, "id", testTaskId)));
+        Window<Task> window = Window.from(List.of(testTask), index -> lastPosition, true);
+
+        when(taskRepository.findAll(ScrollPosition.keyset(), sort, 1)).thenReturn(window);
+        when(taskDTOMapper.toTaskDTOResponse(testTask)).thenReturn(testTaskResponse);
+
+        // Act
+        TaskCursorPageDTOResponse result = taskService.getAllByCursor("", sort, 1);
+
+        // Assert
+        assertTrue(result.isHasNext());
+        assertEquals(1, result.getContent().size());
+        assertNotNull(result.getNextCursor());
+        assertEquals(Sort.Order.desc("createdAt"), TaskCursorCodec.decodeOrder(result.getNextCursor()));
+        assertEquals(lastPosition.getKeys(), TaskCursorCodec.decodePosition(result.getNextCursor()).getKeys());
+    }
+
+    /**
+     * Tests retrieving a follow-up slice with keyset pagination.
+     * Verifies that the sort and position are taken from the cursor and the last slice has no token.
+     */
+    @Test
+    @DisplayName("Should continue from cursor position and return no token on last slice")
+    void testGetAllTasksByCursorLastSlice() {
+        // Arrange
+        KeysetScrollPosition position = ScrollPosition.forward(
+                new LinkedHashMap<>(Map.of("title", "A: title", "id", testTaskId)));
+        String cursor = TaskCursorCodec.encode(Sort.Order.asc("title"), position);
+        Window<Task> window = Window.from(List.of(testTask), index -> position, false);
 
+        when(taskRepository.findAll(any(KeysetScrollPosition.class), eq(Sort.by("title")), eq(10))).thenReturn(window);
+        when(taskDTOMapper.toTaskDTOResponse(testTask)).thenReturn(testTaskResponse);
+
+        // Act
+        TaskCursorPageDTOResponse result = taskService.getAllByCursor(cursor, Sort.by("id"), 10);
+
+        // Assert
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+        verify(taskRepository).findAll(argThat(p -> p.getKeys().equals(position.getKeys())), eq(Sort.by("title")), eq(10));
+    }
+
+    /**
+     * Tests exporting all tasks.
+     * Verifies that each streamed task is mapped and handed to the consumer with the export fetch size.
+     */
+    @Test
+    @DisplayName("Should stream every task to the export consumer")
+    void testExportAll() {
+        // Arrange
+        when(taskRepository.forEachTask(eq(TaskService.EXPORT_FETCH_SIZE), any())).thenAnswer(invocation -> {
+            Consumer<Task> action = invocation.getArgument(1);
+            action.accept(testTask);
+            action.accept(testTask);
+            return 2L;
+        });
+        when(taskDTOMapper.toTaskDTOResponse(testTask)).thenReturn(testTaskResponse);
+        List<TaskDTOResponse> exported = new ArrayList<>();
+
+        // Act
+        long result = taskService.exportAll(exported::add);
+
+        // Assert
+        assertEquals(2L, result);
+        assertEquals(List.of(testTaskResponse, testTaskResponse), exported);
+    }
+
+    /**
+     * Tests keyset pagination with invalid input.
+     * Verifies that malformed cursors, unsupported sorts and out-of-range sizes are rejected.
+     */
+    @Test
+    @DisplayName("Should reject invalid cursor, sort or size")
+    void testGetAllTasksByCursorInvalidInput() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> taskService.getAllByCursor("not-a-cursor", Sort.unsorted(), 10));
+        assertThrows(IllegalArgumentException.class, () -> taskService.getAllByCursor("", Sort.by("description"), 10));
+        assertThrows(IllegalArgumentException.class, () -> taskService.getAllByCursor("", Sort.unsorted(), 0));
+        verifyNoInteractions(taskRepository);
+    }
+
+    /**
+     * Tests creating tasks in batch.
+     * Verifies set-wise validation with one query each and per-item results in request order.
+     */
+    @Test
+    @DisplayName("Should create batch validating titles and task lists set-wise")
+    void testCreateBatch() {
+        // Arrange
+        UUID missingTaskListId = UUID.randomUUID();
+        TaskDTOCreateRequest accepted = TaskDTOCreateRequest.builder().title("New").description(TEST_DESCRIPTION).build();
+        TaskDTOCreateRequest usedTitle = TaskDTOCreateRequest.builder().title(TEST_TITLE).description(TEST_DESCRIPTION).build();
+        TaskDTOCreateRequest repeatedTitle = TaskDTOCreateRequest.builder().title("New").description(TEST_DESCRIPTION).build();
+        TaskDTOCreateRequest missingList = TaskDTOCreateRequest.builder()
+                .title("Other").description(TEST_DESCRIPTION).taskListId(missingTaskListId).build();
+        TaskDTOBatchCreateRequest batchRequest = TaskDTOBatchCreateRequest.builder()
+                .tasks(List.of(accepted, usedTitle, repeatedTitle, missingList))
+                .build();
+        Task acceptedTask = Task.builder().title("New").description(TEST_DESCRIPTION).build();
+
+        when(taskRepository.findIncompleteTitlesIn(anyCollection())).thenReturn(Set.of(TEST_TITLE));
+        when(taskListRepository.findExistingIds(Set.of(missingTaskListId))).thenReturn(Set.of());
+        when(taskDTOMapper.toTask(accepted)).thenReturn(acceptedTask);
+        when(taskRepository.saveAll(List.of(acceptedTask))).thenReturn(List.of(testTask));
+        when(taskDTOMapper.toTaskDTOResponse(testTask)).thenReturn(testTaskResponse);
+
+        // Act
+        TaskBatchDTOResponse result = taskService.createBatch(batchRequest);
+
+        // Assert
+        assertEquals(4, result.getRequested());
+        assertEquals(1, result.getCreated());
+        assertEquals(3, result.getRejected());
+        assertTrue(result.getResults().get(0).isCreated());
+        assertEquals(testTaskResponse, result.getResults().get(0).getTask());
+        assertFalse(result.getResults().get(1).isCreated());
+        assertFalse(result.getResults().get(2).isCreated());
+        assertTrue(result.getResults().get(3).getError().contains(missingTaskListId.toString()));
+        assertFalse(acceptedTask.isCompleted());
+        assertNotNull(acceptedTask.getCreatedAt());
+        verify(taskRepository, times(1)).findIncompleteTitlesIn(anyCollection());
+        verify(taskListRepository, times(1)).findExistingIds(anyCollection());
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskStats, times(1)).taskCreated(null, false, testTask.getCreatedAt());
+        verify(eventPublisher, times(1)).publish(DomainEventType.TASK_CREATED, testTaskId, testTaskResponse);
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    /**
+     * Tests that batch titles are compared like the case-insensitive title column.
+     * Verifies that titles differing only in case from a used title or from each other are rejected.
+     */
+    @Test
+    @DisplayName("Should reject batch titles differing only in case")
+    void testCreateBatchCaseInsensitiveTitles() {
+        // Arrange
+        TaskDTOCreateRequest accepted = TaskDTOCreateRequest.builder().title("Foo").description(TEST_DESCRIPTION).build();
+        TaskDTOCreateRequest repeatedTitle = TaskDTOCreateRequest.builder().title("FOO").description(TEST_DESCRIPTION).build();
+        TaskDTOCreateRequest usedTitle = TaskDTOCreateRequest.builder()
+                .title(TEST_TITLE.toLowerCase()).description(TEST_DESCRIPTION).build();
+        TaskDTOBatchCreateRequest batchRequest = TaskDTOBatchCreateRequest.builder()
+                .tasks(List.of(accepted, repeatedTitle, usedTitle))
+                .build();
+        Task acceptedTask = Task.builder().title("Foo").description(TEST_DESCRIPTION).build();
+
+        when(taskRepository.findIncompleteTitlesIn(anyCollection())).thenReturn(Set.of(TEST_TITLE));
+        when(taskDTOMapper.toTask(accepted)).thenReturn(acceptedTask);
+        when(taskRepository.saveAll(List.of(acceptedTask))).thenReturn(List.of(testTask));
+        when(taskDTOMapper.toTaskDTOResponse(testTask)).thenReturn(testTaskResponse);
+
+        // Act
+        TaskBatchDTOResponse result = taskService.createBatch(batchRequest);
+
+        // Assert
+        assertEquals(1, result.getCreated());
+        assertTrue(result.getResults().get(0).isCreated());
+        assertFalse(result.getResults().get(1).isCreated());
+        assertFalse(result.getResults().get(2).isCreated());
+        verify(taskRepository, times(1)).saveAll(List.of(acceptedTask));
+    }
+
+    /**
+     * Tests creating an empty batch.
+     * Verifies that IllegalArgumentException is thrown.
+     */
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when batch is empty")
+    void testCreateBatchEmpty() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.createBatch(TaskDTOBatchCreateRequest.builder().tasks(List.of()).build()));
+        verifyNoInteractions(taskRepository);
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.nsalazar.quicktask.task.application;
+
+import com.nsalazar.quicktask.shared.exception.ResourceNotFoundException;
+import com.nsalazar.quicktask.task.application.dto.response.TaskStatsDTOResponse;
+import com.nsalazar.quicktask.task.domain.stats.ITaskStatsCounters;
+import com.nsalazar.quicktask.task.domain.stats.TaskStats;
+import com.nsalazar.quicktask.tasklist.domain.repository.ITaskListRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TaskStatsService.
+ *
+ * <p>Verifies that statistics are read from the counters without touching the database, and
+ * that a task list without counts is looked up once to tell an empty list from a missing one.
+ *
+ * @author nsalazar
+ * @see TaskStatsService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskStatsService Tests")
+class TaskStatsServiceTest {
+
+    @Mock
+    private ITaskStatsCounters taskStats;
+
+    @Mock
+    private ITaskListRepository taskListRepository;
+
+    @InjectMocks
+    private TaskStatsService taskStatsService;
+
+    /**
+     * Tests that the global statistics are mapped from the counters.
+     */
+    @Test
+    @DisplayName("Should return the global statistics from the counters")
+    void testGetGlobalStats() {
+        // Arrange
+        LocalDate today = LocalDate.now();
+        LocalDateTime reconciledAt = LocalDateTime.now();
+        when(taskStats.global()).thenReturn(new TaskStats(10, 4, new TreeMap<>(Map.of(today, 2L))));
+        when(taskStats.isReady()).thenReturn(true);
+        when(taskStats.getReconciledAt()).thenReturn(reconciledAt);
+
+        // Act
+        TaskStatsDTOResponse result = taskStatsService.getGlobalStats();
+
+        // Assert
+        assertEquals(10, result.getTotal());
+        assertEquals(4, result.getCompleted());
+        assertEquals(6, result.getOpen());
+        assertEquals(Map.of(today, 2L), result.getCreatedPerDay());
+        assertTrue(result.isReady());
+        assertEquals(reconciledAt, result.getReconciledAt());
+        verifyNoInteractions(taskListRepository);
+    }
+
+    /**
+     * Tests that counted task lists are served without a lookup.
+     */
+    @Test
+    @DisplayName("Should return the statistics of a counted task list without a lookup")
+    void testGetTaskListStats() {
+        // Arrange
+        UUID taskListId = UUID.randomUUID();
+        when(taskStats.forTaskList(taskListId)).thenReturn(Optional.of(new TaskStats(3, 3, new TreeMap<>())));
+
+        // Act
+        TaskStatsDTOResponse result = taskStatsService.getTaskListStats(taskListId);
+
+        // Assert
+        assertEquals(3, result.getTotal());
+        assertEquals(0, result.getOpen());
+        verifyNoInteractions(taskListRepository);
+    }
+
+    /**
+     * Tests that an existing task list without counts yields zeros and a missing one a 404.
+     */
+    @Test
+    @DisplayName("Should return zeros for an empty task list and throw for a missing one")
+    void testGetTaskListStatsWithoutCounts() {
+        // Arrange
+        UUID emptyTaskListId = UUID.randomUUID();
+        UUID missingTaskListId = UUID.randomUUID();
+        when(taskStats.forTaskList(any())).thenReturn(Optional.empty());
+        when(taskListRepository.existsById(emptyTaskListId)).thenReturn(true);
+        when(taskListRepository.existsById(missingTaskListId)).thenReturn(false);
+
+        // Act
+        TaskStatsDTOResponse result = taskStatsService.getTaskListStats(emptyTaskListId);
+
+        // Assert
+        assertEquals(0, result.getTotal());
+        assertTrue(result.getCreatedPerDay().isEmpty());
+        assertThrows(ResourceNotFoundException.class, () -> taskStatsService.getTaskListStats(missingTaskListId),
+                "Should throw ResourceNotFoundException when the task list does not exist");
+    }
+
+}
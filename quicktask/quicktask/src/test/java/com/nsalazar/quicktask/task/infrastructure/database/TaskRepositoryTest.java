@@ -1,20 +1,36 @@
 package com.nsalazar.quicktask.task.infrastructure.database;
 
+import com.nsalazar.quicktask.shared.exception.ResourceNotFoundException;
+import com.nsalazar.quicktask.task.application.exception.DuplicateTitleException;
 import com.nsalazar.quicktask.task.domain.Task;
+import com.nsalazar.quicktask.task.domain.TaskDetail;
+import com.nsalazar.quicktask.task.domain.TaskFilter;
 import com.nsalazar.quicktask.task.domain.repository.ITaskRepository;
+import com.nsalazar.quicktask.task.domain.stats.TaskDailyCount;
+import com.nsalazar.quicktask.task.domain.stats.TaskStatsCount;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -317,5 +333,376 @@ class TaskRepositoryTest {
         assertNotEquals(savedTask1.getId(), savedTask2.getId());
     }
 
-}
+    /**
+     * Tests keyset pagination by creation date.
+     * Verifies that consecutive windows continue right after the last task without gaps or overlaps.
+     */
+    @Test
+    @DisplayName("Should scroll through tasks with keyset pagination")
+    void testFindAllWithKeysetPagination() {
+        // Arrange
+        LocalDateTime baseTime = LocalDateTime.now().withNano(0);
+        for (int i = 0; i < 5; i++) {
+            taskRepository.save(Task.builder()
+                    .title("Keyset Task " + i)
+                    .description(TEST_DESCRIPTION)
+                    .completed(false)
+                    .createdAt(baseTime.plusMinutes(i))
+                    .build());
+        }
+        Sort sort = Sort.by(Sort.Order.asc("createdAt"));
+
+        // Act
+        Window<Task> firstWindow = taskRepository.findAll(ScrollPosition.keyset(), sort, 3);
+        Window<Task> secondWindow = taskRepository.findAll(
+                (KeysetScrollPosition) firstWindow.positionAt(firstWindow.size() - 1), sort, 3);
+
+        // Assert
+        assertEquals(3, firstWindow.size());
+        assertTrue(firstWindow.hasNext(), "First window should report more tasks");
+        assertEquals("Keyset Task 0", firstWindow.getContent().get(0).getTitle());
+        assertEquals(2, secondWindow.size());
+        assertFalse(secondWindow.hasNext(), "Last window should not report more tasks");
+        assertEquals("Keyset Task 3", secondWindow.getContent().get(0).getTitle());
+    }
+
+    /**
+     * Tests streaming all tasks through a forward-only cursor.
+     * Verifies that every task is passed to the action in id order, across several fetches.
+     */
+    @Test
+    @DisplayName("Should pass every task to the action in id order")
+    void testForEachTask() {
+        // Arrange
+        List<UUID> savedIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            savedIds.add(taskRepository.save(Task.builder()
+                    .title("Streamed Task " + i)
+                    .description(TEST_DESCRIPTION)
+                    .completed(false)
+                    .createdAt(LocalDateTime.now())
+                    .build()).getId());
+        }
+        List<Task> streamed = new ArrayList<>();
+
+        // Act
+        long count = taskRepository.forEachTask(2, streamed::add);
+
+        // Assert
+        assertEquals(streamed.size(), count);
+        List<UUID> streamedIds = streamed.stream().map(Task::getId).filter(savedIds::contains).toList();
+        assertEquals(savedIds, streamedIds);
+    }
+
+    /**
+     * Tests the filtered search.
+     * Verifies that the criteria are combined, ranges are half-open and wildcards in the title
+     * prefix are matched literally.
+     */
+    @Test
+    @DisplayName("Should find tasks matching every criterion of the filter")
+    void testFindAllByFilter() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2001, 1, 1, 0, 0);
+        for (int i = 0; i < 4; i++) {
+            taskRepository.save(Task.builder()
+                    .title("100%_Filtered " + i)
+                    .description(TEST_DESCRIPTION)
+                    .completed(i % 2 == 0)
+                    .createdAt(start.plusDays(i))
+                    .build());
+        }
+        taskRepository.save(Task.builder()
+                .title("100xxFiltered")
+                .description(TEST_DESCRIPTION)
+                .completed(true)
+                .createdAt(start)
+                .build());
+        TaskFilter filter = TaskFilter.builder()
+                .title("100%_")
+                .completed(true)
+                .createdAfter(start)
+                .createdBefore(start.plusDays(2))
+                .build();
+
+        // Act
+        Page<Task> result = taskRepository.findAll(filter, PageRequest.of(0, 10, Sort.by("title")));
+
+        // Assert
+        assertEquals(1, result.getTotalElements());
+        assertEquals("100%_Filtered 0", result.getContent().get(0).getTitle());
+    }
+
+    /**
+     * Tests reading filtered tasks as a slice.
+     * Verifies that the slice reports whether more matches follow without counting them.
+     */
+    @Test
+    @DisplayName("Should find a slice of filtered tasks")
+    void testFindSliceWithFilter() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            taskRepository.save(Task.builder()
+                    .title("Sliced " + i)
+                    .description(TEST_DESCRIPTION)
+                    .completed(false)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        TaskFilter filter = TaskFilter.builder().title("Sliced ").build();
+
+        // Act
+        Slice<Task> first = taskRepository.findSlice(filter, PageRequest.of(0, 2, Sort.by("title")));
+        Slice<Task> last = taskRepository.findSlice(filter, PageRequest.of(1, 2, Sort.by("title")));
+
+        // Assert
+        assertEquals(2, first.getNumberOfElements());
+        assertTrue(first.hasNext());
+        assertEquals("Sliced 2", last.getContent().get(0).getTitle());
+        assertFalse(last.hasNext());
+    }
+
+    /**
+     * Tests saving several tasks at once and the set-wise title lookup.
+     * Verifies that ids are assigned in input order and only incomplete titles are reported.
+     */
+    @Test
+    @DisplayName("Should save multiple tasks at once and find incomplete titles set-wise")
+    void testSaveAllAndFindIncompleteTitlesIn() {
+        // Arrange
+        Task completedTask = Task.builder()
+                .title("Batch Completed")
+                .description(TEST_DESCRIPTION)
+                .completed(true)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        // Act
+        List<Task> savedTasks = taskRepository.saveAll(List.of(testTask, completedTask));
+        Set<String> usedTitles = taskRepository.findIncompleteTitlesIn(List.of(TEST_TITLE, "Batch Completed", "Unknown"));
+
+        // Assert
+        assertEquals(2, savedTasks.size());
+        assertNotNull(savedTasks.get(0).getId());
+        assertEquals(TEST_TITLE, savedTasks.get(0).getTitle());
+        assertEquals("Batch Completed", savedTasks.get(1).getTitle());
+        assertEquals(Set.of(TEST_TITLE), usedTitles);
+    }
+
+    /**
+     * Tests that a batch colliding with the unique title index is translated.
+     * Verifies that the flush inside saveAll raises the domain exception instead of a raw violation.
+     */
+    @Test
+    @DisplayName("Should throw DuplicateTitleException when a batch reuses an incomplete title")
+    void testSaveAllDuplicateTitle() {
+        // Arrange
+        taskRepository.save(testTask);
+        Task duplicate = Task.builder()
+                .title(TEST_TITLE)
+                .description(TEST_DESCRIPTION)
+                .completed(false)
+                .createdAt(LocalDateTime.now())
+                .build();
+        Task other = Task.builder()
+                .title("Batch Other")
+                .description(TEST_DESCRIPTION)
+                .completed(false)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        // Act & Assert
+        assertThrows(DuplicateTitleException.class, () -> taskRepository.saveAll(List.of(other, duplicate)));
+    }
+
 
+    /**
+     * Tests the single-statement partial update and the joined detail lookup.
+     * Verifies that null arguments keep the current values and unknown IDs update nothing.
+     */
+    @Test
+    @DisplayName("Should partially update a task and read it back as a detail")
+    void testUpdatePartiallyAndFindDetailById() {
+        // Arrange
+        Task savedTask = taskRepository.save(testTask);
+
+        // Act
+        boolean updated = taskRepository.updatePartially(
+                savedTask.getId(), null, "Patched Description", true, null, LocalDateTime.now(), null);
+        boolean missing = taskRepository.updatePartially(
+                UUID.randomUUID(), "Missing", null, null, null, LocalDateTime.now(), null);
+        Optional<TaskDetail> detail = taskRepository.findDetailById(savedTask.getId());
+
+        // Assert
+        assertTrue(updated);
+        assertFalse(missing);
+        assertTrue(detail.isPresent());
+        assertEquals(TEST_TITLE, detail.get().getTitle());
+        assertEquals("Patched Description", detail.get().getDescription());
+        assertTrue(detail.get().isCompleted());
+        assertNotNull(detail.get().getUpdatedAt());
+        assertNull(detail.get().getTaskListId());
+    }
+
+    /**
+     * Tests reading many task details at once.
+     * Verifies that only existing tasks are returned and an empty set runs no query.
+     */
+    @Test
+    @DisplayName("Should find the details of many tasks at once")
+    void testFindAllDetailsById() {
+        // Arrange
+        Task first = taskRepository.save(testTask);
+        Task second = taskRepository.save(Task.builder()
+                .title("Second detail")
+                .description(TEST_DESCRIPTION)
+                .completed(true)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        // Act
+        List<TaskDetail> details = taskRepository.findAllDetailsById(
+                List.of(first.getId(), second.getId(), UUID.randomUUID()));
+
+        // Assert
+        assertEquals(Set.of(first.getId(), second.getId()),
+                details.stream().map(TaskDetail::getId).collect(Collectors.toSet()));
+        assertTrue(details.stream().allMatch(detail -> detail.getTaskListId() == null));
+        assertTrue(taskRepository.findAllDetailsById(List.of()).isEmpty());
+    }
+
+    /**
+     * Tests the constraint translation of the partial update.
+     * Verifies that title and task list violations surface as domain exceptions.
+     */
+    @Test
+    @DisplayName("Should translate constraint violations of a partial update")
+    void testUpdatePartiallyTranslatesConstraintViolations() {
+        // Arrange
+        Task savedTask = taskRepository.save(testTask);
+        taskRepository.save(Task.builder()
+                .title("Other Title")
+                .description(TEST_DESCRIPTION)
+                .createdAt(LocalDateTime.now())
+                .build());
+        UUID taskId = savedTask.getId();
+
+        // Act & Assert
+        assertThrows(DuplicateTitleException.class, () -> taskRepository.updatePartially(
+                taskId, "Other Title", null, null, null, LocalDateTime.now(), null));
+        assertThrows(ResourceNotFoundException.class, () -> taskRepository.updatePartially(
+                taskId, null, null, null, UUID.randomUUID(), LocalDateTime.now(), null));
+    }
+
+    /**
+     * Tests the title uniqueness enforced by the {@code active_title} unique index.
+     * Verifies that completed tasks may share a title, that completing a task frees its title and
+     * that a second incomplete task with the same title is rejected on insert and on reopening.
+     */
+    @Test
+    @DisplayName("Should enforce unique titles among incomplete tasks only")
+    void testSaveEnforcesTitleUniquenessAmongIncompleteTasks() {
+        // Arrange
+        for (int i = 0; i < 2; i++) {
+            taskRepository.save(Task.builder()
+                    .title("Shared Title")
+                    .description(TEST_DESCRIPTION)
+                    .completed(true)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        Task firstTask = taskRepository.save(Task.builder()
+                .title("Shared Title")
+                .description(TEST_DESCRIPTION)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        // Act
+        taskRepository.updatePartially(firstTask.getId(), null, null, true, null, LocalDateTime.now(), null);
+        Task secondTask = taskRepository.save(Task.builder()
+                .title("Shared Title")
+                .description(TEST_DESCRIPTION)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        // Assert
+        assertEquals(secondTask.getId(), taskRepository.findByTitleAndNotCompleted("Shared Title").orElseThrow().getId());
+        DuplicateTitleException reopened = assertThrows(DuplicateTitleException.class, () -> taskRepository.updatePartially(
+                firstTask.getId(), null, null, false, null, LocalDateTime.now(), null));
+        assertEquals("Another task with the same title already exists and is incomplete", reopened.getMessage());
+        assertThrows(DuplicateTitleException.class, () -> taskRepository.save(Task.builder()
+                .title("Shared Title")
+                .description(TEST_DESCRIPTION)
+                .createdAt(LocalDateTime.now())
+                .build()));
+    }
+
+    /**
+     * Tests the optimistic locking of the partial update.
+     * Verifies that the version is incremented and a stale expected version updates nothing.
+     */
+    @Test
+    @DisplayName("Should increment the version and reject a stale expected version")
+    void testUpdatePartiallyChecksExpectedVersion() {
+        // Arrange
+        Task savedTask = taskRepository.save(testTask);
+        Long initialVersion = savedTask.getVersion();
+
+        // Act
+        boolean updated = taskRepository.updatePartially(
+                savedTask.getId(), null, "First", null, null, LocalDateTime.now(), initialVersion);
+        boolean stale = taskRepository.updatePartially(
+                savedTask.getId(), null, "Second", null, null, LocalDateTime.now(), initialVersion);
+        Optional<TaskDetail> detail = taskRepository.findDetailById(savedTask.getId());
+
+        // Assert
+        assertNotNull(initialVersion);
+        assertTrue(updated);
+        assertFalse(stale);
+        assertTrue(detail.isPresent());
+        assertEquals("First", detail.get().getDescription());
+        assertEquals(initialVersion + 1, detail.get().getVersion());
+    }
+
+
+    /**
+     * Tests the grouped counts used to reconcile the task statistics.
+     * Verifies that tasks without a task list are counted and days are grouped by creation date.
+     */
+    @Test
+    @DisplayName("Should count tasks by task list, completion status and creation day")
+    void testCountByTaskListAndCompletedAndCreatedPerDay() {
+        // Arrange
+        long completedBefore = countWithoutTaskList(taskRepository.countByTaskListAndCompleted(), true);
+        LocalDateTime day = LocalDateTime.of(2099, 3, 4, 0, 0);
+        for (int i = 0; i < 3; i++) {
+            taskRepository.save(Task.builder()
+                    .title("Counted " + i)
+                    .description(TEST_DESCRIPTION)
+                    .completed(i > 0)
+                    .createdAt(day.plusHours(i * 13))
+                    .build());
+        }
+
+        // Act
+        List<TaskStatsCount> counts = taskRepository.countByTaskListAndCompleted();
+        List<TaskDailyCount> dailyCounts = taskRepository.countCreatedPerDay(day);
+
+        // Assert
+        assertEquals(completedBefore + 2, countWithoutTaskList(counts, true));
+        assertEquals(2, dailyCounts.size());
+        assertTrue(dailyCounts.stream().allMatch(count -> count.getTaskListId() == null));
+        assertEquals(2, dailyCounts.stream()
+                .filter(count -> count.getDay().equals(LocalDate.of(2099, 3, 4)))
+                .mapToLong(TaskDailyCount::getCount)
+                .sum());
+    }
+
+    private static long countWithoutTaskList(List<TaskStatsCount> counts, boolean completed) {
+        return counts.stream()
+                .filter(count -> count.getTaskListId() == null && count.isCompleted() == completed)
+                .mapToLong(TaskStatsCount::getCount)
+                .sum();
+    }
+
+}
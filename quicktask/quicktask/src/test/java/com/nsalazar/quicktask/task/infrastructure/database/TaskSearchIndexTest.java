@@ -0,0 +1,183 @@
+package com.nsalazar.quicktask.task.infrastructure.database;
+
+import com.nsalazar.quicktask.task.domain.Task;
+import com.nsalazar.quicktask.task.domain.repository.ITaskRepository;
+import com.nsalazar.quicktask.tasklist.domain.TaskList;
+import com.nsalazar.quicktask.tasklist.domain.repository.ITaskListRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query plan tests for the filtered task search.
+ *
+ * <p>Runs {@code EXPLAIN} on the statement shapes produced by {@link TaskSpecifications} and
+ * fails if any supported filter combination reads {@code tbl_tasks} with a full table or full
+ * index scan. The data set is large enough, and the filter values selective enough, that a cost
+ * based optimizer prefers the indexes declared on
+ * {@link com.nsalazar.quicktask.task.infrastructure.database.entity.TaskEntity}.
+ *
+ * <p>On MySQL every plan row must have a {@code key} and an access type other than {@code ALL}
+ * or {@code index}. On other databases (e.g. H2 for local runs) the plan must seek an index with
+ * one of the filter conditions.
+ *
+ * @author nsalazar
+ * @see TaskSpecifications
+ * @see TaskRepository#findAll(com.nsalazar.quicktask.task.domain.TaskFilter, org.springframework.data.domain.Pageable)
+ */
+@SpringBootTest
+@Transactional
+@DisplayName("Task Search Index Tests")
+class TaskSearchIndexTest {
+
+    private static final int TASK_COUNT = 600;
+    private static final LocalDateTime START = LocalDateTime.of(2001, 1, 1, 0, 0);
+
+    /**
+     * H2 annotates the chosen index with the conditions used to seek it, e.g.
+     * {@code public.idx_tasks_updated_at: updated_at >= ?1}; full table and primary key scans
+     * carry no condition.
+     */
+    private static final Pattern INDEX_LOOKUP = Pattern.compile("/\\*\\s*[\\w.\"]+: ");
+
+    @Autowired
+    private ITaskRepository taskRepository;
+
+    @Autowired
+    private ITaskListRepository taskListRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID taskListId;
+
+    /**
+     * Setup method executed before each test.
+     * Spreads the tasks over several lists and days; only one task in ten is completed.
+     */
+    @BeforeEach
+    void setUp() {
+        List<UUID> taskListIds = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            taskListIds.add(taskListRepository.save(TaskList.builder()
+                    .name("Indexed List " + i)
+                    .description("Index test list")
+                    .createdAt(START)
+                    .build()).getId());
+        }
+        taskListId = taskListIds.get(0);
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            tasks.add(Task.builder()
+                    .title("Indexed Task " + i)
+                    .description("Index test task")
+                    .completed(i % 10 == 0)
+                    .createdAt(START.plusDays(i))
+                    .updatedAt(START.plusDays(i).plusHours(1))
+                    .taskListId(taskListIds.get(i % taskListIds.size()))
+                    .build());
+        }
+        taskRepository.saveAll(tasks);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Tests the filters on the task list, alone and combined with the completion status and a
+     * creation range.
+     */
+    @Test
+    @DisplayName("Should use an index for task list filters")
+    void testTaskListFiltersUseIndex() {
+        assertIndexed("task_list_id = ?", uuidBytes(taskListId));
+        assertIndexed("task_list_id = ? AND completed = ?", uuidBytes(taskListId), true);
+        assertIndexed("task_list_id = ? AND completed = ? AND created_at >= ? AND created_at < ?",
+                uuidBytes(taskListId), false, START.plusDays(10), START.plusDays(20));
+        assertIndexed("task_list_id = ? AND title LIKE ? ESCAPE '!'", uuidBytes(taskListId), "Indexed Task 1%");
+    }
+
+    /**
+     * Tests the filters on the completion status and the timestamps.
+     */
+    @Test
+    @DisplayName("Should use an index for status and timestamp filters")
+    void testStatusAndTimestampFiltersUseIndex() {
+        assertIndexed("completed = ?", true);
+        assertIndexed("completed = ? AND created_at >= ? AND created_at < ?",
+                true, START.plusDays(10), START.plusDays(40));
+        assertIndexed("created_at >= ? AND created_at < ?", START.plusDays(10), START.plusDays(20));
+        assertIndexed("updated_at >= ? AND updated_at < ?", START.plusDays(10), START.plusDays(20));
+        assertIndexed("completed = ? AND updated_at >= ? AND updated_at < ?",
+                false, START.plusDays(10), START.plusDays(20));
+    }
+
+    /**
+     * Tests the title prefix filter.
+     */
+    @Test
+    @DisplayName("Should use an index for the title prefix filter")
+    void testTitlePrefixUsesIndex() {
+        assertIndexed("title LIKE ? ESCAPE '!'", "Indexed Task 12%");
+        assertIndexed("title LIKE ? ESCAPE '!' AND completed = ?", "Indexed Task 12%", false);
+    }
+
+    /**
+     * Explains the page and count statements of a filtered search and fails on a full scan.
+     *
+     * @param where the WHERE clause generated for the filter combination
+     * @param params the bind parameters of the clause
+     */
+    private void assertIndexed(String where, Object... params) {
+        assertPlanIndexed("SELECT * FROM tbl_tasks WHERE " + where + " ORDER BY id LIMIT 20", params);
+        assertPlanIndexed("SELECT COUNT(id) FROM tbl_tasks WHERE " + where, params);
+    }
+
+    private void assertPlanIndexed(String sql, Object... params) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, params);
+        assertFalse(plan.isEmpty(), "No plan for: " + sql);
+        if (isMySql()) {
+            for (Map<String, Object> row : plan) {
+                assertNotNull(row.get("key"), () -> "No index used by: " + sql + " -> " + row);
+                assertNotEquals("ALL", row.get("type"), () -> "Full table scan by: " + sql + " -> " + row);
+                assertNotEquals("index", row.get("type"), () -> "Full index scan by: " + sql + " -> " + row);
+            }
+        } else {
+            String text = plan.toString();
+            assertTrue(INDEX_LOOKUP.matcher(text).find(), () -> "Full scan by: " + sql + " -> " + text);
+        }
+    }
+
+    private boolean isMySql() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "MySQL".equalsIgnoreCase(product);
+    }
+
+    private static byte[] uuidBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+}
@@ -0,0 +1,215 @@
+package com.nsalazar.quicktask.task.infrastructure.restcontroller;
+
+import com.nsalazar.quicktask.shared.exception.ResourceNotFoundException;
+import com.nsalazar.quicktask.shared.infrastructure.metrics.SqlStatementCounter;
+import com.nsalazar.quicktask.shared.infrastructure.restcontroller.PaginationProperties;
+import com.nsalazar.quicktask.task.application.dto.request.TaskDTOCreateRequest;
+import com.nsalazar.quicktask.task.application.dto.request.TaskDTOFilterRequest;
+import com.nsalazar.quicktask.task.application.dto.request.TaskDTOUpdateRequest;
+import com.nsalazar.quicktask.task.domain.Task;
+import com.nsalazar.quicktask.task.domain.repository.ITaskRepository;
+import com.nsalazar.quicktask.tasklist.domain.TaskList;
+import com.nsalazar.quicktask.tasklist.domain.repository.ITaskListRepository;
+import com.nsalazar.quicktask.tasklist.infrastructure.restcontroller.TaskListController;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.nsalazar.quicktask.shared.infrastructure.metrics.SqlStatementAssertions.assertStatementCount;
+import static com.nsalazar.quicktask.shared.infrastructure.metrics.SqlStatementAssertions.assertStatementCountThrows;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests pinning the number of SQL statements executed by the task endpoints.
+ *
+ * <p>The controllers are called with the real services and repositories against the database.
+ * A change in the mapping or service layer that adds a query per request makes these tests
+ * fail with the actual count. Each test runs in a rolled back transaction, so the detail caches
+ * are never populated and every call reaches the database. The second-level cache is cleared
+ * before each test, so an entry loaded by a rolled back test never leaks into the next one.
+ *
+ * @author nsalazar
+ * @see com.nsalazar.quicktask.shared.infrastructure.metrics.SqlStatementAssertions
+ */
+@SpringBootTest
+@Transactional
+@DisplayName("TaskController Statement Count Tests")
+class TaskControllerStatementCountTest {
+
+    @Autowired
+    private TaskController taskController;
+
+    @Autowired
+    private TaskListController taskListController;
+
+    @Autowired
+    private TaskStatsController taskStatsController;
+
+    @Autowired
+    private ITaskRepository taskRepository;
+
+    @Autowired
+    private ITaskListRepository taskListRepository;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PaginationProperties paginationProperties;
+
+    private UUID taskListId;
+    private UUID taskId;
+
+    /**
+     * Setup method executed before each test.
+     * Stores a task list with three tasks and clears the persistence context and the
+     * second-level cache.
+     */
+    @BeforeEach
+    void setUp() {
+        taskListId = taskListRepository.save(TaskList.builder()
+                .name("Statement count list")
+                .description("List used to count statements")
+                .tasks(new ArrayList<>())
+                .createdAt(LocalDateTime.now())
+                .build()).getId();
+        for (int i = 0; i < 3; i++) {
+            Task task = taskRepository.save(Task.builder()
+                    .title("Statement count task " + i)
+                    .description("Task used to count statements")
+                    .createdAt(LocalDateTime.now())
+                    .taskListId(taskListId)
+                    .build());
+            taskId = task.getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks/{id} should execute 2 statements")
+    void testGetByIdStatementCount() {
+        var response = assertStatementCount(sqlStatementCounter, 2, () -> taskController.getById(taskId));
+        assertEquals(taskListId, response.getBody().getTaskList().getId());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks/{id} should execute 1 statement for a missing task")
+    void testGetByIdNotFoundStatementCount() {
+        assertStatementCountThrows(sqlStatementCounter, 1, ResourceNotFoundException.class,
+                () -> taskController.getById(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks should execute 1 statement")
+    void testGetAllStatementCount() {
+        var response = assertStatementCount(sqlStatementCounter, 1, () -> taskController.getAll(new TaskDTOFilterRequest(), PageRequest.of(0, 2)));
+        assertEquals(2, response.getBody().getContent().size());
+        assertNotNull(response.getBody().getNextPage());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks should execute 2 statements with exact totals")
+    void testGetAllExactTotalsStatementCount() {
+        paginationProperties.getEndpoints().put("GET /api/v1/tasks", PaginationProperties.Totals.EXACT);
+        try {
+            var response = assertStatementCount(sqlStatementCounter, 2, () -> taskController.getAll(new TaskDTOFilterRequest(), PageRequest.of(0, 2)));
+            assertNull(response.getBody().getApproximateTotal());
+        } finally {
+            paginationProperties.getEndpoints().put("GET /api/v1/tasks", PaginationProperties.Totals.APPROXIMATE);
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks?ids= should execute 1 statement")
+    void testGetByIdsStatementCount() {
+        UUID missingId = UUID.randomUUID();
+        var response = assertStatementCount(sqlStatementCounter, 1, () -> taskController.getByIds(List.of(taskId, missingId)));
+        assertEquals(taskListId, response.getBody().getContent().get(0).getTaskList().getId());
+        assertEquals(List.of(missingId), response.getBody().getMissingIds());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/tasks should execute 2 statements")
+    void testCreateStatementCount() {
+        TaskDTOCreateRequest create = TaskDTOCreateRequest.builder()
+                .title("Statement count new task")
+                .description("Task used to count statements")
+                .taskListId(taskListId)
+                .build();
+        var response = assertStatementCount(sqlStatementCounter, 2, () -> taskController.create(create));
+        assertEquals(taskListId, response.getBody().getTaskList().getId());
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/tasks/{id} should execute 2 statements")
+    void testPatchStatementCount() {
+        TaskDTOUpdateRequest patch = TaskDTOUpdateRequest.builder().completed(true).build();
+        var response = assertStatementCount(sqlStatementCounter, 2, () -> taskController.patch(taskId, patch, null));
+        assertTrue(response.getBody().isCompleted());
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/tasks/{id} should execute 3 statements when moving the task to another list")
+    void testPatchMoveStatementCount() {
+        UUID otherTaskListId = taskListRepository.save(TaskList.builder()
+                .name("Statement count other list")
+                .description("List used to count statements")
+                .tasks(new ArrayList<>())
+                .createdAt(LocalDateTime.now())
+                .build()).getId();
+        entityManager.flush();
+        entityManager.clear();
+        TaskDTOUpdateRequest patch = TaskDTOUpdateRequest.builder().taskListId(otherTaskListId).build();
+        var response = assertStatementCount(sqlStatementCounter, 3, () -> taskController.patch(taskId, patch, null));
+        assertEquals("Statement count other list", response.getBody().getTaskList().getName());
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/tasks/{id} should execute 3 statements")
+    void testDeleteStatementCount() {
+        assertStatementCount(sqlStatementCounter, 3, () -> {
+            taskController.delete(taskId);
+            entityManager.flush();
+            return null;
+        });
+        assertFalse(taskRepository.existsById(taskId));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/stats should execute no statement")
+    void testGetGlobalStatsStatementCount() {
+        var response = assertStatementCount(sqlStatementCounter, 0, () -> taskStatsController.getGlobalStats());
+        assertTrue(response.getBody().getTotal() >= 0);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/task-lists/{id}/stats should execute at most 1 statement")
+    void testGetTaskListStatsStatementCount() {
+        // The tasks of setUp were stored through the repository, so the list has no counts yet and is looked up
+        var response = assertStatementCount(sqlStatementCounter, 1, () -> taskListController.getStats(taskListId));
+        assertEquals(0, response.getBody().getTotal());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/task-lists/{id} should execute 2 statements")
+    void testGetTaskListByIdStatementCount() {
+        var response = assertStatementCount(sqlStatementCounter, 2, () -> taskListController.getById(taskListId));
+        assertEquals(3, response.getBody().getTasks().size());
+    }
+
+}
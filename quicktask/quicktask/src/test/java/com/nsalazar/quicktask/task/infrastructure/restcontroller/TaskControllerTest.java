@@ -1,10 +1,22 @@
 package com.nsalazar.quicktask.task.infrastructure.restcontroller;
 
+import com.nsalazar.quicktask.shared.infrastructure.restcontroller.PageDTOResponse;
+import com.nsalazar.quicktask.shared.infrastructure.restcontroller.PaginationProperties;
+import com.nsalazar.quicktask.task.application.ITaskImportService;
+import com.nsalazar.quicktask.task.application.ITaskSearchService;
 import com.nsalazar.quicktask.task.application.ITaskService;
+import com.nsalazar.quicktask.task.application.TaskImportLine;
+import com.nsalazar.quicktask.task.application.dto.request.TaskDTOBatchCreateRequest;
 import com.nsalazar.quicktask.task.application.dto.request.TaskDTOCreateRequest;
+import com.nsalazar.quicktask.task.application.dto.request.TaskDTOFilterRequest;
 import com.nsalazar.quicktask.task.application.dto.request.TaskDTOUpdateRequest;
+import com.nsalazar.quicktask.task.application.dto.response.TaskBatchDTOResponse;
+import com.nsalazar.quicktask.task.application.dto.response.TaskCursorPageDTOResponse;
 import com.nsalazar.quicktask.task.application.dto.response.TaskDTOResponse;
 import com.nsalazar.quicktask.task.application.dto.response.TaskDetailDTOResponse;
+import com.nsalazar.quicktask.task.application.dto.response.TaskImportDTOResponse;
+import com.nsalazar.quicktask.task.application.dto.response.TaskMultiGetDTOResponse;
+import com.nsalazar.quicktask.task.application.dto.response.TaskSearchDTOResponse;
 import com.nsalazar.quicktask.task.application.exception.DuplicateTitleException;
 import com.nsalazar.quicktask.shared.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,17 +25,33 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.OptionalLong;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -55,6 +83,15 @@ class TaskControllerTest {
     @Mock
     private ITaskService taskService;
 
+    @Mock
+    private ITaskImportService taskImportService;
+
+    @Mock
+    private ITaskSearchService taskSearchService;
+
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties();
+
     @InjectMocks
     private TaskController taskController;
 
@@ -126,7 +163,7 @@ class TaskControllerTest {
         when(taskService.getAll(any(Pageable.class))).thenReturn(taskPage);
 
         // Act
-        ResponseEntity<Page<TaskDTOResponse>> response = taskController.getAll(pageable);
+        ResponseEntity<PageDTOResponse<TaskDTOResponse>> response = taskController.getAll(new TaskDTOFilterRequest(), pageable);
 
         // Assert
         assertNotNull(response);
@@ -134,6 +171,7 @@ class TaskControllerTest {
         assertNotNull(response.getBody());
         assertEquals(1, response.getBody().getTotalElements());
         assertEquals(TEST_TITLE, response.getBody().getContent().get(0).getTitle());
+        assertNull(response.getBody().getNextPage());
         verify(taskService, times(1)).getAll(any(Pageable.class));
     }
 
@@ -149,10 +187,34 @@ class TaskControllerTest {
                 .thenThrow(new ResourceNotFoundException("Task list is empty"));
 
         // Act & Assert
-        assertThrows(ResourceNotFoundException.class, () -> taskController.getAll(pageable));
+        assertThrows(ResourceNotFoundException.class, () -> taskController.getAll(new TaskDTOFilterRequest(), pageable));
         verify(taskService, times(1)).getAll(any(Pageable.class));
     }
 
+    /**
+     * Tests getAll() method with filter parameters.
+     * Verifies that the filtered search is used and an empty result is returned as 200 OK.
+     */
+    @Test
+    @DisplayName("Should delegate to the filtered search when a filter is given")
+    void testGetAllTasksFiltered() {
+        // Arrange
+        TaskDTOFilterRequest filter = TaskDTOFilterRequest.builder()
+                .completed(false)
+                .title("Te")
+                .build();
+        when(taskService.search(filter, pageable)).thenReturn(Page.empty(pageable));
+
+        // Act
+        ResponseEntity<PageDTOResponse<TaskDTOResponse>> response = taskController.getAll(filter, pageable);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertTrue(response.getBody().getContent().isEmpty());
+        verify(taskService, never()).getAll(any(Pageable.class));
+    }
+
     // ==================== GET BY ID TESTS ====================
 
     /**
@@ -177,6 +239,34 @@ class TaskControllerTest {
         verify(taskService, times(1)).getById(testTaskId);
     }
 
+    /**
+     * Tests the ETag of getById() for a task inside a task list.
+     * Verifies that the tag starts with the task version and changes with the list version.
+     */
+    @Test
+    @DisplayName("Should return an ETag covering the task and its task list versions")
+    void testGetTaskByIdReturnsETag() {
+        // Arrange
+        UUID taskListId = UUID.randomUUID();
+        TaskDetailDTOResponse detail = TaskDetailDTOResponse.builder()
+                .id(testTaskId)
+                .title(TEST_TITLE)
+                .version(2L)
+                .taskList(TaskDetailDTOResponse.TaskListInfo.builder().id(taskListId).version(1L).build())
+                .build();
+        when(taskService.getById(testTaskId)).thenReturn(detail);
+
+        // Act
+        String eTag = taskController.getById(testTaskId).getHeaders().getETag();
+        detail.getTaskList().setVersion(2L);
+        String renamedListETag = taskController.getById(testTaskId).getHeaders().getETag();
+
+        // Assert
+        assertNotNull(eTag);
+        assertTrue(eTag.startsWith("\"2-"));
+        assertNotEquals(eTag, renamedListETag);
+    }
+
     /**
      * Tests getById() method when task doesn't exist.
      * Verifies ResourceNotFoundException is thrown.
@@ -253,11 +343,11 @@ class TaskControllerTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        when(taskService.update(eq(testTaskId), any(TaskDTOUpdateRequest.class)))
+        when(taskService.update(eq(testTaskId), any(TaskDTOUpdateRequest.class), isNull()))
                 .thenReturn(updatedResponse);
 
         // Act
-        ResponseEntity<TaskDetailDTOResponse> response = taskController.update(testTaskId, updateRequest);
+        ResponseEntity<TaskDetailDTOResponse> response = taskController.update(testTaskId, updateRequest, null);
 
         // Assert
         assertNotNull(response);
@@ -265,7 +355,7 @@ class TaskControllerTest {
         assertNotNull(response.getBody());
         assertEquals("Updated Title", response.getBody().getTitle());
         assertEquals("Updated Description", response.getBody().getDescription());
-        verify(taskService, times(1)).update(eq(testTaskId), any(TaskDTOUpdateRequest.class));
+        verify(taskService, times(1)).update(eq(testTaskId), any(TaskDTOUpdateRequest.class), isNull());
     }
 
     /**
@@ -276,12 +366,41 @@ class TaskControllerTest {
     @DisplayName("Should throw ResourceNotFoundException when updating non-existent task")
     void testUpdateTaskNotFound() {
         // Arrange
-        when(taskService.update(eq(testTaskId), any(TaskDTOUpdateRequest.class)))
+        when(taskService.update(eq(testTaskId), any(TaskDTOUpdateRequest.class), isNull()))
                 .thenThrow(new ResourceNotFoundException("Task not found with id: " + testTaskId));
 
         // Act & Assert
-        assertThrows(ResourceNotFoundException.class, () -> taskController.update(testTaskId, updateRequest));
-        verify(taskService, times(1)).update(eq(testTaskId), any(TaskDTOUpdateRequest.class));
+        assertThrows(ResourceNotFoundException.class, () -> taskController.update(testTaskId, updateRequest, null));
+        verify(taskService, times(1)).update(eq(testTaskId), any(TaskDTOUpdateRequest.class), isNull());
+    }
+
+    /**
+     * Tests patch() method for partially updating an existing task.
+     * Verifies that only the provided fields are forwarded and 200 OK is returned.
+     */
+    @Test
+    @DisplayName("Should partially update an existing task and return 200 OK")
+    void testPatchTask() {
+        // Arrange
+        TaskDTOUpdateRequest patchRequest = TaskDTOUpdateRequest.builder().completed(true).build();
+        TaskDetailDTOResponse patchedResponse = TaskDetailDTOResponse.builder()
+                .id(testTaskId)
+                .title("Test Task")
+                .completed(true)
+                .version(4L)
+                .build();
+
+        when(taskService.update(testTaskId, patchRequest, 3L)).thenReturn(patchedResponse);
+
+        // Act
+        ResponseEntity<TaskDetailDTOResponse> response = taskController.patch(testTaskId, patchRequest, "\"3\"");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"4\"", response.getHeaders().getETag());
+        assertNotNull(response.getBody());
+        assertTrue(response.getBody().isCompleted());
+        verify(taskService, times(1)).update(testTaskId, patchRequest, 3L);
     }
 
     /**
@@ -292,12 +411,12 @@ class TaskControllerTest {
     @DisplayName("Should throw DuplicateTitleException when updating with duplicate title")
     void testUpdateTaskWithDuplicateTitle() {
         // Arrange
-        when(taskService.update(eq(testTaskId), any(TaskDTOUpdateRequest.class)))
+        when(taskService.update(eq(testTaskId), any(TaskDTOUpdateRequest.class), isNull()))
                 .thenThrow(new DuplicateTitleException("A task with title 'Updated Title' already exists and is incomplete"));
 
         // Act & Assert
-        assertThrows(DuplicateTitleException.class, () -> taskController.update(testTaskId, updateRequest));
-        verify(taskService, times(1)).update(eq(testTaskId), any(TaskDTOUpdateRequest.class));
+        assertThrows(DuplicateTitleException.class, () -> taskController.update(testTaskId, updateRequest, null));
+        verify(taskService, times(1)).update(eq(testTaskId), any(TaskDTOUpdateRequest.class), isNull());
     }
 
     // ==================== DELETE TASK TESTS ====================
@@ -375,22 +494,22 @@ class TaskControllerTest {
                 .completed(false)
                 .build();
 
-        when(taskService.update(any(UUID.class), any(TaskDTOUpdateRequest.class)))
+        when(taskService.update(any(UUID.class), any(TaskDTOUpdateRequest.class), isNull()))
                 .thenReturn(updatedResponse);
 
         // Act
-        taskController.update(testTaskId, updateRequest);
+        taskController.update(testTaskId, updateRequest, null);
 
         // Assert
         verify(taskService).update(eq(testTaskId), argThat(dto ->
                 dto.getTitle().equals("Updated Title") &&
                 dto.getDescription().equals("Updated Description")
-        ));
+        ), isNull());
     }
 
     /**
      * Tests getAll() with different page sizes.
-     * Verifies pagination works correctly.
+     * Verifies the envelope points to the next page while more tasks exist.
      */
     @Test
     @DisplayName("Should handle different page sizes correctly")
@@ -400,21 +519,115 @@ class TaskControllerTest {
         Page<TaskDTOResponse> taskPage = new PageImpl<>(
                 List.of(testTaskResponse),
                 customPageable,
-                1
+                12
         );
 
         when(taskService.getAll(any(Pageable.class))).thenReturn(taskPage);
 
         // Act
-        ResponseEntity<Page<TaskDTOResponse>> response = taskController.getAll(customPageable);
+        ResponseEntity<PageDTOResponse<TaskDTOResponse>> response = taskController.getAll(new TaskDTOFilterRequest(), customPageable);
 
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(5, response.getBody().getSize());
+        assertEquals(12, response.getBody().getTotalElements());
+        assertEquals(1, response.getBody().getNextPage());
         verify(taskService, times(1)).getAll(customPageable);
     }
 
+    /**
+     * Tests getAll() with approximate totals.
+     * Verifies a slice is requested and the estimated total is flagged as approximate.
+     */
+    @Test
+    @DisplayName("Should return a slice with an approximate total when configured")
+    void testGetAllTasksWithApproximateTotal() {
+        // Arrange
+        paginationProperties.getEndpoints().put("GET /api/v1/tasks", PaginationProperties.Totals.APPROXIMATE);
+        TaskDTOFilterRequest filter = new TaskDTOFilterRequest();
+        when(taskService.getSlice(pageable)).thenReturn(new SliceImpl<>(List.of(testTaskResponse), pageable, true));
+        when(taskService.estimateTotal(filter)).thenReturn(OptionalLong.of(42));
+
+        // Act
+        ResponseEntity<PageDTOResponse<TaskDTOResponse>> response = taskController.getAll(filter, pageable);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(42L, response.getBody().getTotalElements());
+        assertEquals(Boolean.TRUE, response.getBody().getApproximateTotal());
+        assertEquals(1, response.getBody().getNextPage());
+        verify(taskService, never()).getAll(any(Pageable.class));
+    }
+
+    /**
+     * Tests getAll() with approximate totals when no estimate covers the filter.
+     * Verifies the total and the approximate flag are omitted.
+     */
+    @Test
+    @DisplayName("Should omit the total when no estimate covers the filter")
+    void testGetAllTasksWithoutEstimate() {
+        // Arrange
+        paginationProperties.getEndpoints().put("GET /api/v1/tasks", PaginationProperties.Totals.APPROXIMATE);
+        TaskDTOFilterRequest filter = new TaskDTOFilterRequest();
+        filter.setTitle("report");
+        when(taskService.searchSlice(filter, pageable)).thenReturn(new SliceImpl<>(List.of(testTaskResponse), pageable, false));
+        when(taskService.estimateTotal(filter)).thenReturn(OptionalLong.empty());
+
+        // Act
+        ResponseEntity<PageDTOResponse<TaskDTOResponse>> response = taskController.getAll(filter, pageable);
+
+        // Assert
+        assertNull(response.getBody().getTotalElements());
+        assertNull(response.getBody().getApproximateTotal());
+        assertNull(response.getBody().getNextPage());
+        verify(taskService, never()).search(any(), any());
+    }
+
+    /**
+     * Tests getAll() with totals disabled.
+     * Verifies no estimate is read and the total is omitted.
+     */
+    @Test
+    @DisplayName("Should return a slice without a total when totals are disabled")
+    void testGetAllTasksWithoutTotal() {
+        // Arrange
+        paginationProperties.setDefaultTotals(PaginationProperties.Totals.NONE);
+        when(taskService.getSlice(pageable)).thenReturn(new SliceImpl<>(List.of(testTaskResponse), pageable, true));
+
+        // Act
+        ResponseEntity<PageDTOResponse<TaskDTOResponse>> response = taskController.getAll(new TaskDTOFilterRequest(), pageable);
+
+        // Assert
+        assertNull(response.getBody().getTotalElements());
+        assertEquals(1, response.getBody().getNextPage());
+        verify(taskService, never()).estimateTotal(any());
+    }
+
+    /**
+     * Tests getByIds() for retrieving many tasks at once.
+     * Verifies the service result is returned with 200 OK.
+     */
+    @Test
+    @DisplayName("Should retrieve many tasks by ID and return 200 OK")
+    void testGetByIds() {
+        // Arrange
+        UUID missingId = UUID.randomUUID();
+        List<UUID> ids = List.of(testTaskId, missingId);
+        when(taskService.getByIds(ids)).thenReturn(TaskMultiGetDTOResponse.builder()
+                .content(List.of(testDetailResponse))
+                .missingIds(List.of(missingId))
+                .build());
+
+        // Act
+        ResponseEntity<TaskMultiGetDTOResponse> response = taskController.getByIds(ids);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(testTaskId, response.getBody().getContent().get(0).getId());
+        assertEquals(List.of(missingId), response.getBody().getMissingIds());
+        verify(taskService, never()).getById(any());
+    }
+
     /**
      * Tests update() preserves task completion status.
      * Verifies completed field is passed correctly.
@@ -436,15 +649,218 @@ class TaskControllerTest {
                 .completed(true)
                 .build();
 
-        when(taskService.update(any(UUID.class), any(TaskDTOUpdateRequest.class)))
+        when(taskService.update(any(UUID.class), any(TaskDTOUpdateRequest.class), isNull()))
                 .thenReturn(completedResponse);
 
         // Act
-        ResponseEntity<TaskDetailDTOResponse> response = taskController.update(testTaskId, completedRequest);
+        ResponseEntity<TaskDetailDTOResponse> response = taskController.update(testTaskId, completedRequest, null);
 
         // Assert
         assertNotNull(response);
         assertTrue(response.getBody().isCompleted());
     }
 
+    /**
+     * Tests getAllByCursor() method for keyset pagination.
+     * Verifies that the slice and continuation token are returned with 200 OK.
+     */
+    @Test
+    @DisplayName("Should retrieve tasks by cursor and return 200 OK")
+    void testGetAllTasksByCursor() {
+        // Arrange
+        Sort sort = Sort.by(Sort.Order.desc("createdAt"));
+        TaskCursorPageDTOResponse slice = TaskCursorPageDTOResponse.builder()
+                .content(List.of(testTaskResponse))
+                .size(1)
+                .hasNext(true)
+                .nextCursor("next")
+                .build();
+
+        when(taskService.getAllByCursor("", sort, 1)).thenReturn(slice);
+
+        // Act
+        ResponseEntity<TaskCursorPageDTOResponse> response = taskController.getAllByCursor("", 1, sort);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("next", response.getBody().getNextCursor());
+        assertEquals(TEST_TITLE, response.getBody().getContent().get(0).getTitle());
+        verify(taskService, times(1)).getAllByCursor("", sort, 1);
+    }
+
+    /**
+     * Tests createBatch() method for batch task creation.
+     * Verifies that the per-item report is returned with 200 OK.
+     */
+    @Test
+    @DisplayName("Should create tasks in batch and return 200 OK with per-item results")
+    void testCreateBatch() {
+        // Arrange
+        TaskDTOBatchCreateRequest batchRequest = TaskDTOBatchCreateRequest.builder()
+                .tasks(List.of(TaskDTOCreateRequest.builder().title(TEST_TITLE).description("Description").build()))
+                .build();
+        TaskBatchDTOResponse batchResponse = TaskBatchDTOResponse.builder()
+                .requested(1)
+                .created(1)
+                .results(List.of(TaskBatchDTOResponse.ItemResult.builder()
+                        .index(0).created(true).task(testTaskResponse).build()))
+                .build();
+
+        when(taskService.createBatch(batchRequest)).thenReturn(batchResponse);
+
+        // Act
+        ResponseEntity<TaskBatchDTOResponse> response = taskController.createBatch(batchRequest);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(1, response.getBody().getCreated());
+        verify(taskService, times(1)).createBatch(batchRequest);
+    }
+
+    /**
+     * Tests the full-text search endpoint.
+     * Verifies that the query and size are passed to the search service.
+     */
+    @Test
+    @DisplayName("Should search tasks and return 200 OK")
+    void testSearchTasks() {
+        // Arrange
+        TaskSearchDTOResponse searchResponse = TaskSearchDTOResponse.builder()
+                .query("test*")
+                .totalMatches(1)
+                .indexReady(true)
+                .hits(List.of(TaskSearchDTOResponse.Hit.builder().score(1.5f).task(testTaskResponse).build()))
+                .build();
+        when(taskSearchService.search("test*", 5)).thenReturn(searchResponse);
+
+        // Act
+        ResponseEntity<TaskSearchDTOResponse> response = taskController.search("test*", 5);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(TEST_TITLE, response.getBody().getHits().get(0).getTask().getTitle());
+        verify(taskSearchService, times(1)).search("test*", 5);
+    }
+
+    /**
+     * Tests exporting all tasks as NDJSON.
+     * Verifies that each task is written as one JSON line and the response is an attachment.
+     */
+    @Test
+    @DisplayName("Should stream tasks as NDJSON")
+    void testExportNdjson() throws IOException {
+        // Arrange
+        TaskController controller = new TaskController(taskService, taskImportService, taskSearchService, JsonMapper.builder().build(),
+                paginationProperties);
+        when(taskService.exportAll(any())).thenAnswer(invocation -> {
+            Consumer<TaskDTOResponse> consumer = invocation.getArgument(0);
+            consumer.accept(testTaskResponse);
+            consumer.accept(testTaskResponse);
+            return 2L;
+        });
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = controller.export("ndjson", null);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        response.getBody().writeTo(body);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals("attachment; filename=\"tasks.ndjson\"", response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        String[] lines = body.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{") && lines[0].contains("\"title\":\"" + TEST_TITLE + "\""));
+    }
+
+    /**
+     * Tests exporting all tasks as gzip compressed CSV.
+     * Verifies the content encoding and that the decompressed body holds the header and one row per task.
+     */
+    @Test
+    @DisplayName("Should stream tasks as gzip compressed CSV")
+    void testExportCsvGzip() throws IOException {
+        // Arrange
+        TaskController controller = new TaskController(taskService, taskImportService, taskSearchService, JsonMapper.builder().build(),
+                paginationProperties);
+        when(taskService.exportAll(any())).thenAnswer(invocation -> {
+            Consumer<TaskDTOResponse> consumer = invocation.getArgument(0);
+            consumer.accept(testTaskResponse);
+            return 1L;
+        });
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = controller.export("CSV", "gzip, deflate, br");
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        response.getBody().writeTo(body);
+
+        // Assert
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING), response.getHeaders().getVary());
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body.toByteArray()))) {
+            String[] lines = new String(gzip.readAllBytes(), StandardCharsets.UTF_8).split("\r\n");
+            assertEquals(2, lines.length);
+            assertEquals(TaskExportWriter.CSV_HEADER, lines[0]);
+            assertTrue(lines[1].startsWith(testTaskId + "," + TEST_TITLE + "," + TEST_DESCRIPTION + ",false,"));
+        }
+    }
+
+    /**
+     * Tests exporting with an unsupported format.
+     * Verifies that the request is rejected before the service is called.
+     */
+    @Test
+    @DisplayName("Should reject an unsupported export format")
+    void testExportUnsupportedFormat() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> taskController.export("xml", null));
+        verifyNoInteractions(taskService);
+    }
+
+    /**
+     * Tests importing tasks from a CSV body.
+     * Verifies that the body is read line by line by the import service and the report is returned.
+     */
+    @Test
+    @DisplayName("Should import tasks from a CSV body")
+    void testImportTasks() {
+        // Arrange
+        TaskController controller = new TaskController(taskService, taskImportService, taskSearchService, JsonMapper.builder().build(),
+                paginationProperties);
+        String csv = "title,description\r\nWrite docs,API reference\r\nFix login,Session expires\r\n";
+        TaskImportDTOResponse report = TaskImportDTOResponse.builder().processed(2).created(2).batches(1).build();
+        List<String> importedTitles = new ArrayList<>();
+        when(taskImportService.importTasks(any(), eq(500))).thenAnswer(invocation -> {
+            Iterator<TaskImportLine> lines = invocation.getArgument(0);
+            lines.forEachRemaining(line -> importedTitles.add(line.getRequest().getTitle()));
+            return report;
+        });
+
+        // Act
+        ResponseEntity<TaskImportDTOResponse> response = controller.importTasks("text/csv; charset=UTF-8", 500,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(report, response.getBody());
+        assertEquals(List.of("Write docs", "Fix login"), importedTitles);
+    }
+
+    /**
+     * Tests importing with an unsupported content type.
+     * Verifies that the request is rejected before the import service is called.
+     */
+    @Test
+    @DisplayName("Should reject an unsupported import content type")
+    void testImportTasksUnsupportedContentType() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> taskController.importTasks("application/xml", 1000,
+                new ByteArrayInputStream(new byte[0])));
+        verifyNoInteractions(taskImportService);
+    }
+
 }
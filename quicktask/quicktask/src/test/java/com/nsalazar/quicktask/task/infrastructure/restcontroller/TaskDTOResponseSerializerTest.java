@@ -0,0 +1,81 @@
+package com.nsalazar.quicktask.task.infrastructure.restcontroller;
+
+import com.nsalazar.quicktask.task.application.dto.response.TaskDTOResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TaskDTOResponseSerializer.
+ *
+ * <p>Verifies that the hand-written serializer produces the same JSON as the default bean
+ * serializer, except for the omitted null properties.
+ *
+ * @author nsalazar
+ * @see TaskDTOResponseSerializer
+ */
+@DisplayName("TaskDTOResponseSerializer Tests")
+class TaskDTOResponseSerializerTest {
+
+    private final JsonMapper defaultMapper = JsonMapper.builder().build();
+    private final JsonMapper tunedMapper = JsonMapper.builder()
+            .addModule(new SimpleModule().addSerializer(TaskDTOResponse.class, new TaskDTOResponseSerializer()))
+            .build();
+
+    /**
+     * Tests that a fully populated task is written exactly as by the default serializer.
+     */
+    @Test
+    @DisplayName("Should write the same JSON as the default serializer")
+    void testMatchesDefaultSerializer() {
+        // Arrange
+        TaskDTOResponse task = TaskDTOResponse.builder()
+                .id(UUID.randomUUID())
+                .title("Quoted \"title\" ñ")
+                .description("Line one\nline two")
+                .completed(true)
+                .createdAt(LocalDateTime.of(2026, 1, 15, 9, 30))
+                .updatedAt(LocalDateTime.of(2026, 1, 16, 18, 5, 7, 120_000_000))
+                .taskListId(UUID.randomUUID())
+                .build();
+
+        // Act
+        JsonNode tuned = tunedMapper.readTree(tunedMapper.writeValueAsString(task));
+
+        // Assert
+        assertEquals(defaultMapper.readTree(defaultMapper.writeValueAsString(task)), tuned);
+        assertEquals("2026-01-15T09:30:00", tuned.get("createdAt").asString());
+    }
+
+    /**
+     * Tests that null properties are omitted instead of written as {@code null}.
+     */
+    @Test
+    @DisplayName("Should omit null properties")
+    void testOmitsNullProperties() {
+        // Arrange
+        TaskDTOResponse task = TaskDTOResponse.builder()
+                .id(UUID.randomUUID())
+                .title("New task")
+                .description("Never updated")
+                .createdAt(LocalDateTime.of(2026, 1, 15, 9, 30))
+                .build();
+
+        // Act
+        JsonNode json = tunedMapper.readTree(tunedMapper.writeValueAsString(task));
+
+        // Assert
+        assertFalse(json.has("updatedAt"));
+        assertFalse(json.has("taskListId"));
+        assertFalse(json.get("completed").asBoolean());
+        assertEquals(task, tunedMapper.readValue(json.toString(), TaskDTOResponse.class));
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.nsalazar.quicktask.task.infrastructure.restcontroller;
+
+import com.nsalazar.quicktask.task.application.dto.response.TaskDTOResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TaskExportWriter.
+ *
+ * <p>Verifies the record layout of both export formats, CSV quoting of text fields and the
+ * handling of write failures.
+ *
+ * @author nsalazar
+ * @see TaskExportWriter
+ */
+@DisplayName("TaskExportWriter Tests")
+class TaskExportWriterTest {
+
+    private static final UUID TASK_ID = UUID.fromString("018f3a2b-0000-7000-8000-000000000001");
+    private static final UUID TASK_LIST_ID = UUID.fromString("018f3a2b-0000-7000-8000-000000000002");
+
+    /**
+     * Tests CSV records.
+     * Verifies that fields with separators, quotes or line breaks are quoted and null values are empty.
+     */
+    @Test
+    @DisplayName("Should quote CSV fields that need it and leave null values empty")
+    void testCsvRecords() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TaskExportWriter writer = new TaskExportWriter(TaskFileFormat.CSV, out, JsonMapper.builder().build());
+        TaskDTOResponse task = TaskDTOResponse.builder()
+                .id(TASK_ID)
+                .title("Buy milk, eggs")
+                .description("Say \"hi\"\nto the baker")
+                .completed(true)
+                .createdAt(LocalDateTime.of(2024, 5, 1, 10, 0))
+                .build();
+
+        // Act
+        writer.start();
+        writer.accept(task);
+        writer.finish();
+
+        // Assert
+        assertEquals(TaskExportWriter.CSV_HEADER + "\r\n"
+                        + TASK_ID + ",\"Buy milk, eggs\",\"Say \"\"hi\"\"\nto the baker\",true,2024-05-01T10:00:00,,\r\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Tests NDJSON records.
+     * Verifies that each task is written as a single JSON line without header.
+     */
+    @Test
+    @DisplayName("Should write one JSON object per line")
+    void testNdjsonRecords() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+        TaskExportWriter writer = new TaskExportWriter(TaskFileFormat.NDJSON, out, jsonMapper);
+        TaskDTOResponse task = TaskDTOResponse.builder()
+                .id(TASK_ID)
+                .title("Line\nbreak")
+                .description("Description")
+                .createdAt(LocalDateTime.of(2024, 5, 1, 10, 0))
+                .taskListId(TASK_LIST_ID)
+                .build();
+
+        // Act
+        writer.start();
+        writer.accept(task);
+        writer.accept(task);
+        writer.finish();
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(task, jsonMapper.readValue(lines[1], TaskDTOResponse.class));
+    }
+
+    /**
+     * Tests a failing output stream.
+     * Verifies that the I/O error surfaces as an UncheckedIOException, aborting the export.
+     */
+    @Test
+    @DisplayName("Should rethrow write failures as UncheckedIOException")
+    void testWriteFailure() {
+        // Arrange
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        TaskExportWriter writer = new TaskExportWriter(TaskFileFormat.NDJSON, failing, JsonMapper.builder().build());
+        TaskDTOResponse task = TaskDTOResponse.builder().id(TASK_ID).title("Title").build();
+
+        // Act & Assert
+        assertThrows(UncheckedIOException.class, () -> {
+            for (int i = 0; i < 1_000; i++) {
+                writer.accept(task);
+            }
+        });
+    }
+
+}
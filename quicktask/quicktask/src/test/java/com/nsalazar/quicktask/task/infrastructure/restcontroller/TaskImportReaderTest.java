@@ -0,0 +1,108 @@
+package com.nsalazar.quicktask.task.infrastructure.restcontroller;
+
+import com.nsalazar.quicktask.task.application.TaskImportLine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TaskImportReader.
+ *
+ * <p>Verifies line numbering, blank line handling and the reporting of malformed lines for both
+ * formats, as well as RFC 4180 quoting in CSV records.
+ *
+ * @author nsalazar
+ * @see TaskImportReader
+ */
+@DisplayName("TaskImportReader Tests")
+class TaskImportReaderTest {
+
+    private static final UUID TASK_LIST_ID = UUID.fromString("018f3a2b-0000-7000-8000-000000000002");
+
+    /**
+     * Tests reading NDJSON lines.
+     * Verifies that blank lines are skipped, unknown properties are ignored and malformed lines are reported.
+     */
+    @Test
+    @DisplayName("Should read NDJSON lines and report malformed ones")
+    void testReadNdjson() {
+        // Arrange
+        String body = "{\"title\":\"Write docs\",\"description\":\"API reference\",\"taskListName\":\"Backlog\"}\n"
+                + "\n"
+                + "{\"title\":\"Fix login\",\n"
+                + "{\"id\":\"ignored\",\"title\":\"Deploy\",\"description\":\"Release\",\"taskListId\":\"" + TASK_LIST_ID + "\"}";
+
+        // Act
+        List<TaskImportLine> lines = read(TaskFileFormat.NDJSON, body);
+
+        // Assert
+        assertEquals(3, lines.size());
+        assertEquals(1, lines.get(0).getNumber());
+        assertEquals("Backlog", lines.get(0).getRequest().getTaskListName());
+        assertEquals(3, lines.get(1).getNumber());
+        assertNull(lines.get(1).getRequest());
+        assertTrue(lines.get(1).getError().startsWith("Malformed JSON"));
+        assertEquals(4, lines.get(2).getNumber());
+        assertEquals(TASK_LIST_ID, lines.get(2).getRequest().getTaskListId());
+    }
+
+    /**
+     * Tests reading CSV records.
+     * Verifies header-based column mapping, quoted fields spanning lines and invalid task list IDs.
+     */
+    @Test
+    @DisplayName("Should read CSV records by header and handle quoted fields")
+    void testReadCsv() {
+        // Arrange
+        String body = "description,title,completed,taskListId\r\n"
+                + "\"Buy milk, eggs\",Groceries,false,\r\n"
+                + "\"Say \"\"hi\"\"\nto the baker\",Bakery,false," + TASK_LIST_ID + "\r\n"
+                + "\r\n"
+                + "Broken,Invalid list,false,not-a-uuid\r\n";
+
+        // Act
+        List<TaskImportLine> lines = read(TaskFileFormat.CSV, body);
+
+        // Assert
+        assertEquals(3, lines.size());
+        assertEquals(2, lines.get(0).getNumber());
+        assertEquals("Groceries", lines.get(0).getRequest().getTitle());
+        assertEquals("Buy milk, eggs", lines.get(0).getRequest().getDescription());
+        assertNull(lines.get(0).getRequest().getTaskListId());
+        assertEquals(3, lines.get(1).getNumber());
+        assertEquals("Say \"hi\"\nto the baker", lines.get(1).getRequest().getDescription());
+        assertEquals(TASK_LIST_ID, lines.get(1).getRequest().getTaskListId());
+        assertEquals(6, lines.get(2).getNumber());
+        assertEquals("Invalid taskListId: not-a-uuid", lines.get(2).getError());
+    }
+
+    /**
+     * Tests a CSV file without the required columns.
+     * Verifies that the import is rejected with an IllegalArgumentException.
+     */
+    @Test
+    @DisplayName("Should reject a CSV header without title or description")
+    void testRejectCsvWithoutRequiredColumns() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> read(TaskFileFormat.CSV, "name,notes\r\nA,B\r\n"));
+        assertThrows(IllegalArgumentException.class, () -> read(TaskFileFormat.CSV, ""));
+    }
+
+    private static List<TaskImportLine> read(TaskFileFormat format, String body) {
+        TaskImportReader reader = new TaskImportReader(format,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8,
+                JsonMapper.builder().build());
+        List<TaskImportLine> lines = new ArrayList<>();
+        reader.forEachRemaining(lines::add);
+        return lines;
+    }
+
+}
@@ -0,0 +1,196 @@
+package com.nsalazar.quicktask.task.infrastructure.search;
+
+import com.nsalazar.quicktask.task.domain.search.TaskSearchHits;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InvertedTaskSearchIndex.
+ *
+ * <p>Covers matching (whole words, prefixes, accents, AND semantics), ranking, replacement and
+ * removal of tasks, deferral of writes to the transaction commit, the startup rebuild and the
+ * compaction of deleted documents.
+ *
+ * @author nsalazar
+ * @see InvertedTaskSearchIndex
+ */
+@DisplayName("InvertedTaskSearchIndex Tests")
+class InvertedTaskSearchIndexTest {
+
+    private InvertedTaskSearchIndex index;
+
+    private final UUID deployDocs = UUID.randomUUID();
+    private final UUID writeDocs = UUID.randomUUID();
+    private final UUID fixLogin = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedTaskSearchIndex();
+        index.index(deployDocs, "Deploy docs", "Publish the documentation site");
+        index.index(writeDocs, "Write release notes", "Mention the new docs and the deployment");
+        index.index(fixLogin, "Fix login", "Session expires too early on the café wifi");
+    }
+
+    /**
+     * Tests that all words must match and title matches rank first.
+     */
+    @Test
+    @DisplayName("Should match every word and rank title matches first")
+    void testRanking() {
+        // Act
+        TaskSearchHits hits = index.search("docs", 10);
+        TaskSearchHits both = index.search("Docs PUBLISH", 10);
+
+        // Assert
+        assertEquals(2, hits.getTotalMatches());
+        assertEquals(List.of(deployDocs, writeDocs), taskIds(hits));
+        assertTrue(hits.getHits().get(0).getScore() > hits.getHits().get(1).getScore());
+        assertEquals(List.of(deployDocs), taskIds(both));
+    }
+
+    /**
+     * Tests prefix words, accent folding and that plain words do not match as prefixes.
+     */
+    @Test
+    @DisplayName("Should match prefixes and fold accents")
+    void testPrefixAndAccents() {
+        // Act & Assert
+        assertEquals(List.of(deployDocs, writeDocs), taskIds(index.search("deploy*", 10)));
+        assertEquals(List.of(deployDocs), taskIds(index.search("deploy", 10)));
+        assertEquals(List.of(fixLogin), taskIds(index.search("cafe", 10)));
+        assertEquals(0, index.search("missing", 10).getTotalMatches());
+    }
+
+    /**
+     * Tests that the limit bounds the hits but not the total number of matches.
+     */
+    @Test
+    @DisplayName("Should return at most limit hits and count all matches")
+    void testLimit() {
+        // Act
+        TaskSearchHits hits = index.search("the", 1);
+
+        // Assert
+        assertEquals(1, hits.getHits().size());
+        assertEquals(3, hits.getTotalMatches());
+    }
+
+    /**
+     * Tests that re-indexing a task replaces its words and removing it hides it.
+     */
+    @Test
+    @DisplayName("Should replace and remove indexed tasks")
+    void testReplaceAndRemove() {
+        // Act
+        index.index(deployDocs, "Deploy api", "Roll out the new version");
+        index.remove(writeDocs);
+
+        // Assert
+        assertEquals(List.of(deployDocs), taskIds(index.search("deploy*", 10)));
+        assertEquals(0, index.search("docs", 10).getTotalMatches());
+        assertEquals(2, index.size());
+    }
+
+    /**
+     * Tests that writes inside a transaction are applied on commit and dropped on rollback.
+     */
+    @Test
+    @DisplayName("Should apply writes after commit only")
+    void testWritesAfterCommit() {
+        // Arrange
+        UUID committed = UUID.randomUUID();
+        UUID rolledBack = UUID.randomUUID();
+
+        // Act
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.index(committed, "Committed task", "Visible after commit");
+            assertEquals(0, index.search("committed", 10).getTotalMatches());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            index.index(rolledBack, "Rolled back task", "Never visible");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        assertEquals(List.of(committed), taskIds(index.search("committed", 10)));
+        assertEquals(0, index.search("rolled", 10).getTotalMatches());
+    }
+
+    /**
+     * Tests that tasks written during a rebuild are not overwritten by older rows of the rebuild.
+     */
+    @Test
+    @DisplayName("Should keep tasks written during a rebuild")
+    void testRebuild() {
+        // Act
+        index.beginRebuild();
+        index.remove(fixLogin);
+        index.index(deployDocs, "Deploy api", "Roll out the new version");
+        index.load(fixLogin, "Fix login", "Old row read by the rebuild");
+        index.load(deployDocs, "Deploy docs", "Old row read by the rebuild");
+        UUID loaded = UUID.randomUUID();
+        index.load(loaded, "Loaded task", "Read by the rebuild");
+        assertFalse(index.isReady());
+        index.finishRebuild(true);
+
+        // Assert
+        assertTrue(index.isReady());
+        assertEquals(0, index.search("login", 10).getTotalMatches());
+        assertEquals(List.of(writeDocs), taskIds(index.search("docs", 10)));
+        assertEquals(List.of(loaded), taskIds(index.search("loaded", 10)));
+    }
+
+    /**
+     * Tests that search results stay correct after deleted documents are purged.
+     */
+    @Test
+    @DisplayName("Should compact deleted documents without losing live ones")
+    void testCompaction() {
+        // Arrange
+        int updates = InvertedTaskSearchIndex.MIN_DELETED_FOR_COMPACTION * 2;
+
+        // Act
+        for (int i = 0; i < updates; i++) {
+            index.index(fixLogin, "Fix login " + i, "Attempt " + i);
+        }
+
+        // Assert
+        assertEquals(3, index.size());
+        assertEquals(List.of(fixLogin), taskIds(index.search("login", 10)));
+        assertEquals(List.of(fixLogin), taskIds(index.search(String.valueOf(updates - 1), 10)));
+        assertEquals(0, index.search("wifi", 10).getTotalMatches());
+        assertEquals(List.of(deployDocs, writeDocs), taskIds(index.search("docs", 10)));
+    }
+
+    /**
+     * Tests that queries without searchable words or with too short prefixes are rejected.
+     */
+    @Test
+    @DisplayName("Should reject invalid queries")
+    void testInvalidQueries() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> index.search("  -- ", 10));
+        assertThrows(IllegalArgumentException.class, () -> index.search("d*", 10));
+        assertThrows(IllegalArgumentException.class, () -> index.search("a b c d e f g h i", 10));
+        assertThrows(IllegalArgumentException.class, () -> index.search("docs", 0));
+    }
+
+    private static List<UUID> taskIds(TaskSearchHits hits) {
+        return hits.getHits().stream().map(TaskSearchHits.Hit::getTaskId).toList();
+    }
+
+}
@@ -0,0 +1,236 @@
+package com.nsalazar.quicktask.task.infrastructure.stats;
+
+import com.nsalazar.quicktask.task.domain.repository.ITaskStatsRepository;
+import com.nsalazar.quicktask.task.domain.stats.TaskStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InMemoryTaskStatsCounters.
+ *
+ * <p>Covers the counting of creations, changes and deletions, deferral to the transaction
+ * commit, task list deletion, the retained window of per-day counts, loading saved counts,
+ * reconciliation by difference and the tracking of scopes to save.
+ *
+ * @author nsalazar
+ * @see InMemoryTaskStatsCounters
+ */
+@DisplayName("InMemoryTaskStatsCounters Tests")
+class InMemoryTaskStatsCountersTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+    private static final LocalDateTime NOW = TODAY.atTime(12, 0);
+
+    private InMemoryTaskStatsCounters counters;
+
+    private final UUID taskListId = UUID.randomUUID();
+    private final UUID otherTaskListId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        counters = new InMemoryTaskStatsCounters(7, Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    /**
+     * Tests that creations, completion changes, moves and deletions update the global and list counts.
+     */
+    @Test
+    @DisplayName("Should count created, changed and deleted tasks per scope")
+    void testCounting() {
+        // Act
+        counters.taskCreated(taskListId, false, NOW);
+        counters.taskCreated(taskListId, false, NOW.minusDays(1));
+        counters.taskCreated(null, true, NOW);
+        counters.taskChanged(taskListId, false, taskListId, true, NOW);
+        counters.taskChanged(taskListId, false, otherTaskListId, false, NOW.minusDays(1));
+        counters.taskDeleted(null, true, NOW);
+
+        // Assert
+        TaskStats global = counters.global();
+        assertEquals(2, global.getTotal());
+        assertEquals(1, global.getCompleted());
+        assertEquals(1, global.getOpen());
+        assertEquals(Map.of(TODAY.minusDays(1), 1L, TODAY, 1L), global.getCreatedPerDay());
+        TaskStats list = counters.forTaskList(taskListId).orElseThrow();
+        assertEquals(1, list.getTotal());
+        assertEquals(1, list.getCompleted());
+        assertEquals(Map.of(TODAY, 1L), list.getCreatedPerDay());
+        assertEquals(Map.of(TODAY.minusDays(1), 1L), counters.forTaskList(otherTaskListId).orElseThrow().getCreatedPerDay());
+        assertTrue(counters.forTaskList(UUID.randomUUID()).isEmpty());
+    }
+
+    /**
+     * Tests that changes are applied only when their transaction commits.
+     */
+    @Test
+    @DisplayName("Should apply changes after commit only")
+    void testChangesDeferredToCommit() {
+        // Act
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counters.taskCreated(taskListId, false, NOW);
+            assertEquals(0, counters.global().getTotal());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counters.taskCreated(taskListId, false, NOW);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        assertEquals(1, counters.global().getTotal());
+        assertEquals(1, counters.forTaskList(taskListId).orElseThrow().getTotal());
+    }
+
+    /**
+     * Tests that deleting a task list drops its counts, and its tasks from the global counts
+     * only when they were deleted with it.
+     */
+    @Test
+    @DisplayName("Should drop the counts of a deleted task list")
+    void testTaskListDeleted() {
+        // Arrange
+        counters.taskCreated(taskListId, true, NOW);
+        counters.taskCreated(otherTaskListId, false, NOW);
+        counters.drainDirty();
+
+        // Act
+        counters.taskListDeleted(taskListId, true);
+        counters.taskListDeleted(otherTaskListId, false);
+
+        // Assert
+        assertTrue(counters.forTaskList(taskListId).isEmpty());
+        assertTrue(counters.forTaskList(otherTaskListId).isEmpty());
+        assertEquals(1, counters.global().getTotal());
+        assertEquals(0, counters.global().getCompleted());
+        assertEquals(Map.of(TODAY, 1L), counters.global().getCreatedPerDay());
+        assertEquals(Set.of(taskListId, otherTaskListId), counters.drainRemoved());
+        assertEquals(Set.of(ITaskStatsRepository.GLOBAL_SCOPE), counters.drainDirty().keySet());
+    }
+
+    /**
+     * Tests that creation days outside the retained window are not counted per day.
+     */
+    @Test
+    @DisplayName("Should only keep per-day counts of the retained window")
+    void testRetainedWindow() {
+        // Act
+        counters.taskCreated(null, false, NOW.minusDays(6));
+        counters.taskCreated(null, false, NOW.minusDays(7));
+
+        // Assert
+        assertEquals(TODAY.minusDays(6), counters.firstDay());
+        assertEquals(2, counters.global().getTotal());
+        assertEquals(Map.of(TODAY.minusDays(6), 1L), counters.global().getCreatedPerDay());
+    }
+
+    /**
+     * Tests that loading saved counts adds them to the changes counted since startup.
+     */
+    @Test
+    @DisplayName("Should add saved counts to the counts since startup and become ready")
+    void testLoad() {
+        // Arrange
+        counters.taskCreated(taskListId, false, NOW);
+        TreeMap<LocalDate, Long> createdPerDay = new TreeMap<>(Map.of(TODAY.minusDays(1), 3L, TODAY.minusDays(30), 9L));
+
+        // Act
+        assertFalse(counters.isReady());
+        counters.load(Map.of(
+                ITaskStatsRepository.GLOBAL_SCOPE, new TaskStats(10, 4, createdPerDay),
+                taskListId, new TaskStats(3, 1, createdPerDay)));
+
+        // Assert
+        assertTrue(counters.isReady());
+        assertEquals(11, counters.global().getTotal());
+        assertEquals(4, counters.global().getCompleted());
+        assertEquals(Map.of(TODAY.minusDays(1), 3L, TODAY, 1L), counters.global().getCreatedPerDay());
+        assertEquals(4, counters.forTaskList(taskListId).orElseThrow().getTotal());
+    }
+
+    /**
+     * Tests that reconciliation corrects the drift while keeping changes counted after the capture,
+     * and drops task lists that no longer have tasks.
+     */
+    @Test
+    @DisplayName("Should correct the counts by the difference with the actual counts")
+    void testReconcile() {
+        // Arrange
+        counters.taskCreated(taskListId, false, NOW);
+        counters.taskCreated(otherTaskListId, false, NOW);
+        Map<UUID, TaskStats> captured = counters.capture();
+        counters.drainDirty();
+        counters.taskCreated(taskListId, true, NOW);
+        TreeMap<LocalDate, Long> createdToday = new TreeMap<>(Map.of(TODAY, 5L));
+        Map<UUID, TaskStats> actual = Map.of(
+                ITaskStatsRepository.GLOBAL_SCOPE, new TaskStats(5, 2, createdToday),
+                taskListId, new TaskStats(5, 2, createdToday));
+
+        // Act
+        counters.reconcile(captured, actual, NOW);
+
+        // Assert
+        assertEquals(6, counters.global().getTotal());
+        assertEquals(3, counters.global().getCompleted());
+        assertEquals(Map.of(TODAY, 6L), counters.global().getCreatedPerDay());
+        assertEquals(6, counters.forTaskList(taskListId).orElseThrow().getTotal());
+        assertTrue(counters.forTaskList(otherTaskListId).isEmpty());
+        assertEquals(NOW, counters.getReconciledAt());
+        assertEquals(Set.of(otherTaskListId), counters.drainRemoved());
+        assertEquals(Set.of(ITaskStatsRepository.GLOBAL_SCOPE, taskListId), counters.drainDirty().keySet());
+    }
+
+    /**
+     * Tests that only changed scopes are drained, once, and that failed saves can be retried.
+     */
+    @Test
+    @DisplayName("Should drain changed scopes once and keep them on retry")
+    void testDrainDirty() {
+        // Arrange
+        counters.taskCreated(taskListId, false, NOW);
+
+        // Act
+        Map<UUID, TaskStats> dirty = counters.drainDirty();
+        Map<UUID, TaskStats> drainedAgain = counters.drainDirty();
+        counters.retry(dirty.keySet(), Set.of());
+
+        // Assert
+        assertEquals(Set.of(ITaskStatsRepository.GLOBAL_SCOPE, taskListId), dirty.keySet());
+        assertEquals(1, dirty.get(taskListId).getTotal());
+        assertTrue(drainedAgain.isEmpty());
+        assertEquals(dirty.keySet(), counters.drainDirty().keySet());
+    }
+
+    /**
+     * Tests that a reconciliation request is consumed once.
+     */
+    @Test
+    @DisplayName("Should consume a reconciliation request once")
+    void testReconciliationRequest() {
+        // Act
+        counters.requestReconciliation();
+
+        // Assert
+        assertTrue(counters.consumeReconciliationRequest());
+        assertFalse(counters.consumeReconciliationRequest());
+    }
+
+}
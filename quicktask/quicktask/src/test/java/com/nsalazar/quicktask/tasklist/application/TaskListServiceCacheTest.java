@@ -0,0 +1,145 @@
+package com.nsalazar.quicktask.tasklist.application;
+
+import com.nsalazar.quicktask.shared.infrastructure.cache.CacheConfig;
+import com.nsalazar.quicktask.shared.infrastructure.database.PrimaryReads;
+import com.nsalazar.quicktask.shared.infrastructure.metrics.SqlStatementCounter;
+import com.nsalazar.quicktask.shared.infrastructure.outbox.OutboxRelay;
+import com.nsalazar.quicktask.tasklist.application.dto.request.TaskListDTOUpdateRequest;
+import com.nsalazar.quicktask.tasklist.domain.TaskList;
+import com.nsalazar.quicktask.tasklist.domain.repository.ITaskListRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.nsalazar.quicktask.shared.infrastructure.metrics.SqlStatementAssertions.assertStatementCount;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the task list detail cache of {@link TaskListService#getById(UUID)}.
+ *
+ * <p>A stale entry, such as one filled from a lagging replica, is simulated by renaming the task
+ * list through the repository, which does not evict the detail cache. Reads inside a
+ * {@link PrimaryReads} scope must bypass that entry and replace it. A stale entry put back by a
+ * read that overlapped an update must be evicted again after the re-eviction delay. The task
+ * list is committed, so each test deletes it and clears the cache.
+ *
+ * @author nsalazar
+ * @see TaskListService
+ * @see CacheConfig
+ */
+@SpringBootTest(properties = {OutboxRelay.ENABLED + "=false", "quicktask.cache.re-eviction-delay=500ms"})
+@DisplayName("TaskListService Cache Tests")
+class TaskListServiceCacheTest {
+
+    @Autowired
+    private ITaskListService taskListService;
+
+    @Autowired
+    private ITaskListRepository taskListRepository;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private TaskList taskList;
+
+    /**
+     * Setup method executed before each test.
+     * Commits a task list.
+     */
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        taskList = transaction.execute(status -> taskListRepository.save(TaskList.builder()
+                .name("Detail cache list " + UUID.randomUUID().toString().substring(0, 8))
+                .description("List used to test the detail cache")
+                .tasks(new ArrayList<>())
+                .createdAt(LocalDateTime.now())
+                .build()));
+    }
+
+    /**
+     * Cleanup method executed after each test.
+     * Deletes the task list and clears the detail cache.
+     */
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> taskListRepository.delete(taskList.getId()));
+        cacheManager.getCache(CacheConfig.TASK_LIST_DETAILS).clear();
+    }
+
+    /**
+     * Tests that a read inside a primary reads scope skips and replaces a stale entry.
+     */
+    @Test
+    @DisplayName("Should bypass and replace the cached detail inside a PrimaryReads scope")
+    void testPrimaryReadsReplaceStaleEntry() {
+        // Arrange
+        UUID id = taskList.getId();
+        String oldName = taskList.getName();
+        taskListService.getById(id);
+        taskList.setName(oldName + " renamed");
+        taskList = transaction.execute(status -> taskListRepository.save(taskList));
+        assertEquals(oldName, assertStatementCount(sqlStatementCounter, 0, () -> taskListService.getById(id)).getName());
+
+        // Act
+        String primaryName;
+        try (PrimaryReads.Scope ignored = PrimaryReads.open()) {
+            primaryName = taskListService.getById(id).getName();
+        }
+
+        // Assert
+        assertEquals(oldName + " renamed", primaryName);
+        assertEquals(oldName + " renamed",
+                assertStatementCount(sqlStatementCounter, 0, () -> taskListService.getById(id)).getName());
+    }
+
+    /**
+     * Tests a read that overlaps an update: the read loads the task list before the update
+     * commits and puts it into the cache when its own transaction commits, after the eviction
+     * of the update. Verifies that the old detail is evicted again.
+     */
+    @Test
+    @DisplayName("Should evict again a detail put back by a read that overlapped an update")
+    void testReEvictsDetailOfOverlappingRead() throws InterruptedException {
+        // Arrange
+        UUID id = taskList.getId();
+        String oldName = taskList.getName();
+        TransactionTemplate update = new TransactionTemplate(transactionManager);
+        update.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transaction.executeWithoutResult(status -> {
+            taskListService.getById(id);
+            update.executeWithoutResult(inner -> taskListService.update(id,
+                    TaskListDTOUpdateRequest.builder().name(oldName + " renamed").build(), null));
+        });
+        assertEquals(oldName, assertStatementCount(sqlStatementCounter, 0, () -> taskListService.getById(id)).getName());
+
+        // Act
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (cacheManager.getCache(CacheConfig.TASK_LIST_DETAILS).get(id) != null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Assert
+        assertEquals(oldName + " renamed", taskListService.getById(id).getName());
+    }
+
+}
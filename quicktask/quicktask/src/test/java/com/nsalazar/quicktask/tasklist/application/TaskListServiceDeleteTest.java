@@ -0,0 +1,145 @@
+package com.nsalazar.quicktask.tasklist.application;
+
+import com.nsalazar.quicktask.shared.infrastructure.outbox.OutboxRelay;
+import com.nsalazar.quicktask.task.domain.Task;
+import com.nsalazar.quicktask.task.domain.repository.ITaskRepository;
+import com.nsalazar.quicktask.tasklist.domain.TaskList;
+import com.nsalazar.quicktask.tasklist.domain.repository.ITaskListRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for {@link TaskListService#delete(UUID, boolean)}.
+ *
+ * <p>Uses Hibernate statistics to verify that deleting a task list issues the same number of
+ * statements whether it holds one task or many, and that the tasks are unlinked or deleted.
+ * The outbox relay is disabled: its polling queries would be counted by the same statistics.
+ *
+ * @author nsalazar
+ * @see TaskListService
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        OutboxRelay.ENABLED + "=false"
+})
+@Transactional
+@DisplayName("TaskListService Delete Tests")
+class TaskListServiceDeleteTest {
+
+    private static final int MANY_TASKS = 200;
+
+    @Autowired
+    private ITaskListService taskListService;
+
+    @Autowired
+    private ITaskListRepository taskListRepository;
+
+    @Autowired
+    private ITaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    /**
+     * Setup method executed before each test.
+     * Obtains the Hibernate statistics of the shared session factory.
+     */
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Tests that unlinking tasks does not issue one statement per task.
+     * Verifies that a list with many tasks is deleted with as many statements as a list with one.
+     */
+    @Test
+    @DisplayName("Should delete a task list with a constant number of statements")
+    void testDeleteUsesConstantStatementCount() {
+        // Arrange
+        UUID smallListId = createTaskListWithTasks("Small list", 1).getId();
+        UUID largeListId = createTaskListWithTasks("Large list", MANY_TASKS).getId();
+
+        // Act
+        long smallListStatements = countStatements(() -> taskListService.delete(smallListId, false));
+        long largeListStatements = countStatements(() -> taskListService.delete(largeListId, false));
+
+        // Assert
+        assertEquals(smallListStatements, largeListStatements);
+        assertFalse(taskListRepository.existsById(largeListId));
+        assertTrue(taskRepository.findAllByTaskListIdIn(List.of(largeListId)).isEmpty());
+        assertEquals(MANY_TASKS + 1, taskRepository.findAll(Pageable.unpaged()).getTotalElements());
+    }
+
+    /**
+     * Tests deleting a task list together with its tasks.
+     * Verifies that the tasks are removed with a constant number of statements.
+     */
+    @Test
+    @DisplayName("Should delete a task list and its tasks with a constant number of statements")
+    void testDeleteWithTasksUsesConstantStatementCount() {
+        // Arrange
+        TaskList smallList = createTaskListWithTasks("Small list", 1);
+        TaskList largeList = createTaskListWithTasks("Large list", MANY_TASKS);
+
+        // Act
+        long smallListStatements = countStatements(() -> taskListService.delete(smallList.getId(), true));
+        long largeListStatements = countStatements(() -> taskListService.delete(largeList.getId(), true));
+
+        // Assert
+        assertEquals(smallListStatements, largeListStatements);
+        assertFalse(taskListRepository.existsById(largeList.getId()));
+        assertFalse(taskRepository.existsById(largeList.getTasks().get(0).getId()));
+    }
+
+    private TaskList createTaskListWithTasks(String name, int taskCount) {
+        TaskList taskList = taskListRepository.save(TaskList.builder()
+                .name(name)
+                .description("Description of " + name)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        List<Task> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(Task.builder()
+                    .title(name + " task " + i)
+                    .description("Task " + i)
+                    .createdAt(LocalDateTime.now())
+                    .taskListId(taskList.getId())
+                    .build());
+        }
+        taskList.setTasks(taskRepository.saveAll(tasks));
+        return taskList;
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        entityManager.flush();
+        return statistics.getPrepareStatementCount();
+    }
+
+}
@@ -0,0 +1,420 @@
+package com.nsalazar.quicktask.tasklist.application;
+
+import com.nsalazar.quicktask.shared.domain.event.DomainEventType;
+import com.nsalazar.quicktask.shared.domain.event.IDomainEventPublisher;
+import com.nsalazar.quicktask.shared.exception.PreconditionFailedException;
+import com.nsalazar.quicktask.shared.exception.ResourceNotFoundException;
+import com.nsalazar.quicktask.shared.infrastructure.cache.CacheInvalidator;
+import com.nsalazar.quicktask.shared.infrastructure.cache.RequestCoalescer;
+import com.nsalazar.quicktask.task.application.dto.mapper.ITaskDTOMapper;
+import com.nsalazar.quicktask.task.application.dto.response.TaskDTOResponse;
+import com.nsalazar.quicktask.task.domain.Task;
+import com.nsalazar.quicktask.task.domain.repository.ITaskRepository;
+import com.nsalazar.quicktask.task.domain.stats.ITaskStatsCounters;
+import com.nsalazar.quicktask.tasklist.application.dto.mapper.ITaskListDTOMapper;
+import com.nsalazar.quicktask.tasklist.application.dto.request.TaskListDTOUpdateRequest;
+import com.nsalazar.quicktask.tasklist.application.dto.response.TaskListDTOResponse;
+import com.nsalazar.quicktask.tasklist.application.dto.response.TaskListDetailDTOResponse;
+import com.nsalazar.quicktask.tasklist.domain.TaskList;
+import com.nsalazar.quicktask.tasklist.domain.TaskListSummary;
+import com.nsalazar.quicktask.tasklist.domain.repository.ITaskListRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TaskListService.
+ *
+ * <p>Tests the service layer business logic for task lists.
+ * Uses Mockito to mock repository and mapper dependencies.
+ *
+ * @author nsalazar
+ * @see TaskListService
+ * @see ITaskListService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskListService Tests")
+class TaskListServiceTest {
+
+    @Mock
+    private ITaskListRepository taskListRepository;
+
+    @Mock
+    private ITaskRepository taskRepository;
+
+    @Mock
+    private ITaskListDTOMapper taskListDTOMapper;
+
+    @Mock
+    private ITaskDTOMapper taskDTOMapper;
+
+    @Mock
+    private CacheInvalidator cacheInvalidator;
+
+    @Mock
+    private ITaskStatsCounters taskStats;
+
+    @Mock
+    private IDomainEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private RequestCoalescer requestCoalescer = new RequestCoalescer(meterRegistry, true);
+
+    @InjectMocks
+    private TaskListService taskListService;
+
+    private UUID testTaskListId;
+    private TaskListSummary testSummary;
+    private TaskListDTOResponse testTaskListResponse;
+
+    private static final String TEST_NAME = "Test List";
+    private static final String TEST_DESCRIPTION = "Test Description";
+
+    /**
+     * Setup method executed before each test.
+     * Initializes test data.
+     */
+    @BeforeEach
+    void setUp() {
+        testTaskListId = UUID.randomUUID();
+
+        testSummary = TaskListSummary.builder()
+                .id(testTaskListId)
+                .name(TEST_NAME)
+                .description(TEST_DESCRIPTION)
+                .taskCount(2)
+                .completedTaskCount(1)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        testTaskListResponse = TaskListDTOResponse.builder()
+                .id(testTaskListId)
+                .name(TEST_NAME)
+                .description(TEST_DESCRIPTION)
+                .taskCount(2)
+                .completedTaskCount(1)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Tests retrieving all task lists without embedded tasks.
+     * Verifies that only the summary query is used and no tasks are loaded.
+     */
+    @Test
+    @DisplayName("Should get all task lists from summaries without loading tasks")
+    void testGetAllTaskListsWithoutTasks() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        when(taskListRepository.findAllSummaries(pageable))
+                .thenReturn(new PageImpl<>(List.of(testSummary), pageable, 1));
+        when(taskListDTOMapper.toTaskListDTOResponse(testSummary)).thenReturn(testTaskListResponse);
+
+        // Act
+        Page<TaskListDTOResponse> result = taskListService.getAll(pageable, false);
+
+        // Assert
+        assertEquals(1, result.getTotalElements());
+        assertEquals(2, result.getContent().get(0).getTaskCount());
+        assertEquals(1, result.getContent().get(0).getCompletedTaskCount());
+        assertNull(result.getContent().get(0).getTasks());
+        verify(taskListRepository, never()).findAll(any(Pageable.class));
+        verifyNoInteractions(taskRepository);
+    }
+
+    /**
+     * Tests retrieving all task lists with embedded tasks.
+     * Verifies that the tasks of the whole page are loaded with one batched query.
+     */
+    @Test
+    @DisplayName("Should load tasks of all task lists in a single batch when requested")
+    void testGetAllTaskListsWithTasks() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        Task task = Task.builder()
+                .id(UUID.randomUUID())
+                .title("Task")
+                .description(TEST_DESCRIPTION)
+                .taskListId(testTaskListId)
+                .build();
+        TaskDTOResponse taskResponse = TaskDTOResponse.builder()
+                .id(task.getId())
+                .title("Task")
+                .taskListId(testTaskListId)
+                .build();
+
+        when(taskListRepository.findAllSummaries(pageable))
+                .thenReturn(new PageImpl<>(List.of(testSummary), pageable, 1));
+        when(taskListDTOMapper.toTaskListDTOResponse(testSummary)).thenReturn(testTaskListResponse);
+        when(taskRepository.findAllByTaskListIdIn(List.of(testTaskListId))).thenReturn(List.of(task));
+        when(taskDTOMapper.toTaskDTOResponse(task)).thenReturn(taskResponse);
+
+        // Act
+        Page<TaskListDTOResponse> result = taskListService.getAll(pageable, true);
+
+        // Assert
+        assertEquals(List.of(taskResponse), result.getContent().get(0).getTasks());
+        verify(taskRepository, times(1)).findAllByTaskListIdIn(List.of(testTaskListId));
+    }
+
+    /**
+     * Tests retrieving all task lists when none exist.
+     * Verifies that ResourceNotFoundException is thrown.
+     */
+    @Test
+    @DisplayName("Should throw ResourceNotFoundException when no task lists exist")
+    void testGetAllTaskListsEmpty() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        when(taskListRepository.findAllSummaries(pageable)).thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> taskListService.getAll(pageable, true));
+        verifyNoInteractions(taskRepository);
+    }
+
+    /**
+     * Tests renaming a task list.
+     * Verifies that the cached details of the list and of its tasks are evicted.
+     */
+    @Test
+    @DisplayName("Should evict cached list and task details when the list is renamed")
+    void testUpdateTaskListEvictsTaskDetails() {
+        // Arrange
+        UUID taskId = UUID.randomUUID();
+        TaskList taskList = TaskList.builder()
+                .id(testTaskListId)
+                .name(TEST_NAME)
+                .description(TEST_DESCRIPTION)
+                .tasks(new ArrayList<>(List.of(Task.builder().id(taskId).title("Task").build())))
+                .build();
+        TaskListDTOUpdateRequest updateRequest = TaskListDTOUpdateRequest.builder().name("Renamed").build();
+
+        when(taskListRepository.findById(testTaskListId)).thenReturn(Optional.of(taskList));
+        when(taskListRepository.existsByName("Renamed")).thenReturn(false);
+        when(taskListRepository.save(taskList)).thenReturn(taskList);
+        when(taskListDTOMapper.toTaskListDTOResponse(taskList)).thenReturn(TaskListDTOResponse.builder()
+                .id(testTaskListId).name("Renamed").taskCount(1).tasks(List.of(TaskDTOResponse.builder().id(taskId).build()))
+                .build());
+
+        // Act
+        taskListService.update(testTaskListId, updateRequest, null);
+
+        // Assert
+        verify(cacheInvalidator, times(1)).evictTaskListDetails(testTaskListId);
+        verify(cacheInvalidator, times(1)).evictTaskDetails(List.of(taskId));
+        verify(eventPublisher, times(1)).publish(eq(DomainEventType.TASK_LIST_UPDATED), eq(testTaskListId),
+                argThat(payload -> ((TaskListDTOResponse) payload).getTasks() == null
+                        && ((TaskListDTOResponse) payload).getTaskCount() == 1));
+    }
+
+    /**
+     * Tests updating only the description with the current value.
+     * Verifies that cached task details are kept when the embedded list info does not change.
+     */
+    @Test
+    @DisplayName("Should keep cached task details when the list info does not change")
+    void testUpdateTaskListKeepsTaskDetails() {
+        // Arrange
+        TaskList taskList = TaskList.builder()
+                .id(testTaskListId)
+                .name(TEST_NAME)
+                .description(TEST_DESCRIPTION)
+                .tasks(new ArrayList<>())
+                .build();
+        TaskListDTOUpdateRequest updateRequest = TaskListDTOUpdateRequest.builder().description(TEST_DESCRIPTION).build();
+
+        when(taskListRepository.findById(testTaskListId)).thenReturn(Optional.of(taskList));
+        when(taskListRepository.save(taskList)).thenReturn(taskList);
+        when(taskListDTOMapper.toTaskListDTOResponse(taskList)).thenReturn(new TaskListDTOResponse());
+
+        // Act
+        taskListService.update(testTaskListId, updateRequest, null);
+
+        // Assert
+        verify(cacheInvalidator, times(1)).evictTaskListDetails(testTaskListId);
+        verify(cacheInvalidator, never()).evictTaskDetails(anyCollection());
+    }
+
+    /**
+     * Tests concurrent requests for the same task list.
+     * Verifies that the callers arriving while the read is in flight share its result.
+     */
+    @Test
+    @DisplayName("Should share one read between concurrent requests for the same task list")
+    void testGetByIdCoalescesConcurrentReads() throws Exception {
+        // Arrange
+        int callers = 16;
+        CountDownLatch release = new CountDownLatch(1);
+        TaskList taskList = TaskList.builder()
+                .id(testTaskListId)
+                .name(TEST_NAME)
+                .description(TEST_DESCRIPTION)
+                .tasks(new ArrayList<>())
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(taskListRepository.findById(testTaskListId)).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return Optional.of(taskList);
+        });
+        Counter coalesced = meterRegistry.counter(RequestCoalescer.CALLS_COUNTER,
+                "operation", "taskList.getById", "outcome", "coalesced");
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<TaskListDetailDTOResponse>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> taskListService.getById(testTaskListId)));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (coalesced.count() < callers - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+
+            // Act
+            release.countDown();
+
+            // Assert
+            TaskListDetailDTOResponse first = results.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<TaskListDetailDTOResponse> result : results) {
+                assertSame(first, result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(TEST_NAME, taskListService.getById(testTaskListId).getName());
+        verify(taskListRepository, times(2)).findById(testTaskListId);
+        assertEquals(callers - 1, coalesced.count());
+    }
+
+    /**
+     * Tests updating a task list with a stale expected version.
+     * Verifies that PreconditionFailedException is thrown and nothing is saved.
+     */
+    @Test
+    @DisplayName("Should throw PreconditionFailedException when expected version is stale")
+    void testUpdateTaskListWithStaleVersion() {
+        // Arrange
+        TaskList taskList = TaskList.builder()
+                .id(testTaskListId)
+                .name(TEST_NAME)
+                .description(TEST_DESCRIPTION)
+                .version(5L)
+                .tasks(new ArrayList<>())
+                .build();
+        TaskListDTOUpdateRequest updateRequest = TaskListDTOUpdateRequest.builder().name("Renamed").build();
+
+        when(taskListRepository.findById(testTaskListId)).thenReturn(Optional.of(taskList));
+
+        // Act & Assert
+        assertThrows(PreconditionFailedException.class,
+                () -> taskListService.update(testTaskListId, updateRequest, 4L));
+        verify(taskListRepository, never()).save(any(TaskList.class));
+        verifyNoInteractions(cacheInvalidator, eventPublisher);
+    }
+
+    /**
+     * Tests deleting a task list while keeping its tasks.
+     * Verifies that tasks are unlinked with one bulk update and never saved one by one.
+     */
+    @Test
+    @DisplayName("Should unlink tasks in bulk when deleting a task list")
+    void testDeleteTaskListUnlinksTasksInBulk() {
+        // Arrange
+        when(taskListRepository.existsById(testTaskListId)).thenReturn(true);
+        when(taskRepository.unlinkAllFromTaskList(eq(testTaskListId), any(LocalDateTime.class))).thenReturn(3);
+
+        // Act
+        taskListService.delete(testTaskListId, false);
+
+        // Assert
+        verify(taskRepository, times(1)).unlinkAllFromTaskList(eq(testTaskListId), any(LocalDateTime.class));
+        verify(taskRepository, never()).deleteAllByTaskListId(any());
+        verify(taskRepository, never()).save(any());
+        verify(taskListRepository, never()).findById(any());
+        verify(taskListRepository, times(1)).delete(testTaskListId);
+        verify(cacheInvalidator, times(1)).evictTaskListDetails(testTaskListId);
+        verify(cacheInvalidator, times(1)).clearTaskDetails();
+        verify(taskStats, times(1)).taskListDeleted(testTaskListId, false);
+        verify(eventPublisher, times(1)).publish(DomainEventType.TASK_LIST_DELETED, testTaskListId,
+                Map.of("id", testTaskListId, "tasksDeleted", false));
+    }
+
+    /**
+     * Tests deleting a task list together with its tasks.
+     * Verifies that tasks are deleted with one bulk delete instead of being unlinked.
+     */
+    @Test
+    @DisplayName("Should delete tasks in bulk when deleting a task list with deleteTasks")
+    void testDeleteTaskListDeletesTasksInBulk() {
+        // Arrange
+        when(taskListRepository.existsById(testTaskListId)).thenReturn(true);
+        when(taskRepository.deleteAllByTaskListId(testTaskListId)).thenReturn(3);
+
+        // Act
+        taskListService.delete(testTaskListId, true);
+
+        // Assert
+        verify(taskRepository, times(1)).deleteAllByTaskListId(testTaskListId);
+        verify(taskRepository, never()).unlinkAllFromTaskList(any(), any());
+        verify(taskRepository, never()).save(any());
+        verify(taskListRepository, times(1)).delete(testTaskListId);
+        verify(taskStats, times(1)).taskListDeleted(testTaskListId, true);
+        verify(eventPublisher, times(1)).publish(DomainEventType.TASK_LIST_DELETED, testTaskListId,
+                Map.of("id", testTaskListId, "tasksDeleted", true));
+    }
+
+    /**
+     * Tests deleting a task list that does not exist.
+     * Verifies that ResourceNotFoundException is thrown and nothing is modified.
+     */
+    @Test
+    @DisplayName("Should throw ResourceNotFoundException when deleting a non-existent task list")
+    void testDeleteTaskListNotFound() {
+        // Arrange
+        when(taskListRepository.existsById(testTaskListId)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> taskListService.delete(testTaskListId, false));
+        verifyNoInteractions(taskRepository);
+        verify(taskListRepository, never()).delete(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.nsalazar.quicktask.tasklist.infrastructure.database;
+
+import com.nsalazar.quicktask.shared.infrastructure.metrics.SqlStatementCounter;
+import com.nsalazar.quicktask.tasklist.domain.TaskList;
+import com.nsalazar.quicktask.tasklist.domain.repository.ITaskListRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static com.nsalazar.quicktask.shared.infrastructure.metrics.SqlStatementAssertions.assertStatementCount;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the second-level cache of task lists.
+ *
+ * <p>Each lookup runs in its own committed transaction, as in a request: the first lookup of a
+ * task list reaches the database, the following ones are served from the cache without SQL, and
+ * writes through the repository keep the cache in step. The task lists are committed, so each
+ * test deletes the list it stored.
+ *
+ * @author nsalazar
+ * @see TaskListRepository
+ * @see com.nsalazar.quicktask.shared.infrastructure.cache.SecondLevelCacheConfig
+ */
+@SpringBootTest
+@DisplayName("TaskList Second-Level Cache Tests")
+class TaskListSecondLevelCacheTest {
+
+    @Autowired
+    private ITaskListRepository taskListRepository;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private TaskList taskList;
+
+    /**
+     * Setup method executed before each test.
+     * Commits a task list and clears the second-level cache.
+     */
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        taskList = transaction.execute(status -> taskListRepository.save(TaskList.builder()
+                .name("Cached list " + UUID.randomUUID().toString().substring(0, 8))
+                .description("List used to test the second-level cache")
+                .tasks(new ArrayList<>())
+                .createdAt(LocalDateTime.now())
+                .build()));
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    /**
+     * Cleanup method executed after each test.
+     * Deletes the task list stored by the test.
+     */
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> taskListRepository.delete(taskList.getId()));
+    }
+
+    /**
+     * Tests that lookups by id reach the database only once.
+     */
+    @Test
+    @DisplayName("Should serve repeated lookups by id without SQL")
+    void testLookupByIdIsCached() {
+        // Arrange
+        UUID id = taskList.getId();
+        assertStatementCount(sqlStatementCounter, 1, () -> inTransaction(() -> taskListRepository.existsById(id)));
+
+        // Act & Assert
+        assertTrue(assertStatementCount(sqlStatementCounter, 0, () -> inTransaction(() -> taskListRepository.existsById(id))));
+        TaskList cached = assertStatementCount(sqlStatementCounter, 0,
+                () -> inTransaction(() -> taskListRepository.findByIdWithoutTasks(id).orElseThrow()));
+        assertEquals(taskList.getName(), cached.getName());
+    }
+
+    /**
+     * Tests that lookups by name reach the database only once.
+     */
+    @Test
+    @DisplayName("Should serve repeated lookups by name without SQL")
+    void testLookupByNameIsCached() {
+        // Arrange
+        String name = taskList.getName();
+        assertStatementCount(sqlStatementCounter, 1, () -> inTransaction(() -> taskListRepository.existsByName(name)));
+
+        // Act & Assert
+        assertTrue(assertStatementCount(sqlStatementCounter, 0, () -> inTransaction(() -> taskListRepository.existsByName(name))));
+    }
+
+    /**
+     * Tests that a rename replaces the cached entry and the cached name resolution.
+     */
+    @Test
+    @DisplayName("Should resolve the new name without SQL after a rename")
+    void testRenameUpdatesCache() {
+        // Arrange
+        String oldName = taskList.getName();
+        inTransaction(() -> taskListRepository.existsByName(oldName));
+        taskList.setName(oldName + " renamed");
+
+        // Act
+        taskList = inTransaction(() -> taskListRepository.save(taskList));
+
+        // Assert
+        assertTrue(assertStatementCount(sqlStatementCounter, 0,
+                () -> inTransaction(() -> taskListRepository.existsByName(oldName + " renamed"))));
+        assertFalse(inTransaction(() -> taskListRepository.existsByName(oldName)));
+        assertEquals(oldName + " renamed", inTransaction(() -> taskListRepository.findByIdWithoutTasks(taskList.getId()))
+                .orElseThrow().getName());
+    }
+
+    /**
+     * Tests that a bulk delete evicts the cached task list.
+     */
+    @Test
+    @DisplayName("Should not find a cached task list after it was deleted")
+    void testDeleteEvictsCache() {
+        // Arrange
+        UUID id = taskList.getId();
+        String name = taskList.getName();
+        inTransaction(() -> taskListRepository.existsById(id));
+        inTransaction(() -> taskListRepository.existsByName(name));
+
+        // Act
+        transaction.executeWithoutResult(status -> taskListRepository.delete(id));
+
+        // Assert
+        assertFalse(inTransaction(() -> taskListRepository.existsById(id)));
+        assertFalse(inTransaction(() -> taskListRepository.existsByName(name)));
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return transaction.execute(status -> action.get());
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.nsalazar.quicktask.tasklist.infrastructure.restcontroller;
+
+import com.nsalazar.quicktask.task.application.dto.response.TaskDTOResponse;
+import com.nsalazar.quicktask.task.infrastructure.restcontroller.TaskDTOResponseSerializer;
+import com.nsalazar.quicktask.tasklist.application.dto.response.TaskListDTOResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TaskListDTOResponseSerializer.
+ *
+ * <p>Verifies that the hand-written serializer produces the same JSON as the default bean
+ * serializer, including the embedded tasks, and omits the tasks unless they were included.
+ *
+ * @author nsalazar
+ * @see TaskListDTOResponseSerializer
+ */
+@DisplayName("TaskListDTOResponseSerializer Tests")
+class TaskListDTOResponseSerializerTest {
+
+    private final JsonMapper defaultMapper = JsonMapper.builder().build();
+    private final JsonMapper tunedMapper = JsonMapper.builder()
+            .addModule(new SimpleModule()
+                    .addSerializer(TaskDTOResponse.class, new TaskDTOResponseSerializer())
+                    .addSerializer(TaskListDTOResponse.class, new TaskListDTOResponseSerializer()))
+            .build();
+
+    /**
+     * Tests that a task list with embedded tasks is written exactly as by the default serializer.
+     */
+    @Test
+    @DisplayName("Should write the same JSON as the default serializer")
+    void testMatchesDefaultSerializer() {
+        // Arrange
+        UUID taskListId = UUID.randomUUID();
+        TaskDTOResponse task = TaskDTOResponse.builder()
+                .id(UUID.randomUUID())
+                .title("Embedded task")
+                .description("Embedded description")
+                .completed(true)
+                .createdAt(LocalDateTime.of(2026, 1, 15, 9, 30))
+                .updatedAt(LocalDateTime.of(2026, 1, 16, 10, 0, 1))
+                .taskListId(taskListId)
+                .build();
+        TaskListDTOResponse taskList = TaskListDTOResponse.builder()
+                .id(taskListId)
+                .name("Development Tasks")
+                .description("All development related tasks")
+                .taskCount(1)
+                .completedTaskCount(1)
+                .tasks(List.of(task))
+                .createdAt(LocalDateTime.of(2026, 1, 14, 8, 0))
+                .updatedAt(LocalDateTime.of(2026, 1, 16, 10, 0, 1))
+                .build();
+
+        // Act
+        JsonNode tuned = tunedMapper.readTree(tunedMapper.writeValueAsString(taskList));
+
+        // Assert
+        assertEquals(defaultMapper.readTree(defaultMapper.writeValueAsString(taskList)), tuned);
+    }
+
+    /**
+     * Tests that the tasks and other null properties are omitted when not included.
+     */
+    @Test
+    @DisplayName("Should omit tasks and null properties")
+    void testOmitsNullProperties() {
+        // Arrange
+        TaskListDTOResponse taskList = TaskListDTOResponse.builder()
+                .id(UUID.randomUUID())
+                .name("Development Tasks")
+                .description("All development related tasks")
+                .taskCount(3)
+                .completedTaskCount(2)
+                .createdAt(LocalDateTime.of(2026, 1, 14, 8, 0))
+                .build();
+
+        // Act
+        JsonNode json = tunedMapper.readTree(tunedMapper.writeValueAsString(taskList));
+
+        // Assert
+        assertFalse(json.has("tasks"));
+        assertFalse(json.has("updatedAt"));
+        assertEquals(3, json.get("taskCount").asLong());
+        assertEquals(taskList, tunedMapper.readValue(json.toString(), TaskListDTOResponse.class));
+    }
+
+}